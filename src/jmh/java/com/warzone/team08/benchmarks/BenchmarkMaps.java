@@ -0,0 +1,193 @@
+package com.warzone.team08.benchmarks;
+
+import com.warzone.team08.VM.VirtualMachine;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the map files used by the benchmarks. A map is either one of the maps of the resources, for example
+ * <code>solar</code>, or a generated grid map, for example <code>grid-400</code>, whose countries are the cells of a
+ * square grid connected to their four neighbours and whose continents are the rows of the grid.
+ * <p>
+ * The files are written once to a temporary directory, so the benchmarks read the same files as the game does.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+public final class BenchmarkMaps {
+    private static final String GRID_PREFIX = "grid-";
+    private static final Map<String, String> d_MapFilePaths = new HashMap<>();
+    private static Path d_MapDirectory;
+
+    private BenchmarkMaps() {
+    }
+
+    /**
+     * Creates the virtual machine, if it has not been created yet. The user interface is not attached, so the games
+     * do not print anything.
+     */
+    public static synchronized void startVirtualMachine() {
+        try {
+            VirtualMachine.getInstance();
+        } catch (NullPointerException p_e) {
+            VirtualMachine.newInstance();
+        }
+    }
+
+    /**
+     * Gets the path of the map file in the format of the Domination game.
+     *
+     * @param p_mapName Name of the map in the resources or <code>grid-n</code> for a generated map of n countries.
+     * @return Value of the path to the map file.
+     */
+    public static String getDominationMap(String p_mapName) {
+        return getMap(p_mapName, false);
+    }
+
+    /**
+     * Gets the path of the map file in the format of the Conquest game.
+     *
+     * @param p_mapName Name of the map in the resources or <code>grid-n</code> for a generated map of n countries.
+     * @return Value of the path to the map file.
+     */
+    public static String getConquestMap(String p_mapName) {
+        return getMap(p_mapName, true);
+    }
+
+    /**
+     * Gets the path of the map file, and writes the file if it has not been written yet.
+     *
+     * @param p_mapName    Name of the map.
+     * @param p_isConquest True for the format of the Conquest game.
+     * @return Value of the path to the map file.
+     */
+    private static synchronized String getMap(String p_mapName, boolean p_isConquest) {
+        String l_key = (p_isConquest ? "conquest:" : "domination:") + p_mapName;
+        String l_mapFilePath = d_MapFilePaths.get(l_key);
+        if (l_mapFilePath != null) {
+            return l_mapFilePath;
+        }
+        try {
+            if (d_MapDirectory == null) {
+                d_MapDirectory = Files.createTempDirectory("warzone_benchmark_maps");
+                d_MapDirectory.toFile().deleteOnExit();
+            }
+            File l_mapFile = d_MapDirectory.resolve(l_key.replace(':', '_') + ".map").toFile();
+            l_mapFile.deleteOnExit();
+            if (p_mapName.startsWith(GRID_PREFIX)) {
+                int l_numberOfCountries = Integer.parseInt(p_mapName.substring(GRID_PREFIX.length()));
+                writeGridMap(l_mapFile, l_numberOfCountries, p_isConquest);
+            } else {
+                copyResource("map_files/" + p_mapName + ".map", l_mapFile);
+            }
+            l_mapFilePath = l_mapFile.getAbsolutePath();
+            d_MapFilePaths.put(l_key, l_mapFilePath);
+            return l_mapFilePath;
+        } catch (IOException p_ioException) {
+            throw new UncheckedIOException(p_ioException);
+        }
+    }
+
+    /**
+     * Copies the map file from the resources.
+     *
+     * @param p_resourcePath Path of the resource.
+     * @param p_targetFile   File to which the resource is copied.
+     * @throws IOException If the resource can not be read or the file can not be written.
+     */
+    private static void copyResource(String p_resourcePath, File p_targetFile) throws IOException {
+        try (InputStream l_inputStream = BenchmarkMaps.class.getClassLoader().getResourceAsStream(p_resourcePath)) {
+            if (l_inputStream == null) {
+                throw new IOException("Map not found: " + p_resourcePath);
+            }
+            Files.copy(l_inputStream, p_targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the grid map. The grid has <code>ceil(sqrt(n))</code> columns; each row is a continent.
+     *
+     * @param p_mapFile            File to which the map is written.
+     * @param p_numberOfCountries  Number of countries of the map.
+     * @param p_isConquest         True for the format of the Conquest game.
+     * @throws IOException If the file can not be written.
+     */
+    private static void writeGridMap(File p_mapFile, int p_numberOfCountries, boolean p_isConquest) throws IOException {
+        int l_columns = (int) Math.ceil(Math.sqrt(p_numberOfCountries));
+        int l_rows = (p_numberOfCountries + l_columns - 1) / l_columns;
+        try (BufferedWriter l_writer = new BufferedWriter(new FileWriter(p_mapFile))) {
+            if (p_isConquest) {
+                l_writer.write("[Map]\nauthor=benchmark\n\n[Continents]\n");
+                for (int l_row = 0; l_row < l_rows; l_row++) {
+                    l_writer.write("Row" + (l_row + 1) + "=" + Math.max(1, l_columns / 2) + "\n");
+                }
+                l_writer.write("\n[Territories]\n");
+                for (int l_index = 0; l_index < p_numberOfCountries; l_index++) {
+                    l_writer.write("Cell" + (l_index + 1) + "," + (l_index % l_columns) + "," + (l_index / l_columns)
+                            + ",Row" + (l_index / l_columns + 1));
+                    for (int l_neighbour : getNeighbours(l_index, l_columns, p_numberOfCountries)) {
+                        l_writer.write(",Cell" + (l_neighbour + 1));
+                    }
+                    l_writer.write("\n");
+                }
+            } else {
+                l_writer.write("[continents]\n");
+                for (int l_row = 0; l_row < l_rows; l_row++) {
+                    l_writer.write("Row" + (l_row + 1) + " " + Math.max(1, l_columns / 2) + " yellow\n");
+                }
+                l_writer.write("\n[countries]\n");
+                for (int l_index = 0; l_index < p_numberOfCountries; l_index++) {
+                    l_writer.write((l_index + 1) + " Cell" + (l_index + 1) + " " + (l_index / l_columns + 1) + " "
+                            + (l_index % l_columns) + " " + (l_index / l_columns) + "\n");
+                }
+                l_writer.write("\n[borders]\n");
+                for (int l_index = 0; l_index < p_numberOfCountries; l_index++) {
+                    l_writer.write(String.valueOf(l_index + 1));
+                    for (int l_neighbour : getNeighbours(l_index, l_columns, p_numberOfCountries)) {
+                        l_writer.write(" " + (l_neighbour + 1));
+                    }
+                    l_writer.write("\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the indices of the cells next to the cell: left, right, up and down.
+     *
+     * @param p_index             Index of the cell.
+     * @param p_columns           Number of columns of the grid.
+     * @param p_numberOfCountries Number of cells of the grid.
+     * @return Value of the indices of the neighbours.
+     */
+    private static int[] getNeighbours(int p_index, int p_columns, int p_numberOfCountries) {
+        int[] l_neighbours = new int[4];
+        int l_count = 0;
+        int l_column = p_index % p_columns;
+        if (l_column > 0) {
+            l_neighbours[l_count++] = p_index - 1;
+        }
+        if (l_column < p_columns - 1 && p_index + 1 < p_numberOfCountries) {
+            l_neighbours[l_count++] = p_index + 1;
+        }
+        if (p_index - p_columns >= 0) {
+            l_neighbours[l_count++] = p_index - p_columns;
+        }
+        if (p_index + p_columns < p_numberOfCountries) {
+            l_neighbours[l_count++] = p_index + p_columns;
+        }
+        int[] l_result = new int[l_count];
+        System.arraycopy(l_neighbours, 0, l_result, 0, l_count);
+        return l_result;
+    }
+}
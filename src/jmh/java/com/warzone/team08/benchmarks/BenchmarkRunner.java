@@ -0,0 +1,42 @@
+package com.warzone.team08.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. The arguments are the options of JMH, for example a regular expression selecting the benchmarks
+ * or <code>-p d_mapName=grid-1600</code> to run them on one map only.
+ * <p>
+ * The results are written in JSON to <code>target/jmh-result.json</code>, so the runs can be compared by other tools,
+ * unless another format or file is given using <code>-rf</code> or <code>-rff</code>.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * Runs the benchmarks selected by the arguments.
+     *
+     * @param p_args Options of JMH.
+     * @throws CommandLineOptionException If the options are not valid.
+     * @throws RunnerException            If any exception while running the benchmarks.
+     */
+    public static void main(String[] p_args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions l_commandLineOptions = new CommandLineOptions(p_args);
+        ChainedOptionsBuilder l_optionsBuilder = new OptionsBuilder().parent(l_commandLineOptions);
+        if (!l_commandLineOptions.getResultFormat().hasValue()) {
+            l_optionsBuilder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!l_commandLineOptions.getResult().hasValue()) {
+            l_optionsBuilder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(l_optionsBuilder.build()).run();
+    }
+}
@@ -0,0 +1,273 @@
+package com.warzone.team08.benchmarks;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.entities.orders.AdvanceOrder;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.GamePosition;
+import com.warzone.team08.VM.game_play.services.AssignReinforcementService;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the operations of a turn: assigning the reinforcements, executing an advance order which attacks a
+ * country, and issuing the orders of each strategy.
+ * <p>
+ * The games start from the same position of a game of two players, created once by distributing the countries of the
+ * map. Assigning the reinforcements does not change the state of the game, so it is measured on one game. The advance
+ * order and the strategies do change it, so each of their operations needs a new game: a pool of
+ * <code>BATCH_SIZE</code> games is created before each iteration, outside of the measured time, and an iteration plays
+ * the operation once on each game of the pool. The score is the time of one operation. The games are logged to
+ * the log file of the virtual machine, as the game logs the same events when it is played.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ * @see GamePosition
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GamePlayBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * Number of games created before each iteration of the benchmarks which change the state of the game.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    @Param({"solar", "grid-100", "grid-400", "grid-1600"})
+    public String d_mapName;
+
+    private GamePosition d_gamePosition;
+    private PreparedGame d_preparedGame;
+
+    /**
+     * Game created from the position, with the advance order of its first player.
+     */
+    private static final class PreparedGame {
+        private final GameEngine d_gameEngine;
+        private final Player d_player;
+        private final AdvanceOrder d_advanceOrder;
+
+        /**
+         * Creates the game.
+         *
+         * @param p_gameEngine   Engine of the game.
+         * @param p_player       First player of the game.
+         * @param p_advanceOrder Advance order of the first player, which attacks the country of the second player.
+         */
+        private PreparedGame(GameEngine p_gameEngine, Player p_player, AdvanceOrder p_advanceOrder) {
+            d_gameEngine = p_gameEngine;
+            d_player = p_player;
+            d_advanceOrder = p_advanceOrder;
+        }
+    }
+
+    /**
+     * Games played by one iteration of the benchmarks which change the state of the game; each game is played once.
+     */
+    @State(Scope.Thread)
+    public static class GamePool {
+        final PreparedGame[] d_preparedGames = new PreparedGame[BATCH_SIZE];
+
+        /**
+         * Creates the games of the next iteration.
+         *
+         * @param p_gamePlayBenchmark State holding the position of the game.
+         * @throws VMException If the position does not have two neighbouring countries of different players.
+         */
+        @Setup(Level.Iteration)
+        public void createGames(GamePlayBenchmark p_gamePlayBenchmark) throws VMException {
+            for (int l_gameIndex = 0; l_gameIndex < BATCH_SIZE; l_gameIndex++) {
+                d_preparedGames[l_gameIndex] = p_gamePlayBenchmark.createGame();
+                this.prepare(d_preparedGames[l_gameIndex].d_player);
+            }
+            // The garbage of the previous iteration and of creating the games is not collected while measuring.
+            System.gc();
+        }
+
+        /**
+         * Prepares the first player of the new game.
+         *
+         * @param p_player First player of the game.
+         */
+        protected void prepare(Player p_player) {
+        }
+
+        /**
+         * Removes the played games, and the last of them from the thread.
+         */
+        @TearDown(Level.Iteration)
+        public void removeGames() {
+            VirtualMachine.unbindGameEngine();
+            Arrays.fill(d_preparedGames, null);
+        }
+    }
+
+    /**
+     * Games whose first player issues the orders using the strategy being measured.
+     */
+    @State(Scope.Thread)
+    public static class StrategyGamePool extends GamePool {
+        @Param({"AGGRESSIVE", "BENEVOLENT", "CHEATER", "RANDOM"})
+        public StrategyType d_strategyType;
+
+        /**
+         * Sets the strategy of the first player of the new game.
+         *
+         * @param p_player First player of the game.
+         */
+        @Override
+        protected void prepare(Player p_player) {
+            p_player.setPlayerStrategyUsingType(d_strategyType);
+        }
+    }
+
+    /**
+     * Creates the position of the game by distributing the countries of the map between two players, and binds the
+     * game used by the benchmarks which do not change its state to the thread.
+     *
+     * @throws VMException If the map can not be loaded.
+     */
+    @Setup(Level.Trial)
+    public void createGamePosition() throws VMException {
+        BenchmarkMaps.startVirtualMachine();
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+        l_gameEngine.setRandom(new SplittableRandom(SEED));
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            MapTemplateCache.getInstance().loadInto(BenchmarkMaps.getDominationMap(d_mapName), l_gameEngine);
+            l_gamePlayEngine.addPlayer(new Player("Player_1", StrategyType.BENEVOLENT));
+            l_gamePlayEngine.addPlayer(new Player("Player_2", StrategyType.BENEVOLENT));
+            for (Player l_player : l_gamePlayEngine.getPlayerList()) {
+                l_player.setRandom(l_gameEngine.getRandom().split());
+            }
+            new DistributeCountriesService(l_gameEngine).execute(new ArrayList<>());
+            d_gamePosition = new GamePosition(l_gameEngine);
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+        d_preparedGame = this.createGame();
+        VirtualMachine.bindGameEngine(d_preparedGame.d_gameEngine);
+    }
+
+    /**
+     * Removes the game from the thread.
+     */
+    @TearDown(Level.Trial)
+    public void removeGame() {
+        VirtualMachine.unbindGameEngine();
+    }
+
+    /**
+     * Creates a new game from the position, assigns the reinforcements, and creates the advance order of ten armies
+     * from the first country of the first player which has a neighbour of the second player.
+     *
+     * @return Value of the game.
+     * @throws VMException If the position does not have two neighbouring countries of different players.
+     */
+    private PreparedGame createGame() throws VMException {
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine(), VirtualMachine.getInstance().getLogEntryBuffer());
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            d_gamePosition.loadInto(l_gameEngine, Arrays.asList(StrategyType.BENEVOLENT, StrategyType.BENEVOLENT), new SplittableRandom(SEED));
+            new AssignReinforcementService(l_gameEngine).execute();
+            Player l_player = l_gameEngine.getGamePlayEngine().getPlayerList().get(0);
+
+            for (Country l_countryFrom : l_player.getAssignedCountries()) {
+                for (Country l_countryTo : l_countryFrom.getNeighbourCountries()) {
+                    if (l_countryTo.getOwnedBy(l_gameEngine) != l_player) {
+                        l_countryFrom.setNumberOfArmies(10, l_gameEngine);
+                        return new PreparedGame(l_gameEngine,
+                                l_player,
+                                new AdvanceOrder(l_countryFrom.getCountryName(), l_countryTo.getCountryName(), "10", l_player));
+                    }
+                }
+            }
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+        throw new VMException("The players do not have neighbouring countries.");
+    }
+
+    /**
+     * Assigns the reinforcements to the players.
+     *
+     * @return Value of the reinforcements of the first player.
+     * @throws VMException If any player is not found.
+     */
+    @Benchmark
+    public int assignReinforcements() throws VMException {
+        new AssignReinforcementService(d_preparedGame.d_gameEngine).execute();
+        return d_preparedGame.d_player.getReinforcementCount();
+    }
+
+    /**
+     * Executes the advance order of each game of the pool, which attacks the country of the second player.
+     *
+     * @param p_gamePool  Games of the iteration.
+     * @param p_blackhole Consumes the executed orders.
+     * @throws VMException If the order is not valid.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 40)
+    @Measurement(iterations = 20)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void executeAdvanceOrder(GamePool p_gamePool, Blackhole p_blackhole) throws VMException {
+        for (PreparedGame l_preparedGame : p_gamePool.d_preparedGames) {
+            VirtualMachine.bindGameEngine(l_preparedGame.d_gameEngine);
+            l_preparedGame.d_advanceOrder.execute();
+            p_blackhole.consume(l_preparedGame.d_advanceOrder);
+        }
+    }
+
+    /**
+     * Issues the orders of the first player of each game of the pool using its strategy.
+     *
+     * @param p_gamePool  Games of the iteration.
+     * @param p_blackhole Consumes the players, which hold the issued orders.
+     * @throws Exception If the strategy can not issue the orders.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 40)
+    @Measurement(iterations = 20)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void executeStrategy(StrategyGamePool p_gamePool, Blackhole p_blackhole) throws Exception {
+        for (PreparedGame l_preparedGame : p_gamePool.d_preparedGames) {
+            VirtualMachine.bindGameEngine(l_preparedGame.d_gameEngine);
+            l_preparedGame.d_player.getPlayerStrategy().execute();
+            p_blackhole.consume(l_preparedGame.d_player);
+        }
+    }
+}
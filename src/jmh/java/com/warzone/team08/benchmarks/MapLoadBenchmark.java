@@ -0,0 +1,163 @@
+package com.warzone.team08.benchmarks;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.services.EditConquestMapService;
+import com.warzone.team08.VM.map_editor.services.EditMapService;
+import com.warzone.team08.VM.map_editor.services.ValidateMapService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading the map files in the format of the Domination and the Conquest games, and validating the loaded
+ * map. Each benchmark runs on the resource map and the generated grid maps of 100, 400 and 1600 countries.
+ *
+ * @author CHARIT
+ * @version 1.0
+ * @see BenchmarkMaps
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoadBenchmark {
+    /**
+     * Engine of the game bound to the thread running the benchmark; the services read the map from this engine.
+     */
+    @State(Scope.Thread)
+    public static class BoundGameEngine {
+        GameEngine d_gameEngine;
+
+        /**
+         * Creates the engine and binds it to the thread running the benchmark.
+         */
+        @Setup
+        public void setup() {
+            BenchmarkMaps.startVirtualMachine();
+            d_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+            VirtualMachine.bindGameEngine(d_gameEngine);
+        }
+
+        /**
+         * Removes the engine from the thread.
+         */
+        @TearDown
+        public void tearDown() {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Map in the format of the Domination game.
+     */
+    @State(Scope.Benchmark)
+    public static class DominationMap {
+        @Param({"solar", "grid-100", "grid-400", "grid-1600"})
+        public String d_mapName;
+        String d_mapFilePath;
+
+        /**
+         * Writes the map file.
+         */
+        @Setup
+        public void setup() {
+            d_mapFilePath = BenchmarkMaps.getDominationMap(d_mapName);
+        }
+    }
+
+    /**
+     * Map in the format of the Conquest game.
+     */
+    @State(Scope.Benchmark)
+    public static class ConquestMap {
+        @Param({"conquest1", "grid-100", "grid-400", "grid-1600"})
+        public String d_mapName;
+        String d_mapFilePath;
+
+        /**
+         * Writes the map file.
+         */
+        @Setup
+        public void setup() {
+            d_mapFilePath = BenchmarkMaps.getConquestMap(d_mapName);
+        }
+    }
+
+    /**
+     * Engine into which the map has been loaded, so the map can be validated again and again.
+     */
+    @State(Scope.Thread)
+    public static class LoadedMap {
+        ValidateMapService d_validateMapService;
+
+        /**
+         * Loads the map into the engine bound to the thread.
+         *
+         * @param p_boundGameEngine Engine bound to the thread.
+         * @param p_dominationMap   Map to be loaded.
+         * @throws VMException If the map can not be loaded.
+         */
+        @Setup
+        public void setup(BoundGameEngine p_boundGameEngine, DominationMap p_dominationMap) throws VMException {
+            new EditMapService(p_boundGameEngine.d_gameEngine).handleLoadMap(p_dominationMap.d_mapFilePath, false);
+            d_validateMapService = new ValidateMapService();
+        }
+    }
+
+    /**
+     * Reads the map file in the format of the Domination game.
+     *
+     * @param p_boundGameEngine Engine bound to the thread.
+     * @param p_dominationMap   Map to be read.
+     * @return Value of the number of the countries read.
+     * @throws VMException If the map can not be loaded.
+     */
+    @Benchmark
+    public int loadDominationMap(BoundGameEngine p_boundGameEngine, DominationMap p_dominationMap) throws VMException {
+        new EditMapService(p_boundGameEngine.d_gameEngine).handleLoadMap(p_dominationMap.d_mapFilePath, false);
+        return p_boundGameEngine.d_gameEngine.getMapEditorEngine().getCountryList().size();
+    }
+
+    /**
+     * Reads the map file in the format of the Conquest game.
+     *
+     * @param p_boundGameEngine Engine bound to the thread.
+     * @param p_conquestMap     Map to be read.
+     * @return Value of the number of the countries read.
+     * @throws VMException If the map can not be loaded.
+     */
+    @Benchmark
+    public int loadConquestMap(BoundGameEngine p_boundGameEngine, ConquestMap p_conquestMap) throws VMException {
+        new EditConquestMapService(p_boundGameEngine.d_gameEngine).loadConquestMap(p_conquestMap.d_mapFilePath, false);
+        return p_boundGameEngine.d_gameEngine.getMapEditorEngine().getCountryList().size();
+    }
+
+    /**
+     * Validates the loaded map.
+     *
+     * @param p_loadedMap Map which has been loaded.
+     * @return Value of the response of the validation.
+     * @throws VMException If the map is not valid.
+     */
+    @Benchmark
+    public String validateMap(LoadedMap p_loadedMap) throws VMException {
+        return p_loadedMap.d_validateMapService.execute(new ArrayList<>());
+    }
+}
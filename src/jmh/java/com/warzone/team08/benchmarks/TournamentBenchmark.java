@@ -0,0 +1,107 @@
+package com.warzone.team08.benchmarks;
+
+import com.warzone.team08.VM.TournamentEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.VMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete match of the tournament: a single game of an aggressive, a benevolent, a cheater and a random
+ * player, played without the user interface until a player wins or the maximum number of turns is reached. The result
+ * and the checkpoint of the tournament are written to temporary files, as they are when the tournament is played.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see TournamentEngine
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Thread)
+public class TournamentBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"solar", "grid-100", "grid-400"})
+    public String d_mapName;
+
+    @Param({"30"})
+    public int d_maxNumberOfTurns;
+
+    private File d_resultFile;
+    private File d_checkpointFile;
+    private TournamentEngine d_tournamentEngine;
+
+    /**
+     * Creates the temporary files of the tournament.
+     *
+     * @throws IOException If the files can not be created.
+     */
+    @Setup(Level.Trial)
+    public void createFiles() throws IOException {
+        BenchmarkMaps.startVirtualMachine();
+        d_resultFile = File.createTempFile("benchmark_tournament_results", ".jsonl");
+        d_checkpointFile = File.createTempFile("benchmark_tournament_checkpoint", ".json");
+    }
+
+    /**
+     * Creates the tournament, which is logged to the log file of the virtual machine. The results of the previous
+     * match are removed, as the results file is appended to.
+     */
+    @Setup(Level.Iteration)
+    public void createTournament() {
+        d_resultFile.delete();
+        d_tournamentEngine = new TournamentEngine(VirtualMachine.getInstance().getLogEntryBuffer());
+        d_tournamentEngine.setMapFileList(Collections.singletonList(BenchmarkMaps.getDominationMap(d_mapName)));
+        d_tournamentEngine.addPlayer(new Player("Aggressive", StrategyType.AGGRESSIVE));
+        d_tournamentEngine.addPlayer(new Player("Benevolent", StrategyType.BENEVOLENT));
+        d_tournamentEngine.addPlayer(new Player("Cheater", StrategyType.CHEATER));
+        d_tournamentEngine.addPlayer(new Player("Random", StrategyType.RANDOM));
+        d_tournamentEngine.setNumberOfGames(1);
+        d_tournamentEngine.setMaxNumberOfTurns(d_maxNumberOfTurns);
+        d_tournamentEngine.setSeed(SEED);
+        d_tournamentEngine.setResultFilePath(d_resultFile.getAbsolutePath());
+        d_tournamentEngine.setCheckpointFilePath(d_checkpointFile.getAbsolutePath());
+    }
+
+    /**
+     * Removes the temporary files of the tournament.
+     */
+    @TearDown(Level.Trial)
+    public void removeFiles() {
+        d_resultFile.delete();
+        d_checkpointFile.delete();
+    }
+
+    /**
+     * Plays the match of the tournament.
+     *
+     * @return Value of the tournament, which holds the result of the match.
+     * @throws VMException If any exception while playing the tournament.
+     */
+    @Benchmark
+    public TournamentEngine playMatch() throws VMException {
+        d_tournamentEngine.onStart(true);
+        return d_tournamentEngine;
+    }
+}
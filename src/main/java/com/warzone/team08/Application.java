@@ -64,6 +64,9 @@ public class Application {
 
         // Starts the CLI
         l_application.handleCLIStartUp();
+
+        // Writes the remaining messages of the log.
+        VirtualMachine.exit();
     }
 
     /**
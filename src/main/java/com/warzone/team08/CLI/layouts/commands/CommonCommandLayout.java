@@ -1,7 +1,9 @@
 package com.warzone.team08.CLI.layouts.commands;
 
+import com.warzone.team08.CLI.constants.specifications.ArgumentSpecification;
 import com.warzone.team08.CLI.constants.specifications.CommandSpecification;
 import com.warzone.team08.CLI.layouts.CommandLayout;
+import com.warzone.team08.CLI.models.CommandArgument;
 import com.warzone.team08.CLI.models.PredefinedUserCommand;
 
 import java.util.ArrayList;
@@ -52,6 +54,147 @@ public class CommonCommandLayout implements CommandLayout {
         l_userCommand.setOrderCommand(true);
         d_userCommands.add(l_userCommand);
 
+        // Example of the below command:
+        // > stats [-enable] [-disable] [-reset]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("stats");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "enable",
+                0,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "disable",
+                0,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "reset",
+                0,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(3);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("stats");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > loglevel [-all level] [-category name level]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("loglevel");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "all",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "category",
+                2,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(2);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("logLevel");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > logrotation [-size megabytes] [-age minutes] [-total megabytes] [-compress on|off]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("logrotation");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "size",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "age",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "total",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "compress",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(4);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("logRotation");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > journal [-enable [keyframe-interval]] [-disable]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("journal");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "enable",
+                1,
+                ArgumentSpecification.MAX
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "disable",
+                0,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(2);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("journal");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > replay -file journal-file -turn turn-number
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("replay");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "file",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "turn",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(2);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.EQUAL);
+        l_userCommand.setGamePhaseMethodName("replay");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > output [-mode verbose|buffered|summary|silent] [-batch messages]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("output");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "mode",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "batch",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(2);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MAX);
+        l_userCommand.setGamePhaseMethodName("output");
+        l_userCommand.setGameEngineCommand(true);
+        d_userCommands.add(l_userCommand);
+
         // Example of the below command:
         // > exit
         l_userCommand = new PredefinedUserCommand();
@@ -131,6 +131,46 @@ public class GamePlayCommandLayout implements CommandLayout {
         l_userCommand.setNumOfKeysOrValues(1);
         l_userCommand.setGamePhaseMethodName("loadGame");
         d_userCommands.add(l_userCommand);
+
+        // Example of the command:
+        // > rollout -F filename -K numberofrollouts -P listofplayerstrategies -D maxnumberofturns [-T numberofthreads] [-S seed]
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("rollout");
+        l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "F",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "K",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "P",
+                1,
+                ArgumentSpecification.MIN
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "D",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "T",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "S",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.setNumOfKeysOrValues(4);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MIN);
+        l_userCommand.setGamePhaseMethodName("rollout");
+        d_userCommands.add(l_userCommand);
     }
 
     /**
@@ -109,7 +109,7 @@ public class MapEditorCommandLayout implements CommandLayout {
         d_userCommands.add(l_userCommand);
 
         // Example of the below command:
-        // > tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns
+        // > tournament -M listofmapfiles -P listofplayerstrategies -G numberofgames -D maxnumberofturns [-T numberofthreads] [-S seed] [-A dominancepercentage] [-R repetitionlimit] [-C confidencepercentage] [-headless]
         l_userCommand = new PredefinedUserCommand();
         l_userCommand.setHeadCommand("tournament");
         l_userCommand.setCommandSpecification(CommandSpecification.NEEDS_KEYS);
@@ -133,10 +133,49 @@ public class MapEditorCommandLayout implements CommandLayout {
                 1,
                 ArgumentSpecification.EQUAL
         ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "T",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "S",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "A",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "R",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "C",
+                1,
+                ArgumentSpecification.EQUAL
+        ));
+        l_userCommand.pushCommandArgument(new CommandArgument(
+                "headless",
+                0,
+                ArgumentSpecification.EQUAL
+        ));
         l_userCommand.setNumOfKeysOrValues(4);
-        l_userCommand.setCommandKeySpecification(ArgumentSpecification.EQUAL);
+        l_userCommand.setCommandKeySpecification(ArgumentSpecification.MIN);
         l_userCommand.setGamePhaseMethodName("prepareTournament");
         d_userCommands.add(l_userCommand);
+
+        // Example of the below command:
+        // > resumetournament checkpointfile
+        l_userCommand = new PredefinedUserCommand();
+        l_userCommand.setHeadCommand("resumetournament");
+        l_userCommand.setCommandSpecification(CommandSpecification.CAN_RUN_ALONE_WITH_VALUE);
+        l_userCommand.setNumOfKeysOrValues(1);
+        l_userCommand.setGamePhaseMethodName("resumeTournament");
+        d_userCommands.add(l_userCommand);
     }
 
     /**
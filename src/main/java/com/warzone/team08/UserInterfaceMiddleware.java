@@ -22,6 +22,16 @@ public interface UserInterfaceMiddleware {
      */
     void stdout(String p_message);
 
+    /**
+     * Output channel for the summaries, such as the results of a tournament, which are shown even if the other
+     * messages are not.
+     *
+     * @param p_message Represents the summary.
+     */
+    default void summary(String p_message) {
+        this.stdout(p_message);
+    }
+
     /**
      * Channel which shows the user an error message.
      *
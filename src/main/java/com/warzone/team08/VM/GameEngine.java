@@ -1,20 +1,39 @@
 package com.warzone.team08.VM;
 
+import com.warzone.team08.VM.constants.enums.OutputMode;
 import com.warzone.team08.VM.constants.interfaces.JSONable;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.journal.GameJournal;
+import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import com.warzone.team08.VM.phases.*;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
- * Creates an environment for the player to store the information.
+ * Creates an environment for the player to store the information. Each game has its own <code>GameEngine</code> which
+ * acts as the context of the game; the engines, services, repositories and orders of the game are bound to it. This
+ * allows many independent games to run at once.
  *
  * @author Brijesh Lakkad
  * @version 1.0
  */
 public class GameEngine implements JSONable {
+    /**
+     * Gives each game of this virtual machine its own id.
+     */
+    private static final AtomicInteger d_GameIdSequence = new AtomicInteger();
+
+    /**
+     * Id of this game; identifies the game in the events of the log.
+     */
+    private final int d_gameId = d_GameIdSequence.incrementAndGet();
+
     /**
      * State object of the GameEngine
      */
@@ -35,29 +54,87 @@ public class GameEngine implements JSONable {
     private boolean d_isTournamentModeOn = false;
 
     /**
-     * Default constructor.
+     * Maximum number of turns. After maximum turn passed, the game is declared as draw. Used only if the game mode is
+     * tournament.
+     */
+    private int d_maxNumberOfTurns;
+
+    /**
+     * Mode in which the messages of this game are sent to the user interface; null if the output mode of the virtual
+     * machine is used.
+     */
+    private volatile OutputMode d_outputMode;
+
+    /**
+     * Buffer to which the events of this game are logged. Each game has its own buffer, whose events carry the id of
+     * this game; the events are also sent to the parent buffer the game was created with, such as the buffer of the
+     * virtual machine observed by the <code>LogWriter</code> of the log file.
+     */
+    private LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Journal of the events of this game; null if the game does not record its journal.
+     */
+    private volatile GameJournal d_gameJournal;
+
+    /**
+     * Random number generator of this game. The generators of the players are split from it.
+     */
+    private SplittableRandom d_random = new SplittableRandom();
+
+    /**
+     * Phases of the turn. These phases do not keep any information of the turn, so the game moves between the same
+     * instances instead of creating the phase every time.
+     */
+    private final Reinforcement d_reinforcementPhase = new Reinforcement(this);
+    private final IssueOrder d_issueOrderPhase = new IssueOrder(this);
+    private final Execute d_executePhase = new Execute(this);
+
+    /**
+     * Default constructor. The events of the game are not sent to any other buffer.
      */
     public GameEngine() {
+        this((LogEntryBuffer) null);
+    }
+
+    /**
+     * Creates the game whose events are also sent to the given buffer.
+     *
+     * @param p_parentLogEntryBuffer Buffer to which the events of the game are also sent; null if none.
+     */
+    public GameEngine(LogEntryBuffer p_parentLogEntryBuffer) {
+        d_logEntryBuffer = new LogEntryBuffer(this, p_parentLogEntryBuffer);
         this.initialise();
         // MAP_EDITOR ENGINE
-        d_mapEditorEngine = new MapEditorEngine();
-        d_mapEditorEngine.initialise();
+        this.setMapEditorEngine(new MapEditorEngine());
         // GAME_PLAY ENGINE
-        d_gamePlayEngine = new GamePlayEngine();
-        d_gamePlayEngine.initialise();
+        this.setGamePlayEngine(new GamePlayEngine());
     }
 
     /**
      * Sets the MapEditor and GamePlay engines for this tournament round. This method will be used at the time of
-     * tournament. Calling of this method also sets the game mode to tournament.
+     * tournament. Calling of this method also sets the game mode to tournament. The events of the game are not sent to
+     * any other buffer.
      *
      * @param p_mapEditorEngine MapEditor engine.
      * @param p_gamePlayEngine  GamePlay engine.
      */
     public GameEngine(MapEditorEngine p_mapEditorEngine, GamePlayEngine p_gamePlayEngine) {
+        this(p_mapEditorEngine, p_gamePlayEngine, null);
+    }
+
+    /**
+     * Sets the MapEditor and GamePlay engines for this tournament round, and sets the game mode to tournament.
+     *
+     * @param p_mapEditorEngine      MapEditor engine.
+     * @param p_gamePlayEngine       GamePlay engine.
+     * @param p_parentLogEntryBuffer Buffer to which the events of the game are also sent; null if none.
+     */
+    public GameEngine(MapEditorEngine p_mapEditorEngine, GamePlayEngine p_gamePlayEngine, LogEntryBuffer p_parentLogEntryBuffer) {
+        d_logEntryBuffer = new LogEntryBuffer(this, p_parentLogEntryBuffer);
         this.initialise();
-        d_mapEditorEngine = p_mapEditorEngine;
-        d_gamePlayEngine = p_gamePlayEngine;
+        this.setMapEditorEngine(p_mapEditorEngine);
+        this.setGamePlayEngine(p_gamePlayEngine);
         d_isTournamentModeOn = true;
     }
 
@@ -74,6 +151,7 @@ public class GameEngine implements JSONable {
     public void shutdown() {
         d_mapEditorEngine.shutdown();
         d_gamePlayEngine.shutdown();
+        this.closeGameJournal();
     }
 
     /**
@@ -94,6 +172,33 @@ public class GameEngine implements JSONable {
         return d_gameState;
     }
 
+    /**
+     * Gets the reinforcement phase of this game.
+     *
+     * @return Value of the reinforcement phase.
+     */
+    public Reinforcement getReinforcementPhase() {
+        return d_reinforcementPhase;
+    }
+
+    /**
+     * Gets the issue order phase of this game.
+     *
+     * @return Value of the issue order phase.
+     */
+    public IssueOrder getIssueOrderPhase() {
+        return d_issueOrderPhase;
+    }
+
+    /**
+     * Gets the execute phase of this game.
+     *
+     * @return Value of the execute phase.
+     */
+    public Execute getExecutePhase() {
+        return d_executePhase;
+    }
+
     /**
      * Gets VM runtime map-editor engine to store map runtime information.
      *
@@ -110,6 +215,7 @@ public class GameEngine implements JSONable {
      */
     public void setMapEditorEngine(MapEditorEngine p_mapEditorEngine) {
         d_mapEditorEngine = p_mapEditorEngine;
+        d_mapEditorEngine.setGameEngine(this);
     }
 
     /**
@@ -128,6 +234,7 @@ public class GameEngine implements JSONable {
      */
     public void setGamePlayEngine(GamePlayEngine p_gamePlayEngine) {
         d_gamePlayEngine = p_gamePlayEngine;
+        d_gamePlayEngine.setGameEngine(this);
     }
 
     /**
@@ -139,6 +246,103 @@ public class GameEngine implements JSONable {
         return d_isTournamentModeOn;
     }
 
+    /**
+     * Gets the number of the maximum turns this game can have if the game mode is tournament.
+     *
+     * @return Value of the number of maximum turns.
+     */
+    public int getMaxNumberOfTurns() {
+        return d_maxNumberOfTurns;
+    }
+
+    /**
+     * Sets the number of the maximum turns this game can have if the game mode is tournament.
+     *
+     * @param p_maxNumberOfTurns Number of maximum turns.
+     */
+    public void setMaxNumberOfTurns(int p_maxNumberOfTurns) {
+        d_maxNumberOfTurns = p_maxNumberOfTurns;
+    }
+
+    /**
+     * Gets the mode in which the messages of this game are sent to the user interface.
+     *
+     * @return Value of the output mode; null if the output mode of the virtual machine is used.
+     */
+    public OutputMode getOutputMode() {
+        return d_outputMode;
+    }
+
+    /**
+     * Sets the mode in which the messages of this game are sent to the user interface. The output mode of the virtual
+     * machine is not changed.
+     *
+     * @param p_outputMode Value of the output mode; null to use the output mode of the virtual machine.
+     */
+    public void setOutputMode(OutputMode p_outputMode) {
+        d_outputMode = p_outputMode;
+    }
+
+    /**
+     * Sends the message of this game to the output channel of the user interface.
+     *
+     * @param p_message Represents the message.
+     */
+    public void stdout(String p_message) {
+        VirtualMachine l_virtualMachine = VirtualMachine.getInstance();
+        l_virtualMachine.stdout(p_message, this.resolveOutputMode(l_virtualMachine));
+    }
+
+    /**
+     * Sends the message of this game to the output channel of the user interface. The message is created only if the
+     * output mode of this game shows the message.
+     *
+     * @param p_message Supplier of the message.
+     */
+    public void stdout(Supplier<String> p_message) {
+        VirtualMachine l_virtualMachine = VirtualMachine.getInstance();
+        l_virtualMachine.stdout(p_message, this.resolveOutputMode(l_virtualMachine));
+    }
+
+    /**
+     * Sends the message of this game to the error channel of the user interface.
+     *
+     * @param p_message Represents the error message.
+     */
+    public void stderr(String p_message) {
+        VirtualMachine l_virtualMachine = VirtualMachine.getInstance();
+        l_virtualMachine.stderr(p_message, this.resolveOutputMode(l_virtualMachine));
+    }
+
+    /**
+     * Gets the mode in which the messages of this game are sent.
+     *
+     * @param p_virtualMachine Virtual machine of the user interface.
+     * @return Value of the output mode of this game; the output mode of the virtual machine if it has not been set.
+     */
+    private OutputMode resolveOutputMode(VirtualMachine p_virtualMachine) {
+        OutputMode l_outputMode = d_outputMode;
+        return l_outputMode != null ? l_outputMode : p_virtualMachine.getOutputMode();
+    }
+
+    /**
+     * Gets the buffer to which the events of this game are logged.
+     *
+     * @return Value of the log entry buffer.
+     */
+    public LogEntryBuffer getLogEntryBuffer() {
+        return d_logEntryBuffer;
+    }
+
+    /**
+     * Sets the buffer to which the events of this game are logged.
+     *
+     * @param p_logEntryBuffer Value of the log entry buffer.
+     */
+    public void setLogEntryBuffer(LogEntryBuffer p_logEntryBuffer) {
+        d_logEntryBuffer = p_logEntryBuffer;
+    }
+
     /**
      * Set the tournament mode
      *
@@ -148,6 +352,63 @@ public class GameEngine implements JSONable {
         d_isTournamentModeOn = p_tournamentMode;
     }
 
+    /**
+     * Gets the journal of the events of this game.
+     *
+     * @return Value of the journal; null if the game does not record its journal.
+     */
+    public GameJournal getGameJournal() {
+        return d_gameJournal;
+    }
+
+    /**
+     * Sets the journal of the events of this game.
+     *
+     * @param p_gameJournal Value of the journal; null to stop recording.
+     */
+    public void setGameJournal(GameJournal p_gameJournal) {
+        d_gameJournal = p_gameJournal;
+    }
+
+    /**
+     * Closes the journal of this game, if it has one.
+     */
+    public void closeGameJournal() {
+        GameJournal l_gameJournal = d_gameJournal;
+        if (l_gameJournal != null) {
+            d_gameJournal = null;
+            l_gameJournal.close();
+        }
+    }
+
+    /**
+     * Gets the id of this game, which is unique among the games of this virtual machine.
+     *
+     * @return Value of the id.
+     */
+    public int getGameId() {
+        return d_gameId;
+    }
+
+    /**
+     * Gets the random number generator of this game.
+     *
+     * @return Value of the random number generator.
+     */
+    public SplittableRandom getRandom() {
+        return d_random;
+    }
+
+    /**
+     * Sets the random number generator of this game. Games using the generators with the same seed will be played the
+     * same way.
+     *
+     * @param p_random Value of the random number generator.
+     */
+    public void setRandom(SplittableRandom p_random) {
+        d_random = p_random;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -160,6 +421,30 @@ public class GameEngine implements JSONable {
         return l_gameEngineJSON;
     }
 
+    /**
+     * Creates the engines of the saved game without attaching them to the virtual machine or starting the game loop.
+     * The saved game can be analysed this way without replacing the game of the user.
+     *
+     * @param p_jsonObject <code>JSONObject</code> holding the runtime information.
+     * @return Created instance of this class using the provided JSON data.
+     * @throws InvalidGameException If the information from JSONObject cannot be used because it is corrupted or missing
+     *                              the values.
+     */
+    public static GameEngine fromJSONDetached(JSONObject p_jsonObject) throws InvalidGameException {
+        GameEngine l_gameEngine = new GameEngine();
+        // The entities being loaded use the engine bound to the thread.
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            MapEditorEngine.fromJSON(p_jsonObject.getJSONObject("map_editor"), l_gameEngine);
+            GamePlayEngine.fromJSON(p_jsonObject.getJSONObject("game_pay"), l_gameEngine);
+            return l_gameEngine;
+        } catch (JSONException p_jsonException) {
+            throw new InvalidGameException("Missing values or the corrupted game file!");
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
     /**
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
@@ -171,8 +456,8 @@ public class GameEngine implements JSONable {
      */
     public static GameEngine fromJSON(JSONObject p_jsonObject) throws InvalidGameException {
         try {
-            // Create and load GameEngine.
-            GameEngine l_gameEngine = new GameEngine();
+            // Create and load GameEngine. It replaces the game of the user, so it is logged to the log file.
+            GameEngine l_gameEngine = new GameEngine(VirtualMachine.getInstance().getLogEntryBuffer());
             VirtualMachine.setGameEngine(l_gameEngine);
 
             MapEditorEngine.fromJSON(p_jsonObject.getJSONObject("map_editor"), l_gameEngine);
@@ -188,7 +473,7 @@ public class GameEngine implements JSONable {
             } else if (l_phaseString.equals(PlaySetup.class.getSimpleName())) {
                 l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
             } else if (l_phaseString.equals(IssueOrder.class.getSimpleName())) {
-                l_gameEngine.setGamePhase(new IssueOrder(l_gameEngine));
+                l_gameEngine.setGamePhase(l_gameEngine.getIssueOrderPhase());
                 l_gamePlayEngine.startGameLoop();
             }
             return l_gameEngine;
@@ -0,0 +1,250 @@
+package com.warzone.team08.VM;
+
+import com.warzone.team08.UserInterfaceMiddleware;
+import com.warzone.team08.VM.constants.enums.OutputMode;
+
+/**
+ * Middleware between the virtual machine and the user interface which sends the messages to the user interface
+ * depending on the <code>OutputMode</code>. In the verbose mode, every message is sent as it is; in the buffered mode,
+ * the messages are joined and sent once the batch is full, so a game does not wait for the console after each order;
+ * in the summary mode, only the summaries and the errors are sent; and in the silent mode, nothing is sent.
+ * <p>
+ * A game may be played in a mode of its own, such as the games of a headless tournament; its messages are sent with
+ * that mode instead of the mode of the middleware, which is not changed.
+ * <p>
+ * The messages which change the state of the user interface, <code>GAME_ENGINE_STARTED</code> and
+ * <code>GAME_ENGINE_STOPPED</code>, are always sent, after the messages collected before them.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see OutputMode
+ */
+public class OutputModeMiddleware implements UserInterfaceMiddleware {
+    /**
+     * Number of messages sent together in the buffered mode if it has not been set.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private volatile UserInterfaceMiddleware d_userInterfaceMiddleware;
+    private volatile OutputMode d_outputMode = OutputMode.VERBOSE;
+    private volatile int d_batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Messages collected in the buffered mode, separated by new lines.
+     */
+    private final StringBuilder d_buffer = new StringBuilder();
+    private int d_numberOfBufferedMessages = 0;
+
+    /**
+     * Sets the user interface to which the messages are sent. The messages collected for the previous user interface
+     * are sent to it first.
+     *
+     * @param p_userInterfaceMiddleware Value of the user interface middleware; null to discard the messages.
+     */
+    public void setUserInterfaceMiddleware(UserInterfaceMiddleware p_userInterfaceMiddleware) {
+        this.flush();
+        d_userInterfaceMiddleware = p_userInterfaceMiddleware;
+    }
+
+    /**
+     * Gets the mode in which the messages are sent.
+     *
+     * @return Value of the output mode.
+     */
+    public OutputMode getOutputMode() {
+        return d_outputMode;
+    }
+
+    /**
+     * Sets the mode in which the messages are sent. The messages collected in the buffered mode are sent first.
+     *
+     * @param p_outputMode Value of the output mode.
+     */
+    public void setOutputMode(OutputMode p_outputMode) {
+        this.flush();
+        d_outputMode = p_outputMode;
+    }
+
+    /**
+     * Gets the number of messages sent together in the buffered mode.
+     *
+     * @return Value of the batch size.
+     */
+    public int getBatchSize() {
+        return d_batchSize;
+    }
+
+    /**
+     * Sets the number of messages sent together in the buffered mode.
+     *
+     * @param p_batchSize Value of the batch size; at least one.
+     */
+    public void setBatchSize(int p_batchSize) {
+        d_batchSize = Math.max(1, p_batchSize);
+    }
+
+    /**
+     * Checks if the messages sent to <code>stdout</code> reach the user interface, so they do not need to be created
+     * otherwise.
+     *
+     * @return True if the messages are sent or collected; false if they are discarded.
+     */
+    public boolean isStdoutAccepted() {
+        return this.isStdoutAccepted(d_outputMode);
+    }
+
+    /**
+     * Checks if the messages sent to <code>stdout</code> in the given mode reach the user interface.
+     *
+     * @param p_outputMode Mode in which the messages are sent.
+     * @return True if the messages are sent or collected; false if they are discarded.
+     */
+    public boolean isStdoutAccepted(OutputMode p_outputMode) {
+        return d_userInterfaceMiddleware != null &&
+                (p_outputMode == OutputMode.VERBOSE || p_outputMode == OutputMode.BUFFERED);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The messages collected before are shown before asking.
+     *
+     * @param p_message Message to be shown before asking for input.
+     * @return Value of the response to the request.
+     */
+    @Override
+    public String askForUserInput(String p_message) {
+        this.flush();
+        return d_userInterfaceMiddleware.askForUserInput(p_message);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p_message Represents the message.
+     */
+    @Override
+    public void stdout(String p_message) {
+        this.stdout(p_message, d_outputMode);
+    }
+
+    /**
+     * Sends the message to the output channel of the user interface in the given mode.
+     *
+     * @param p_message    Represents the message.
+     * @param p_outputMode Mode in which the message is sent.
+     */
+    public void stdout(String p_message, OutputMode p_outputMode) {
+        UserInterfaceMiddleware l_userInterfaceMiddleware = d_userInterfaceMiddleware;
+        if (l_userInterfaceMiddleware == null) {
+            return;
+        }
+        if (isStateMessage(p_message)) {
+            this.flush();
+            l_userInterfaceMiddleware.stdout(p_message);
+            return;
+        }
+        switch (p_outputMode) {
+            case VERBOSE:
+                l_userInterfaceMiddleware.stdout(p_message);
+                break;
+            case BUFFERED:
+                this.append(p_message);
+                break;
+            default:
+                // The summary and the silent modes discard the messages.
+                break;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p_message Represents the summary.
+     */
+    @Override
+    public void summary(String p_message) {
+        UserInterfaceMiddleware l_userInterfaceMiddleware = d_userInterfaceMiddleware;
+        if (l_userInterfaceMiddleware == null || d_outputMode == OutputMode.SILENT) {
+            return;
+        }
+        this.flush();
+        l_userInterfaceMiddleware.summary(p_message);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The errors are discarded only in the silent mode.
+     *
+     * @param p_message Represents the error message.
+     */
+    @Override
+    public void stderr(String p_message) {
+        this.stderr(p_message, d_outputMode);
+    }
+
+    /**
+     * Sends the message to the error channel of the user interface in the given mode. The errors are discarded only in
+     * the silent mode.
+     *
+     * @param p_message    Represents the error message.
+     * @param p_outputMode Mode in which the message is sent.
+     */
+    public void stderr(String p_message, OutputMode p_outputMode) {
+        UserInterfaceMiddleware l_userInterfaceMiddleware = d_userInterfaceMiddleware;
+        if (l_userInterfaceMiddleware == null || p_outputMode == OutputMode.SILENT) {
+            return;
+        }
+        this.flush();
+        l_userInterfaceMiddleware.stderr(p_message);
+    }
+
+    /**
+     * Sends the collected messages to the user interface as a single message.
+     */
+    public void flush() {
+        String l_messages;
+        synchronized (d_buffer) {
+            if (d_numberOfBufferedMessages == 0) {
+                return;
+            }
+            l_messages = d_buffer.toString();
+            d_buffer.setLength(0);
+            d_numberOfBufferedMessages = 0;
+        }
+        UserInterfaceMiddleware l_userInterfaceMiddleware = d_userInterfaceMiddleware;
+        if (l_userInterfaceMiddleware != null) {
+            l_userInterfaceMiddleware.stdout(l_messages);
+        }
+    }
+
+    /**
+     * Collects the message, and sends the collected messages if the batch is full.
+     *
+     * @param p_message Represents the message.
+     */
+    private void append(String p_message) {
+        boolean l_isBatchFull;
+        synchronized (d_buffer) {
+            if (d_numberOfBufferedMessages > 0) {
+                d_buffer.append('\n');
+            }
+            d_buffer.append(p_message);
+            l_isBatchFull = ++d_numberOfBufferedMessages >= d_batchSize;
+        }
+        if (l_isBatchFull) {
+            this.flush();
+        }
+    }
+
+    /**
+     * Checks if the message changes the state of the user interface instead of being shown.
+     *
+     * @param p_message Represents the message.
+     * @return True if the message changes the state of the user interface.
+     */
+    private static boolean isStateMessage(String p_message) {
+        return "GAME_ENGINE_STARTED".equals(p_message) || "GAME_ENGINE_STOPPED".equals(p_message);
+    }
+}
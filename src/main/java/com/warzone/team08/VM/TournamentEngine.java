@@ -1,36 +1,84 @@
 package com.warzone.team08.VM;
 
 import com.jakewharton.fliptables.FlipTable;
-import com.warzone.team08.VM.entities.GameResult;
+import com.warzone.team08.VM.constants.enums.AdjudicationType;
+import com.warzone.team08.VM.constants.enums.OutputMode;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.constants.interfaces.JSONable;
+import com.warzone.team08.VM.entities.MapStatistics;
+import com.warzone.team08.VM.entities.MatchResult;
 import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GameAdjudicator;
 import com.warzone.team08.VM.game_play.GameLoop;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
 import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
-import com.warzone.team08.VM.map_editor.services.EditMapService;
+import com.warzone.team08.VM.metrics.GameMetrics;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
 import com.warzone.team08.VM.phases.PlaySetup;
+import com.warzone.team08.VM.utils.FileUtil;
 import com.warzone.team08.VM.utils.PathResolverUtil;
+import com.warzone.team08.VM.utils.StatisticsUtil;
 
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This engine will be used when user has entered `tournament` command.
+ * <p>
+ * When the tournament starts, its configuration is saved to a checkpoint file, and the result of each completed game
+ * is appended to the results file referenced by the checkpoint. A tournament which has been stopped, or whose process
+ * has been killed, can be resumed from the checkpoint file using `resumetournament` command; the games which have
+ * already been completed are not played again.
  *
  * @author Brijesh Lakkad
  * @version 1.0
  */
-public class TournamentEngine {
+public class TournamentEngine implements JSONable {
+    /**
+     * Default number of times the same state of the board can be seen before the game is declared as draw; zero, so the
+     * games of a tournament are played until the maximum number of turns unless the check is turned on.
+     */
+    public static final int DEFAULT_REPETITION_LIMIT = 0;
+
     /**
-     * Singleton instance of the class.
+     * Default number of turns in a row a player should dominate the game to be declared as winner.
      */
-    private static TournamentEngine d_Instance;
+    public static final int DEFAULT_DOMINANCE_TURNS = 3;
 
     /**
-     * Map of <code>GameEngine</code> which has been completed.
+     * Number of completed games on a map before its strategies can be separated, so a lucky start does not stop the
+     * games on the map.
      */
-    private Map<Integer, List<GameEngine>> d_playedGameEngineMappings;
+    public static final int MIN_GAMES_TO_SEPARATE = 10;
+
+    /**
+     * Results of the games which have been completed, mapped to the index of the game. The <code>GameEngine</code> of a
+     * game is not kept after the game has been completed.
+     */
+    private Map<Integer, List<MatchResult>> d_matchResultMappings;
 
     /**
      * List of <code>Player</code> that representing a strategy.
@@ -52,24 +100,101 @@ public class TournamentEngine {
      */
     private int d_maxNumberOfTurns;
 
-    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    /**
+     * Number of threads to be used to play the games of the tournament. Games are played one after another if the
+     * value is one.
+     */
+    private int d_numberOfThreads = 1;
+
+    /**
+     * Number of times the same state of the board can be seen before the game is declared as draw. Zero disables the
+     * check.
+     */
+    private int d_repetitionLimit = DEFAULT_REPETITION_LIMIT;
+
+    /**
+     * Share of the countries and the armies a player should hold to be declared as winner. Zero disables the check.
+     */
+    private double d_dominanceShare;
+
+    /**
+     * Number of turns in a row a player should hold the share of the countries and the armies to be declared as
+     * winner.
+     */
+    private int d_dominanceTurns = DEFAULT_DOMINANCE_TURNS;
+
+    /**
+     * Confidence level, between zero and one, of the win rate intervals used to stop playing the games on a map. If it
+     * is zero, all the games are played; otherwise the number of games is the maximum number of games per map.
+     */
+    private double d_confidenceLevel;
+
+    /**
+     * Seed of the random number generators used by the games. If it is null, the tournament can not be reproduced.
+     */
+    private Long d_seed;
+
+    /**
+     * Path to the file to which the result of each game is appended as a JSON line. If it is null, a new file is created
+     * in the log directory when the tournament starts and its path is assigned to this field.
+     */
+    private String d_resultFilePath;
+
+    /**
+     * Path to the checkpoint file to which the configuration of the tournament is saved. If it is null, it is created
+     * next to the results file when the tournament starts and its path is assigned to this field.
+     */
+    private String d_checkpointFilePath;
+
+    /**
+     * Writer of the results file while the tournament is being played.
+     */
+    private BufferedWriter d_resultWriter;
+
+    /**
+     * Set when the tournament has been asked to stop. The games being played are completed and recorded, but no
+     * further game is started.
+     */
+    private volatile boolean d_stopRequested;
+
+    /**
+     * Set if the tournament is played without showing the messages of its games; only the results and the errors are
+     * shown.
+     */
+    private boolean d_isHeadless;
+
+    /**
+     * Buffer to which the events of the tournament are logged. The games of the tournament send their events to it.
+     * The categories which have not been set are logged at <code>INFO</code>, so the games do not build the details of
+     * their orders unless they have been asked for.
+     */
+    private final LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Creates a tournament whose events are not sent to any other buffer. The games of the tournament do not depend on
+     * this instance once they have been created, so more than one tournament can be played at once.
+     */
+    public TournamentEngine() {
+        this(null);
+    }
 
     /**
-     * Main game loop.
+     * Creates a tournament whose events, and the events of its games, are also sent to the given buffer.
+     *
+     * @param p_parentLogEntryBuffer Buffer to which the events are also sent; null if none.
      */
-    private GameLoop d_gameLoop;
+    public TournamentEngine(LogEntryBuffer p_parentLogEntryBuffer) {
+        d_logEntryBuffer = new LogEntryBuffer(null, p_parentLogEntryBuffer, LogLevel.INFO);
+        this.initialise();
+    }
 
     /**
-     * Gets the single instance of the <code>TournamentEngine</code> class which was created before.
+     * Gets the buffer to which the events of the tournament and its games are logged.
      *
-     * @return Value of the instance.
+     * @return Value of the log entry buffer.
      */
-    public static TournamentEngine getInstance() throws NullPointerException {
-        if (d_Instance == null) {
-            d_Instance = new TournamentEngine();
-            d_Instance.initialise();
-        }
-        return d_Instance;
+    public LogEntryBuffer getLogEntryBuffer() {
+        return d_logEntryBuffer;
     }
 
     /**
@@ -78,13 +203,34 @@ public class TournamentEngine {
     public void initialise() {
         d_mapFileList = new ArrayList<>();
         d_players = new ArrayList<>();
-        d_playedGameEngineMappings = new HashMap<>();
+        d_matchResultMappings = new HashMap<>();
+        d_numberOfThreads = 1;
+        d_seed = null;
+        d_confidenceLevel = 0;
+        d_resultFilePath = null;
+        d_checkpointFilePath = null;
+        d_stopRequested = false;
+        d_isHeadless = false;
+        d_repetitionLimit = DEFAULT_REPETITION_LIMIT;
+        d_dominanceShare = 0;
+        d_dominanceTurns = DEFAULT_DOMINANCE_TURNS;
     }
 
     /**
-     * Signals its engines to shutdown.
+     * Signals the tournament to stop at the end of the games being played. The results of these games are recorded, so
+     * the tournament can be resumed from its checkpoint file.
      */
     public void shutdown() {
+        d_stopRequested = true;
+    }
+
+    /**
+     * Checks if the tournament has been asked to stop.
+     *
+     * @return True if the tournament has been asked to stop; false otherwise.
+     */
+    public boolean isStopRequested() {
+        return d_stopRequested;
     }
 
     /**
@@ -132,6 +278,182 @@ public class TournamentEngine {
         d_maxNumberOfTurns = p_maxNumberOfTurns;
     }
 
+    /**
+     * Gets the number of threads used to play the games of the tournament.
+     *
+     * @return Value of the number of threads.
+     */
+    public int getNumberOfThreads() {
+        return d_numberOfThreads;
+    }
+
+    /**
+     * Sets the number of threads used to play the games of the tournament.
+     *
+     * @param p_numberOfThreads Number of threads.
+     */
+    public void setNumberOfThreads(int p_numberOfThreads) {
+        d_numberOfThreads = p_numberOfThreads;
+    }
+
+    /**
+     * Gets the number of times the same state of the board can be seen before the game is declared as draw.
+     *
+     * @return Value of the limit; zero if the check is disabled.
+     */
+    public int getRepetitionLimit() {
+        return d_repetitionLimit;
+    }
+
+    /**
+     * Sets the number of times the same state of the board can be seen before the game is declared as draw.
+     *
+     * @param p_repetitionLimit Value of the limit; zero to disable the check.
+     */
+    public void setRepetitionLimit(int p_repetitionLimit) {
+        d_repetitionLimit = p_repetitionLimit;
+    }
+
+    /**
+     * Gets the share of the countries and the armies a player should hold to be declared as winner.
+     *
+     * @return Value of the share between zero and one; zero if the check is disabled.
+     */
+    public double getDominanceShare() {
+        return d_dominanceShare;
+    }
+
+    /**
+     * Sets the share of the countries and the armies a player should hold to be declared as winner.
+     *
+     * @param p_dominanceShare Value of the share between zero and one; zero to disable the check.
+     */
+    public void setDominanceShare(double p_dominanceShare) {
+        d_dominanceShare = p_dominanceShare;
+    }
+
+    /**
+     * Gets the number of turns in a row a player should dominate the game to be declared as winner.
+     *
+     * @return Value of the number of turns.
+     */
+    public int getDominanceTurns() {
+        return d_dominanceTurns;
+    }
+
+    /**
+     * Sets the number of turns in a row a player should dominate the game to be declared as winner.
+     *
+     * @param p_dominanceTurns Value of the number of turns.
+     */
+    public void setDominanceTurns(int p_dominanceTurns) {
+        d_dominanceTurns = p_dominanceTurns;
+    }
+
+    /**
+     * Gets the confidence level of the win rate intervals used to stop playing the games on a map.
+     *
+     * @return Value of the confidence level between zero and one; zero if all the games are played.
+     */
+    public double getConfidenceLevel() {
+        return d_confidenceLevel;
+    }
+
+    /**
+     * Sets the confidence level of the win rate intervals used to stop playing the games on a map. Once the strategies
+     * on a map have been separated, no further game is played on the map. The number of games becomes the maximum
+     * number of games per map.
+     *
+     * @param p_confidenceLevel Value of the confidence level between zero and one; zero to play all the games.
+     */
+    public void setConfidenceLevel(double p_confidenceLevel) {
+        d_confidenceLevel = p_confidenceLevel;
+    }
+
+    /**
+     * Checks if the games on a map are played only until the strategies have been separated.
+     *
+     * @return True if the number of games is adaptive; false otherwise.
+     */
+    public boolean isAdaptive() {
+        return d_confidenceLevel > 0;
+    }
+
+    /**
+     * Gets the seed of the random number generators used by the games.
+     *
+     * @return Value of the seed; null if the tournament is not seeded.
+     */
+    public Long getSeed() {
+        return d_seed;
+    }
+
+    /**
+     * Sets the seed of the random number generators used by the games. Tournaments with the same seed, maps, players,
+     * number of games and maximum turns have the same results, irrespective of the number of threads.
+     *
+     * @param p_seed Value of the seed; null to play the tournament without a seed.
+     */
+    public void setSeed(Long p_seed) {
+        d_seed = p_seed;
+    }
+
+    /**
+     * Checks if the tournament is played without showing the messages of its games.
+     *
+     * @return True if only the results are shown; false otherwise.
+     */
+    public boolean isHeadless() {
+        return d_isHeadless;
+    }
+
+    /**
+     * Sets if the tournament is played without showing the messages of its games. The games of a headless tournament
+     * are played in the <code>summary</code> output mode, so they do not wait for the user interface to show the
+     * executed orders; their errors are still shown.
+     *
+     * @param p_isHeadless True if only the results are shown; false otherwise.
+     */
+    public void setHeadless(boolean p_isHeadless) {
+        d_isHeadless = p_isHeadless;
+    }
+
+    /**
+     * Gets the path to the file to which the results of the games are appended.
+     *
+     * @return Value of the path; null if a new file will be created in the log directory.
+     */
+    public String getResultFilePath() {
+        return d_resultFilePath;
+    }
+
+    /**
+     * Sets the path to the file to which the results of the games are appended.
+     *
+     * @param p_resultFilePath Value of the path.
+     */
+    public void setResultFilePath(String p_resultFilePath) {
+        d_resultFilePath = p_resultFilePath;
+    }
+
+    /**
+     * Gets the path to the checkpoint file of the tournament.
+     *
+     * @return Value of the path; null if the file will be created next to the results file.
+     */
+    public String getCheckpointFilePath() {
+        return d_checkpointFilePath;
+    }
+
+    /**
+     * Sets the path to the checkpoint file of the tournament.
+     *
+     * @param p_checkpointFilePath Value of the path.
+     */
+    public void setCheckpointFilePath(String p_checkpointFilePath) {
+        d_checkpointFilePath = p_checkpointFilePath;
+    }
+
     /**
      * Sets the List of Players this tournament can have.
      *
@@ -173,8 +495,14 @@ public class TournamentEngine {
     }
 
     /**
-     * Starts the tournament. This will create a <code>GameEngine</code> using MapEditor and GamePlay engines. It will
-     * also record the <code>GameEngine</code> to the list.
+     * Starts the tournament. This will create a <code>GameEngine</code> using MapEditor and GamePlay engines for each
+     * game on each map. As soon as a game is completed, its <code>MatchResult</code> is recorded at the index of the
+     * game and the map, and appended to the results file.
+     * <p>
+     * If the number of threads is more than one, the games are played in parallel. Each game has its own engine bound
+     * to the thread playing it, so the result of the tournament is the same as if the games were played one after
+     * another.
+     * </p>
      * <p>
      * If any error occurred while the game is in the loop, it will set the game result as interrupted.
      * </p>
@@ -183,47 +511,502 @@ public class TournamentEngine {
      * @throws VMException If any exception while executing the tournament.
      */
     public void onStart(boolean p_ignorePath) throws VMException {
-        for (int d_currentGameIndex = 0; d_currentGameIndex < d_numberOfGames; d_currentGameIndex++) {
-            for (String l_mapFilePath : d_mapFileList) {
-                GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
-                GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
-                // Prepare GameEngine for this tournament round.
-                VirtualMachine.setGameEngine(l_gameEngine);
+        this.reserveResultSlots();
+        this.playRemainingGames(p_ignorePath);
+    }
+
+    /**
+     * Resumes the tournament saved in the checkpoint file. The configuration of the tournament is loaded from the
+     * checkpoint, and the results of the completed games are loaded from its results file; only the remaining games
+     * are played. A line of the results file which can not be read, for example, because the process was killed while
+     * writing it, is ignored and its game is played again.
+     * <p>
+     * If the tournament has a seed, the resumed games are the same as if the tournament had not been stopped.
+     * </p>
+     *
+     * @param p_checkpointFilePath Path to the checkpoint file.
+     * @param p_ignorePath         Ignore adding the user-data-directory path to the map files.
+     * @throws VMException If the checkpoint can not be read or any exception while executing the tournament.
+     */
+    public void onResume(String p_checkpointFilePath, boolean p_ignorePath) throws VMException {
+        try {
+            String l_checkpointContent = new String(Files.readAllBytes(Paths.get(p_checkpointFilePath)), StandardCharsets.UTF_8);
+            TournamentEngine.fromJSON(new JSONObject(l_checkpointContent), this);
+        } catch (IOException p_ioException) {
+            throw new VMException(String.format("Error while loading the checkpoint file %s!", p_checkpointFilePath));
+        } catch (JSONException p_jsonException) {
+            throw new InvalidGameException("Missing values or the corrupted checkpoint file!");
+        }
+        d_checkpointFilePath = p_checkpointFilePath;
+        this.reserveResultSlots();
+        this.loadCompletedResults();
+        this.playRemainingGames(p_ignorePath);
+    }
+
+    /**
+     * Reserves a slot for the result of each game on each map, so the results do not depend on the order in which the
+     * games finish.
+     */
+    private void reserveResultSlots() {
+        d_matchResultMappings = new HashMap<>();
+        for (int l_gameIndex = 0; l_gameIndex < d_numberOfGames; l_gameIndex++) {
+            d_matchResultMappings.put(l_gameIndex, Arrays.asList(new MatchResult[d_mapFileList.size()]));
+        }
+    }
+
+    /**
+     * Loads the results of the completed games from the results file into the reserved slots. The results file is then
+     * rewritten with the lines which could be read, so the results of the remaining games are appended after a
+     * complete line.
+     *
+     * @throws VMException If the results file exists but can not be read or rewritten.
+     */
+    private void loadCompletedResults() throws VMException {
+        Path l_resultPath = Paths.get(d_resultFilePath);
+        if (!Files.exists(l_resultPath)) {
+            return;
+        }
+        List<String> l_completedLines = new ArrayList<>();
+        try {
+            for (String l_line : Files.readAllLines(l_resultPath, StandardCharsets.UTF_8)) {
+                MatchResult l_matchResult;
+                try {
+                    l_matchResult = MatchResult.fromJSON(new JSONObject(l_line));
+                } catch (JSONException | InvalidGameException p_exception) {
+                    continue;
+                }
+                List<MatchResult> l_gameResults = d_matchResultMappings.get(l_matchResult.getGameIndex());
+                if (l_gameResults != null && l_matchResult.getMapIndex() >= 0 &&
+                        l_matchResult.getMapIndex() < l_gameResults.size() &&
+                        l_gameResults.get(l_matchResult.getMapIndex()) == null) {
+                    l_gameResults.set(l_matchResult.getMapIndex(), l_matchResult);
+                    l_completedLines.add(l_line);
+                }
+            }
+            this.replaceFile(l_resultPath, l_completedLines);
+        } catch (IOException p_ioException) {
+            throw new VMException(String.format("Error while loading the results file %s!", d_resultFilePath));
+        }
+    }
 
-                EditMapService l_editMapService = new EditMapService();
+    /**
+     * Replaces the content of the file with the given lines. The lines are written to a temporary file first, which
+     * then replaces the file, so the file is never left half written.
+     *
+     * @param p_path  Path to the file.
+     * @param p_lines Lines of the file.
+     * @throws IOException If the file can not be written.
+     */
+    private void replaceFile(Path p_path, List<String> p_lines) throws IOException {
+        Path l_absolutePath = p_path.toAbsolutePath();
+        Path l_temporaryPath = Paths.get(l_absolutePath + ".tmp");
+        Files.createDirectories(l_absolutePath.getParent());
+        Files.write(l_temporaryPath, p_lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(l_temporaryPath, l_absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException p_atomicMoveNotSupportedException) {
+            Files.move(l_temporaryPath, l_absolutePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-                // Loading the map data will first remove the old at EditMapService
-                l_editMapService.handleLoadMap(p_ignorePath ? l_mapFilePath : PathResolverUtil.resolveFilePath(l_mapFilePath), false);
+    /**
+     * Plays the games of the tournament which have not been completed yet. The checkpoint file is saved before any game
+     * is played. If the process is asked to terminate, the tournament stops after the games being played have been
+     * recorded.
+     *
+     * @param p_ignorePath Ignore adding the user-data-directory path.
+     * @throws VMException If any exception while executing the tournament.
+     */
+    private void playRemainingGames(boolean p_ignorePath) throws VMException {
+        d_stopRequested = false;
 
-                l_gamePlayEngine.setPlayerList(this.getPlayers());
+        // Each game gets its own generator, split in a fixed order; it does not depend on the thread playing the game.
+        SplittableRandom l_tournamentRandom = d_seed != null ? new SplittableRandom(d_seed) : new SplittableRandom();
+        SplittableRandom[][] l_gameRandoms = new SplittableRandom[d_numberOfGames][d_mapFileList.size()];
+        for (int l_gameIndex = 0; l_gameIndex < d_numberOfGames; l_gameIndex++) {
+            for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+                l_gameRandoms[l_gameIndex][l_mapIndex] = l_tournamentRandom.split();
+            }
+        }
 
-                DistributeCountriesService l_distributeCountriesService = new DistributeCountriesService();
-                l_distributeCountriesService.execute(new ArrayList<>());
+        this.openResultFile();
+        this.saveCheckpoint();
+        CountDownLatch l_tournamentStopped = new CountDownLatch(1);
+        Thread l_shutdownHook = new Thread(() -> {
+            this.shutdown();
+            try {
+                l_tournamentStopped.await();
+            } catch (InterruptedException p_interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(l_shutdownHook);
+        try {
+            this.playGames(l_gameRandoms, p_ignorePath);
+        } finally {
+            this.closeResultFile();
+            l_tournamentStopped.countDown();
+            try {
+                Runtime.getRuntime().removeShutdownHook(l_shutdownHook);
+            } catch (IllegalStateException p_illegalStateException) {
+                // The process is terminating and the hook is waiting for the tournament to stop.
+            }
+        }
+        if (d_stopRequested && this.hasRemainingGames()) {
+            String l_message = String.format("\nTournament has been stopped. Use `resumetournament %s` to play the remaining games.", d_checkpointFilePath);
+            d_logEntryBuffer.dataChanged("tournament", l_message);
+            VirtualMachine.getInstance().summary(l_message);
+            return;
+        }
+        this.onComplete();
+    }
 
-                // Tournament will start from PlaySetup phase.
-                l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+    /**
+     * Checks if any game of the tournament has not been completed yet.
+     *
+     * @return True if a game is remaining; false otherwise.
+     */
+    private boolean hasRemainingGames() {
+        for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+            if (this.isAdaptive() && this.isSeparated(l_mapIndex)) {
+                continue;
+            }
+            for (List<MatchResult> l_gameResults : d_matchResultMappings.values()) {
+                if (l_gameResults.get(l_mapIndex) == null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
-                // If the game index exists, it will add the GameEngine to the list; otherwise it will create a singleton list.
-                if (d_playedGameEngineMappings.containsKey(d_currentGameIndex)) {
-                    d_playedGameEngineMappings.get(d_currentGameIndex).add(l_gameEngine);
-                } else {
-                    List<GameEngine> l_gameEngineList = new ArrayList<>();
-                    l_gameEngineList.add(l_gameEngine);
-                    d_playedGameEngineMappings.put(d_currentGameIndex, l_gameEngineList);
+    /**
+     * Plays the games of the tournament which have not been completed yet, in parallel if the number of threads is
+     * more than one. A game is not started if the tournament has been asked to stop.
+     * <p>
+     * If the number of games is adaptive, the games are played in rounds on the maps whose strategies have not been
+     * separated yet. A round has one game per map, or more if there are more threads than the remaining maps, so a map
+     * may play a few more games than needed when more threads are used. The result of each game does not depend on the
+     * rounds, as each game has its own random number generator.
+     * </p>
+     *
+     * @param p_gameRandoms Random number generators of the games, at the index of the game and the map.
+     * @param p_ignorePath  Ignore adding the user-data-directory path.
+     * @throws VMException If any exception while executing the tournament.
+     */
+    private void playGames(SplittableRandom[][] p_gameRandoms, boolean p_ignorePath) throws VMException {
+        ExecutorService l_executor = d_numberOfThreads > 1 ? Executors.newFixedThreadPool(d_numberOfThreads) : null;
+        try {
+            if (!this.isAdaptive()) {
+                this.playRound(0, d_numberOfGames, this.getAllMapIndices(), p_gameRandoms, p_ignorePath, l_executor);
+                return;
+            }
+            int l_gameIndex = 0;
+            while (l_gameIndex < d_numberOfGames && !d_stopRequested) {
+                List<Integer> l_undecidedMapIndices = new ArrayList<>();
+                for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+                    if (!this.isSeparated(l_mapIndex)) {
+                        l_undecidedMapIndices.add(l_mapIndex);
+                    }
                 }
-                d_gameLoop = new GameLoop(l_gamePlayEngine);
-                d_gameLoop.run();
+                if (l_undecidedMapIndices.isEmpty()) {
+                    break;
+                }
+                int l_roundSize = Math.max(1, (d_numberOfThreads + l_undecidedMapIndices.size() - 1) / l_undecidedMapIndices.size());
+                int l_roundEnd = Math.min(d_numberOfGames, l_gameIndex + l_roundSize);
+                this.playRound(l_gameIndex, l_roundEnd, l_undecidedMapIndices, p_gameRandoms, p_ignorePath, l_executor);
+                l_gameIndex = l_roundEnd;
+            }
+        } finally {
+            if (l_executor != null) {
+                l_executor.shutdownNow();
             }
         }
-        this.onComplete();
     }
 
     /**
-     * After the tournament ends, this method will be called to show the results in a tabular format.
+     * Plays the games, which have not been completed yet, in the range of the game indices on the given maps.
+     *
+     * @param p_fromGameIndex Index of the first game (inclusive).
+     * @param p_toGameIndex   Index of the last game (exclusive).
+     * @param p_mapIndices    Indices of the maps.
+     * @param p_gameRandoms   Random number generators of the games, at the index of the game and the map.
+     * @param p_ignorePath    Ignore adding the user-data-directory path.
+     * @param p_executor      Executor to play the games in parallel; null to play them one after another.
+     * @throws VMException If any exception while executing the tournament.
+     */
+    private void playRound(int p_fromGameIndex,
+                           int p_toGameIndex,
+                           List<Integer> p_mapIndices,
+                           SplittableRandom[][] p_gameRandoms,
+                           boolean p_ignorePath,
+                           ExecutorService p_executor) throws VMException {
+        List<Callable<MatchResult>> l_games = new ArrayList<>();
+        for (int l_gameIndex = p_fromGameIndex; l_gameIndex < p_toGameIndex; l_gameIndex++) {
+            for (int l_mapIndex : p_mapIndices) {
+                if (d_matchResultMappings.get(l_gameIndex).get(l_mapIndex) != null) {
+                    continue;
+                }
+                final int l_finalGameIndex = l_gameIndex;
+                final int l_finalMapIndex = l_mapIndex;
+                l_games.add(() -> d_stopRequested ? null :
+                        this.playGame(l_finalGameIndex, l_finalMapIndex, p_gameRandoms[l_finalGameIndex][l_finalMapIndex], p_ignorePath)
+                );
+            }
+        }
+
+        if (p_executor == null) {
+            for (Callable<MatchResult> l_game : l_games) {
+                if (d_stopRequested) {
+                    return;
+                }
+                try {
+                    l_game.call();
+                } catch (VMException p_vmException) {
+                    throw p_vmException;
+                } catch (Exception p_exception) {
+                    throw new VMException(p_exception.getMessage(), p_exception);
+                }
+            }
+            return;
+        }
+
+        List<Future<MatchResult>> l_futures = new ArrayList<>();
+        try {
+            for (Callable<MatchResult> l_game : l_games) {
+                l_futures.add(p_executor.submit(l_game));
+            }
+            for (Future<MatchResult> l_future : l_futures) {
+                l_future.get();
+            }
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new VMException("Tournament has been interrupted!");
+        } catch (ExecutionException p_executionException) {
+            if (p_executionException.getCause() instanceof VMException) {
+                throw (VMException) p_executionException.getCause();
+            }
+            throw new VMException(p_executionException.getCause().getMessage(), p_executionException.getCause());
+        }
+    }
+
+    /**
+     * Gets the indices of all the maps of the tournament.
+     *
+     * @return Value of the list of indices.
+     */
+    private List<Integer> getAllMapIndices() {
+        List<Integer> l_mapIndices = new ArrayList<>();
+        for (int l_mapIndex = 0; l_mapIndex < d_mapFileList.size(); l_mapIndex++) {
+            l_mapIndices.add(l_mapIndex);
+        }
+        return l_mapIndices;
+    }
+
+    /**
+     * Gets the distinct names of the players of the tournament.
+     *
+     * @return Value of the list of names.
+     */
+    private List<String> getPlayerNames() {
+        Set<String> l_playerNames = new LinkedHashSet<>();
+        for (Player l_player : d_players) {
+            l_playerNames.add(l_player.getName());
+        }
+        return new ArrayList<>(l_playerNames);
+    }
+
+    /**
+     * Checks if the strategies have been separated on the map, so no further game is needed on it. The map needs
+     * <code>MIN_GAMES_TO_SEPARATE</code> completed games, and the win rate interval of the leading player must lie above
+     * the intervals of the other players.
+     * <p>
+     * The games of an adaptive tournament are checked after every round, and every check compares the leader with the
+     * other players, so the nominal intervals would stop on a wrong leader far more often than the confidence level
+     * allows. The compared intervals use the Bonferroni-adjusted critical value of <code>getSeparationZScore</code>
+     * instead.
+     * </p>
+     *
+     * @param p_mapIndex Index of the map.
+     * @return True if the strategies have been separated; false otherwise.
+     */
+    public boolean isSeparated(int p_mapIndex) {
+        return this.getMapStatistics(p_mapIndex).isSeparated(this.getSeparationZScore(), MIN_GAMES_TO_SEPARATE);
+    }
+
+    /**
+     * Gets the critical value of the intervals compared to separate the strategies. The error allowed by the confidence
+     * level is split evenly between every check of a map, one per completed game from
+     * <code>MIN_GAMES_TO_SEPARATE</code> to the maximum number of games, and every pair of players. A tournament which
+     * plays all the games is checked once.
+     *
+     * @return Value of the critical value.
+     */
+    private double getSeparationZScore() {
+        double l_confidenceLevel = this.isAdaptive() ? d_confidenceLevel : 0.95;
+        int l_numberOfChecks = this.isAdaptive() ? Math.max(1, d_numberOfGames - MIN_GAMES_TO_SEPARATE + 1) : 1;
+        int l_numberOfPlayers = this.getPlayerNames().size();
+        int l_numberOfPairs = Math.max(1, l_numberOfPlayers * (l_numberOfPlayers - 1) / 2);
+        return StatisticsUtil.zScore(1 - (1 - l_confidenceLevel) / (l_numberOfChecks * l_numberOfPairs));
+    }
+
+    /**
+     * Gets the win rates and the draw rate of the completed games on the map. Intervals use the confidence level of the
+     * tournament, or 95% if the number of games is not adaptive.
+     *
+     * @param p_mapIndex Index of the map.
+     * @return Value of the statistics.
+     */
+    public MapStatistics getMapStatistics(int p_mapIndex) {
+        List<MatchResult> l_matchResults = new ArrayList<>();
+        for (int l_gameIndex = 0; l_gameIndex < d_numberOfGames; l_gameIndex++) {
+            l_matchResults.add(d_matchResultMappings.get(l_gameIndex).get(p_mapIndex));
+        }
+        double l_zScore = StatisticsUtil.zScore(this.isAdaptive() ? d_confidenceLevel : 0.95);
+        return new MapStatistics(this.getPlayerNames(), l_matchResults, l_zScore);
+    }
+
+    /**
+     * Gets the mode in which the messages of the games are sent to the user interface. The games of a headless
+     * tournament show only the summaries and the errors, unless the virtual machine is silent; the output mode of the
+     * virtual machine is not changed, so the other games and tournaments are not affected.
+     *
+     * @return Value of the output mode of the games; null if the output mode of the virtual machine is used.
+     */
+    private OutputMode getGameOutputMode() {
+        if (d_isHeadless && VirtualMachine.getInstance().getOutputMode() != OutputMode.SILENT) {
+            return OutputMode.SUMMARY;
+        }
+        return null;
+    }
+
+    /**
+     * Plays a single game of the tournament on the map at the given index. The created <code>GameEngine</code> is bound
+     * to the calling thread while the game is being played, and is not referenced once its result has been recorded.
+     *
+     * @param p_gameIndex  Index of the game.
+     * @param p_mapIndex   Index of the map file.
+     * @param p_random     Random number generator of the game.
+     * @param p_ignorePath Ignore adding the user-data-directory path.
+     * @return Value of the result of the game.
+     * @throws VMException If any exception while preparing the game or recording its result.
+     */
+    private MatchResult playGame(int p_gameIndex, int p_mapIndex, SplittableRandom p_random, boolean p_ignorePath) throws VMException {
+        String l_mapFilePath = d_mapFileList.get(p_mapIndex);
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine, d_logEntryBuffer);
+        l_gameEngine.setMaxNumberOfTurns(d_maxNumberOfTurns);
+        l_gameEngine.setRandom(p_random);
+        l_gameEngine.setOutputMode(this.getGameOutputMode());
+        l_gamePlayEngine.setGameAdjudicator(new GameAdjudicator(d_repetitionLimit, d_dominanceShare, d_dominanceTurns));
+        // Prepare GameEngine for this tournament round.
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            // The map file is parsed only once; the games share the map and have their own state of the countries.
+            MapTemplateCache.getInstance().loadInto(p_ignorePath ? l_mapFilePath : PathResolverUtil.resolveFilePath(l_mapFilePath), l_gameEngine);
+
+            l_gamePlayEngine.setPlayerList(this.getPlayers());
+            for (Player l_player : l_gamePlayEngine.getPlayerList()) {
+                l_player.setRandom(p_random.split());
+            }
+
+            DistributeCountriesService l_distributeCountriesService = new DistributeCountriesService(l_gameEngine);
+            l_distributeCountriesService.execute(new ArrayList<>());
+
+            // Tournament will start from PlaySetup phase.
+            l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+
+            new GameLoop(l_gamePlayEngine).run();
+
+            MatchResult l_matchResult = new MatchResult(p_gameIndex, p_mapIndex, l_mapFilePath, l_gameEngine);
+            this.recordResult(p_mapIndex, l_matchResult);
+            return l_matchResult;
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Opens the results file to which the result of each game will be appended.
+     *
+     * @throws VMException If the file can not be created or opened.
+     */
+    private void openResultFile() throws VMException {
+        if (d_resultFilePath == null) {
+            d_resultFilePath = PathResolverUtil.resolveLogPath(new Date().getTime() + "_tournament_results.jsonl");
+        }
+        try {
+            d_resultWriter = new BufferedWriter(new FileWriter(FileUtil.createFileIfNotExists(d_resultFilePath), true));
+        } catch (IOException p_ioException) {
+            throw new VMException("Results file can not be opened!", p_ioException);
+        }
+    }
+
+    /**
+     * Saves the configuration of the tournament to the checkpoint file.
+     *
+     * @throws VMException If the checkpoint file can not be written.
+     */
+    private void saveCheckpoint() throws VMException {
+        if (d_checkpointFilePath == null) {
+            d_checkpointFilePath = d_resultFilePath.replaceFirst("(_results)?\\.jsonl$", "") + "_checkpoint.json";
+        }
+        try {
+            this.replaceFile(Paths.get(d_checkpointFilePath), Collections.singletonList(this.toJSON().toString(4)));
+        } catch (IOException p_ioException) {
+            throw new VMException("Checkpoint file can not be written!", p_ioException);
+        }
+    }
+
+    /**
+     * Closes the results file.
+     */
+    private void closeResultFile() {
+        try {
+            d_resultWriter.close();
+        } catch (IOException p_ioException) {
+            // Results have been flushed after each game.
+        } finally {
+            d_resultWriter = null;
+        }
+    }
+
+    /**
+     * Records the result of the completed game and appends it to the results file as a JSON line.
+     *
+     * @param p_mapIndex    Index of the map file.
+     * @param p_matchResult Result of the game.
+     * @throws VMException If the result can not be written to the results file.
+     */
+    private synchronized void recordResult(int p_mapIndex, MatchResult p_matchResult) throws VMException {
+        d_matchResultMappings.get(p_matchResult.getGameIndex()).set(p_mapIndex, p_matchResult);
+        try {
+            d_resultWriter.write(p_matchResult.toJSON().toString());
+            d_resultWriter.newLine();
+            d_resultWriter.flush();
+        } catch (IOException p_ioException) {
+            throw new VMException("Result of the game can not be written to the results file!", p_ioException);
+        }
+    }
+
+    /**
+     * After the tournament ends, this method will be called to show the results in a tabular format. The first table
+     * has the result of each game; the second table has the win rates and the draw rate on each map, with their
+     * confidence intervals.
      */
     public void onComplete() {
+        // Games which have not been played on any map, because the strategies have been separated, are not shown.
+        int l_numberOfColumns = this.isAdaptive() ? 0 : this.getNumberOfGames();
+        for (int l_gameIndex = l_numberOfColumns; l_gameIndex < this.getNumberOfGames(); l_gameIndex++) {
+            for (MatchResult l_matchResult : d_matchResultMappings.get(l_gameIndex)) {
+                if (l_matchResult != null) {
+                    l_numberOfColumns = l_gameIndex + 1;
+                }
+            }
+        }
+
         // For storing tournament result
-        String[][] l_gameResultMatrix = new String[d_mapFileList.size()][this.getNumberOfGames() + 1];
+        String[][] l_gameResultMatrix = new String[d_mapFileList.size()][l_numberOfColumns + 1];
         List<String> l_playerNames = new ArrayList<>();
         StringBuilder l_builder = new StringBuilder();
 
@@ -234,42 +1017,150 @@ public class TournamentEngine {
         l_builder.append("\n----Result of Tournament----\n");
         l_builder.append("M: " + d_mapFileList.toString() + "\n");
         l_builder.append("P: " + l_playerNames.toString() + "\n");
-        l_builder.append("G: " + this.getNumberOfGames() + "\n");
+        l_builder.append("G: " + this.getNumberOfGames() + (this.isAdaptive() ? " (maximum per map)" : "") + "\n");
         l_builder.append("D: " + this.getMaxNumberOfTurns() + "\n");
+        if (d_seed != null) {
+            l_builder.append("S: " + d_seed + "\n");
+        }
+        if (this.isAdaptive()) {
+            l_builder.append(String.format("C: %.0f%% (at least %d games per map)\n", 100 * d_confidenceLevel, MIN_GAMES_TO_SEPARATE));
+        }
+        l_builder.append("R: " + d_resultFilePath + "\n");
+        l_builder.append("Checkpoint: " + d_checkpointFilePath + "\n");
 
         for (int l_row = 0; l_row < d_mapFileList.size(); l_row++) {
             l_gameResultMatrix[l_row][0] = String.format("%s", d_mapFileList.get(l_row));
         }
 
-        LinkedList<GameEngine> l_gameEngines = new LinkedList<>();
-        for (Map.Entry<Integer, List<GameEngine>> entry : d_playedGameEngineMappings.entrySet()) {
-            List<GameEngine> l_singleTurnGameEngines = entry.getValue();
-            l_gameEngines.addAll(l_singleTurnGameEngines);
-        }
-
         for (int l_row = 0; l_row < d_mapFileList.size(); l_row++) {
-            for (int l_col = 1; l_col < this.getNumberOfGames() + 1; l_col++) {
-                GameEngine l_gameEngine = l_gameEngines.pollFirst();
-                GamePlayEngine l_gamePlayEngine = l_gameEngine.getGamePlayEngine();
-                GameResult l_gameResult = l_gamePlayEngine.getGameResult();
-                if (l_gameResult.isDeclaredDraw()) {
-                    l_gameResultMatrix[l_row][l_col] = "Draw";
-                } else if (l_gameResult.getWinnerPlayer() != null) {
-                    l_gameResultMatrix[l_row][l_col] = l_gameResult.getWinnerPlayer().getName();
+            boolean l_isSeparated = this.isAdaptive() && this.isSeparated(l_row);
+            for (int l_col = 1; l_col < l_numberOfColumns + 1; l_col++) {
+                MatchResult l_matchResult = d_matchResultMappings.get(l_col - 1).get(l_row);
+                if (l_matchResult == null) {
+                    l_gameResultMatrix[l_row][l_col] = l_isSeparated ? "-" : "Interrupted";
+                } else if (l_matchResult.getAdjudicationType() == AdjudicationType.NONE ||
+                        l_matchResult.getAdjudicationType() == AdjudicationType.MAX_TURNS) {
+                    l_gameResultMatrix[l_row][l_col] = l_matchResult.getResultText();
                 } else {
-                    l_gameResultMatrix[l_row][l_col] = "Interrupted";
+                    // Mark the games which have been decided before the end.
+                    l_gameResultMatrix[l_row][l_col] = String.format("%s (%s)", l_matchResult.getResultText(), l_matchResult.getAdjudicationType().getJsonValue());
                 }
             }
         }
 
-        String[] l_gameHeader = new String[this.getNumberOfGames() + 1];
+        String[] l_gameHeader = new String[l_numberOfColumns + 1];
         l_gameHeader[0] = "Result";
         for (int i = 1; i < l_gameHeader.length; i++) {
             l_gameHeader[i] = "Game " + i;
         }
 
-        String l_tournamentData = l_builder + FlipTable.of(l_gameHeader, l_gameResultMatrix);
+        String l_tournamentData = l_builder + FlipTable.of(l_gameHeader, l_gameResultMatrix) + this.getStatisticsTable();
+        if (GameMetrics.isEnabled()) {
+            l_tournamentData += "\nTiming of the games:\n" + GameMetrics.getInstance().toTable();
+        }
         d_logEntryBuffer.dataChanged("tournament", l_tournamentData);
-        VirtualMachine.getInstance().stdout(l_tournamentData);
+        VirtualMachine.getInstance().summary(l_tournamentData);
+    }
+
+    /**
+     * Creates the table of the win rates and the draw rate on each map.
+     *
+     * @return Value of the table.
+     */
+    private String getStatisticsTable() {
+        List<String> l_playerNames = this.getPlayerNames();
+        String[] l_statisticsHeader = new String[l_playerNames.size() + 4];
+        l_statisticsHeader[0] = "Map";
+        l_statisticsHeader[1] = "Games";
+        for (int l_playerIndex = 0; l_playerIndex < l_playerNames.size(); l_playerIndex++) {
+            l_statisticsHeader[l_playerIndex + 2] = l_playerNames.get(l_playerIndex);
+        }
+        l_statisticsHeader[l_playerNames.size() + 2] = "Draws";
+        l_statisticsHeader[l_playerNames.size() + 3] = "Separated";
+
+        String[][] l_statisticsMatrix = new String[d_mapFileList.size()][l_statisticsHeader.length];
+        for (int l_row = 0; l_row < d_mapFileList.size(); l_row++) {
+            MapStatistics l_mapStatistics = this.getMapStatistics(l_row);
+            l_statisticsMatrix[l_row][0] = d_mapFileList.get(l_row);
+            l_statisticsMatrix[l_row][1] = String.valueOf(l_mapStatistics.getNumberOfGames());
+            for (int l_playerIndex = 0; l_playerIndex < l_playerNames.size(); l_playerIndex++) {
+                l_statisticsMatrix[l_row][l_playerIndex + 2] = l_mapStatistics.formatRate(
+                        l_mapStatistics.getWins(l_playerIndex), l_mapStatistics.getWinRateInterval(l_playerIndex));
+            }
+            l_statisticsMatrix[l_row][l_playerNames.size() + 2] = l_mapStatistics.formatRate(
+                    l_mapStatistics.getNumberOfDraws(), l_mapStatistics.getDrawRateInterval());
+            l_statisticsMatrix[l_row][l_playerNames.size() + 3] = this.isSeparated(l_row) ? "Yes" : "No";
+        }
+        return FlipTable.of(l_statisticsHeader, l_statisticsMatrix);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSONObject toJSON() {
+        JSONObject l_tournamentJSON = new JSONObject();
+        l_tournamentJSON.put("maps", new JSONArray(d_mapFileList));
+        JSONArray l_playerJSONList = new JSONArray();
+        for (Player l_player : d_players) {
+            JSONObject l_playerJSON = new JSONObject();
+            l_playerJSON.put("name", l_player.getName());
+            l_playerJSON.put("strategy", l_player.getPlayerStrategyType().name());
+            l_playerJSONList.put(l_playerJSON);
+        }
+        l_tournamentJSON.put("players", l_playerJSONList);
+        l_tournamentJSON.put("games", d_numberOfGames);
+        l_tournamentJSON.put("maxTurns", d_maxNumberOfTurns);
+        l_tournamentJSON.put("threads", d_numberOfThreads);
+        if (d_seed != null) {
+            l_tournamentJSON.put("seed", d_seed.longValue());
+        }
+        l_tournamentJSON.put("confidenceLevel", d_confidenceLevel);
+        l_tournamentJSON.put("repetitionLimit", d_repetitionLimit);
+        l_tournamentJSON.put("dominanceShare", d_dominanceShare);
+        l_tournamentJSON.put("dominanceTurns", d_dominanceTurns);
+        l_tournamentJSON.put("headless", d_isHeadless);
+        l_tournamentJSON.put("results", Paths.get(d_resultFilePath).toAbsolutePath().toString());
+        return l_tournamentJSON;
+    }
+
+    /**
+     * Assigns the configuration of the tournament using the values inside <code>JSONObject</code>.
+     *
+     * @param p_jsonObject       <code>JSONObject</code> holding the configuration.
+     * @param p_tournamentEngine Engine to which the configuration will be assigned.
+     * @return Value of the engine.
+     * @throws InvalidGameException If the information from JSONObject cannot be used because it is corrupted or missing
+     *                              the values.
+     */
+    public static TournamentEngine fromJSON(JSONObject p_jsonObject, TournamentEngine p_tournamentEngine) throws InvalidGameException {
+        try {
+            p_tournamentEngine.initialise();
+            JSONArray l_mapJSONList = p_jsonObject.getJSONArray("maps");
+            for (int l_mapIndex = 0; l_mapIndex < l_mapJSONList.length(); l_mapIndex++) {
+                p_tournamentEngine.d_mapFileList.add(l_mapJSONList.getString(l_mapIndex));
+            }
+            JSONArray l_playerJSONList = p_jsonObject.getJSONArray("players");
+            for (int l_playerIndex = 0; l_playerIndex < l_playerJSONList.length(); l_playerIndex++) {
+                JSONObject l_playerJSON = l_playerJSONList.getJSONObject(l_playerIndex);
+                p_tournamentEngine.addPlayer(new Player(l_playerJSON.getString("name"),
+                        StrategyType.valueOf(l_playerJSON.getString("strategy"))));
+            }
+            p_tournamentEngine.setNumberOfGames(p_jsonObject.getInt("games"));
+            p_tournamentEngine.setMaxNumberOfTurns(p_jsonObject.getInt("maxTurns"));
+            p_tournamentEngine.setNumberOfThreads(p_jsonObject.getInt("threads"));
+            if (p_jsonObject.has("seed")) {
+                p_tournamentEngine.setSeed(p_jsonObject.getLong("seed"));
+            }
+            p_tournamentEngine.setConfidenceLevel(p_jsonObject.optDouble("confidenceLevel", 0));
+            p_tournamentEngine.setRepetitionLimit(p_jsonObject.getInt("repetitionLimit"));
+            p_tournamentEngine.setDominanceShare(p_jsonObject.getDouble("dominanceShare"));
+            p_tournamentEngine.setDominanceTurns(p_jsonObject.getInt("dominanceTurns"));
+            p_tournamentEngine.setHeadless(p_jsonObject.optBoolean("headless", false));
+            p_tournamentEngine.setResultFilePath(p_jsonObject.getString("results"));
+            return p_tournamentEngine;
+        } catch (JSONException | IllegalArgumentException p_exception) {
+            throw new InvalidGameException("Missing values or the corrupted checkpoint file!");
+        }
     }
 }
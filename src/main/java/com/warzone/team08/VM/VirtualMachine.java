@@ -1,6 +1,7 @@
 package com.warzone.team08.VM;
 
 import com.warzone.team08.UserInterfaceMiddleware;
+import com.warzone.team08.VM.constants.enums.OutputMode;
 import com.warzone.team08.VM.exceptions.ExceptionHandler;
 import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
@@ -10,6 +11,7 @@ import com.warzone.team08.VM.phases.Phase;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Handles the connection with different user interfaces. Creates an environment for the player to store the
@@ -30,27 +32,46 @@ public class VirtualMachine {
     private static GameEngine d_gameEngine;
 
     /**
-     * List of User interface middleware. (Can be a stub/skeleton)
+     * GameEngine bound to the current thread. Used by tournament matches running in parallel so that each match
+     * resolves its own engine instead of the shared one.
      */
-    private UserInterfaceMiddleware d_userInterfaceMiddleware;
+    private static final ThreadLocal<GameEngine> d_ThreadGameEngine = new ThreadLocal<>();
+
+    /**
+     * Sends the messages to the attached user interface middleware (can be a stub/skeleton) depending on the output
+     * mode.
+     */
+    private final OutputModeMiddleware d_outputModeMiddleware = new OutputModeMiddleware();
 
     /**
      * To execute <code>Future</code> tasks.
      */
     private final ExecutorService d_executor = Executors.newFixedThreadPool(10);
 
-    private LogEntryBuffer d_logEntryBuffer;
+    /**
+     * Buffer observed by the <code>LogWriter</code> of the log file. The buffers of the game and of the tournament of
+     * this virtual machine send their events to it.
+     */
+    private final LogEntryBuffer d_logEntryBuffer = new LogEntryBuffer();
     private LogWriter d_logWriter;
 
+    /**
+     * Tournament played from the user interface of this virtual machine.
+     */
+    private final TournamentEngine d_tournamentEngine = new TournamentEngine(d_logEntryBuffer);
+
     /**
      * Creates the single instance of the <code>VirtualMachine</code> class.
      *
      * @return Value of the instance.
      */
     public static VirtualMachine newInstance() {
+        // The writer of the previous instance would write the same messages again.
+        if (d_Instance != null && d_Instance.d_logWriter != null) {
+            d_Instance.d_logWriter.close();
+        }
         d_Instance = new VirtualMachine();
-        d_gameEngine = new GameEngine();
-        d_Instance.d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_gameEngine = new GameEngine(d_Instance.d_logEntryBuffer);
         try {
             d_Instance.d_logWriter = new LogWriter(d_Instance.d_logEntryBuffer);
         } catch (ResourceNotFoundException p_e) {
@@ -72,12 +93,35 @@ public class VirtualMachine {
     }
 
     /**
-     * Terminates gracefully. Signals its engines to terminate.
+     * Terminates gracefully. Signals its engines to terminate, and writes the remaining messages of the log to the
+     * file.
      */
     public static void exit() {
         getGameEngine().shutdown();
         TOURNAMENT_ENGINE().shutdown();
         VirtualMachine.getInstance().stdout("Shutting down...");
+        d_Instance.d_outputModeMiddleware.flush();
+        if (d_Instance.d_logWriter != null) {
+            d_Instance.d_logWriter.close();
+        }
+    }
+
+    /**
+     * Gets the buffer observed by the writer of the log file.
+     *
+     * @return Value of the log entry buffer.
+     */
+    public LogEntryBuffer getLogEntryBuffer() {
+        return d_logEntryBuffer;
+    }
+
+    /**
+     * Gets the writer of the log file of the virtual machine.
+     *
+     * @return Value of the log writer; null if the log file could not be created.
+     */
+    public LogWriter getLogWriter() {
+        return d_logWriter;
     }
 
     /**
@@ -87,7 +131,34 @@ public class VirtualMachine {
      * @param p_userInterfaceMiddleware Value of user interface middleware
      */
     public void attachUIMiddleware(UserInterfaceMiddleware p_userInterfaceMiddleware) {
-        d_userInterfaceMiddleware = p_userInterfaceMiddleware;
+        d_outputModeMiddleware.setUserInterfaceMiddleware(p_userInterfaceMiddleware);
+    }
+
+    /**
+     * Gets the middleware which sends the messages to the user interface depending on the output mode.
+     *
+     * @return Value of the middleware.
+     */
+    public OutputModeMiddleware getOutputModeMiddleware() {
+        return d_outputModeMiddleware;
+    }
+
+    /**
+     * Gets the mode in which the messages are sent to the user interface.
+     *
+     * @return Value of the output mode.
+     */
+    public OutputMode getOutputMode() {
+        return d_outputModeMiddleware.getOutputMode();
+    }
+
+    /**
+     * Sets the mode in which the messages are sent to the user interface.
+     *
+     * @param p_outputMode Value of the output mode.
+     */
+    public void setOutputMode(OutputMode p_outputMode) {
+        d_outputModeMiddleware.setOutputMode(p_outputMode);
     }
 
     /**
@@ -113,21 +184,43 @@ public class VirtualMachine {
     }
 
     /**
-     * Gets game engine to store runtime information of the game.
+     * Binds the game engine to the current thread. Until it is cleared, {@link VirtualMachine#getGameEngine()} called
+     * from this thread returns this engine.
+     *
+     * @param p_gameEngine Value of the game engine.
+     */
+    public static void bindGameEngine(GameEngine p_gameEngine) {
+        d_ThreadGameEngine.set(p_gameEngine);
+    }
+
+    /**
+     * Removes the game engine bound to the current thread.
+     */
+    public static void unbindGameEngine() {
+        d_ThreadGameEngine.remove();
+    }
+
+    /**
+     * Gets game engine to store runtime information of the game. If the current thread has an engine bound to it, that
+     * engine will be returned.
      *
      * @return Value of the game engine.
      */
     public static GameEngine getGameEngine() {
+        GameEngine l_boundGameEngine = d_ThreadGameEngine.get();
+        if (l_boundGameEngine != null) {
+            return l_boundGameEngine;
+        }
         return d_gameEngine;
     }
 
     /**
      * Gets tournament engine to store information of the game while the game mode is tournament.
      *
-     * @return Value of the game engine.
+     * @return Value of the tournament engine of the virtual machine.
      */
     public static TournamentEngine TOURNAMENT_ENGINE() {
-        return TournamentEngine.getInstance();
+        return getInstance().d_tournamentEngine;
     }
 
     /**
@@ -136,7 +229,7 @@ public class VirtualMachine {
      * @return Value of the game state
      */
     public static Phase getGamePhase() {
-        return d_gameEngine.getGamePhase();
+        return getGameEngine().getGamePhase();
     }
 
     /**
@@ -148,7 +241,7 @@ public class VirtualMachine {
      */
     public Future<String> askForUserInput(String p_message) {
         return d_executor.submit(() ->
-                d_userInterfaceMiddleware.askForUserInput(p_message)
+                d_outputModeMiddleware.askForUserInput(p_message)
         );
     }
 
@@ -158,8 +251,51 @@ public class VirtualMachine {
      * @param p_message Represents the message.
      */
     public void stdout(String p_message) {
-        if (d_userInterfaceMiddleware != null)
-            d_userInterfaceMiddleware.stdout(p_message);
+        d_outputModeMiddleware.stdout(p_message);
+    }
+
+    /**
+     * Sends the message to the output channel of the user interface. The message is created only if the user interface
+     * is attached and the output mode shows the message.
+     *
+     * @param p_message Supplier of the message.
+     */
+    public void stdout(Supplier<String> p_message) {
+        if (d_outputModeMiddleware.isStdoutAccepted())
+            d_outputModeMiddleware.stdout(p_message.get());
+    }
+
+    /**
+     * Sends the message to the output channel of the user interface in the given mode instead of the output mode of
+     * this virtual machine.
+     *
+     * @param p_message    Represents the message.
+     * @param p_outputMode Mode in which the message is sent.
+     */
+    public void stdout(String p_message, OutputMode p_outputMode) {
+        d_outputModeMiddleware.stdout(p_message, p_outputMode);
+    }
+
+    /**
+     * Sends the message to the output channel of the user interface in the given mode. The message is created only if
+     * the user interface is attached and the mode shows the message.
+     *
+     * @param p_message    Supplier of the message.
+     * @param p_outputMode Mode in which the message is sent.
+     */
+    public void stdout(Supplier<String> p_message, OutputMode p_outputMode) {
+        if (d_outputModeMiddleware.isStdoutAccepted(p_outputMode))
+            d_outputModeMiddleware.stdout(p_message.get(), p_outputMode);
+    }
+
+    /**
+     * Sends the summary, such as the results of a tournament, to the user interface. The summary is shown in every
+     * output mode except the silent mode.
+     *
+     * @param p_message Represents the summary.
+     */
+    public void summary(String p_message) {
+        d_outputModeMiddleware.summary(p_message);
     }
 
     /**
@@ -168,7 +304,17 @@ public class VirtualMachine {
      * @param p_message Represents the error message.
      */
     public void stderr(String p_message) {
-        if (d_userInterfaceMiddleware != null)
-            d_userInterfaceMiddleware.stderr(p_message);
+        d_outputModeMiddleware.stderr(p_message);
+    }
+
+    /**
+     * Sends the message to the error channel of the user interface in the given mode instead of the output mode of
+     * this virtual machine.
+     *
+     * @param p_message    Represents the error message.
+     * @param p_outputMode Mode in which the message is sent.
+     */
+    public void stderr(String p_message, OutputMode p_outputMode) {
+        d_outputModeMiddleware.stderr(p_message, p_outputMode);
     }
 }
@@ -5,7 +5,8 @@ import com.warzone.team08.VM.constants.interfaces.Card;
 import com.warzone.team08.VM.entities.cards.*;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class handles the operation to randomly assign the card to player.
@@ -25,9 +26,30 @@ public class CardService {
      * @return Card name
      */
     public static Card randomCard() {
-        Random rand = new Random();
         // Getting a card-type using random index and creating a card using the type.
-        return createCard(d_CardList.get(rand.nextInt(d_CardList.size())));
+        return createCard(d_CardList.get(ThreadLocalRandom.current().nextInt(d_CardList.size())));
+    }
+
+    /**
+     * Randomly assigns card to the player using the given random number generator. The same sequence of cards is
+     * assigned for the same sequence of random numbers.
+     *
+     * @param p_random Random number generator of the player.
+     * @return Card name
+     */
+    public static Card randomCard(SplittableRandom p_random) {
+        return createCard(randomCardType(p_random));
+    }
+
+    /**
+     * Randomly selects the type of card using the given random number generator, the same as
+     * <code>randomCard(SplittableRandom)</code> does.
+     *
+     * @param p_random Random number generator of the player.
+     * @return Value of the card type.
+     */
+    public static CardType randomCardType(SplittableRandom p_random) {
+        return d_CardList.get(p_random.nextInt(d_CardList.size()));
     }
 
     /**
@@ -0,0 +1,78 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.journal.GameJournal;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This service turns the journals of the games on or off, and sets the number of turns between the keyframes of the
+ * journals.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see GameJournal
+ */
+public class JournalService {
+    /**
+     * Applies the given options and returns if the journals are turned on. The options are applied in the order of
+     * <code>enable</code> and <code>disable</code>.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the state of the journals.
+     * @throws InvalidArgumentException If the keyframe interval is not valid.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws InvalidArgumentException {
+        List<String> l_enableValues = null;
+        boolean l_disable = false;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("enable")) {
+                l_enableValues = l_argument.get("enable");
+            } else if (l_argument.containsKey("disable")) {
+                l_disable = true;
+            }
+        }
+        if (l_enableValues != null) {
+            if (!l_enableValues.isEmpty()) {
+                GameJournal.setKeyframeInterval(this.parseKeyframeInterval(l_enableValues.get(0)));
+            }
+            GameJournal.setEnabled(true);
+        }
+        if (l_disable) {
+            GameJournal.setEnabled(false);
+        }
+
+        StringBuilder l_response = new StringBuilder();
+        if (GameJournal.isEnabled()) {
+            l_response.append(String.format("Journals are turned on, with a keyframe every %d turns.", GameJournal.getKeyframeInterval()));
+        } else {
+            l_response.append("Journals are turned off.");
+        }
+        GameJournal l_gameJournal = VirtualMachine.getGameEngine().getGameJournal();
+        if (l_gameJournal != null) {
+            l_response.append("\nJournal of the game: ").append(l_gameJournal.getJournalFile().getName());
+        }
+        return l_response.toString();
+    }
+
+    /**
+     * Parses the number of turns between the keyframes.
+     *
+     * @param p_value Value of the argument.
+     * @return Value of the interval.
+     * @throws InvalidArgumentException If the value is not a number or is negative.
+     */
+    private int parseKeyframeInterval(String p_value) throws InvalidArgumentException {
+        try {
+            int l_keyframeInterval = Integer.parseInt(p_value);
+            if (l_keyframeInterval < 0) {
+                throw new InvalidArgumentException("Keyframe interval can not be negative!");
+            }
+            return l_keyframeInterval;
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException("Keyframe interval must be a number!");
+        }
+    }
+}
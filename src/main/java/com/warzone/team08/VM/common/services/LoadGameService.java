@@ -1,6 +1,7 @@
 package com.warzone.team08.VM.common.services;
 
 import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.enums.FileType;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Continent;
@@ -26,7 +27,23 @@ import java.util.List;
  * @version 1.0
  */
 public class LoadGameService implements SingleCommand {
-    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Creates the service which logs to the game of the virtual machine.
+     */
+    public LoadGameService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service which logs to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public LoadGameService(GameEngine p_gameEngine) {
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
 
     /**
      * Loads the game engine and its sub-engines from the provided path to JSON file.
@@ -45,12 +62,27 @@ public class LoadGameService implements SingleCommand {
      */
     @Override
     public String execute(List<String> p_commandValues) throws VMException {
+        JSONObject l_gameJSON = this.readGameFile(p_commandValues.get(0));
+        d_logEntryBuffer.dataChanged("loadgame", "Game loaded from file: " + p_commandValues.get(0));
+
+        // Load the string content in JSONObject.
+        return this.loadGameState(l_gameJSON);
+    }
+
+    /**
+     * Reads the content of the game file.
+     *
+     * @param p_fileName Name of the game file inside the user data directory.
+     * @return Value of the content of the file.
+     * @throws VMException If the file does not have the required extension or can not be read.
+     */
+    public JSONObject readGameFile(String p_fileName) throws VMException {
         // Check if the file has valid extension.
-        FileUtil.checksIfFileHasRequiredExtension(p_commandValues.get(0), FileType.GAME);
+        FileUtil.checksIfFileHasRequiredExtension(p_fileName, FileType.GAME);
 
         File l_targetFile = FileUtil.retrieveGameFile(
                 PathResolverUtil.resolveFilePath(
-                        p_commandValues.get(0)
+                        p_fileName
                 ));
         StringBuilder l_fileContentBuilder = new StringBuilder();
         try (BufferedReader l_bufferedReader = new BufferedReader(new FileReader(l_targetFile))) {
@@ -59,13 +91,8 @@ public class LoadGameService implements SingleCommand {
                 l_fileContentBuilder.append(l_currentLine);
             }
         } catch (IOException p_ioException) {
-            throw new VMException(String.format("Error while loading the game file %s!", p_commandValues.get(0)));
+            throw new VMException(String.format("Error while loading the game file %s!", p_fileName));
         }
-        d_logEntryBuffer.dataChanged("loadgame", "Game loaded from file: " + p_commandValues.get(0));
-
-        // Load the string content in JSONObject.
-        return this.loadGameState(new JSONObject(l_fileContentBuilder.toString()));
-
-
+        return new JSONObject(l_fileContentBuilder.toString());
     }
 }
@@ -0,0 +1,70 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This service sets the levels of the categories of the log. A category is the head command of the logged message,
+ * for example, <code>advance</code> for the advance orders. The levels are set in the buffer of the virtual machine,
+ * so they apply to the games and the tournaments which have not set their own levels.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see LogLevel
+ */
+public class LogLevelService {
+    /**
+     * Applies the given options and returns the levels of the log. The level of all the categories is applied before
+     * the level of a category.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the levels of the log.
+     * @throws InvalidArgumentException If the level or the category is not valid.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws InvalidArgumentException {
+        LogEntryBuffer l_logEntryBuffer = VirtualMachine.getInstance().getLogEntryBuffer();
+        List<String> l_categoryValues = null;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("all")) {
+                l_logEntryBuffer.setLogLevel(this.parseLogLevel(l_argument.get("all")));
+            } else if (l_argument.containsKey("category")) {
+                l_categoryValues = l_argument.get("category");
+            }
+        }
+        if (l_categoryValues != null) {
+            if (l_categoryValues.size() != 2) {
+                throw new InvalidArgumentException("Category and its level not specified!");
+            }
+            l_logEntryBuffer.setLogLevel(l_categoryValues.get(0), this.parseLogLevel(l_categoryValues.subList(1, 2)));
+        }
+
+        StringBuilder l_response = new StringBuilder();
+        l_response.append("Log level: ").append(l_logEntryBuffer.getLogLevel().name());
+        for (Map.Entry<String, LogLevel> l_entry : l_logEntryBuffer.getCategoryLevels().entrySet()) {
+            l_response.append("\n").append(l_entry.getKey()).append(": ").append(l_entry.getValue().name());
+        }
+        return l_response.toString();
+    }
+
+    /**
+     * Parses the level of the log.
+     *
+     * @param p_values Values of the argument.
+     * @return Value of the level.
+     * @throws InvalidArgumentException If the level is not valid.
+     */
+    private LogLevel parseLogLevel(List<String> p_values) throws InvalidArgumentException {
+        try {
+            return LogLevel.valueOf(p_values.get(0).toUpperCase());
+        } catch (IndexOutOfBoundsException p_e) {
+            throw new InvalidArgumentException("Log level not specified!");
+        } catch (IllegalArgumentException p_e) {
+            throw new InvalidArgumentException("Log level is invalid! Use one of off, error, info or debug.");
+        }
+    }
+}
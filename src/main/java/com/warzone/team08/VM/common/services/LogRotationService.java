@@ -0,0 +1,119 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
+import com.warzone.team08.VM.logger.LogRotationPolicy;
+import com.warzone.team08.VM.logger.LogWriter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This service sets when the log file of the virtual machine is rotated, if the rotated segments are compressed and
+ * how much space the segments can take. The options which are not given keep their value; a limit of zero turns it
+ * off.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see LogRotationPolicy
+ */
+public class LogRotationService {
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024;
+
+    /**
+     * Applies the given options and returns the rotation of the log file.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the rotation of the log file.
+     * @throws InvalidArgumentException  If any of the values is not valid.
+     * @throws ResourceNotFoundException If the virtual machine does not have a log file.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments)
+            throws InvalidArgumentException, ResourceNotFoundException {
+        LogWriter l_logWriter = VirtualMachine.getInstance().getLogWriter();
+        if (l_logWriter == null) {
+            throw new ResourceNotFoundException("Log file is not available!");
+        }
+        LogRotationPolicy l_policy = l_logWriter.getRotationPolicy();
+        long l_maxSegmentSize = l_policy.getMaxSegmentSize();
+        long l_maxSegmentAgeMillis = l_policy.getMaxSegmentAgeMillis();
+        boolean l_isCompressed = l_policy.isCompressed();
+        long l_maxTotalSize = l_policy.getMaxTotalSize();
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("size")) {
+                l_maxSegmentSize = this.parseLimit(l_argument.get("size"), "Size") * BYTES_PER_MEGABYTE;
+            } else if (l_argument.containsKey("age")) {
+                l_maxSegmentAgeMillis = TimeUnit.MINUTES.toMillis(this.parseLimit(l_argument.get("age"), "Age"));
+            } else if (l_argument.containsKey("total")) {
+                l_maxTotalSize = this.parseLimit(l_argument.get("total"), "Total size") * BYTES_PER_MEGABYTE;
+            } else if (l_argument.containsKey("compress")) {
+                l_isCompressed = this.parseSwitch(l_argument.get("compress"));
+            }
+        }
+        l_policy = new LogRotationPolicy(l_maxSegmentSize, l_maxSegmentAgeMillis, l_isCompressed, l_maxTotalSize);
+        l_logWriter.setRotationPolicy(l_policy);
+
+        return String.format("Log file: %s\nSegment size: %s\nSegment age: %s\nCompress: %s\nTotal size: %s",
+                l_logWriter.getTargetFile().getName(),
+                this.formatLimit(l_policy.getMaxSegmentSize() / BYTES_PER_MEGABYTE, "MB"),
+                this.formatLimit(TimeUnit.MILLISECONDS.toMinutes(l_policy.getMaxSegmentAgeMillis()), "minutes"),
+                l_policy.isCompressed() ? "on" : "off",
+                this.formatLimit(l_policy.getMaxTotalSize() / BYTES_PER_MEGABYTE, "MB"));
+    }
+
+    /**
+     * Parses the value of a limit.
+     *
+     * @param p_values Values of the argument.
+     * @param p_name   Name of the limit used in the error message.
+     * @return Value of the limit; zero for no limit.
+     * @throws InvalidArgumentException If the value is not a number or is negative.
+     */
+    private long parseLimit(List<String> p_values, String p_name) throws InvalidArgumentException {
+        try {
+            long l_limit = Long.parseLong(p_values.get(0));
+            if (l_limit < 0) {
+                throw new InvalidArgumentException(p_name + " can not be negative!");
+            }
+            return l_limit;
+        } catch (IndexOutOfBoundsException p_e) {
+            throw new InvalidArgumentException(p_name + " not specified!");
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException(p_name + " must be a number!");
+        }
+    }
+
+    /**
+     * Parses the value of a switch.
+     *
+     * @param p_values Values of the argument.
+     * @return True if the value is <code>on</code>; false if it is <code>off</code>.
+     * @throws InvalidArgumentException If the value is neither <code>on</code> nor <code>off</code>.
+     */
+    private boolean parseSwitch(List<String> p_values) throws InvalidArgumentException {
+        if (p_values.isEmpty()) {
+            throw new InvalidArgumentException("Compression not specified! Use on or off.");
+        }
+        String l_value = p_values.get(0).toLowerCase();
+        if (l_value.equals("on")) {
+            return true;
+        }
+        if (l_value.equals("off")) {
+            return false;
+        }
+        throw new InvalidArgumentException("Compression is invalid! Use on or off.");
+    }
+
+    /**
+     * Formats the value of a limit.
+     *
+     * @param p_limit Value of the limit.
+     * @param p_unit  Unit of the value.
+     * @return Value of the limit with its unit; <code>no limit</code> for zero.
+     */
+    private String formatLimit(long p_limit, String p_unit) {
+        return p_limit == 0 ? "no limit" : p_limit + " " + p_unit;
+    }
+}
@@ -0,0 +1,84 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.OutputModeMiddleware;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.OutputMode;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This service sets the mode in which the messages are sent to the user interface, and the number of messages sent
+ * together in the buffered mode.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see OutputMode
+ */
+public class OutputService {
+    /**
+     * Applies the given options and returns the output mode.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the output mode.
+     * @throws InvalidArgumentException If the mode or the batch size is not valid.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws InvalidArgumentException {
+        OutputModeMiddleware l_outputModeMiddleware = VirtualMachine.getInstance().getOutputModeMiddleware();
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("batch")) {
+                l_outputModeMiddleware.setBatchSize(this.parseBatchSize(l_argument.get("batch")));
+            }
+        }
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("mode")) {
+                l_outputModeMiddleware.setOutputMode(this.parseOutputMode(l_argument.get("mode")));
+            }
+        }
+
+        String l_response = "Output mode: " + l_outputModeMiddleware.getOutputMode().getJsonValue();
+        if (l_outputModeMiddleware.getOutputMode() == OutputMode.BUFFERED) {
+            l_response += String.format("\nMessages per batch: %d", l_outputModeMiddleware.getBatchSize());
+        }
+        return l_response;
+    }
+
+    /**
+     * Parses the output mode.
+     *
+     * @param p_values Values of the argument.
+     * @return Value of the output mode.
+     * @throws InvalidArgumentException If the mode is not valid.
+     */
+    private OutputMode parseOutputMode(List<String> p_values) throws InvalidArgumentException {
+        try {
+            return OutputMode.fromJsonValue(p_values.get(0).toLowerCase());
+        } catch (IndexOutOfBoundsException p_e) {
+            throw new InvalidArgumentException("Output mode not specified!");
+        } catch (IllegalArgumentException p_e) {
+            throw new InvalidArgumentException("Output mode is invalid! Use one of verbose, buffered, summary or silent.");
+        }
+    }
+
+    /**
+     * Parses the number of messages sent together in the buffered mode.
+     *
+     * @param p_values Values of the argument.
+     * @return Value of the batch size.
+     * @throws InvalidArgumentException If the batch size is not a positive number.
+     */
+    private int parseBatchSize(List<String> p_values) throws InvalidArgumentException {
+        try {
+            int l_batchSize = Integer.parseInt(p_values.get(0));
+            if (l_batchSize < 1) {
+                throw new InvalidArgumentException("Batch size must be at least one!");
+            }
+            return l_batchSize;
+        } catch (IndexOutOfBoundsException p_e) {
+            throw new InvalidArgumentException("Batch size not specified!");
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException("Batch size must be a number!");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.journal.JournalReader;
+import com.warzone.team08.VM.utils.PathResolverUtil;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This service rebuilds the board of a game at the given turn from the journal of the game, and shows it.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see JournalReader
+ */
+public class ReplayService {
+    /**
+     * Rebuilds the board after the turn. The file of the journal is looked up in the log directory unless its path is
+     * absolute.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the tables of the board.
+     * @throws VMException If the arguments are not valid, or the journal can not be read or does not have the turn.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws VMException {
+        String l_fileName = null;
+        String l_turnValue = null;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("file") && !l_argument.get("file").isEmpty()) {
+                l_fileName = l_argument.get("file").get(0);
+            } else if (l_argument.containsKey("turn") && !l_argument.get("turn").isEmpty()) {
+                l_turnValue = l_argument.get("turn").get(0);
+            }
+        }
+        if (l_fileName == null) {
+            throw new InvalidArgumentException("Journal file not specified!");
+        }
+        if (l_turnValue == null) {
+            throw new InvalidArgumentException("Turn not specified!");
+        }
+        int l_turnNumber;
+        try {
+            l_turnNumber = Integer.parseInt(l_turnValue);
+        } catch (NumberFormatException p_e) {
+            throw new InvalidArgumentException("Turn must be a number!");
+        }
+
+        File l_journalFile = new File(l_fileName);
+        if (!l_journalFile.isAbsolute()) {
+            l_journalFile = new File(PathResolverUtil.resolveLogPath(l_fileName));
+        }
+        return new JournalReader(l_journalFile).readBoard(l_turnNumber).toTable();
+    }
+}
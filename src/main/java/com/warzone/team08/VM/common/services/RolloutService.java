@@ -0,0 +1,336 @@
+package com.warzone.team08.VM.common.services;
+
+import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.TournamentEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.MapStatistics;
+import com.warzone.team08.VM.entities.MatchResult;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GameAdjudicator;
+import com.warzone.team08.VM.game_play.GameLoop;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.GamePosition;
+import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.utils.StatisticsUtil;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This service evaluates the position of a saved game by playing a number of games (rollouts) from the position until
+ * they are over. In each rollout, every player is played by the chosen strategy. The saved game is loaded only once;
+ * the rollouts are independent games created from the same <code>GamePosition</code>, and can be played in parallel.
+ * <p>
+ * The saved game is not attached to the virtual machine, so the current game of the user is not changed.
+ *
+ * @author Rutwik
+ * @version 1.0
+ */
+public class RolloutService {
+    /**
+     * Number of times the same state of the board can be seen before a rollout is declared as draw.
+     */
+    public static final int REPETITION_LIMIT = 3;
+
+    private int d_numberOfRollouts;
+    private List<StrategyType> d_strategies = new ArrayList<>();
+    private int d_maxNumberOfTurns;
+    private int d_numberOfThreads = 1;
+    private Long d_seed;
+    private final GameEngine d_gameEngine;
+    private final LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Creates the service for the game of the user. The report is logged to the game, and the events of the rollouts
+     * are also sent to its buffer.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the user.
+     */
+    public RolloutService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
+
+    /**
+     * Sets the number of rollouts to be played.
+     *
+     * @param p_numberOfRollouts Value of the number of rollouts.
+     */
+    public void setNumberOfRollouts(int p_numberOfRollouts) {
+        d_numberOfRollouts = p_numberOfRollouts;
+    }
+
+    /**
+     * Sets the strategies used to play the players of the saved game. If there is only one strategy, it is used for all
+     * the players; otherwise there must be one strategy per player, in the order of the players.
+     *
+     * @param p_strategies Value of the list of strategies.
+     */
+    public void setStrategies(List<StrategyType> p_strategies) {
+        d_strategies = p_strategies;
+    }
+
+    /**
+     * Sets the maximum number of turns a rollout can be played for, starting from the turn of the saved game. A rollout
+     * which reaches the maximum is a draw.
+     *
+     * @param p_maxNumberOfTurns Value of the number of turns.
+     */
+    public void setMaxNumberOfTurns(int p_maxNumberOfTurns) {
+        d_maxNumberOfTurns = p_maxNumberOfTurns;
+    }
+
+    /**
+     * Sets the number of threads used to play the rollouts.
+     *
+     * @param p_numberOfThreads Value of the number of threads.
+     */
+    public void setNumberOfThreads(int p_numberOfThreads) {
+        d_numberOfThreads = p_numberOfThreads;
+    }
+
+    /**
+     * Sets the seed of the random number generators used by the rollouts.
+     *
+     * @param p_seed Value of the seed; null to play the rollouts without a seed.
+     */
+    public void setSeed(Long p_seed) {
+        d_seed = p_seed;
+    }
+
+    /**
+     * Reads the arguments of the command, plays the rollouts from the saved game and reports the results.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the report of the rollouts.
+     * @throws VMException If any argument is invalid or any exception while playing the rollouts.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) throws VMException {
+        String l_fileName = null;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("F")) {
+                l_fileName = l_argument.get("F").get(0);
+            } else if (l_argument.containsKey("P")) {
+                List<StrategyType> l_strategies = new ArrayList<>();
+                for (String l_strategy : l_argument.get("P")) {
+                    try {
+                        l_strategies.add(StrategyType.valueOf(l_strategy.toUpperCase()));
+                    } catch (IllegalArgumentException p_e) {
+                        throw new InvalidArgumentException("Strategy type is invalid!");
+                    }
+                }
+                this.setStrategies(l_strategies);
+            } else if (l_argument.containsKey("K")) {
+                this.setNumberOfRollouts(this.parsePositiveNumber(l_argument.get("K"), "Number of rollouts"));
+            } else if (l_argument.containsKey("D")) {
+                this.setMaxNumberOfTurns(this.parsePositiveNumber(l_argument.get("D"), "Number of maximum turns"));
+            } else if (l_argument.containsKey("T")) {
+                this.setNumberOfThreads(this.parsePositiveNumber(l_argument.get("T"), "Number of threads"));
+            } else if (l_argument.containsKey("S")) {
+                try {
+                    this.setSeed(Long.parseLong(l_argument.get("S").get(0)));
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Seed not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Seed is in invalid format!");
+                }
+            }
+        }
+        if (l_fileName == null) {
+            throw new InvalidArgumentException("Game file not specified!");
+        }
+        JSONObject l_gameJSON = new LoadGameService(d_gameEngine).readGameFile(l_fileName);
+        GamePosition l_gamePosition = this.loadPosition(l_gameJSON);
+        String l_report = this.getReport(l_fileName, l_gamePosition, this.rollout(l_gamePosition, l_fileName));
+        d_logEntryBuffer.dataChanged("rollout", l_report);
+        return l_report;
+    }
+
+    /**
+     * Loads the position of the saved game.
+     *
+     * @param p_gameJSON <code>JSONObject</code> of the saved game.
+     * @return Value of the position.
+     * @throws VMException If the saved game can not be loaded.
+     */
+    public GamePosition loadPosition(JSONObject p_gameJSON) throws VMException {
+        GameEngine l_gameEngine = GameEngine.fromJSONDetached(p_gameJSON);
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            return new GamePosition(l_gameEngine);
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Plays the rollouts from the position, in parallel if the number of threads is more than one.
+     *
+     * @param p_gamePosition Position of the saved game.
+     * @param p_fileName     Name of the saved game, used in the results.
+     * @return Value of the results of the rollouts, in the order of the rollouts.
+     * @throws VMException If any argument is invalid or any exception while playing the rollouts.
+     */
+    public List<MatchResult> rollout(GamePosition p_gamePosition, String p_fileName) throws VMException {
+        int l_numberOfPlayers = p_gamePosition.getPlayerNames().size();
+        if (d_numberOfRollouts < 1) {
+            throw new InvalidArgumentException("Number of rollouts must be at least one!");
+        }
+        if (d_maxNumberOfTurns < 1) {
+            throw new InvalidArgumentException("Number of maximum turns must be at least one!");
+        }
+        if (d_strategies.contains(StrategyType.HUMAN)) {
+            throw new InvalidArgumentException("Strategy cannot be `human`!");
+        }
+        List<StrategyType> l_strategies;
+        if (d_strategies.size() == 1) {
+            l_strategies = Collections.nCopies(l_numberOfPlayers, d_strategies.get(0));
+        } else if (d_strategies.size() == l_numberOfPlayers) {
+            l_strategies = d_strategies;
+        } else {
+            throw new InvalidArgumentException("Provide one strategy, or one strategy for each player!");
+        }
+
+        // Each rollout gets its own generator, split in a fixed order; it does not depend on the thread playing it.
+        SplittableRandom l_random = d_seed != null ? new SplittableRandom(d_seed) : new SplittableRandom();
+        List<SplittableRandom> l_rolloutRandoms = new ArrayList<>();
+        for (int l_rolloutIndex = 0; l_rolloutIndex < d_numberOfRollouts; l_rolloutIndex++) {
+            l_rolloutRandoms.add(l_random.split());
+        }
+
+        List<MatchResult> l_matchResults = new ArrayList<>();
+        if (d_numberOfThreads <= 1) {
+            for (int l_rolloutIndex = 0; l_rolloutIndex < d_numberOfRollouts; l_rolloutIndex++) {
+                l_matchResults.add(this.playRollout(l_rolloutIndex, p_gamePosition, l_strategies, l_rolloutRandoms.get(l_rolloutIndex), p_fileName));
+            }
+            return l_matchResults;
+        }
+
+        ExecutorService l_executor = Executors.newFixedThreadPool(d_numberOfThreads);
+        List<Future<MatchResult>> l_futures = new ArrayList<>();
+        try {
+            for (int l_rolloutIndex = 0; l_rolloutIndex < d_numberOfRollouts; l_rolloutIndex++) {
+                final int l_finalRolloutIndex = l_rolloutIndex;
+                l_futures.add(l_executor.submit(() ->
+                        this.playRollout(l_finalRolloutIndex, p_gamePosition, l_strategies, l_rolloutRandoms.get(l_finalRolloutIndex), p_fileName)
+                ));
+            }
+            for (Future<MatchResult> l_future : l_futures) {
+                l_matchResults.add(l_future.get());
+            }
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new VMException("Rollouts have been interrupted!");
+        } catch (ExecutionException p_executionException) {
+            if (p_executionException.getCause() instanceof VMException) {
+                throw (VMException) p_executionException.getCause();
+            }
+            throw new VMException(p_executionException.getCause().getMessage(), p_executionException.getCause());
+        } finally {
+            l_executor.shutdownNow();
+        }
+        return l_matchResults;
+    }
+
+    /**
+     * Plays a single rollout from the position. The created <code>GameEngine</code> is bound to the calling thread
+     * while the rollout is being played.
+     *
+     * @param p_rolloutIndex Index of the rollout.
+     * @param p_gamePosition Position of the saved game.
+     * @param p_strategies   Strategy of each player.
+     * @param p_random       Random number generator of the rollout.
+     * @param p_fileName     Name of the saved game.
+     * @return Value of the result of the rollout.
+     */
+    private MatchResult playRollout(int p_rolloutIndex,
+                                    GamePosition p_gamePosition,
+                                    List<StrategyType> p_strategies,
+                                    SplittableRandom p_random,
+                                    String p_fileName) {
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine(), d_logEntryBuffer);
+        l_gameEngine.setMaxNumberOfTurns(p_gamePosition.getExecutionIndex() + d_maxNumberOfTurns);
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            p_gamePosition.loadInto(l_gameEngine, p_strategies, p_random);
+            GamePlayEngine l_gamePlayEngine = l_gameEngine.getGamePlayEngine();
+            // Rollouts going around in circles are declared as draw.
+            l_gamePlayEngine.setGameAdjudicator(new GameAdjudicator(REPETITION_LIMIT, 0, TournamentEngine.DEFAULT_DOMINANCE_TURNS));
+            new GameLoop(l_gamePlayEngine).run();
+            return new MatchResult(p_rolloutIndex, 0, p_fileName, l_gameEngine);
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Creates the report of the rollouts: the win probability of each player with its 95% confidence interval, the
+     * draw probability and the average number of the remaining turns.
+     *
+     * @param p_fileName     Name of the saved game.
+     * @param p_gamePosition Position of the saved game.
+     * @param p_matchResults Results of the rollouts.
+     * @return Value of the report.
+     */
+    public String getReport(String p_fileName, GamePosition p_gamePosition, List<MatchResult> p_matchResults) {
+        List<String> l_playerNames = p_gamePosition.getPlayerNames();
+        MapStatistics l_statistics = new MapStatistics(l_playerNames, p_matchResults, StatisticsUtil.zScore(0.95));
+        long l_remainingTurns = 0;
+        for (MatchResult l_matchResult : p_matchResults) {
+            l_remainingTurns += l_matchResult.getTurnsPlayed() - p_gamePosition.getExecutionIndex();
+        }
+
+        String[] l_header = {"Player", "Wins", "Win probability"};
+        String[][] l_matrix = new String[l_playerNames.size() + 1][l_header.length];
+        for (int l_playerIndex = 0; l_playerIndex < l_playerNames.size(); l_playerIndex++) {
+            l_matrix[l_playerIndex][0] = l_playerNames.get(l_playerIndex);
+            l_matrix[l_playerIndex][1] = String.valueOf(l_statistics.getWins(l_playerIndex));
+            l_matrix[l_playerIndex][2] = l_statistics.formatRate(l_statistics.getWins(l_playerIndex), l_statistics.getWinRateInterval(l_playerIndex));
+        }
+        l_matrix[l_playerNames.size()][0] = "Draw";
+        l_matrix[l_playerNames.size()][1] = String.valueOf(l_statistics.getNumberOfDraws());
+        l_matrix[l_playerNames.size()][2] = l_statistics.formatRate(l_statistics.getNumberOfDraws(), l_statistics.getDrawRateInterval());
+
+        return "\n----Result of Rollouts----\n" +
+                "F: " + p_fileName + "\n" +
+                "K: " + p_matchResults.size() + "\n" +
+                "D: " + d_maxNumberOfTurns + "\n" +
+                (d_seed != null ? "S: " + d_seed + "\n" : "") +
+                String.format("Average remaining turns: %.1f\n", p_matchResults.isEmpty() ? 0 : (double) l_remainingTurns / p_matchResults.size()) +
+                FlipTable.of(l_header, l_matrix);
+    }
+
+    /**
+     * Parses the first value of the argument as a number which must be at least one.
+     *
+     * @param p_values Values of the argument.
+     * @param p_name   Name of the value used in the error messages.
+     * @return Value of the number.
+     * @throws InvalidArgumentException If the value is missing, invalid or less than one.
+     */
+    private int parsePositiveNumber(List<String> p_values, String p_name) throws InvalidArgumentException {
+        try {
+            int l_number = Integer.parseInt(p_values.get(0));
+            if (l_number < 1) {
+                throw new InvalidArgumentException(p_name + " must be at least one!");
+            }
+            return l_number;
+        } catch (IndexOutOfBoundsException p_e) {
+            throw new InvalidArgumentException(p_name + " not specified!");
+        } catch (NumberFormatException p_exception) {
+            throw new InvalidArgumentException(p_name + " is in invalid format!");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.common.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.exceptions.InvalidCommandException;
@@ -25,21 +26,32 @@ import java.util.List;
  */
 public class SaveGameService implements SingleCommand {
     private JSONObject d_currentGameEngine;
+    private final GameEngine d_gameEngine;
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
-     * Initialize JSON object.
+     * Initialize JSON object for the game of the virtual machine.
      */
     public SaveGameService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Initialize JSON object for the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public SaveGameService(GameEngine p_gameEngine) {
         d_currentGameEngine = new JSONObject();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
      * Puts the values of each engine state into JSON Object.
      */
     public void toJSON() {
-        d_currentGameEngine = VirtualMachine.getGameEngine().toJSON();
+        d_currentGameEngine = d_gameEngine.toJSON();
     }
 
     /**
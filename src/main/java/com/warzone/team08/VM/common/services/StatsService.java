@@ -0,0 +1,48 @@
+package com.warzone.team08.VM.common.services;
+
+import com.warzone.team08.VM.metrics.GameMetrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This service turns the collection of the timing metrics on or off, and shows the metrics recorded so far.
+ *
+ * @author MILESH
+ * @version 1.0
+ * @see GameMetrics
+ */
+public class StatsService {
+    /**
+     * Applies the given options and returns the table of the recorded metrics. The options are applied in the order of
+     * <code>reset</code>, <code>enable</code> and <code>disable</code>.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Value of the table of the metrics.
+     */
+    public String execute(List<Map<String, List<String>>> p_arguments) {
+        boolean l_reset = false;
+        boolean l_enable = false;
+        boolean l_disable = false;
+        for (Map<String, List<String>> l_argument : p_arguments) {
+            if (l_argument.containsKey("reset")) {
+                l_reset = true;
+            } else if (l_argument.containsKey("enable")) {
+                l_enable = true;
+            } else if (l_argument.containsKey("disable")) {
+                l_disable = true;
+            }
+        }
+        GameMetrics l_gameMetrics = GameMetrics.getInstance();
+        if (l_reset) {
+            l_gameMetrics.reset();
+        }
+        if (l_enable) {
+            GameMetrics.setEnabled(true);
+        }
+        if (l_disable) {
+            GameMetrics.setEnabled(false);
+        }
+        return (GameMetrics.isEnabled() ? "Metrics are turned on.\n" : "Metrics are turned off.\n") + l_gameMetrics.toTable();
+    }
+}
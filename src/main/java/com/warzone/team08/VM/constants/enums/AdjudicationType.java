@@ -0,0 +1,53 @@
+package com.warzone.team08.VM.constants.enums;
+
+/**
+ * The reasons for which a game can be decided before a player has conquered all the countries.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public enum AdjudicationType {
+    NONE("none"),
+    MAX_TURNS("max_turns"),
+    REPEATED_STATE("repeated_state"),
+    DOMINANCE("dominance");
+
+    /**
+     * Variable to set enum value.
+     */
+    public String d_jsonValue;
+
+    /**
+     * Sets the string value of the enum.
+     *
+     * @param p_jsonValue Value of the enum.
+     */
+    private AdjudicationType(String p_jsonValue) {
+        this.d_jsonValue = p_jsonValue;
+    }
+
+    /**
+     * Gets the string value of the enum
+     *
+     * @return Value of the enum
+     */
+    public String getJsonValue() {
+        return d_jsonValue;
+    }
+
+    /**
+     * Finds the enum using its string value.
+     *
+     * @param p_jsonValue String value of the enum.
+     * @return Value of the enum.
+     * @throws IllegalArgumentException If there is no enum with the string value.
+     */
+    public static AdjudicationType fromJsonValue(String p_jsonValue) throws IllegalArgumentException {
+        for (AdjudicationType l_adjudicationType : AdjudicationType.values()) {
+            if (l_adjudicationType.d_jsonValue.equals(p_jsonValue)) {
+                return l_adjudicationType;
+            }
+        }
+        throw new IllegalArgumentException("Unknown adjudication type: " + p_jsonValue);
+    }
+}
@@ -0,0 +1,66 @@
+package com.warzone.team08.VM.constants.enums;
+
+/**
+ * The modes in which the messages of the virtual machine are sent to the user interface.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public enum OutputMode {
+    /**
+     * Every message is sent as soon as it is written.
+     */
+    VERBOSE("verbose"),
+    /**
+     * The messages are collected and sent in batches; the summaries and the errors are sent immediately, after the
+     * collected messages.
+     */
+    BUFFERED("buffered"),
+    /**
+     * Only the summaries, such as the results of a tournament, and the errors are sent.
+     */
+    SUMMARY("summary"),
+    /**
+     * No message is sent.
+     */
+    SILENT("silent");
+
+    /**
+     * Variable to set enum value.
+     */
+    public String d_jsonValue;
+
+    /**
+     * Sets the string value of the enum.
+     *
+     * @param p_jsonValue Value of the enum.
+     */
+    private OutputMode(String p_jsonValue) {
+        this.d_jsonValue = p_jsonValue;
+    }
+
+    /**
+     * Gets the string value of the enum
+     *
+     * @return Value of the enum
+     */
+    public String getJsonValue() {
+        return d_jsonValue;
+    }
+
+    /**
+     * Finds the enum using its string value.
+     *
+     * @param p_jsonValue String value of the enum.
+     * @return Value of the enum.
+     * @throws IllegalArgumentException If there is no enum with the string value.
+     */
+    public static OutputMode fromJsonValue(String p_jsonValue) throws IllegalArgumentException {
+        for (OutputMode l_outputMode : OutputMode.values()) {
+            if (l_outputMode.d_jsonValue.equals(p_jsonValue)) {
+                return l_outputMode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown output mode: " + p_jsonValue);
+    }
+}
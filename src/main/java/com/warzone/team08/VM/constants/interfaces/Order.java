@@ -1,11 +1,15 @@
 package com.warzone.team08.VM.constants.interfaces;
 
-import com.warzone.team08.VM.VirtualMachine;
+import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.CardNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
-import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
+
+import java.util.function.Supplier;
 
 /**
  * This interface provides the methods to be implemented by different orders.
@@ -33,11 +37,11 @@ public abstract class Order implements JSONable {
     public Order(Player p_player) {
         d_owner = p_player;
         if (this.getType() == OrderType.negotiate) {
-            d_executionIndex = GamePlayEngine.getCurrentExecutionIndex() + 1;
+            d_executionIndex = p_player.getGamePlayEngine().getExecutionIndex() + 1;
             d_expiryIndex = d_executionIndex + 1;
-            VirtualMachine.getGameEngine().getGamePlayEngine().addFutureOrder(this);
+            p_player.getGamePlayEngine().addFutureOrder(this);
         } else {
-            d_executionIndex = GamePlayEngine.getCurrentExecutionIndex();
+            d_executionIndex = p_player.getGamePlayEngine().getExecutionIndex();
         }
     }
 
@@ -54,7 +58,7 @@ public abstract class Order implements JSONable {
         if (this.getType() == OrderType.negotiate) {
             d_executionIndex = p_executionIndex;
             d_expiryIndex = p_expiryIndex;
-            VirtualMachine.getGameEngine().getGamePlayEngine().addFutureOrder(this);
+            p_player.getGamePlayEngine().addFutureOrder(this);
         } else {
             d_executionIndex = p_executionIndex;
         }
@@ -85,6 +89,15 @@ public abstract class Order implements JSONable {
         return d_owner;
     }
 
+    /**
+     * Gets the <code>GameEngine</code> of the game in which this order has been issued.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return d_owner.getGameEngine();
+    }
+
     /**
      * Gets the execution index of this order.
      *
@@ -122,6 +135,36 @@ public abstract class Order implements JSONable {
         d_expiryIndex = p_expiryIndex;
     }
 
+    /**
+     * Logs the execution of this order in the category of its type. The message is created only if the category logs
+     * the events of the game.
+     *
+     * @param p_message Supplier of the message describing the execution.
+     */
+    protected void logExecution(Supplier<String> p_message) {
+        this.logExecution(p_message, null, null);
+    }
+
+    /**
+     * Logs the execution of this order in the category of its type. The message is created only if the category logs
+     * the events of the game, and the table of the armies changed by the order only if it logs their details.
+     *
+     * @param p_message       Supplier of the message describing the execution.
+     * @param p_effectHeader  Header of the table of the order effect.
+     * @param p_effectContent Supplier of the rows of the table of the order effect.
+     */
+    protected void logExecution(Supplier<String> p_message, String[] p_effectHeader, Supplier<String[][]> p_effectContent) {
+        LogEntryBuffer l_logEntryBuffer = this.getGameEngine().getLogEntryBuffer();
+        String l_category = this.getType().getJsonValue();
+        l_logEntryBuffer.dataChanged(l_category, () -> {
+            String l_message = "\n" + "Executing " + d_owner.getName() + " Order:" + "\n" + p_message.get();
+            if (p_effectContent != null && l_logEntryBuffer.isLoggable(l_category, LogLevel.DEBUG)) {
+                l_message += "\n Order Effect\n" + FlipTable.of(p_effectHeader, p_effectContent.get());
+            }
+            return l_message;
+        });
+    }
+
     /**
      * Reverse the effect of the order or makes the card expired which was previously been executed.
      */
@@ -0,0 +1,365 @@
+package com.warzone.team08.VM.entities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of the countries assigned to a <code>Player</code>. The countries keep the order in which they have been added,
+ * so the strategies iterate over them in the same order as before, but <code>contains</code>, <code>add</code> and
+ * <code>remove</code> of a country take constant time.
+ * <p>
+ * The position of each country is indexed by its country id, which are dense integers within a map. A removed country
+ * leaves an empty slot behind, and the slots are compacted the next time the list is accessed by position.
+ * <p>
+ * A country appears at most once in the list: adding a country which is already in the list does not change it.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+final class AssignedCountryList extends AbstractList<Country> implements RandomAccess {
+    /**
+     * Country ids which are larger than this are not indexed, and are found by searching the list.
+     */
+    private static final int MAX_INDEXED_COUNTRY_ID = 1 << 20;
+
+    /**
+     * Countries in the order they have been added; a removed country leaves a <code>null</code> slot until the slots
+     * are compacted.
+     */
+    private Country[] d_slots = new Country[8];
+    private int d_numberOfSlots;
+    private int d_size;
+
+    /**
+     * Slot of each country at the index of its country id, plus one; zero if the country is not in the list.
+     */
+    private int[] d_slotsByCountryId = new int[16];
+
+    /**
+     * Number of countries in the list which could not be indexed by their id.
+     */
+    private int d_numberOfUnindexedCountries;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return d_size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Country get(int p_index) {
+        this.checkIndex(p_index);
+        this.compact();
+        return d_slots[p_index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Country set(int p_index, Country p_country) {
+        this.checkIndex(p_index);
+        this.compact();
+        Country l_previousCountry = d_slots[p_index];
+        if (l_previousCountry != p_country) {
+            int l_slot = this.findSlot(p_country);
+            if (l_slot >= 0 && l_slot != p_index) {
+                throw new IllegalArgumentException("Country is already assigned at another position.");
+            }
+            this.unindex(l_previousCountry, p_index);
+            d_slots[p_index] = p_country;
+            this.index(p_country, p_index);
+        }
+        return l_previousCountry;
+    }
+
+    /**
+     * Adds the country at the end of the list, unless it is already in the list.
+     *
+     * @param p_country Value of the country.
+     * @return True if the country has been added.
+     */
+    @Override
+    public boolean add(Country p_country) {
+        if (this.findSlot(p_country) >= 0) {
+            return false;
+        }
+        if (d_numberOfSlots == d_slots.length) {
+            if (d_size < d_numberOfSlots) {
+                this.compact();
+            } else {
+                d_slots = Arrays.copyOf(d_slots, d_slots.length * 2);
+            }
+        }
+        d_slots[d_numberOfSlots] = p_country;
+        this.index(p_country, d_numberOfSlots);
+        d_numberOfSlots++;
+        d_size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the country at the position, unless it is already in the list.
+     *
+     * @param p_index   Position of the country.
+     * @param p_country Value of the country.
+     */
+    @Override
+    public void add(int p_index, Country p_country) {
+        if (p_index < 0 || p_index > d_size) {
+            throw new IndexOutOfBoundsException("Index: " + p_index + ", Size: " + d_size);
+        }
+        if (p_index == d_size) {
+            this.add(p_country);
+            return;
+        }
+        if (this.findSlot(p_country) >= 0) {
+            return;
+        }
+        this.compact();
+        if (d_numberOfSlots == d_slots.length) {
+            d_slots = Arrays.copyOf(d_slots, d_slots.length * 2);
+        }
+        System.arraycopy(d_slots, p_index, d_slots, p_index + 1, d_numberOfSlots - p_index);
+        d_numberOfSlots++;
+        d_size++;
+        d_slots[p_index] = p_country;
+        this.index(p_country, p_index);
+        for (int l_slot = p_index + 1; l_slot < d_numberOfSlots; l_slot++) {
+            this.moveIndex(d_slots[l_slot], l_slot - 1, l_slot);
+        }
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Country> p_countries) {
+        boolean l_isChanged = false;
+        for (Country l_country : p_countries) {
+            l_isChanged |= this.add(l_country);
+        }
+        return l_isChanged;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Country remove(int p_index) {
+        this.checkIndex(p_index);
+        this.compact();
+        Country l_country = d_slots[p_index];
+        this.removeSlot(p_index);
+        return l_country;
+    }
+
+    /**
+     * Removes the country from the list; the other countries keep their order.
+     *
+     * @param p_country Value of the country.
+     * @return True if the country was in the list.
+     */
+    @Override
+    public boolean remove(Object p_country) {
+        int l_slot = this.findSlot(p_country);
+        if (l_slot < 0) {
+            return false;
+        }
+        this.removeSlot(l_slot);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object p_country) {
+        return this.findSlot(p_country) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int indexOf(Object p_country) {
+        if (this.findSlot(p_country) < 0) {
+            return -1;
+        }
+        this.compact();
+        return this.findSlot(p_country);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int lastIndexOf(Object p_country) {
+        return this.indexOf(p_country);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(d_slots, 0, d_numberOfSlots, null);
+        Arrays.fill(d_slotsByCountryId, 0);
+        d_numberOfSlots = 0;
+        d_size = 0;
+        d_numberOfUnindexedCountries = 0;
+        modCount++;
+    }
+
+    /**
+     * Finds the slot of the country.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the slot; -1 if the country is not in the list.
+     */
+    private int findSlot(Object p_country) {
+        if (!(p_country instanceof Country)) {
+            return -1;
+        }
+        int l_countryId = countryIdOf((Country) p_country);
+        if (l_countryId >= 0 && l_countryId < d_slotsByCountryId.length) {
+            int l_slot = d_slotsByCountryId[l_countryId] - 1;
+            if (l_slot >= 0 && d_slots[l_slot].equals(p_country)) {
+                return l_slot;
+            }
+        }
+        if (d_numberOfUnindexedCountries > 0) {
+            for (int l_slot = 0; l_slot < d_numberOfSlots; l_slot++) {
+                if (d_slots[l_slot] != null && d_slots[l_slot].equals(p_country)) {
+                    return l_slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Empties the slot of the country.
+     *
+     * @param p_slot Slot of the country.
+     */
+    private void removeSlot(int p_slot) {
+        this.unindex(d_slots[p_slot], p_slot);
+        d_slots[p_slot] = null;
+        d_size--;
+        if (p_slot == d_numberOfSlots - 1) {
+            d_numberOfSlots--;
+        }
+        if (d_size == 0) {
+            d_numberOfSlots = 0;
+        }
+        modCount++;
+    }
+
+    /**
+     * Moves the countries over the empty slots, keeping their order.
+     */
+    private void compact() {
+        if (d_size == d_numberOfSlots) {
+            return;
+        }
+        int l_targetSlot = 0;
+        for (int l_slot = 0; l_slot < d_numberOfSlots; l_slot++) {
+            Country l_country = d_slots[l_slot];
+            if (l_country != null) {
+                if (l_slot != l_targetSlot) {
+                    d_slots[l_targetSlot] = l_country;
+                    this.moveIndex(l_country, l_slot, l_targetSlot);
+                }
+                l_targetSlot++;
+            }
+        }
+        Arrays.fill(d_slots, l_targetSlot, d_numberOfSlots, null);
+        d_numberOfSlots = l_targetSlot;
+    }
+
+    /**
+     * Indexes the slot of the country by its id, if the id is not used by another country in the list.
+     *
+     * @param p_country Value of the country.
+     * @param p_slot    Slot of the country.
+     */
+    private void index(Country p_country, int p_slot) {
+        int l_countryId = countryIdOf(p_country);
+        if (l_countryId < 0 || l_countryId > MAX_INDEXED_COUNTRY_ID) {
+            d_numberOfUnindexedCountries++;
+            return;
+        }
+        if (l_countryId >= d_slotsByCountryId.length) {
+            d_slotsByCountryId = Arrays.copyOf(d_slotsByCountryId,
+                    Math.max(l_countryId + 1, d_slotsByCountryId.length * 2));
+        }
+        if (d_slotsByCountryId[l_countryId] != 0) {
+            d_numberOfUnindexedCountries++;
+            return;
+        }
+        d_slotsByCountryId[l_countryId] = p_slot + 1;
+    }
+
+    /**
+     * Removes the index of the slot of the country.
+     *
+     * @param p_country Value of the country.
+     * @param p_slot    Slot of the country.
+     */
+    private void unindex(Country p_country, int p_slot) {
+        int l_countryId = countryIdOf(p_country);
+        if (l_countryId >= 0 && l_countryId < d_slotsByCountryId.length &&
+                d_slotsByCountryId[l_countryId] == p_slot + 1) {
+            d_slotsByCountryId[l_countryId] = 0;
+        } else {
+            d_numberOfUnindexedCountries--;
+        }
+    }
+
+    /**
+     * Updates the index after the country has been moved to another slot.
+     *
+     * @param p_country      Value of the country.
+     * @param p_previousSlot Previous slot of the country.
+     * @param p_slot         New slot of the country.
+     */
+    private void moveIndex(Country p_country, int p_previousSlot, int p_slot) {
+        int l_countryId = countryIdOf(p_country);
+        if (l_countryId >= 0 && l_countryId < d_slotsByCountryId.length &&
+                d_slotsByCountryId[l_countryId] == p_previousSlot + 1) {
+            d_slotsByCountryId[l_countryId] = p_slot + 1;
+        }
+    }
+
+    /**
+     * Checks that the position is in the list.
+     *
+     * @param p_index Position in the list.
+     */
+    private void checkIndex(int p_index) {
+        if (p_index < 0 || p_index >= d_size) {
+            throw new IndexOutOfBoundsException("Index: " + p_index + ", Size: " + d_size);
+        }
+    }
+
+    /**
+     * Gets the id of the country used as the index.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the id; -1 if the country does not have an id.
+     */
+    private static int countryIdOf(Country p_country) {
+        Integer l_countryId = p_country.getCountryId();
+        return l_countryId != null ? l_countryId : -1;
+    }
+}
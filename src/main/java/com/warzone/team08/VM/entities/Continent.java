@@ -1,10 +1,13 @@
 package com.warzone.team08.VM.entities;
 
 import com.warzone.team08.VM.constants.interfaces.JSONable;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -21,18 +24,21 @@ public class Continent implements JSONable {
     private Integer d_continentId;
     private String d_continentName;
     private Integer d_continentControlValue;
-    private ArrayList<Country> d_countryList;
+    private List<Country> d_countryList;
 
     /**
-     * Used to keep the track of unique IDs for the continent.
+     * True if this continent is shared by the games played on the map of a <code>MapTemplate</code>, and can not be
+     * modified.
      */
-    public static int d_SerialNumber = 0;
+    private boolean d_isShared = false;
 
     /**
-     * Assigns Continent id to the continent and creates the member countries list.
+     * Assigns the given id to the continent and creates the member countries list.
+     *
+     * @param p_continentId Continent id.
      */
-    public Continent() {
-        this.d_continentId = ++d_SerialNumber;
+    public Continent(int p_continentId) {
+        this.d_continentId = p_continentId;
         d_countryList = new ArrayList<>();
     }
 
@@ -51,6 +57,7 @@ public class Continent implements JSONable {
      * @param p_continentName Name of the continent.
      */
     public void setContinentName(String p_continentName) {
+        this.checkModifiable();
         d_continentName = p_continentName;
     }
 
@@ -69,6 +76,7 @@ public class Continent implements JSONable {
      * @param p_continentControlValue Value of the continent control.
      */
     public void setContinentControlValue(int p_continentControlValue) {
+        this.checkModifiable();
         d_continentControlValue = p_continentControlValue;
     }
 
@@ -84,9 +92,9 @@ public class Continent implements JSONable {
     /**
      * Gets the countries of this continent.
      *
-     * @return Value of the list of countries
+     * @return Value of the list of countries; can not be modified if the continent is shared.
      */
-    public ArrayList<Country> getCountryList() {
+    public List<Country> getCountryList() {
         return d_countryList;
     }
 
@@ -95,7 +103,8 @@ public class Continent implements JSONable {
      *
      * @param p_countryList Value of the list.
      */
-    public void setCountryList(ArrayList<Country> p_countryList) {
+    public void setCountryList(List<Country> p_countryList) {
+        this.checkModifiable();
         d_countryList = p_countryList;
     }
 
@@ -105,6 +114,7 @@ public class Continent implements JSONable {
      * @param p_country Value of the country to be added.
      */
     public void addCountry(Country p_country) {
+        this.checkModifiable();
         // Set will not have any duplicate elements.
         d_countryList.add(p_country);
     }
@@ -115,15 +125,29 @@ public class Continent implements JSONable {
      * @param p_country Value of the country to be removed.
      */
     public void removeCountry(Country p_country) {
+        this.checkModifiable();
         // Set will not have any duplicate elements.
         d_countryList.remove(p_country);
     }
 
     /**
-     * Resets the serial number to zero. Used when the map engine is being reset.
+     * Marks this continent as shared by the games played on the map of a <code>MapTemplate</code>. The continent and
+     * its list of countries can not be modified afterwards.
      */
-    public static void resetSerialNumber() {
-        d_SerialNumber = 0;
+    public void markShared() {
+        d_countryList = Collections.unmodifiableList(d_countryList);
+        d_isShared = true;
+    }
+
+    /**
+     * Checks that this continent can be modified.
+     *
+     * @throws UnsupportedOperationException If the continent is shared by the games of a <code>MapTemplate</code>.
+     */
+    private void checkModifiable() {
+        if (d_isShared) {
+            throw new UnsupportedOperationException(String.format("%s continent is shared by the games of its map and can not be modified!", d_continentName));
+        }
     }
 
     /**
@@ -173,11 +197,12 @@ public class Continent implements JSONable {
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
      *
-     * @param p_jsonObject <code>JSONObject</code> holding the runtime information.
+     * @param p_jsonObject      <code>JSONObject</code> holding the runtime information.
+     * @param p_mapEditorEngine <code>MapEditorEngine</code> of the game this continent belongs to.
      * @return Created instance of this class using the provided JSON data.
      */
-    public static Continent fromJSON(JSONObject p_jsonObject) {
-        Continent l_continent = new Continent();
+    public static Continent fromJSON(JSONObject p_jsonObject, MapEditorEngine p_mapEditorEngine) {
+        Continent l_continent = new Continent(p_mapEditorEngine.nextContinentId());
         l_continent.setContinentName(p_jsonObject.getString("name"));
         l_continent.setContinentControlValue(p_jsonObject.getInt("controlValue"));
 
@@ -186,7 +211,7 @@ public class Continent implements JSONable {
         for (int l_countryIndex = 0; l_countryIndex < l_countries.length(); l_countryIndex++) {
             JSONObject l_countryJSON = l_countries.getJSONObject(l_countryIndex);
             // Create new country instance.
-            Country l_countryObject = Country.fromJSON(l_countryJSON);
+            Country l_countryObject = Country.fromJSON(l_countryJSON, p_mapEditorEngine);
             l_continent.addCountry(l_countryObject);
         }
 
@@ -1,23 +1,28 @@
 package com.warzone.team08.VM.entities;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.interfaces.JSONable;
+import com.warzone.team08.VM.journal.GameJournal;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * This class is to set and get the country variables
+ * <p>
+ * The owner and the number of armies are the runtime state of the country. A country created using the
+ * <code>MapTemplate</code> is shared by all the games played on the map, so its state is stored in the
+ * <code>CountryState</code> of each game, and is used through the methods which take the <code>GameEngine</code> of
+ * the game. Otherwise, the state is stored in this instance.
  *
  * @author RUTWIK PATEL
  * @author Brijesh Lakkad
  */
 public class Country implements JSONable {
-    /**
-     * Used to keep the track of unique IDs for the continent.
-     */
-    public static int d_SerialNumber = 0;
     /**
      * Auto-generated ID of the country.
      */
@@ -25,18 +30,28 @@ public class Country implements JSONable {
     private String d_countryName;
     private Continent d_continent;
     private List<Country> d_neighbourCountries;
+
+    /**
+     * Countries which have this country as their neighbour. Kept alongside <code>d_neighbourCountries</code> of those
+     * countries, so the countries bordering this one are found without checking every country of the map.
+     */
+    private final List<Country> d_incomingNeighbourCountries = new ArrayList<>();
     private Player d_ownedBy;
     private int d_numberOfArmies;
-    private String d_xCoordinate;
-    private String d_yCoordinate;
 
     /**
-     * Assigns country id to the country and creates the neighbour countries list.
+     * Index of the state of this country in the <code>CountryState</code> of the game. If it is negative, the state is
+     * stored in this instance.
      */
-    public Country() {
-        this.COUNTRY_ID = ++d_SerialNumber;
-        d_neighbourCountries = new ArrayList<>();
-    }
+    private final int d_stateIndex;
+
+    /**
+     * True if this country is shared by the games played on the map of a <code>MapTemplate</code>, and its name, its
+     * continent and its neighbours can not be modified.
+     */
+    private boolean d_isShared = false;
+    private String d_xCoordinate;
+    private String d_yCoordinate;
 
     /**
      * Assigns country id to the country and creates the neighbour countries list.
@@ -44,26 +59,19 @@ public class Country implements JSONable {
      * @param p_countryId Country id.
      */
     public Country(int p_countryId) {
-        this.COUNTRY_ID = p_countryId;
-        d_neighbourCountries = new ArrayList<>();
+        this(p_countryId, -1);
     }
 
     /**
-     * Assigns country name to country and creates the neighbour countries list.
+     * Creates a country whose state is stored in the <code>CountryState</code> of the game at the given index.
      *
-     * @param p_countryName Country name.
+     * @param p_countryId  Country id.
+     * @param p_stateIndex Index of the state of the country.
      */
-    public Country(String p_countryName) {
-        this.COUNTRY_ID = ++d_SerialNumber;
+    public Country(int p_countryId, int p_stateIndex) {
+        this.COUNTRY_ID = p_countryId;
         d_neighbourCountries = new ArrayList<>();
-        d_countryName = p_countryName;
-    }
-
-    /**
-     * Resets the serial number to zero. Used when the map engine is being reset.
-     */
-    public static void resetSerialNumber() {
-        d_SerialNumber = 0;
+        d_stateIndex = p_stateIndex;
     }
 
     /**
@@ -90,6 +98,7 @@ public class Country implements JSONable {
      * @param p_countryName Value of the country name.
      */
     public void setCountryName(String p_countryName) {
+        this.checkModifiable();
         d_countryName = p_countryName;
     }
 
@@ -108,13 +117,14 @@ public class Country implements JSONable {
      * @param p_continent Represents the value of continent.
      */
     public void setContinent(Continent p_continent) {
+        this.checkModifiable();
         d_continent = p_continent;
     }
 
     /**
      * Gets the list of neighbor countries.
      *
-     * @return Value of neighboring countries list.
+     * @return Value of neighboring countries list; can not be modified if the country is shared.
      */
     public List<Country> getNeighbourCountries() {
         return d_neighbourCountries;
@@ -126,7 +136,17 @@ public class Country implements JSONable {
      * @param p_neighbourCountries List of neighboring countries.
      */
     public void setNeighbourCountries(List<Country> p_neighbourCountries) {
+        this.checkModifiable();
+        for (Country l_neighbourCountry : p_neighbourCountries) {
+            l_neighbourCountry.checkModifiable();
+        }
+        for (Country l_neighbourCountry : d_neighbourCountries) {
+            l_neighbourCountry.removeIncomingNeighbourCountry(this);
+        }
         d_neighbourCountries = p_neighbourCountries;
+        for (Country l_neighbourCountry : d_neighbourCountries) {
+            l_neighbourCountry.d_incomingNeighbourCountries.add(this);
+        }
     }
 
     /**
@@ -135,7 +155,10 @@ public class Country implements JSONable {
      * @param p_neighbourCountry Value of the neighbor country.
      */
     public void addNeighbourCountry(Country p_neighbourCountry) {
+        this.checkModifiable();
+        p_neighbourCountry.checkModifiable();
         d_neighbourCountries.add(p_neighbourCountry);
+        p_neighbourCountry.d_incomingNeighbourCountries.add(this);
     }
 
     /**
@@ -144,45 +167,204 @@ public class Country implements JSONable {
      * @param p_neighbourCountry Value of the neighbor country.
      */
     public void removeNeighbourCountry(Country p_neighbourCountry) {
-        d_neighbourCountries.remove(p_neighbourCountry);
+        this.checkModifiable();
+        int l_index = d_neighbourCountries.indexOf(p_neighbourCountry);
+        if (l_index >= 0) {
+            d_neighbourCountries.remove(l_index).removeIncomingNeighbourCountry(this);
+        }
+    }
+
+    /**
+     * Gets the countries which have this country as their neighbour.
+     *
+     * @return Value of the list of the countries; can not be modified.
+     */
+    public List<Country> getIncomingNeighbourCountries() {
+        return Collections.unmodifiableList(d_incomingNeighbourCountries);
     }
 
     /**
-     * Getter method to determine country owner.
+     * Removes the country from the countries which have this country as their neighbour. The country is matched by its
+     * reference, as a country of the map may not have its continent yet.
+     *
+     * @param p_country Value of the country.
+     */
+    private void removeIncomingNeighbourCountry(Country p_country) {
+        for (int l_index = 0; l_index < d_incomingNeighbourCountries.size(); l_index++) {
+            if (d_incomingNeighbourCountries.get(l_index) == p_country) {
+                d_incomingNeighbourCountries.remove(l_index);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Getter method to determine country owner. Only a country which holds its own state can be asked without the game;
+     * see <code>getOwnedBy(GameEngine)</code>.
      *
      * @return country owner object.
+     * @throws IllegalStateException If the state of this country is stored in the <code>CountryState</code> of each
+     *                               game.
      */
     public Player getOwnedBy() {
+        this.checkOwnState();
         return d_ownedBy;
     }
 
     /**
-     * Setter method for country owner.
+     * Gets the owner of this country in the given game.
+     *
+     * @param p_gameEngine Engine of the game this country is part of.
+     * @return country owner object.
+     * @throws IllegalStateException If this country is not part of the map of the game.
+     */
+    public Player getOwnedBy(GameEngine p_gameEngine) {
+        if (d_stateIndex < 0) {
+            return d_ownedBy;
+        }
+        return p_gameEngine.getMapEditorEngine().getCountryState().getOwner(this);
+    }
+
+    /**
+     * Setter method for country owner. Only a country which holds its own state can be changed without the game, and
+     * the change is not recorded in any journal; see <code>setOwnedBy(Player, GameEngine)</code>.
      *
      * @param p_ownedBy Country owner object.
+     * @throws IllegalStateException If the state of this country is stored in the <code>CountryState</code> of each
+     *                               game.
      */
     public void setOwnedBy(Player p_ownedBy) {
+        this.checkOwnState();
         d_ownedBy = p_ownedBy;
     }
 
     /**
-     * Gets the number of armies that are placed on this country by the player <code>getOwnedBy</code>
+     * Sets the owner of this country in the given game, and records the change in the journal of the game.
+     *
+     * @param p_ownedBy    Country owner object.
+     * @param p_gameEngine Engine of the game this country is part of.
+     * @throws IllegalStateException If this country is not part of the map of the game.
+     */
+    public void setOwnedBy(Player p_ownedBy, GameEngine p_gameEngine) {
+        if (d_stateIndex < 0) {
+            d_ownedBy = p_ownedBy;
+        } else {
+            p_gameEngine.getMapEditorEngine().getCountryState().setOwner(this, p_ownedBy);
+        }
+        this.recordChange(p_gameEngine);
+    }
+
+    /**
+     * Gets the number of armies that are placed on this country by the player <code>getOwnedBy</code>. Only a country
+     * which holds its own state can be asked without the game; see <code>getNumberOfArmies(GameEngine)</code>.
      *
      * @return Value of the count of armies.
+     * @throws IllegalStateException If the state of this country is stored in the <code>CountryState</code> of each
+     *                               game.
      */
     public int getNumberOfArmies() {
+        this.checkOwnState();
         return d_numberOfArmies;
     }
 
     /**
-     * Sets the number of armies for this country placed by the player.
+     * Gets the number of armies placed on this country in the given game.
+     *
+     * @param p_gameEngine Engine of the game this country is part of.
+     * @return Value of the count of armies.
+     * @throws IllegalStateException If this country is not part of the map of the game.
+     */
+    public int getNumberOfArmies(GameEngine p_gameEngine) {
+        if (d_stateIndex < 0) {
+            return d_numberOfArmies;
+        }
+        return p_gameEngine.getMapEditorEngine().getCountryState().getNumberOfArmies(this);
+    }
+
+    /**
+     * Sets the number of armies for this country placed by the player. Only a country which holds its own state can be
+     * changed without the game, and the change is not recorded in any journal; see
+     * <code>setNumberOfArmies(int, GameEngine)</code>.
      *
      * @param p_numberOfArmies Values of the count of armies.
+     * @throws IllegalStateException If the state of this country is stored in the <code>CountryState</code> of each
+     *                               game.
      */
     public void setNumberOfArmies(int p_numberOfArmies) {
+        this.checkOwnState();
         d_numberOfArmies = p_numberOfArmies;
     }
 
+    /**
+     * Sets the number of armies placed on this country in the given game, and records the change in the journal of the
+     * game.
+     *
+     * @param p_numberOfArmies Values of the count of armies.
+     * @param p_gameEngine     Engine of the game this country is part of.
+     * @throws IllegalStateException If this country is not part of the map of the game.
+     */
+    public void setNumberOfArmies(int p_numberOfArmies, GameEngine p_gameEngine) {
+        if (d_stateIndex < 0) {
+            d_numberOfArmies = p_numberOfArmies;
+        } else {
+            p_gameEngine.getMapEditorEngine().getCountryState().setNumberOfArmies(this, p_numberOfArmies);
+        }
+        this.recordChange(p_gameEngine);
+    }
+
+    /**
+     * Records the new state of this country in the journal of the game, if the game records its journal.
+     *
+     * @param p_gameEngine Engine of the game this country is part of.
+     */
+    private void recordChange(GameEngine p_gameEngine) {
+        GameJournal l_gameJournal = p_gameEngine.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.countryChanged(this);
+        }
+    }
+
+    /**
+     * Gets the index of the state of this country in the <code>CountryState</code> of the game.
+     *
+     * @return Value of the index; negative if the state is stored in this instance.
+     */
+    public int getStateIndex() {
+        return d_stateIndex;
+    }
+
+    /**
+     * Marks this country as shared by the games played on the map of a <code>MapTemplate</code>. The name, the
+     * continent, the coordinates and the neighbours of the country can not be modified afterwards; the neighbours must
+     * have been added before.
+     */
+    public void markShared() {
+        d_neighbourCountries = Collections.unmodifiableList(d_neighbourCountries);
+        d_isShared = true;
+    }
+
+    /**
+     * Checks that the name, the continent, the coordinates and the neighbours of this country can be modified.
+     *
+     * @throws UnsupportedOperationException If the country is shared by the games of a <code>MapTemplate</code>.
+     */
+    private void checkModifiable() {
+        if (d_isShared) {
+            throw new UnsupportedOperationException(String.format("%s country is shared by the games of its map and can not be modified!", d_countryName));
+        }
+    }
+
+    /**
+     * Checks that the state of this country is stored in this instance, so it can be used without the game.
+     *
+     * @throws IllegalStateException If the state is stored in the <code>CountryState</code> of each game.
+     */
+    private void checkOwnState() {
+        if (d_stateIndex >= 0) {
+            throw new IllegalStateException(String.format("%s country is shared by the games of its map; its state can only be used through the game!", d_countryName));
+        }
+    }
+
     /**
      * Returns the X coordinate of the Country.
      *
@@ -201,6 +383,7 @@ public class Country implements JSONable {
      * @param p_xCoordinate X coordinate.
      */
     public void setXCoordinate(String p_xCoordinate) {
+        this.checkModifiable();
         this.d_xCoordinate = p_xCoordinate;
     }
 
@@ -222,6 +405,7 @@ public class Country implements JSONable {
      * @param p_yCoordinate Y coordinate.
      */
     public void setYCoordinate(String p_yCoordinate) {
+        this.checkModifiable();
         this.d_yCoordinate = p_yCoordinate;
     }
 
@@ -259,7 +443,7 @@ public class Country implements JSONable {
     public JSONObject toJSON() {
         JSONObject l_countryJSON = new JSONObject();
         l_countryJSON.put("name", d_countryName);
-        l_countryJSON.put("numberOfArmies", d_numberOfArmies);
+        l_countryJSON.put("numberOfArmies", this.getNumberOfArmies());
         return l_countryJSON;
     }
 
@@ -267,11 +451,12 @@ public class Country implements JSONable {
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
      *
-     * @param p_jsonObject <code>JSONObject</code> holding the runtime information.
+     * @param p_jsonObject      <code>JSONObject</code> holding the runtime information.
+     * @param p_mapEditorEngine <code>MapEditorEngine</code> of the game this country belongs to.
      * @return Created instance of this class using the provided JSON data.
      */
-    public static Country fromJSON(JSONObject p_jsonObject) {
-        Country l_country = new Country();
+    public static Country fromJSON(JSONObject p_jsonObject, MapEditorEngine p_mapEditorEngine) {
+        Country l_country = new Country(p_mapEditorEngine.nextCountryId());
         l_country.setCountryName(p_jsonObject.getString("name"));
         l_country.setNumberOfArmies(p_jsonObject.getInt("numberOfArmies"));
         return l_country;
@@ -1,5 +1,7 @@
 package com.warzone.team08.VM.entities;
 
+import com.warzone.team08.VM.constants.enums.AdjudicationType;
+
 /**
  * This class provides the result of the game.
  *
@@ -19,6 +21,11 @@ public class GameResult {
      */
     private final boolean error;
 
+    /**
+     * Reason for which the game has been decided before a player conquered all the countries.
+     */
+    private final AdjudicationType d_adjudicationType;
+
     /**
      * Parameterised constructor to store the result of the game.
      *
@@ -26,8 +33,20 @@ public class GameResult {
      * @param p_winnerPlayer Value of the winner player.
      */
     public GameResult(boolean p_declaredDraw, Player p_winnerPlayer) {
+        this(p_declaredDraw, p_winnerPlayer, AdjudicationType.NONE);
+    }
+
+    /**
+     * Parameterised constructor to store the result of the game which has been adjudicated.
+     *
+     * @param p_declaredDraw     Value representing if the game has been a draw or not.
+     * @param p_winnerPlayer     Value of the winner player.
+     * @param p_adjudicationType Reason for which the game has been decided.
+     */
+    public GameResult(boolean p_declaredDraw, Player p_winnerPlayer, AdjudicationType p_adjudicationType) {
         d_declaredDraw = p_declaredDraw;
         d_winnerPlayer = p_winnerPlayer;
+        d_adjudicationType = p_adjudicationType;
         error = false;
     }
 
@@ -37,6 +56,7 @@ public class GameResult {
     public GameResult() {
         d_declaredDraw = false;
         d_winnerPlayer = null;
+        d_adjudicationType = AdjudicationType.NONE;
         error = true;
     }
 
@@ -58,6 +78,15 @@ public class GameResult {
         return d_winnerPlayer;
     }
 
+    /**
+     * Gets the reason for which the game has been decided before a player conquered all the countries.
+     *
+     * @return Value of the adjudication type; <code>NONE</code> if the game has not been adjudicated.
+     */
+    public AdjudicationType getAdjudicationType() {
+        return d_adjudicationType;
+    }
+
     /**
      * To check if the game had an interruption.
      *
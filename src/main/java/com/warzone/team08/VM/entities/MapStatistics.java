@@ -0,0 +1,135 @@
+package com.warzone.team08.VM.entities;
+
+import com.warzone.team08.VM.utils.StatisticsUtil;
+
+import java.util.List;
+
+/**
+ * Win rates and draw rate of the players over the games of the tournament played on a map. The players are identified
+ * using their names, so the players having the same name are counted together.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ */
+public class MapStatistics {
+    private final List<String> d_playerNames;
+    private final int[] d_playerWins;
+    private final double d_zScore;
+    private int d_numberOfGames;
+    private int d_numberOfDraws;
+
+    /**
+     * Creates the statistics using the results of the completed games on the map.
+     *
+     * @param p_playerNames  Names of the players of the tournament.
+     * @param p_matchResults Results of the games on the map; null for a game which has not been completed.
+     * @param p_zScore       Critical value of the confidence level of the intervals.
+     */
+    public MapStatistics(List<String> p_playerNames, List<MatchResult> p_matchResults, double p_zScore) {
+        d_playerNames = p_playerNames;
+        d_playerWins = new int[p_playerNames.size()];
+        d_zScore = p_zScore;
+        for (MatchResult l_matchResult : p_matchResults) {
+            if (l_matchResult == null) {
+                continue;
+            }
+            d_numberOfGames++;
+            if (l_matchResult.isDeclaredDraw()) {
+                d_numberOfDraws++;
+            } else if (l_matchResult.getWinnerName() != null) {
+                int l_playerIndex = d_playerNames.indexOf(l_matchResult.getWinnerName());
+                if (l_playerIndex >= 0) {
+                    d_playerWins[l_playerIndex]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of completed games on the map.
+     *
+     * @return Value of the number of games.
+     */
+    public int getNumberOfGames() {
+        return d_numberOfGames;
+    }
+
+    /**
+     * Gets the number of games won by the player.
+     *
+     * @param p_playerIndex Index of the player in the list of names.
+     * @return Value of the number of wins.
+     */
+    public int getWins(int p_playerIndex) {
+        return d_playerWins[p_playerIndex];
+    }
+
+    /**
+     * Gets the number of games declared as draw.
+     *
+     * @return Value of the number of draws.
+     */
+    public int getNumberOfDraws() {
+        return d_numberOfDraws;
+    }
+
+    /**
+     * Gets the confidence interval of the win rate of the player.
+     *
+     * @param p_playerIndex Index of the player in the list of names.
+     * @return Value of the lower and the upper bound of the interval.
+     */
+    public double[] getWinRateInterval(int p_playerIndex) {
+        return StatisticsUtil.wilsonInterval(d_playerWins[p_playerIndex], d_numberOfGames, d_zScore);
+    }
+
+    /**
+     * Gets the confidence interval of the draw rate.
+     *
+     * @return Value of the lower and the upper bound of the interval.
+     */
+    public double[] getDrawRateInterval() {
+        return StatisticsUtil.wilsonInterval(d_numberOfDraws, d_numberOfGames, d_zScore);
+    }
+
+    /**
+     * Checks if the strategies have been separated on the map: the interval of the win rate of the leading player lies
+     * above the intervals of all the other players. The intervals are computed using the given critical value, not the
+     * one of the reported intervals, so the caller can adjust it for the number of times the games are checked.
+     *
+     * @param p_zScore       Critical value of the intervals compared.
+     * @param p_minimumGames Number of completed games needed before the strategies can be separated.
+     * @return True if the leading player is better than the other players at the confidence level; false otherwise.
+     */
+    public boolean isSeparated(double p_zScore, int p_minimumGames) {
+        if (d_playerNames.size() < 2 || d_numberOfGames == 0 || d_numberOfGames < p_minimumGames) {
+            return false;
+        }
+        int l_leaderIndex = 0;
+        for (int l_playerIndex = 1; l_playerIndex < d_playerWins.length; l_playerIndex++) {
+            if (d_playerWins[l_playerIndex] > d_playerWins[l_leaderIndex]) {
+                l_leaderIndex = l_playerIndex;
+            }
+        }
+        double l_leaderLowerBound = StatisticsUtil.wilsonInterval(d_playerWins[l_leaderIndex], d_numberOfGames, p_zScore)[0];
+        for (int l_playerIndex = 0; l_playerIndex < d_playerWins.length; l_playerIndex++) {
+            if (l_playerIndex != l_leaderIndex &&
+                    StatisticsUtil.wilsonInterval(d_playerWins[l_playerIndex], d_numberOfGames, p_zScore)[1] >= l_leaderLowerBound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats the rate and its interval for the table of the tournament.
+     *
+     * @param p_count    Number of games counted for the rate.
+     * @param p_interval Interval of the rate.
+     * @return Value of the formatted rate; for example, <code>60.0% [41.2%, 76.1%]</code>.
+     */
+    public String formatRate(int p_count, double[] p_interval) {
+        double l_rate = d_numberOfGames == 0 ? 0 : 100.0 * p_count / d_numberOfGames;
+        return String.format("%.1f%% [%.1f%%, %.1f%%]", l_rate, 100 * p_interval[0], 100 * p_interval[1]);
+    }
+}
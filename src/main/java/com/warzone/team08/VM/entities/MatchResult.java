@@ -0,0 +1,243 @@
+package com.warzone.team08.VM.entities;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.constants.enums.AdjudicationType;
+import com.warzone.team08.VM.constants.interfaces.JSONable;
+import com.warzone.team08.VM.exceptions.InvalidGameException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.List;
+
+/**
+ * Compact result of a single game of the tournament. Unlike <code>GameResult</code>, it does not keep any reference to
+ * the game, so the <code>GameEngine</code> of a finished game can be garbage collected.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ */
+public class MatchResult implements JSONable {
+    private final int d_gameIndex;
+    private final int d_mapIndex;
+    private final String d_mapFile;
+    private final boolean d_declaredDraw;
+    private final boolean d_interrupted;
+    private final String d_winnerName;
+    private final int d_turnsPlayed;
+
+    /**
+     * Reason for which the game has been decided before a player conquered all the countries.
+     */
+    private final AdjudicationType d_adjudicationType;
+
+    private final String[] d_playerNames;
+    private final String[] d_playerStrategies;
+
+    /**
+     * Number of countries owned by each player at the end of the game.
+     */
+    private final int[] d_playerCountries;
+
+    /**
+     * Number of armies placed on the countries of each player at the end of the game.
+     */
+    private final int[] d_playerArmies;
+
+    /**
+     * Creates the result using the runtime information of the finished game.
+     *
+     * @param p_gameIndex  Index of the game.
+     * @param p_mapIndex   Index of the map file in the list of maps of the tournament.
+     * @param p_mapFile    Map file the game was played on.
+     * @param p_gameEngine <code>GameEngine</code> of the finished game.
+     */
+    public MatchResult(int p_gameIndex, int p_mapIndex, String p_mapFile, GameEngine p_gameEngine) {
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        GameResult l_gameResult = l_gamePlayEngine.getGameResult();
+        d_gameIndex = p_gameIndex;
+        d_mapIndex = p_mapIndex;
+        d_mapFile = p_mapFile;
+        d_declaredDraw = l_gameResult != null && l_gameResult.isDeclaredDraw();
+        d_winnerName = l_gameResult != null && l_gameResult.getWinnerPlayer() != null ?
+                l_gameResult.getWinnerPlayer().getName() : null;
+        d_interrupted = !d_declaredDraw && d_winnerName == null;
+        d_turnsPlayed = l_gamePlayEngine.getExecutionIndex();
+        d_adjudicationType = l_gameResult != null ? l_gameResult.getAdjudicationType() : AdjudicationType.NONE;
+
+        List<Player> l_playerList = l_gamePlayEngine.getPlayerList();
+        d_playerNames = new String[l_playerList.size()];
+        d_playerStrategies = new String[l_playerList.size()];
+        d_playerCountries = new int[l_playerList.size()];
+        d_playerArmies = new int[l_playerList.size()];
+        for (int l_playerIndex = 0; l_playerIndex < l_playerList.size(); l_playerIndex++) {
+            Player l_player = l_playerList.get(l_playerIndex);
+            d_playerNames[l_playerIndex] = l_player.getName();
+            d_playerStrategies[l_playerIndex] = l_player.getPlayerStrategyType().name();
+            List<Country> l_assignedCountries = l_player.getAssignedCountries();
+            d_playerCountries[l_playerIndex] = l_assignedCountries.size();
+            for (Country l_country : l_assignedCountries) {
+                d_playerArmies[l_playerIndex] += l_country.getNumberOfArmies(p_gameEngine);
+            }
+        }
+    }
+
+    /**
+     * Creates the result using the values read from the results file.
+     *
+     * @param p_matchResultJSON <code>JSONObject</code> of the result.
+     * @throws JSONException If any of the values is missing or invalid.
+     */
+    private MatchResult(JSONObject p_matchResultJSON) throws JSONException {
+        d_gameIndex = p_matchResultJSON.getInt("game") - 1;
+        d_mapIndex = p_matchResultJSON.getInt("mapIndex");
+        d_mapFile = p_matchResultJSON.getString("map");
+        d_declaredDraw = p_matchResultJSON.getBoolean("declaredDraw");
+        d_interrupted = p_matchResultJSON.getBoolean("interrupted");
+        d_winnerName = d_declaredDraw || d_interrupted ? null : p_matchResultJSON.getString("result");
+        d_turnsPlayed = p_matchResultJSON.getInt("turnsPlayed");
+        d_adjudicationType = AdjudicationType.fromJsonValue(p_matchResultJSON.getString("adjudication"));
+
+        JSONArray l_playerJSONList = p_matchResultJSON.getJSONArray("players");
+        d_playerNames = new String[l_playerJSONList.length()];
+        d_playerStrategies = new String[l_playerJSONList.length()];
+        d_playerCountries = new int[l_playerJSONList.length()];
+        d_playerArmies = new int[l_playerJSONList.length()];
+        for (int l_playerIndex = 0; l_playerIndex < l_playerJSONList.length(); l_playerIndex++) {
+            JSONObject l_playerJSON = l_playerJSONList.getJSONObject(l_playerIndex);
+            d_playerNames[l_playerIndex] = l_playerJSON.getString("name");
+            d_playerStrategies[l_playerIndex] = l_playerJSON.getString("strategy");
+            d_playerCountries[l_playerIndex] = l_playerJSON.getInt("countries");
+            d_playerArmies[l_playerIndex] = l_playerJSON.getInt("armies");
+        }
+    }
+
+    /**
+     * Gets the index of the game.
+     *
+     * @return Value of the index.
+     */
+    public int getGameIndex() {
+        return d_gameIndex;
+    }
+
+    /**
+     * Gets the index of the map file in the list of maps of the tournament.
+     *
+     * @return Value of the index.
+     */
+    public int getMapIndex() {
+        return d_mapIndex;
+    }
+
+    /**
+     * Gets the map file the game was played on.
+     *
+     * @return Value of the map file.
+     */
+    public String getMapFile() {
+        return d_mapFile;
+    }
+
+    /**
+     * Checks if the game is a draw or not.
+     *
+     * @return True if the game was a draw; false otherwise.
+     */
+    public boolean isDeclaredDraw() {
+        return d_declaredDraw;
+    }
+
+    /**
+     * Checks if the game was interrupted before it could be decided.
+     *
+     * @return True if the game was interrupted; false otherwise.
+     */
+    public boolean isInterrupted() {
+        return d_interrupted;
+    }
+
+    /**
+     * Gets the name of the player who won the game.
+     *
+     * @return Name of the winner; null if there is no winner.
+     */
+    public String getWinnerName() {
+        return d_winnerName;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return Value of the number of turns.
+     */
+    public int getTurnsPlayed() {
+        return d_turnsPlayed;
+    }
+
+    /**
+     * Gets the reason for which the game has been decided before a player conquered all the countries.
+     *
+     * @return Value of the adjudication type; <code>NONE</code> if the game has not been adjudicated.
+     */
+    public AdjudicationType getAdjudicationType() {
+        return d_adjudicationType;
+    }
+
+    /**
+     * Gets the text representing the result in the table of the tournament.
+     *
+     * @return Name of the winner, <code>Draw</code> or <code>Interrupted</code>.
+     */
+    public String getResultText() {
+        if (d_declaredDraw) {
+            return "Draw";
+        } else if (d_winnerName != null) {
+            return d_winnerName;
+        }
+        return "Interrupted";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSONObject toJSON() {
+        JSONObject l_matchResultJSON = new JSONObject();
+        l_matchResultJSON.put("game", d_gameIndex + 1);
+        l_matchResultJSON.put("mapIndex", d_mapIndex);
+        l_matchResultJSON.put("map", d_mapFile);
+        l_matchResultJSON.put("result", this.getResultText());
+        l_matchResultJSON.put("declaredDraw", d_declaredDraw);
+        l_matchResultJSON.put("interrupted", d_interrupted);
+        l_matchResultJSON.put("turnsPlayed", d_turnsPlayed);
+        l_matchResultJSON.put("adjudication", d_adjudicationType.getJsonValue());
+        JSONArray l_playerJSONList = new JSONArray();
+        for (int l_playerIndex = 0; l_playerIndex < d_playerNames.length; l_playerIndex++) {
+            JSONObject l_playerJSON = new JSONObject();
+            l_playerJSON.put("name", d_playerNames[l_playerIndex]);
+            l_playerJSON.put("strategy", d_playerStrategies[l_playerIndex]);
+            l_playerJSON.put("countries", d_playerCountries[l_playerIndex]);
+            l_playerJSON.put("armies", d_playerArmies[l_playerIndex]);
+            l_playerJSONList.put(l_playerJSON);
+        }
+        l_matchResultJSON.put("players", l_playerJSONList);
+        return l_matchResultJSON;
+    }
+
+    /**
+     * Creates an instance of this class using the line of the results file.
+     *
+     * @param p_jsonObject <code>JSONObject</code> of the result.
+     * @return Created instance of this class.
+     * @throws InvalidGameException If the result is corrupted or missing the values.
+     */
+    public static MatchResult fromJSON(JSONObject p_jsonObject) throws InvalidGameException {
+        try {
+            return new MatchResult(p_jsonObject);
+        } catch (JSONException | IllegalArgumentException p_exception) {
+            throw new InvalidGameException("Missing values or the corrupted result of the game!");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.entities;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.common.services.CardService;
 import com.warzone.team08.VM.constants.enums.CardType;
@@ -9,7 +10,10 @@ import com.warzone.team08.VM.constants.interfaces.JSONable;
 import com.warzone.team08.VM.constants.interfaces.Order;
 import com.warzone.team08.VM.entities.strategy.*;
 import com.warzone.team08.VM.exceptions.*;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.journal.GameJournal;
 import com.warzone.team08.VM.mappers.OrderMapper;
+import com.warzone.team08.VM.metrics.GameMetrics;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -19,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -46,7 +51,10 @@ public class Player implements JSONable {
      * List of cards owned by the player.
      */
     private final List<Card> d_cards = new ArrayList<>();
-    private List<Country> d_assignedCountries = new ArrayList<>();
+    /**
+     * Countries assigned to the player, in the order they have been assigned.
+     */
+    private final AssignedCountryList d_assignedCountries = new AssignedCountryList();
     private int d_reinforcementsCount = 0;
     private int d_remainingReinforcementCount = 0;
     private int d_assignedCountryCount = 0;
@@ -54,7 +62,14 @@ public class Player implements JSONable {
     private PlayerStrategy d_playerStrategy;
     private boolean d_isDone = false;
     private final static OrderMapper d_ORDER_MAPPER = new OrderMapper();
-    private final static CountryRepository d_COUNTRY_REPOSITORY = new CountryRepository();
+    /**
+     * <code>GamePlayEngine</code> of the game this player has joined.
+     */
+    private GamePlayEngine d_gamePlayEngine;
+    /**
+     * Random number generator of this player; independent of the generators of the other players.
+     */
+    private SplittableRandom d_random;
 
     /**
      * Creates <code>Player</code> using the decided strategy.
@@ -85,6 +100,10 @@ public class Player implements JSONable {
         d_reinforcementsCount = p_reinforcementsCount;
         // Sets the count for remaining number of reinforcements as well.
         d_remainingReinforcementCount = p_reinforcementsCount;
+        GameJournal l_gameJournal = this.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.reinforcementsAssigned(this, p_reinforcementsCount);
+        }
     }
 
     /**
@@ -97,7 +116,8 @@ public class Player implements JSONable {
     }
 
     /**
-     * Setter method to assign countries.
+     * Gets the countries assigned to the player. The list can be changed; checking, adding and removing a country take
+     * constant time, and a country appears in it at most once.
      *
      * @return list of assigned countries.
      */
@@ -106,12 +126,27 @@ public class Player implements JSONable {
     }
 
     /**
-     * Setter method to assign countries.
+     * Setter method to assign countries. The countries are copied, so the list is not changed with the countries of the
+     * player.
      *
      * @param p_assignedCountries list of assigned countries.
      */
     public void setAssignedCountries(List<Country> p_assignedCountries) {
-        d_assignedCountries = p_assignedCountries;
+        if (p_assignedCountries != d_assignedCountries) {
+            d_assignedCountries.clear();
+            d_assignedCountries.addAll(p_assignedCountries);
+        }
+    }
+
+    /**
+     * Checks if the country is assigned to the player. A country which has been blockaded is still owned by the player,
+     * but is not assigned to the player anymore.
+     *
+     * @param p_country Country object.
+     * @return True if the country is assigned to the player.
+     */
+    public boolean isAssigned(Country p_country) {
+        return d_assignedCountries.contains(p_country);
     }
 
     /**
@@ -220,7 +255,9 @@ public class Player implements JSONable {
             InterruptedException,
             InvalidArgumentException {
         d_isDone = false;
+        long l_startTime = GameMetrics.startTimer();
         d_playerStrategy.execute();
+        GameMetrics.getInstance().recordStrategy(d_playerStrategy.getType(), l_startTime);
         if (this.d_playerStrategy.getType() != StrategyType.HUMAN) {
             this.doneWithOrder();
         }
@@ -283,6 +320,10 @@ public class Player implements JSONable {
      */
     public void addNegotiatePlayer(Player p_player) {
         d_negotiatePlayer.add(p_player);
+        GameJournal l_gameJournal = this.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.negotiationStarted(this, p_player);
+        }
     }
 
     /**
@@ -292,6 +333,10 @@ public class Player implements JSONable {
      */
     public void removeNegotiatePlayer(Player p_player) {
         d_negotiatePlayer.remove(p_player);
+        GameJournal l_gameJournal = this.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.negotiationExpired(this, p_player);
+        }
     }
 
     /**
@@ -333,6 +378,10 @@ public class Player implements JSONable {
      */
     public void addCard(Card p_card) {
         d_cards.add(p_card);
+        GameJournal l_gameJournal = this.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.cardGranted(this, p_card.getType());
+        }
     }
 
     /**
@@ -358,7 +407,12 @@ public class Player implements JSONable {
      * @param p_card Card to be removed.
      */
     public void removeCard(Card p_card) {
-        this.d_cards.remove(p_card);
+        if (this.d_cards.remove(p_card)) {
+            GameJournal l_gameJournal = this.getGameJournal();
+            if (l_gameJournal != null) {
+                l_gameJournal.cardUsed(this, p_card.getType());
+            }
+        }
     }
 
     /**
@@ -400,12 +454,13 @@ public class Player implements JSONable {
      * Creates an instance of this class and assigns the data members of the concrete class using the values inside
      * <code>JSONObject</code>.
      *
-     * @param p_jsonObject <code>JSONObject</code> holding the runtime information.
+     * @param p_jsonObject     <code>JSONObject</code> holding the runtime information.
+     * @param p_gamePlayEngine <code>GamePlayEngine</code> of the game this player is joining.
      * @return Created instance of this class using the provided JSON data.
      * @throws InvalidGameException If the information from JSONObject cannot be used because it is corrupted or missing
      *                              the values.
      */
-    public static Player fromJSON(JSONObject p_jsonObject) throws InvalidGameException {
+    public static Player fromJSON(JSONObject p_jsonObject, GamePlayEngine p_gamePlayEngine) throws InvalidGameException {
         StrategyType l_strategy;
         try {
             l_strategy = p_jsonObject.getEnum(StrategyType.class, "strategy");
@@ -414,13 +469,15 @@ public class Player implements JSONable {
         }
         // Create a player using name and its strategy.
         Player l_player = new Player(p_jsonObject.getString("name"), l_strategy);
+        l_player.setGamePlayEngine(p_gamePlayEngine);
+        CountryRepository l_countryRepository = new CountryRepository(p_gamePlayEngine.getGameEngine().getMapEditorEngine());
 
         // Assign countries to the player.
         JSONArray l_assignedCountriesList = p_jsonObject.getJSONArray("assignCountries");
         try {
             for (int l_assignedCountryIndex = 0; l_assignedCountryIndex < l_assignedCountriesList.length(); l_assignedCountryIndex++) {
-                Country l_country = d_COUNTRY_REPOSITORY.findFirstByCountryName(l_assignedCountriesList.getString(l_assignedCountryIndex));
-                l_country.setOwnedBy(l_player);
+                Country l_country = l_countryRepository.findFirstByCountryName(l_assignedCountriesList.getString(l_assignedCountryIndex));
+                l_country.setOwnedBy(l_player, p_gamePlayEngine.getGameEngine());
                 l_player.addAssignedCountries(l_country);
             }
         } catch (EntityNotFoundException p_entityNotFoundException) {
@@ -453,6 +510,15 @@ public class Player implements JSONable {
         return d_playerStrategy.getType();
     }
 
+    /**
+     * Gets the strategy being used by this player.
+     *
+     * @return Value of the strategy of the player.
+     */
+    public PlayerStrategy getPlayerStrategy() {
+        return d_playerStrategy;
+    }
+
     public void setPlayerStrategyUsingType(StrategyType p_strategyUsingType) {
         if (p_strategyUsingType == StrategyType.HUMAN) {
             d_playerStrategy = new HumanStrategy(this);
@@ -483,6 +549,71 @@ public class Player implements JSONable {
         return d_isDone;
     }
 
+    /**
+     * Gets the <code>GamePlayEngine</code> of the game this player has joined. If the player has not joined any game
+     * yet, the engine of the game which is currently running is returned.
+     *
+     * @return Value of the game-play engine.
+     */
+    public GamePlayEngine getGamePlayEngine() {
+        if (d_gamePlayEngine != null) {
+            return d_gamePlayEngine;
+        }
+        return VirtualMachine.getGameEngine().getGamePlayEngine();
+    }
+
+    /**
+     * Sets the <code>GamePlayEngine</code> of the game this player has joined.
+     *
+     * @param p_gamePlayEngine Value of the game-play engine.
+     */
+    public void setGamePlayEngine(GamePlayEngine p_gamePlayEngine) {
+        d_gamePlayEngine = p_gamePlayEngine;
+    }
+
+    /**
+     * Gets the <code>GameEngine</code> of the game this player has joined.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return this.getGamePlayEngine().getGameEngine();
+    }
+
+    /**
+     * Gets the journal of the game this player has joined.
+     *
+     * @return Value of the journal; null if the player has not joined a game or the game does not record its journal.
+     */
+    private GameJournal getGameJournal() {
+        if (d_gamePlayEngine == null || d_gamePlayEngine.getGameEngine() == null) {
+            return null;
+        }
+        return d_gamePlayEngine.getGameEngine().getGameJournal();
+    }
+
+    /**
+     * Gets the random number generator of this player. If it has not been set, a generator is split from the generator
+     * of the game when it is used first time.
+     *
+     * @return Value of the random number generator.
+     */
+    public SplittableRandom getRandom() {
+        if (d_random == null) {
+            d_random = this.getGameEngine().getRandom().split();
+        }
+        return d_random;
+    }
+
+    /**
+     * Sets the random number generator of this player.
+     *
+     * @param p_random Value of the random number generator.
+     */
+    public void setRandom(SplittableRandom p_random) {
+        d_random = p_random;
+    }
+
     /**
      * Checks if this player has won. To decide, each country will be iterated to know if it is owned by this player or
      * not. If all the countries is being owned by this player, then the player has won the game.
@@ -493,7 +624,7 @@ public class Player implements JSONable {
         if (this.getAssignedCountries().size() == 0) {
             return false;
         }
-        for (Player l_player : VirtualMachine.getGameEngine().getGamePlayEngine().getPlayerList()) {
+        for (Player l_player : this.getGamePlayEngine().getPlayerList()) {
             if (!l_player.equals(this) && l_player.d_assignedCountries.size() > 0) {
                 return false;
             }
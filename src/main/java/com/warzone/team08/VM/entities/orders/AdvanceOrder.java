@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.orders;
 
-import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.common.services.CardService;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.constants.interfaces.Order;
@@ -10,12 +10,10 @@ import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.map_editor.MapGraph;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONObject;
 
-import java.util.List;
-
 import static java.lang.Math.round;
 
 /**
@@ -34,6 +32,9 @@ import static java.lang.Math.round;
  * @author CHARIT
  */
 public class AdvanceOrder extends Order {
+    private static final String[] ARMY_COUNT_HEADER = {"COUNTRY", "ARMY COUNT"};
+    private static final String[] OWNER_CHANGE_HEADER = {"COUNTRY", "ARMY COUNT", "PREVIOUS OWNER", "NEW OWNER"};
+
     private final Country d_countryFrom;
     private final Country d_countryTo;
     private int d_numOfArmies;
@@ -41,9 +42,7 @@ public class AdvanceOrder extends Order {
     /**
      * To find the country using its data members.
      */
-    private final CountryRepository d_countryRepository = new CountryRepository();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final CountryRepository d_countryRepository = new CountryRepository(this.getGameEngine().getMapEditorEngine());
 
     /**
      * Sets the values of data members.
@@ -79,98 +78,99 @@ public class AdvanceOrder extends Order {
      */
     @Override
     public void execute() throws InvalidOrderException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
-        // Handles invalid country name (Country doesn't exists)
-        List<Country> l_assignCountryList = this.getOwner().getAssignedCountries();
-        List<Country> l_neighborCountryList = d_countryFrom.getNeighbourCountries();
+        GameEngine l_gameEngine = this.getGameEngine();
+        MapGraph l_mapGraph = l_gameEngine.getMapEditorEngine().getMapGraph();
 
         // Checks the source country is owned by a current player or not. If not then throws an exception.
-        if (!l_assignCountryList.contains(d_countryFrom)) {
+        if (!this.getOwner().isAssigned(d_countryFrom)) {
             throw new InvalidOrderException("Please select your own country as a source country.");
         }
 
         // Checks whether the destination country is the neighbor country of the source country or not. If not then throws an exception.
-        if (!l_neighborCountryList.contains(d_countryTo)) {
+        if (!l_mapGraph.isNeighbour(d_countryFrom, d_countryTo)) {
             throw new InvalidOrderException("Please select any of the neighbor country of the source country as a destination country as we can perform Advance order on neighbor countries only.");
         }
-        if (this.getOwner().isNotNegotiation(d_countryTo.getOwnedBy())) {
+        if (this.getOwner().isNotNegotiation(d_countryTo.getOwnedBy(l_gameEngine))) {
             // If destination country is owned by the current player then it simply moves armies to the destination country.
-            if (l_assignCountryList.contains(d_countryTo)) {
+            if (this.getOwner().isAssigned(d_countryTo)) {
                 //move armies and add
-                int l_remainingArmies = d_countryFrom.getNumberOfArmies() - d_numOfArmies;
+                int l_remainingArmies = d_countryFrom.getNumberOfArmies(l_gameEngine) - d_numOfArmies;
                 if (l_remainingArmies < 0) {
                     //throw new InvalidInputException("Insufficient armies");
-                    d_numOfArmies = d_countryFrom.getNumberOfArmies();
+                    d_numOfArmies = d_countryFrom.getNumberOfArmies(l_gameEngine);
                     l_remainingArmies = 0;
                 }
-                l_logResponse.append(this.getOwner().getName() + " moved " + d_numOfArmies + " armies from " + d_countryFrom.getCountryName() + " to " + d_countryTo.getCountryName());
-                d_countryFrom.setNumberOfArmies(l_remainingArmies);
-                d_countryTo.setNumberOfArmies(d_countryTo.getNumberOfArmies() + d_numOfArmies);
+                d_countryFrom.setNumberOfArmies(l_remainingArmies, l_gameEngine);
+                d_countryTo.setNumberOfArmies(d_countryTo.getNumberOfArmies(l_gameEngine) + d_numOfArmies, l_gameEngine);
 
                 // Logging
-                String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                String[][] l_changeContent = {
-                        {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
-                        {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
-                };
-                l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-                d_logEntryBuffer.dataChanged("advance", l_logResponse.toString());
+                this.logExecution(
+                        () -> this.getOwner().getName() + " moved " + d_numOfArmies + " armies from " + d_countryFrom.getCountryName() + " to " + d_countryTo.getCountryName(),
+                        ARMY_COUNT_HEADER,
+                        this::getArmyCountChange);
             }
             // If destination country is not owned by the current player than it performs battle.
             else {
-                if (d_countryFrom.getNumberOfArmies() <= 0) {
+                if (d_countryFrom.getNumberOfArmies(l_gameEngine) <= 0) {
                     throw new InvalidOrderException("Country doesn't have armies to advance!");
                 }
                 // Move armies and battle
-                int l_defendingArmies = d_countryTo.getNumberOfArmies();
+                int l_defendingArmies = d_countryTo.getNumberOfArmies(l_gameEngine);
                 int l_attackingArmies = d_numOfArmies;
-                int l_remainingArmies = d_countryFrom.getNumberOfArmies() - d_numOfArmies;
+                int l_remainingArmies = d_countryFrom.getNumberOfArmies(l_gameEngine) - d_numOfArmies;
                 if (l_remainingArmies < 0) {
-                    l_attackingArmies = d_countryFrom.getNumberOfArmies();
+                    l_attackingArmies = d_countryFrom.getNumberOfArmies(l_gameEngine);
                     l_remainingArmies = 0;
                 }
-                d_countryFrom.setNumberOfArmies(l_remainingArmies);
+                d_countryFrom.setNumberOfArmies(l_remainingArmies, l_gameEngine);
+                int l_movedArmies = l_attackingArmies;
 
                 int l_attackersKilled = (int) round(l_defendingArmies * 0.7);
                 int l_defendersKilled = (int) round(l_attackingArmies * 0.6);
 
                 if (l_defendersKilled >= l_defendingArmies) {
-                    Player l_countryToOwner = d_countryTo.getOwnedBy();
+                    Player l_countryToOwner = d_countryTo.getOwnedBy(l_gameEngine);
                     l_countryToOwner.removeCountry(d_countryTo);
 
                     // Owner changed.
-                    d_countryTo.setOwnedBy(this.getOwner());
-                    List<Country> l_assign = this.getOwner().getAssignedCountries();
-                    l_assign.add(d_countryTo);
-                    this.getOwner().setAssignedCountries(l_assign);
-                    d_countryTo.setNumberOfArmies(l_attackingArmies - l_attackersKilled);
-
-                    this.getOwner().addCard(CardService.randomCard());
-                    l_logResponse.append(l_countryToOwner.getName() + " won the attack!!!!\n" + l_countryToOwner.getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
-                    String[] l_header = {"COUNTRY", "ARMY COUNT", "PREVIOUS OWNER", "NEW OWNER"};
-                    String[][] l_changeContent = {
-                            {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies()), l_countryToOwner.getName(), this.getOwner().getName()}
-                    };
-                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    d_countryTo.setOwnedBy(this.getOwner(), l_gameEngine);
+                    this.getOwner().addAssignedCountries(d_countryTo);
+                    d_countryTo.setNumberOfArmies(l_attackingArmies - l_attackersKilled, l_gameEngine);
+
+                    this.getOwner().addCard(CardService.randomCard(this.getOwner().getRandom()));
+                    this.logExecution(
+                            () -> l_countryToOwner.getName() + " won the attack!!!!\n" + l_countryToOwner.getName() + " moved " + l_movedArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName(),
+                            OWNER_CHANGE_HEADER,
+                            () -> new String[][]{
+                                    {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies(l_gameEngine)), l_countryToOwner.getName(), this.getOwner().getName()}
+                            });
                 } else {
-                    d_countryFrom.setNumberOfArmies(d_countryFrom.getNumberOfArmies() + l_attackingArmies - l_attackersKilled);
-                    d_countryTo.setNumberOfArmies(l_defendingArmies - l_defendersKilled);
+                    d_countryFrom.setNumberOfArmies(d_countryFrom.getNumberOfArmies(l_gameEngine) + l_attackingArmies - l_attackersKilled, l_gameEngine);
+                    d_countryTo.setNumberOfArmies(l_defendingArmies - l_defendersKilled, l_gameEngine);
 
                     // Logging
-                    l_logResponse.append(this.getOwner().getName() + " did not won the attack!!!!\n" + this.getOwner().getName() + " moved " + l_attackingArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName());
-                    String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                    String[][] l_changeContent = {
-                            {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies())},
-                            {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies())}
-                    };
-                    l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
+                    this.logExecution(
+                            () -> this.getOwner().getName() + " did not won the attack!!!!\n" + this.getOwner().getName() + " moved " + l_movedArmies + " armies from " + d_countryFrom.getCountryName() + " to attack on " + d_countryTo.getCountryName(),
+                            ARMY_COUNT_HEADER,
+                            this::getArmyCountChange);
                 }
-                d_logEntryBuffer.dataChanged("advance", l_logResponse.toString());
             }
         }
     }
 
+    /**
+     * Gets the rows of the table of the armies in the destination and the source countries.
+     *
+     * @return Value of the rows.
+     */
+    private String[][] getArmyCountChange() {
+        GameEngine l_gameEngine = this.getGameEngine();
+        return new String[][]{
+                {d_countryTo.getCountryName(), String.valueOf(d_countryTo.getNumberOfArmies(l_gameEngine))},
+                {d_countryFrom.getCountryName(), String.valueOf(d_countryFrom.getNumberOfArmies(l_gameEngine))}
+        };
+    }
+
     /**
      * Returns the order type.
      *
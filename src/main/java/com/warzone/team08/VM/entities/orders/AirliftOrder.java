@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.orders;
 
-import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.constants.interfaces.Card;
@@ -8,7 +8,6 @@ import com.warzone.team08.VM.constants.interfaces.Order;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.*;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONObject;
 
@@ -19,6 +18,8 @@ import org.json.JSONObject;
  * @version 2.0
  */
 public class AirliftOrder extends Order {
+    private static final String[] ARMY_COUNT_HEADER = {"COUNTRY", "ARMY COUNT"};
+
     private final Country d_sourceCountry;
     private final Country d_targetCountry;
     private final int d_numOfArmies;
@@ -26,9 +27,7 @@ public class AirliftOrder extends Order {
     /**
      * To find the country using its data members.
      */
-    private final static CountryRepository d_countryRepository = new CountryRepository();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final CountryRepository d_countryRepository = new CountryRepository(this.getGameEngine().getMapEditorEngine());
 
     /**
      * sets the source and target country id along with number of armies to be airlifted and player object.
@@ -65,36 +64,34 @@ public class AirliftOrder extends Order {
      */
     @Override
     public void execute() throws InvalidOrderException, CardNotFoundException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+        GameEngine l_gameEngine = this.getGameEngine();
         // Verify that all the conditions has been fulfilled for the airlift command.
         Card l_requiredCard;
-        if (d_sourceCountry.getOwnedBy().equals(this.getOwner()) && d_targetCountry.getOwnedBy().equals(this.getOwner())) {
+        if (d_sourceCountry.getOwnedBy(l_gameEngine).equals(this.getOwner()) && d_targetCountry.getOwnedBy(l_gameEngine).equals(this.getOwner())) {
             l_requiredCard = this.getOwner().getCard(CardType.AIRLIFT);
-            if (d_sourceCountry.getNumberOfArmies() < d_numOfArmies) {
+            if (d_sourceCountry.getNumberOfArmies(l_gameEngine) < d_numOfArmies) {
                 throw new InvalidOrderException("Source country not have entered amount of armies for airlift!");
             }
         } else {
             throw new InvalidOrderException("You have to select source and target country both from your owned countries!");
         }
 
-        int l_sourceCountryArmies = d_sourceCountry.getNumberOfArmies();
-        int l_targetCountryArmies = d_targetCountry.getNumberOfArmies();
+        int l_sourceCountryArmies = d_sourceCountry.getNumberOfArmies(l_gameEngine);
+        int l_targetCountryArmies = d_targetCountry.getNumberOfArmies(l_gameEngine);
         l_sourceCountryArmies -= d_numOfArmies;
         l_targetCountryArmies += d_numOfArmies;
-        d_sourceCountry.setNumberOfArmies(l_sourceCountryArmies);
-        d_targetCountry.setNumberOfArmies(l_targetCountryArmies);
+        d_sourceCountry.setNumberOfArmies(l_sourceCountryArmies, l_gameEngine);
+        d_targetCountry.setNumberOfArmies(l_targetCountryArmies, l_gameEngine);
         this.getOwner().removeCard(l_requiredCard);
 
         // Logging
-        l_logResponse.append(this.getOwner().getName() + " used the Airlift card to move " + d_numOfArmies + " armies from " + d_sourceCountry.getCountryName() + " to " + d_targetCountry.getCountryName() + "\n");
-        String[] l_header = {"COUNTRY", "ARMY COUNT"};
-        String[][] l_changeContent = {
-                {d_sourceCountry.getCountryName(), String.valueOf(l_sourceCountryArmies)},
-                {d_targetCountry.getCountryName(), String.valueOf(l_targetCountryArmies)}
-        };
-        l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-        d_logEntryBuffer.dataChanged("airlift", l_logResponse.toString());
+        this.logExecution(
+                () -> this.getOwner().getName() + " used the Airlift card to move " + d_numOfArmies + " armies from " + d_sourceCountry.getCountryName() + " to " + d_targetCountry.getCountryName() + "\n",
+                ARMY_COUNT_HEADER,
+                () -> new String[][]{
+                        {d_sourceCountry.getCountryName(), String.valueOf(d_sourceCountry.getNumberOfArmies(l_gameEngine))},
+                        {d_targetCountry.getCountryName(), String.valueOf(d_targetCountry.getNumberOfArmies(l_gameEngine))}
+                });
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.entities.orders;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.constants.interfaces.Card;
@@ -10,12 +11,9 @@ import com.warzone.team08.VM.exceptions.CardNotFoundException;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONObject;
 
-import java.util.List;
-
 /**
  * This class implements the operations required to be perform when the Blockade card is used. When blockade card is
  * used then it simply multiplies the number of armies by certain constant value and make that country a neutral
@@ -34,9 +32,7 @@ public class BlockadeOrder extends Order {
     /**
      * To find the country using its data members.
      */
-    private final CountryRepository d_countryRepository = new CountryRepository();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final CountryRepository d_countryRepository = new CountryRepository(this.getGameEngine().getMapEditorEngine());
 
     /**
      * Sets the country name and current player object.
@@ -59,30 +55,26 @@ public class BlockadeOrder extends Order {
      * @throws CardNotFoundException Card doesn't found in the player's card list.
      */
     public void execute() throws InvalidOrderException, CardNotFoundException {
+        GameEngine l_gameEngine = this.getGameEngine();
         Country l_country;
-        List<Country> l_countryList;
         Card l_requiredCard;
-        if (d_targetCountry.getOwnedBy().equals(this.getOwner())) {
+        if (d_targetCountry.getOwnedBy(l_gameEngine).equals(this.getOwner())) {
             l_requiredCard = this.getOwner().getCard(CardType.BLOCKADE);
         } else {
             throw new InvalidOrderException("You have selected opponent player's country to perform blockade operation.");
         }
 
         l_country = d_targetCountry;
-        l_countryList = this.getOwner().getAssignedCountries();
         try {
-            l_country.setNumberOfArmies(l_country.getNumberOfArmies() * CONSTANT);
-            l_countryList.remove(l_country);
+            l_country.setNumberOfArmies(l_country.getNumberOfArmies(l_gameEngine) * CONSTANT, l_gameEngine);
+            this.getOwner().removeCountry(l_country);
         } catch (Exception e) {
             throw new InvalidOrderException("You can not perform blockade operation as you don't own this country");
         }
-        this.getOwner().setAssignedCountries(l_countryList);
         this.getOwner().removeCard(l_requiredCard);
 
         // Logging
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("Blockade card to triple the armies in " + d_targetCountry.getCountryName() + "\n");
-        d_logEntryBuffer.dataChanged("blockade", l_logResponse.toString());
+        this.logExecution(() -> "Blockade card to triple the armies in " + d_targetCountry.getCountryName() + "\n");
     }
 
     /**
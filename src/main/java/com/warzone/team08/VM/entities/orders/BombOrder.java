@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.orders;
 
-import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.constants.interfaces.Card;
@@ -11,11 +11,10 @@ import com.warzone.team08.VM.exceptions.CardNotFoundException;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.map_editor.MapGraph;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONObject;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,14 +26,14 @@ import java.util.List;
  * @version 2.0
  */
 public class BombOrder extends Order {
+    private static final String[] ARMY_COUNT_HEADER = {"COUNTRY", "ARMY COUNT"};
+
     private final Country d_targetCountry;
 
     /**
      * To find the country using its data members.
      */
-    private final CountryRepository d_countryRepository = new CountryRepository();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final CountryRepository d_countryRepository = new CountryRepository(this.getGameEngine().getMapEditorEngine());
 
     /**
      * Sets the country name and current player object.
@@ -57,38 +56,40 @@ public class BombOrder extends Order {
      * @throws CardNotFoundException Card doesn't found in the player's card list.
      */
     public void execute() throws InvalidOrderException, CardNotFoundException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
+        GameEngine l_gameEngine = this.getGameEngine();
         Country l_country;
         List<Country> l_countryList;
         Card l_requiredCard;
-        if (d_targetCountry.getOwnedBy() != this.getOwner()) {
+        if (d_targetCountry.getOwnedBy(l_gameEngine) != this.getOwner()) {
             l_requiredCard = this.getOwner().getCard(CardType.BOMB);
         } else {
             throw new InvalidOrderException("You have selected your own country to perform bomb operation. Please select opponent player's country");
         }
 
-        if (this.getOwner().isNotNegotiation(d_targetCountry.getOwnedBy())) {
-            List<Country> l_neighbourCountryList = new ArrayList<>();
+        if (this.getOwner().isNotNegotiation(d_targetCountry.getOwnedBy(l_gameEngine))) {
+            MapGraph l_mapGraph = l_gameEngine.getMapEditorEngine().getMapGraph();
+            boolean l_isNeighbourCountry = false;
             l_country = d_targetCountry;
             l_countryList = this.getOwner().getAssignedCountries();
             for (Country l_co : l_countryList) {
-                l_neighbourCountryList.addAll(l_co.getNeighbourCountries());
+                if (l_mapGraph.isNeighbour(l_co, l_country)) {
+                    l_isNeighbourCountry = true;
+                    break;
+                }
             }
-            if (l_neighbourCountryList.contains(l_country)) {
-                int l_finalArmies = l_country.getNumberOfArmies() / 2;
-                l_country.setNumberOfArmies(l_finalArmies);
+            if (l_isNeighbourCountry) {
+                int l_finalArmies = l_country.getNumberOfArmies(l_gameEngine) / 2;
+                l_country.setNumberOfArmies(l_finalArmies, l_gameEngine);
                 //Remove card from list
                 this.getOwner().removeCard(l_requiredCard);
 
                 // Logging
-                l_logResponse.append(this.getOwner().getName() + " used Bomb card to half the army count of " + l_country.getCountryName() + "\n");
-                String[] l_header = {"COUNTRY", "ARMY COUNT"};
-                String[][] l_changeContent = {
-                        {l_country.getCountryName(), String.valueOf(l_country.getNumberOfArmies())}
-                };
-                l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-                d_logEntryBuffer.dataChanged("bomb", l_logResponse.toString());
+                this.logExecution(
+                        () -> this.getOwner().getName() + " used Bomb card to half the army count of " + d_targetCountry.getCountryName() + "\n",
+                        ARMY_COUNT_HEADER,
+                        () -> new String[][]{
+                                {d_targetCountry.getCountryName(), String.valueOf(d_targetCountry.getNumberOfArmies(l_gameEngine))}
+                        });
             } else {
                 throw new InvalidOrderException("Invalid Country Name is provided!! Country must be a neighboring country.");
             }
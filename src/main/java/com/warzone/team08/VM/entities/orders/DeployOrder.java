@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.orders;
 
-import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.OrderType;
 import com.warzone.team08.VM.constants.interfaces.Order;
 import com.warzone.team08.VM.entities.Country;
@@ -9,7 +9,6 @@ import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.repositories.CountryRepository;
 import org.json.JSONObject;
 
@@ -20,14 +19,14 @@ import org.json.JSONObject;
  * @version 1.0
  */
 public class DeployOrder extends Order {
+    private static final String[] ARMY_COUNT_HEADER = {"COUNTRY", "ARMY COUNT"};
+
     private final Country d_targetCountry;
     private final int d_numOfArmies;
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
-
     /**
      * To find the country using its data members.
      */
-    private final CountryRepository d_countryRepository = new CountryRepository();
+    private final CountryRepository d_countryRepository = new CountryRepository(this.getGameEngine().getMapEditorEngine());
 
     /**
      * Default parameterised constructor.
@@ -61,25 +60,23 @@ public class DeployOrder extends Order {
      *                               armies, or other invalid input.
      */
     public void execute() throws InvalidOrderException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
-        if (this.getOwner().getAssignedCountries().contains(d_targetCountry)) {
+        GameEngine l_gameEngine = this.getGameEngine();
+        if (this.getOwner().isAssigned(d_targetCountry)) {
             int l_remainingReinforcementCount = this.getOwner().getRemainingReinforcementCount() - d_numOfArmies;
             if (l_remainingReinforcementCount < 0) {
                 throw new InvalidOrderException("You don't have enough reinforcements.");
             }
             this.getOwner().setRemainingReinforcementCount(l_remainingReinforcementCount);
-            d_targetCountry.setNumberOfArmies(this.d_targetCountry.getNumberOfArmies() + this.d_numOfArmies);
+            d_targetCountry.setNumberOfArmies(this.d_targetCountry.getNumberOfArmies(l_gameEngine) + this.d_numOfArmies, l_gameEngine);
             this.getOwner().addExecutedOrder(this);
 
             // Logging
-            l_logResponse.append("Deploying " + d_numOfArmies + " armies in " + d_targetCountry.getCountryName() + "\n");
-            String[] l_header = {"COUNTRY", "ARMY COUNT"};
-            String[][] l_changeContent = {
-                    {d_targetCountry.getCountryName(), String.valueOf(d_numOfArmies)}
-            };
-            l_logResponse.append("\n Order Effect\n" + FlipTable.of(l_header, l_changeContent));
-            d_logEntryBuffer.dataChanged("deploy", l_logResponse.toString());
+            this.logExecution(
+                    () -> "Deploying " + d_numOfArmies + " armies in " + d_targetCountry.getCountryName() + "\n",
+                    ARMY_COUNT_HEADER,
+                    () -> new String[][]{
+                            {d_targetCountry.getCountryName(), String.valueOf(d_numOfArmies)}
+                    });
         } else {
             throw new InvalidOrderException("You can deploy the reinforcements only in your assigned countries");
         }
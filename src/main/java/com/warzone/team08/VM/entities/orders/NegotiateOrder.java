@@ -8,7 +8,6 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.CardNotFoundException;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidGameException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.repositories.PlayerRepository;
 import org.json.JSONObject;
 
@@ -25,9 +24,7 @@ public class NegotiateOrder extends Order {
     /**
      * To find the player using its data members.
      */
-    private final PlayerRepository d_playerRepository = new PlayerRepository();
-
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final PlayerRepository d_playerRepository = new PlayerRepository(this.getGameEngine().getGamePlayEngine());
 
     /**
      * Parameterised constructor initialize player with whom negotiation is happened.
@@ -65,8 +62,6 @@ public class NegotiateOrder extends Order {
      */
     @Override
     public void execute() throws CardNotFoundException {
-        StringBuilder l_logResponse = new StringBuilder();
-        l_logResponse.append("\n" + "Executing " + this.getOwner().getName() + " Order:" + "\n");
         // Get diplomacy card.
         Card l_requiredCard = this.getOwner().getCard(CardType.DIPLOMACY);
         this.getOwner().addNegotiatePlayer(d_otherPlayer);
@@ -74,8 +69,16 @@ public class NegotiateOrder extends Order {
         this.getOwner().removeCard(l_requiredCard);
 
         // Logging
-        l_logResponse.append("\n Order Effect\n" + "Negotiating between " + this.getOwner().getName() + " and " + d_otherPlayer.getName() + "\n");
-        d_logEntryBuffer.dataChanged("negotiate", l_logResponse.toString());
+        this.logExecution(() -> "\n Order Effect\n" + "Negotiating between " + this.getOwner().getName() + " and " + d_otherPlayer.getName() + "\n");
+    }
+
+    /**
+     * Gets the player with whom the owner of this order negotiates.
+     *
+     * @return Value of the other player.
+     */
+    public Player getOtherPlayer() {
+        return d_otherPlayer;
     }
 
     /**
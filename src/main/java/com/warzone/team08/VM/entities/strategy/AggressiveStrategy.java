@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.strategy;
 
-import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.enums.StrategyType;
 import com.warzone.team08.VM.entities.Country;
@@ -8,7 +8,6 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.entities.orders.*;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 
 /**
  * This class defines the behavior of aggressive player.
@@ -19,7 +18,6 @@ import com.warzone.team08.VM.logger.LogEntryBuffer;
 public class AggressiveStrategy extends PlayerStrategy {
     private Country d_attackingCountry;
     private Country d_oppositionCountry;
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
 
     /**
      * Calling super class constructor to provide the player of this strategy.
@@ -34,14 +32,15 @@ public class AggressiveStrategy extends PlayerStrategy {
      * This method finds the strongest country of the aggressive player.
      */
     public void deployArmies() {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         int l_currentArmies = 0;
 
         // Try to find the strongest country.
         for (Country l_ownedCountry : d_player.getAssignedCountries()) {
             for (Country l_neighborCountry : l_ownedCountry.getNeighbourCountries()) {
-                if (l_ownedCountry.getNumberOfArmies() > l_currentArmies &&
-                        !l_neighborCountry.getOwnedBy().equals(d_player)) {
-                    l_currentArmies = l_ownedCountry.getNumberOfArmies();
+                if (l_ownedCountry.getNumberOfArmies(l_gameEngine) > l_currentArmies &&
+                        !l_neighborCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
+                    l_currentArmies = l_ownedCountry.getNumberOfArmies(l_gameEngine);
                     d_attackingCountry = l_ownedCountry;
                     d_oppositionCountry = l_neighborCountry;
                 }
@@ -51,7 +50,7 @@ public class AggressiveStrategy extends PlayerStrategy {
             // Distribute the armies to a country that has a neighbor country owned by another player.
             for (Country l_country : d_player.getAssignedCountries()) {
                 for (Country l_neighbourCountry : l_country.getNeighbourCountries()) {
-                    if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
+                    if (!l_neighbourCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
                         d_attackingCountry = l_country;
                         d_oppositionCountry = l_neighbourCountry;
                         break;
@@ -68,6 +67,7 @@ public class AggressiveStrategy extends PlayerStrategy {
      * @throws InvalidArgumentException throws If enter invalid input
      */
     public void consumeCard() throws EntityNotFoundException, InvalidArgumentException {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         if (d_player.hasCard(CardType.BOMB)) {
             this.d_player.addOrder(new BombOrder(d_oppositionCountry.getCountryName(), d_player));
             return;
@@ -78,9 +78,9 @@ public class AggressiveStrategy extends PlayerStrategy {
             Country l_targetCountry = null;
             for (Country l_ownedCountry : d_player.getAssignedCountries()) {
                 for (Country l_traverseCountry : l_ownedCountry.getNeighbourCountries()) {
-                    if (!l_traverseCountry.getOwnedBy().equals(d_player)
-                            && l_traverseCountry.getNumberOfArmies() > l_maximumReinforcementCount) {
-                        l_maximumReinforcementCount = l_traverseCountry.getNumberOfArmies();
+                    if (!l_traverseCountry.getOwnedBy(l_gameEngine).equals(d_player)
+                            && l_traverseCountry.getNumberOfArmies(l_gameEngine) > l_maximumReinforcementCount) {
+                        l_maximumReinforcementCount = l_traverseCountry.getNumberOfArmies(l_gameEngine);
                         l_targetCountry = l_ownedCountry;
                     }
                 }
@@ -94,16 +94,16 @@ public class AggressiveStrategy extends PlayerStrategy {
             int l_maximumReinforcementCount = 0;
             Country l_targetCountry = null;
             for (Country l_traverseCountry : d_player.getAssignedCountries()) {
-                if (l_traverseCountry.getNumberOfArmies() > l_maximumReinforcementCount &&
+                if (l_traverseCountry.getNumberOfArmies(l_gameEngine) > l_maximumReinforcementCount &&
                         !l_traverseCountry.equals(d_attackingCountry)) {
-                    l_maximumReinforcementCount = l_traverseCountry.getNumberOfArmies();
+                    l_maximumReinforcementCount = l_traverseCountry.getNumberOfArmies(l_gameEngine);
                     l_targetCountry = l_traverseCountry;
                 }
             }
             if (l_targetCountry != null)
                 this.d_player.addOrder(new AirliftOrder(l_targetCountry.getCountryName(),
                         d_attackingCountry.getCountryName(),
-                        String.valueOf(Math.min(l_targetCountry.getNumberOfArmies() - 1, l_targetCountry.getNumberOfArmies())),
+                        String.valueOf(Math.max(0, l_targetCountry.getNumberOfArmies(l_gameEngine) - 1)),
                         d_player));
             return;
         }
@@ -111,13 +111,13 @@ public class AggressiveStrategy extends PlayerStrategy {
         if (d_player.hasCard(CardType.DIPLOMACY)) {
             Country l_targetCountry = null;
             for (Country l_traverseCountry : d_attackingCountry.getNeighbourCountries()) {
-                if (!l_traverseCountry.getOwnedBy().equals(d_player)) {
+                if (!l_traverseCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
                     l_targetCountry = l_traverseCountry;
                     break;
                 }
             }
             if (l_targetCountry != null)
-                this.d_player.addOrder(new NegotiateOrder(d_player, l_targetCountry.getOwnedBy().getName()));
+                this.d_player.addOrder(new NegotiateOrder(d_player, l_targetCountry.getOwnedBy(l_gameEngine).getName()));
             return;
         }
     }
@@ -145,11 +145,12 @@ public class AggressiveStrategy extends PlayerStrategy {
      */
     @Override
     public void execute() throws InvalidArgumentException, EntityNotFoundException {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         deployArmies();
-        d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
+        this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's turn to Issue Order", this.d_player.getName()));
 
         int l_remainingReinforcementCount = d_player.getRemainingReinforcementCount();
-        if (VirtualMachine.getGameEngine().isTournamentModeOn() && l_remainingReinforcementCount > 0) {
+        if (l_gameEngine.isTournamentModeOn() && l_remainingReinforcementCount > 0) {
             // Distribute the armies to a country that has a neighbor country owned by another player.
             if (d_attackingCountry != null) {
                 // Create a deploy order.
@@ -162,10 +163,11 @@ public class AggressiveStrategy extends PlayerStrategy {
         consumeCard();
 
         // Create an advance order.
+        // A country without armies must not issue a negative order; it would be requested again and again.
         AdvanceOrder l_advanceOrder = new AdvanceOrder(
                 d_attackingCountry.getCountryName(),
                 d_oppositionCountry.getCountryName(),
-                String.valueOf(d_attackingCountry.getNumberOfArmies() + l_remainingReinforcementCount - 1),
+                String.valueOf(Math.max(0, d_attackingCountry.getNumberOfArmies(l_gameEngine) + l_remainingReinforcementCount - 1)),
                 d_player);
         this.d_player.addOrder(l_advanceOrder);
     }
@@ -6,7 +6,6 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.entities.orders.DeployOrder;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 
 import java.util.List;
 
@@ -17,8 +16,6 @@ import java.util.List;
  * @author Brijesh Lakkad
  */
 public class BenevolentStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
-
     /**
      * Parameterised constructor to set the player.
      *
@@ -55,7 +52,7 @@ public class BenevolentStrategy extends PlayerStrategy {
             }
             DeployOrder l_deployOrder = new DeployOrder(l_ownedCountries.get(l_ownedCountries.size() - 1).getCountryName(), String.valueOf(l_remainingReinforcementCount), d_player);
             this.d_player.addOrder(l_deployOrder);
-            d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
+            this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's turn to Issue Order", this.d_player.getName()));
         }
     }
 
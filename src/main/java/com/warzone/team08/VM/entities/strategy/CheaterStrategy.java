@@ -1,16 +1,16 @@
 package com.warzone.team08.VM.entities.strategy;
 
-import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.StrategyType;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.entities.orders.DeployOrder;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class defines the behavior of cheater player.
@@ -19,8 +19,6 @@ import java.util.List;
  * @author Brijesh Lakkad
  */
 public class CheaterStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
-
     /**
      * Parameterised constructor to set the player.
      *
@@ -34,20 +32,22 @@ public class CheaterStrategy extends PlayerStrategy {
      * This method transfer ownership of all the neighbour enemy countries to the cheater player.
      */
     public void doesCheat() {
-        List<Country> l_futureOwningCountryList = new ArrayList<>();
+        GameEngine l_gameEngine = d_player.getGameEngine();
+        // A country bordering several countries of the cheater player is conquered once.
+        Set<Country> l_futureOwningCountryList = new LinkedHashSet<>();
         // Add countries to the cheater player
         for (Country l_traverseCountry : d_player.getAssignedCountries()) {
             for (Country l_neighbourCountry : l_traverseCountry.getNeighbourCountries()) {
-                if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
+                if (!l_neighbourCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
                     l_futureOwningCountryList.add(l_neighbourCountry);
                 }
             }
         }
         for (Country l_futureOwningCountry : l_futureOwningCountryList) {
-            l_futureOwningCountry.getOwnedBy().removeCountry(l_futureOwningCountry);
+            l_futureOwningCountry.getOwnedBy(l_gameEngine).removeCountry(l_futureOwningCountry);
         }
         for (Country l_futureOwningCountry : l_futureOwningCountryList) {
-            l_futureOwningCountry.setOwnedBy(d_player);
+            l_futureOwningCountry.setOwnedBy(d_player, l_gameEngine);
             d_player.addAssignedCountries(l_futureOwningCountry);
         }
     }
@@ -56,10 +56,11 @@ public class CheaterStrategy extends PlayerStrategy {
      * This function doubles the cheater player army which has enemy neighbour
      */
     public void doubleArmies() {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         for (Country l_traverseCountry : d_player.getAssignedCountries()) {
             for (Country l_neighbourCountry : l_traverseCountry.getNeighbourCountries()) {
-                if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
-                    l_traverseCountry.setNumberOfArmies(l_traverseCountry.getNumberOfArmies() * 2);
+                if (!l_neighbourCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
+                    l_traverseCountry.setNumberOfArmies(l_traverseCountry.getNumberOfArmies(l_gameEngine) * 2, l_gameEngine);
                     break;
                 }
             }
@@ -72,7 +73,7 @@ public class CheaterStrategy extends PlayerStrategy {
     @Override
     public void execute() throws EntityNotFoundException, InvalidArgumentException {
         List<Country> l_ownedCountries = d_player.getAssignedCountries();
-        if (VirtualMachine.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
+        if (d_player.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
             // If the player has less armies than the number of assigned countries.
             if (d_player.getAssignedCountries().size() > d_player.getRemainingReinforcementCount()) {
                 for (int i = 0; i < d_player.getRemainingReinforcementCount(); i++) {
@@ -94,7 +95,7 @@ public class CheaterStrategy extends PlayerStrategy {
         }
         doesCheat();
         doubleArmies();
-        d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
+        this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's turn to Issue Order", this.d_player.getName()));
     }
 
     /**
@@ -8,7 +8,6 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
 import com.warzone.team08.VM.exceptions.InvalidCommandException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.mappers.OrderMapper;
 import com.warzone.team08.VM.responses.CommandResponse;
 
@@ -23,7 +22,6 @@ import java.util.concurrent.Future;
  * @version 1.0
  */
 public class HumanStrategy extends PlayerStrategy {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
     /**
      * To map from <code>UserCommand</code> to <code>Order</code>.
      */
@@ -52,22 +50,22 @@ public class HumanStrategy extends PlayerStrategy {
         // Requests user interface for input from user.
         String l_responseVal = "";
         do {
-            VirtualMachine.getInstance().stdout(String.format("\nPlayer: %s--------\nUSAGE: You can check map details\n> showmap <return>", this.d_player.getName(), this.d_player.getRemainingReinforcementCount()));
+            d_player.getGameEngine().stdout(String.format("\nPlayer: %s--------\nUSAGE: You can check map details\n> showmap <return>", this.d_player.getName(), this.d_player.getRemainingReinforcementCount()));
             Future<String> l_responseOfFuture = VirtualMachine.getInstance().askForUserInput(String.format("Issue Order:"));
             l_responseVal = l_responseOfFuture.get();
-            d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
+            this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's turn to Issue Order", this.d_player.getName()));
         } while (l_responseVal.isEmpty());
         try {
             ObjectMapper l_objectMapper = new ObjectMapper();
             // Map user response to Order object.
             CommandResponse l_commandResponse = l_objectMapper.readValue(l_responseVal, CommandResponse.class);
             if (l_commandResponse.isDone()) {
-                d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's finished issuing the orders", this.d_player.getName()));
+                this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's finished issuing the orders", this.d_player.getName()));
                 this.d_player.doneWithOrder();
                 return;
             }
             Order l_newOrder = d_orderMapper.toOrder(l_commandResponse, this.d_player);
-            d_logEntryBuffer.dataChanged("issue_order", l_newOrder.toString());
+            this.getLogEntryBuffer().dataChanged("issue_order", l_newOrder::toString);
             this.d_player.addOrder(l_newOrder);
         } catch (IOException p_ioException) {
             throw new InvalidCommandException("Unrecognised input!");
@@ -5,6 +5,7 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
 import com.warzone.team08.VM.exceptions.InvalidCommandException;
+import com.warzone.team08.VM.logger.LogEntryBuffer;
 
 import java.util.concurrent.ExecutionException;
 
@@ -37,6 +38,15 @@ public abstract class PlayerStrategy {
             InterruptedException,
             InvalidArgumentException;
 
+    /**
+     * Gets the buffer to which the events of the game of this player are logged.
+     *
+     * @return Value of the log entry buffer.
+     */
+    protected LogEntryBuffer getLogEntryBuffer() {
+        return d_player.getGameEngine().getLogEntryBuffer();
+    }
+
     /**
      * Gets the type of strategy.
      *
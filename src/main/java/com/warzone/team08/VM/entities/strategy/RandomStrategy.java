@@ -1,6 +1,6 @@
 package com.warzone.team08.VM.entities.strategy;
 
-import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.enums.StrategyType;
 import com.warzone.team08.VM.constants.interfaces.Card;
@@ -9,10 +9,8 @@ import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.entities.orders.*;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidArgumentException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * This class defines the behavior of random player.
@@ -24,8 +22,6 @@ public class RandomStrategy extends PlayerStrategy {
     private List<Country> d_ownedCountries;
     private Country d_randomCountry;
     private Country d_oppositeCountry;
-    private final Random d_random = new Random();
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
 
     /**
      * Parameterised constructor to set the player.
@@ -42,8 +38,9 @@ public class RandomStrategy extends PlayerStrategy {
      * @param p_randomCountry Random selected country.
      */
     public void findOppositionCountry(Country p_randomCountry) {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         for (Country l_neighbourCountry : p_randomCountry.getNeighbourCountries()) {
-            if (!l_neighbourCountry.getOwnedBy().equals(d_player)) {
+            if (!l_neighbourCountry.getOwnedBy(l_gameEngine).equals(d_player)) {
                 d_oppositeCountry = l_neighbourCountry;
                 break;
             }
@@ -58,13 +55,14 @@ public class RandomStrategy extends PlayerStrategy {
      * @throws InvalidArgumentException throws If enter invalid input.
      */
     public void consumeCard(Card p_card) throws EntityNotFoundException, InvalidArgumentException {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         if (p_card.getType() == CardType.BOMB) {
             this.d_player.addOrder(new BombOrder(d_oppositeCountry.getCountryName(), d_player));
             return;
         }
         if (p_card.getType() == CardType.AIRLIFT) {
-            Country d_targetCountry = d_ownedCountries.get(d_random.nextInt(d_ownedCountries.size()));
-            this.d_player.addOrder(new AirliftOrder(d_randomCountry.getCountryName(), d_targetCountry.getCountryName(), String.valueOf(d_randomCountry.getNumberOfArmies() - 1), d_player));
+            Country d_targetCountry = d_ownedCountries.get(d_player.getRandom().nextInt(d_ownedCountries.size()));
+            this.d_player.addOrder(new AirliftOrder(d_randomCountry.getCountryName(), d_targetCountry.getCountryName(), String.valueOf(Math.max(0, d_randomCountry.getNumberOfArmies(l_gameEngine) - 1)), d_player));
             return;
         }
         if (p_card.getType() == CardType.BLOCKADE) {
@@ -72,7 +70,7 @@ public class RandomStrategy extends PlayerStrategy {
             return;
         }
         if (p_card.getType() == CardType.DIPLOMACY) {
-            this.d_player.addOrder(new NegotiateOrder(d_player, d_oppositeCountry.getOwnedBy().getName()));
+            this.d_player.addOrder(new NegotiateOrder(d_player, d_oppositeCountry.getOwnedBy(l_gameEngine).getName()));
             return;
         }
     }
@@ -82,27 +80,29 @@ public class RandomStrategy extends PlayerStrategy {
      */
     @Override
     public void execute() throws InvalidArgumentException, EntityNotFoundException {
+        GameEngine l_gameEngine = d_player.getGameEngine();
         d_ownedCountries = d_player.getAssignedCountries();
         if (d_ownedCountries.size() <= 0) {
             return;
         }
-        d_randomCountry = d_ownedCountries.get(d_random.nextInt(d_ownedCountries.size()));
+        d_randomCountry = d_ownedCountries.get(d_player.getRandom().nextInt(d_ownedCountries.size()));
         findOppositionCountry(d_randomCountry);
-        if (VirtualMachine.getGameEngine().isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
+        if (l_gameEngine.isTournamentModeOn() && d_player.getRemainingReinforcementCount() > 0) {
             DeployOrder l_deployOrder = new DeployOrder(d_randomCountry.getCountryName(), String.valueOf(d_player.getRemainingReinforcementCount()), d_player);
             this.d_player.addOrder(l_deployOrder);
         }
-        d_logEntryBuffer.dataChanged("issue_order", String.format("%s player's turn to Issue Order", this.d_player.getName()));
+        this.getLogEntryBuffer().dataChanged("issue_order", () -> String.format("%s player's turn to Issue Order", this.d_player.getName()));
 
         if (d_oppositeCountry != null) {
             if (d_player.hasCard(CardType.BOMB) || d_player.hasCard(CardType.AIRLIFT) || d_player.hasCard(CardType.DIPLOMACY) || d_player.hasCard(CardType.BLOCKADE)) {
-                Card l_card = d_player.getCards().get(d_random.nextInt(d_player.getCards().size()));
+                Card l_card = d_player.getCards().get(d_player.getRandom().nextInt(d_player.getCards().size()));
                 consumeCard(l_card);
             }
+            // A country without armies must not issue a negative order; it would be requested again and again.
             AdvanceOrder l_advanceOrder = new AdvanceOrder(
                     d_randomCountry.getCountryName(),
                     d_oppositeCountry.getCountryName(),
-                    String.valueOf(d_randomCountry.getNumberOfArmies() + d_player.getRemainingReinforcementCount() - 1),
+                    String.valueOf(Math.max(0, d_randomCountry.getNumberOfArmies(l_gameEngine) + d_player.getRemainingReinforcementCount() - 1)),
                     d_player);
             this.d_player.addOrder(l_advanceOrder);
         }
@@ -0,0 +1,128 @@
+package com.warzone.team08.VM.game_play;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.constants.enums.AdjudicationType;
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.GameResult;
+import com.warzone.team08.VM.entities.Player;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides a game of the tournament before a player has conquered all the countries, if the game can not change
+ * anymore or has already been decided.
+ * <pre>
+ * 1. The game is declared as draw if the same state of the board (the owner and the number of armies of each country)
+ *    has been seen the given number of times.
+ * 2. A player is declared as winner if the player holds more than the given share of the countries and the armies for
+ *    the given number of turns in a row.
+ * </pre>
+ * The state of the board is checked once per turn.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class GameAdjudicator {
+    /**
+     * Number of times the same state can be seen before the game is declared as draw. Zero disables the check.
+     */
+    private final int d_repetitionLimit;
+
+    /**
+     * Share of the countries and the armies a player should hold to dominate the game. Zero disables the check.
+     */
+    private final double d_dominanceShare;
+
+    /**
+     * Number of turns in a row a player should dominate the game to be declared as winner.
+     */
+    private final int d_dominanceTurns;
+
+    /**
+     * Number of times each state has been seen, mapped to the hash of the state.
+     */
+    private final Map<Long, Integer> d_stateCounts = new HashMap<>();
+    private Player d_dominantPlayer;
+    private int d_dominanceStreak;
+    private int d_lastExecutionIndex = -1;
+
+    /**
+     * Creates the adjudicator.
+     *
+     * @param p_repetitionLimit Number of times the same state can be seen before the game is declared as draw; zero to
+     *                          disable the check.
+     * @param p_dominanceShare  Share of the countries and the armies, between zero and one, a player should hold to
+     *                          dominate the game; zero to disable the check.
+     * @param p_dominanceTurns  Number of turns in a row a player should dominate the game to be declared as winner.
+     */
+    public GameAdjudicator(int p_repetitionLimit, double p_dominanceShare, int p_dominanceTurns) {
+        d_repetitionLimit = p_repetitionLimit;
+        d_dominanceShare = p_dominanceShare;
+        d_dominanceTurns = p_dominanceTurns;
+    }
+
+    /**
+     * Checks the state of the board of the game. The check is done only once per turn; it is skipped if the turn has
+     * already been checked.
+     *
+     * @param p_gamePlayEngine Engine of the game.
+     * @return Value of the result if the game has been decided; null otherwise.
+     */
+    public GameResult adjudicate(GamePlayEngine p_gamePlayEngine) {
+        if (p_gamePlayEngine.getExecutionIndex() == d_lastExecutionIndex) {
+            return null;
+        }
+        d_lastExecutionIndex = p_gamePlayEngine.getExecutionIndex();
+
+        List<Player> l_playerList = p_gamePlayEngine.getPlayerList();
+        int[] l_playerCountries = new int[l_playerList.size()];
+        long[] l_playerArmies = new long[l_playerList.size()];
+        int l_totalCountries = 0;
+        long l_totalArmies = 0;
+        long l_stateHash = 1;
+        GameEngine l_gameEngine = p_gamePlayEngine.getGameEngine();
+        for (Continent l_continent : l_gameEngine.getMapEditorEngine().getContinentList()) {
+            for (Country l_country : l_continent.getCountryList()) {
+                int l_ownerIndex = l_playerList.indexOf(l_country.getOwnedBy(l_gameEngine));
+                int l_numberOfArmies = l_country.getNumberOfArmies(l_gameEngine);
+                l_stateHash = 31 * (31 * l_stateHash + l_ownerIndex) + l_numberOfArmies;
+                l_totalCountries++;
+                l_totalArmies += l_numberOfArmies;
+                if (l_ownerIndex >= 0) {
+                    l_playerCountries[l_ownerIndex]++;
+                    l_playerArmies[l_ownerIndex] += l_numberOfArmies;
+                }
+            }
+        }
+
+        if (d_repetitionLimit > 0 && d_stateCounts.merge(l_stateHash, 1, Integer::sum) >= d_repetitionLimit) {
+            return new GameResult(true, null, AdjudicationType.REPEATED_STATE);
+        }
+
+        if (d_dominanceShare > 0 && l_totalCountries > 0) {
+            Player l_dominantPlayer = null;
+            for (int l_playerIndex = 0; l_playerIndex < l_playerList.size(); l_playerIndex++) {
+                if (l_playerCountries[l_playerIndex] > d_dominanceShare * l_totalCountries &&
+                        l_playerArmies[l_playerIndex] > d_dominanceShare * l_totalArmies) {
+                    l_dominantPlayer = l_playerList.get(l_playerIndex);
+                    break;
+                }
+            }
+            if (l_dominantPlayer == null) {
+                d_dominanceStreak = 0;
+            } else if (l_dominantPlayer == d_dominantPlayer) {
+                d_dominanceStreak++;
+            } else {
+                d_dominanceStreak = 1;
+            }
+            d_dominantPlayer = l_dominantPlayer;
+            if (l_dominantPlayer != null && d_dominanceStreak >= d_dominanceTurns) {
+                return new GameResult(false, l_dominantPlayer, AdjudicationType.DOMINANCE);
+            }
+        }
+        return null;
+    }
+}
@@ -4,8 +4,11 @@ import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.exceptions.GameLoopIllegalStateException;
 import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.metrics.GameMetrics;
 import com.warzone.team08.VM.phases.Execute;
 import com.warzone.team08.VM.phases.IssueOrder;
+import com.warzone.team08.VM.phases.MainPlay;
+import com.warzone.team08.VM.phases.Phase;
 import com.warzone.team08.VM.phases.PlaySetup;
 import com.warzone.team08.VM.phases.Reinforcement;
 
@@ -29,34 +32,46 @@ public class GameLoop {
             return;
         }
         d_isAlive = true;
-        GameEngine l_gameEngine = VirtualMachine.getGameEngine();
+        GameEngine l_gameEngine = d_gamePlayEngine.getGameEngine();
         try {
-            if (l_gameEngine.getGamePhase().getClass().equals(PlaySetup.class)) {
+            if (l_gameEngine.getGamePhase() instanceof PlaySetup) {
                 l_gameEngine.getGamePhase().nextState();
-            } else if (l_gameEngine.getGamePhase().getClass().equals(IssueOrder.class)) {
+            } else if (l_gameEngine.getGamePhase() instanceof IssueOrder) {
                 // When the game is loaded and it was in IssueOrder when saved.
             } else {
                 throw new GameLoopIllegalStateException("Illegal state transition!");
             }
+            GameMetrics l_gameMetrics = GameMetrics.getInstance();
+            boolean l_isGameOver = false;
+            long l_turnStartTime = 0;
             // Responsive to thread interruption.
             while (d_isAlive) {
-                if (l_gameEngine.getGamePhase().getClass().equals(Reinforcement.class)) {
-                    l_gameEngine.getGamePhase().reinforce();
+                // The phases of the turn are created once for the game, so moving between them does not create any
+                // objects. A phase other than those of the turn can not be played; its nextState reports it.
+                Phase l_gamePhase = l_gameEngine.getGamePhase();
+                long l_phaseStartTime = GameMetrics.startTimer();
+                if (l_gamePhase instanceof Reinforcement) {
+                    l_turnStartTime = l_phaseStartTime;
                 }
-                if (l_gameEngine.getGamePhase().getClass().equals(IssueOrder.class)) {
-                    l_gameEngine.getGamePhase().issueOrder();
+                if (l_gamePhase instanceof MainPlay) {
+                    ((MainPlay) l_gamePhase).play();
                 }
-                if (l_gameEngine.getGamePhase().getClass().equals(Execute.class)) {
-                    l_gameEngine.getGamePhase().fortify();
+                l_gamePhase.nextState();
+                l_gameMetrics.recordPhase(l_gamePhase, l_phaseStartTime);
+                if (l_gamePhase instanceof Execute) {
+                    l_gameMetrics.recordTurn(l_turnStartTime);
                 }
-                l_gameEngine.getGamePhase().nextState();
                 if (d_gamePlayEngine.checkIfGameIsOver()) {
                     // If the game is over, break the main-game-loop.
+                    l_isGameOver = true;
                     break;
                 }
             }
+            if (l_isGameOver) {
+                l_gameEngine.closeGameJournal();
+            }
         } catch (VMException p_vmException) {
-            VirtualMachine.getInstance().stderr(p_vmException.getMessage());
+            l_gameEngine.stderr(p_vmException.getMessage());
         } finally {
             // This will set CLI#UserInteractionState to WAIT
             VirtualMachine.getInstance().stdout("GAME_ENGINE_STOPPED");
@@ -1,8 +1,8 @@
 package com.warzone.team08.VM.game_play;
 
 import com.warzone.team08.VM.GameEngine;
-import com.warzone.team08.VM.TournamentEngine;
 import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.AdjudicationType;
 import com.warzone.team08.VM.constants.interfaces.Engine;
 import com.warzone.team08.VM.constants.interfaces.JSONable;
 import com.warzone.team08.VM.constants.interfaces.Order;
@@ -16,7 +16,10 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,6 +36,11 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     private List<Player> d_playerList;
 
+    /**
+     * Index of the players by their names, kept up to date when the players are added or removed.
+     */
+    private Map<String, Player> d_playersByName;
+
     /**
      * Current turn of the player for issuing the order.
      */
@@ -63,7 +71,7 @@ public class GamePlayEngine implements Engine, JSONable {
     /**
      * Keeps track of the execution-index; it helps to decide order execution and expiration phase.
      */
-    private static int d_currentExecutionIndex = 0;
+    private int d_currentExecutionIndex = 0;
 
     /**
      * List of the future orders which are supposed to be executed later in the future iterations.
@@ -75,7 +83,15 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     private GameResult d_gameResult;
 
-    private final static PlayerRepository d_PLAYER_REPOSITORY = new PlayerRepository();
+    /**
+     * <code>GameEngine</code> of the game this engine belongs to.
+     */
+    private GameEngine d_gameEngine;
+
+    /**
+     * Decides the game before a player has conquered all the countries. If it is null, the game is not adjudicated.
+     */
+    private GameAdjudicator d_gameAdjudicator;
 
     /**
      * Instance can not be created outside the class.
@@ -100,6 +116,7 @@ public class GamePlayEngine implements Engine, JSONable {
     @Override
     public void initialise() {
         d_playerList = new ArrayList<>();
+        d_playersByName = new HashMap<>();
     }
 
     /**
@@ -108,7 +125,9 @@ public class GamePlayEngine implements Engine, JSONable {
      * @param p_player Player to be added.
      */
     public void addPlayer(Player p_player) {
+        p_player.setGamePlayEngine(this);
         d_playerList.add(p_player);
+        d_playersByName.putIfAbsent(p_player.getName(), p_player);
     }
 
     /**
@@ -118,6 +137,27 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public void removePlayer(Player p_player) {
         d_playerList.remove(p_player);
+        this.rebuildPlayerIndex();
+    }
+
+    /**
+     * Finds the player using its name.
+     *
+     * @param p_playerName Value of the name of player.
+     * @return Value of the first player with the name; null if not found.
+     */
+    public Player findPlayerByName(String p_playerName) {
+        return d_playersByName.get(p_playerName);
+    }
+
+    /**
+     * Creates the index of the players by their names again from the list of players.
+     */
+    private void rebuildPlayerIndex() {
+        d_playersByName = new HashMap<>();
+        for (Player l_player : d_playerList) {
+            d_playersByName.putIfAbsent(l_player.getName(), l_player);
+        }
     }
 
     /**
@@ -136,6 +176,28 @@ public class GamePlayEngine implements Engine, JSONable {
      */
     public void setPlayerList(List<Player> p_playerList) {
         d_playerList = p_playerList;
+        for (Player l_player : d_playerList) {
+            l_player.setGamePlayEngine(this);
+        }
+        this.rebuildPlayerIndex();
+    }
+
+    /**
+     * Gets the <code>GameEngine</code> of the game this engine belongs to.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return d_gameEngine;
+    }
+
+    /**
+     * Sets the <code>GameEngine</code> of the game this engine belongs to.
+     *
+     * @param p_gameEngine Value of the game engine.
+     */
+    public void setGameEngine(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
     }
 
     /**
@@ -208,21 +270,51 @@ public class GamePlayEngine implements Engine, JSONable {
     }
 
     /**
-     * Gets the current execution index. This index helps to keep track of orders; some of those should be executed and
-     * others of those should be expired during this loop iteration.
+     * Gets the current execution index of the engine which is running the game. This index helps to keep track of
+     * orders; some of those should be executed and others of those should be expired during this loop iteration.
      *
      * @return Value of the index.
      */
     public static int getCurrentExecutionIndex() {
+        return VirtualMachine.getGameEngine().getGamePlayEngine().getExecutionIndex();
+    }
+
+    /**
+     * Gets the execution index of this engine.
+     *
+     * @return Value of the index.
+     */
+    public int getExecutionIndex() {
         return d_currentExecutionIndex;
     }
 
+    /**
+     * Sets the execution index of this engine.
+     *
+     * @param p_executionIndex Value of the index.
+     */
+    public void setExecutionIndex(int p_executionIndex) {
+        d_currentExecutionIndex = p_executionIndex;
+    }
+
+    /**
+     * Gets the list of all the future orders, in the order they have been added.
+     *
+     * @return Value of the list of orders; it can not be changed.
+     */
+    public List<Order> getFutureOrders() {
+        return Collections.unmodifiableList(d_futurePhaseOrders);
+    }
+
     /**
      * Gets the list of future orders which should be executed during this phase.
      *
      * @return Value of the list of orders.
      */
     public List<Order> getCurrentFutureOrders() {
+        if (d_futurePhaseOrders.isEmpty()) {
+            return Collections.emptyList();
+        }
         return d_futurePhaseOrders.stream().filter(p_futureOrder ->
                 p_futureOrder.getExecutionIndex() == d_currentExecutionIndex
         ).collect(Collectors.toList());
@@ -234,6 +326,9 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return Value of the list of orders.
      */
     public List<Order> getExpiredFutureOrders() {
+        if (d_futurePhaseOrders.isEmpty()) {
+            return Collections.emptyList();
+        }
         return d_futurePhaseOrders.stream().filter(p_futureOrder ->
                 p_futureOrder.getExpiryIndex() <= d_currentExecutionIndex
         ).collect(Collectors.toList());
@@ -258,9 +353,16 @@ public class GamePlayEngine implements Engine, JSONable {
     }
 
     /**
-     * Increments the current-execution-index.
+     * Increments the current-execution-index of the engine which is running the game.
      */
     public static void incrementEngineIndex() {
+        VirtualMachine.getGameEngine().getGamePlayEngine().incrementExecutionIndex();
+    }
+
+    /**
+     * Increments the execution index of this engine.
+     */
+    public void incrementExecutionIndex() {
         d_currentExecutionIndex++;
     }
 
@@ -277,6 +379,8 @@ public class GamePlayEngine implements Engine, JSONable {
             d_LoopThread.interrupt();
         }
         d_LoopThread = new Thread(() -> {
+            // The loop thread plays the game of this engine.
+            VirtualMachine.bindGameEngine(d_gameEngine);
             d_gameLoop.run();
         });
         d_LoopThread.start();
@@ -298,19 +402,45 @@ public class GamePlayEngine implements Engine, JSONable {
      * @return True if the game is over; false otherwise.
      */
     public boolean checkIfGameIsOver() {
-        if (VirtualMachine.getGameEngine().isTournamentModeOn() && d_currentExecutionIndex > TournamentEngine.getInstance().getMaxNumberOfTurns()) {
-            d_gameResult = new GameResult(true, null);
+        if (d_gameEngine.isTournamentModeOn() && d_currentExecutionIndex > d_gameEngine.getMaxNumberOfTurns()) {
+            d_gameResult = new GameResult(true, null, AdjudicationType.MAX_TURNS);
             return true;
         }
-        List<Player> l_playerWhoWonTheGame =
-                VirtualMachine.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(Player::isWon).collect(Collectors.toList());
-        if (l_playerWhoWonTheGame.size() > 0) {
-            d_gameResult = new GameResult(false, l_playerWhoWonTheGame.get(0));
-            return true;
+        // Checked after each phase of the turn, so the players are iterated without creating a list.
+        for (Player l_player : d_playerList) {
+            if (l_player.isWon()) {
+                d_gameResult = new GameResult(false, l_player);
+                return true;
+            }
+        }
+        if (d_gameAdjudicator != null) {
+            GameResult l_gameResult = d_gameAdjudicator.adjudicate(this);
+            if (l_gameResult != null) {
+                d_gameResult = l_gameResult;
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * Gets the adjudicator which decides the game before a player has conquered all the countries.
+     *
+     * @return Value of the adjudicator; null if the game is not adjudicated.
+     */
+    public GameAdjudicator getGameAdjudicator() {
+        return d_gameAdjudicator;
+    }
+
+    /**
+     * Sets the adjudicator which decides the game before a player has conquered all the countries.
+     *
+     * @param p_gameAdjudicator Value of the adjudicator; null to not adjudicate the game.
+     */
+    public void setGameAdjudicator(GameAdjudicator p_gameAdjudicator) {
+        d_gameAdjudicator = p_gameAdjudicator;
+    }
+
     /**
      * Gets the result of the game.
      *
@@ -361,7 +491,7 @@ public class GamePlayEngine implements Engine, JSONable {
         l_gamePlayEngineJSON.put("friendPlayerMappings", l_friendPlayerJSON);
         l_gamePlayEngineJSON.put("currentPlayerForIssuePhase", getCurrentPlayerForIssuePhase());
         l_gamePlayEngineJSON.put("currentPlayerForExecutionPhase", getCurrentPlayerForExecutionPhase());
-        l_gamePlayEngineJSON.put("currentExecutionIndex", getCurrentExecutionIndex());
+        l_gamePlayEngineJSON.put("currentExecutionIndex", getExecutionIndex());
         JSONArray l_futureOrderJSONList = new JSONArray();
         for (Order l_order : d_futurePhaseOrders) {
             JSONObject l_orderJSON = l_order.toJSON();
@@ -387,10 +517,11 @@ public class GamePlayEngine implements Engine, JSONable {
             InvalidGameException {
         GamePlayEngine l_gamePlayEngine = new GamePlayEngine(p_jsonObject.getInt("currentExecutionIndex"));
         p_gameEngine.setGamePlayEngine(l_gamePlayEngine);
+        PlayerRepository l_playerRepository = new PlayerRepository(l_gamePlayEngine);
 
         JSONArray l_playerJSONList = p_jsonObject.getJSONArray("players");
         for (int l_playerIndex = 0; l_playerIndex < l_playerJSONList.length(); l_playerIndex++) {
-            Player l_player = Player.fromJSON(l_playerJSONList.getJSONObject(l_playerIndex));
+            Player l_player = Player.fromJSON(l_playerJSONList.getJSONObject(l_playerIndex), l_gamePlayEngine);
             l_gamePlayEngine.addPlayer(l_player);
         }
 
@@ -398,11 +529,11 @@ public class GamePlayEngine implements Engine, JSONable {
         Set<String> l_friendPlayerNameSet = l_friendPlayerJSON.keySet();
         try {
             for (String l_playerName : l_friendPlayerNameSet) {
-                Player l_player = d_PLAYER_REPOSITORY.findByPlayerName(l_playerName);
+                Player l_player = l_playerRepository.findByPlayerName(l_playerName);
                 JSONArray l_friendPlayerNames = l_friendPlayerJSON.getJSONArray(l_playerName);
                 for (int l_friendPlayerIndex = 0; l_friendPlayerIndex < l_friendPlayerNames.length(); l_friendPlayerIndex++) {
                     String l_friendPlayerName = l_friendPlayerNames.getString(l_friendPlayerIndex);
-                    Player l_friendPlayer = d_PLAYER_REPOSITORY.findByPlayerName(l_friendPlayerName);
+                    Player l_friendPlayer = l_playerRepository.findByPlayerName(l_friendPlayerName);
                     l_player.addNegotiatePlayer(l_friendPlayer);
                 }
             }
@@ -418,7 +549,7 @@ public class GamePlayEngine implements Engine, JSONable {
         try {
             for (int l_orderIndex = 0; l_orderIndex < l_futureOrderJSONList.length(); l_orderIndex++) {
                 JSONObject l_orderJSON = l_futureOrderJSONList.getJSONObject(l_orderIndex);
-                Player l_player = d_PLAYER_REPOSITORY.findByPlayerName(l_orderJSON.getString("owner"));
+                Player l_player = l_playerRepository.findByPlayerName(l_orderJSON.getString("owner"));
                 l_orderMapper.toOrder(l_orderJSON,
                         l_player,
                         l_orderJSON.getInt("futureExecutionIndex"),
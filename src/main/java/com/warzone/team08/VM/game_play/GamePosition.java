@@ -0,0 +1,144 @@
+package com.warzone.team08.VM.game_play;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.common.services.CardService;
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.constants.interfaces.Card;
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplate;
+import com.warzone.team08.VM.phases.PlaySetup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Read-only snapshot of a position of a game: the map, the owner and the number of armies of each country, and the
+ * players with their cards. Any number of independent games can be created from the same snapshot, for example, to
+ * play rollouts from a saved game, without loading the saved game again.
+ * <p>
+ * The games created from the snapshot share the map using a <code>MapTemplate</code>, and start from the reinforcement
+ * phase of the next turn. The orders of the players which have not been executed yet are not part of the snapshot.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see MapTemplate
+ */
+public final class GamePosition {
+    private final MapTemplate d_mapTemplate;
+    private final int d_executionIndex;
+    private final String[] d_playerNames;
+    private final List<List<CardType>> d_playerCards;
+
+    /**
+     * Index of the owner of each country in the list of players; -1 if the country is not owned by any player. The
+     * countries are at their index in the state of the <code>MapTemplate</code>.
+     */
+    private final int[] d_countryOwners;
+    private final int[] d_countryArmies;
+
+    /**
+     * Creates the snapshot of the position of the game.
+     *
+     * @param p_gameEngine Engine of the game.
+     */
+    public GamePosition(GameEngine p_gameEngine) {
+        MapEditorEngine l_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        d_mapTemplate = new MapTemplate(l_mapEditorEngine);
+        d_executionIndex = l_gamePlayEngine.getExecutionIndex();
+
+        List<Player> l_playerList = l_gamePlayEngine.getPlayerList();
+        d_playerNames = new String[l_playerList.size()];
+        d_playerCards = new ArrayList<>();
+        for (int l_playerIndex = 0; l_playerIndex < l_playerList.size(); l_playerIndex++) {
+            Player l_player = l_playerList.get(l_playerIndex);
+            d_playerNames[l_playerIndex] = l_player.getName();
+            List<CardType> l_cardTypes = new ArrayList<>();
+            for (Card l_card : l_player.getCards()) {
+                l_cardTypes.add(l_card.getType());
+            }
+            d_playerCards.add(l_cardTypes);
+        }
+
+        // The template assigns the state indices in the same order.
+        d_countryOwners = new int[d_mapTemplate.getNumberOfCountries()];
+        d_countryArmies = new int[d_mapTemplate.getNumberOfCountries()];
+        int l_stateIndex = 0;
+        for (Continent l_continent : l_mapEditorEngine.getContinentList()) {
+            for (Country l_country : l_continent.getCountryList()) {
+                d_countryOwners[l_stateIndex] = l_playerList.indexOf(l_country.getOwnedBy(p_gameEngine));
+                d_countryArmies[l_stateIndex] = l_country.getNumberOfArmies(p_gameEngine);
+                l_stateIndex++;
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the turn of the position.
+     *
+     * @return Value of the execution index.
+     */
+    public int getExecutionIndex() {
+        return d_executionIndex;
+    }
+
+    /**
+     * Gets the names of the players of the position.
+     *
+     * @return Value of the names in the order of the players.
+     */
+    public List<String> getPlayerNames() {
+        List<String> l_playerNames = new ArrayList<>();
+        for (String l_playerName : d_playerNames) {
+            l_playerNames.add(l_playerName);
+        }
+        return l_playerNames;
+    }
+
+    /**
+     * Creates a new game from the position, in which each player is played by the given strategy. The created game
+     * starts from <code>PlaySetup</code> phase and can be run using <code>GameLoop</code>. The game must be bound to
+     * the calling thread before this method is called.
+     *
+     * @param p_gameEngine Engine of the new game, having its own map editor and game play engines.
+     * @param p_strategies Strategy of each player, in the order of the players.
+     * @param p_random     Random number generator of the game.
+     */
+    public void loadInto(GameEngine p_gameEngine, List<StrategyType> p_strategies, SplittableRandom p_random) {
+        p_gameEngine.setRandom(p_random);
+        p_gameEngine.setGamePlayEngine(new GamePlayEngine(d_executionIndex));
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        d_mapTemplate.loadInto(p_gameEngine.getMapEditorEngine());
+
+        List<Player> l_playerList = new ArrayList<>();
+        for (int l_playerIndex = 0; l_playerIndex < d_playerNames.length; l_playerIndex++) {
+            Player l_player = new Player(d_playerNames[l_playerIndex], p_strategies.get(l_playerIndex));
+            l_gamePlayEngine.addPlayer(l_player);
+            l_player.setRandom(p_random.split());
+            for (CardType l_cardType : d_playerCards.get(l_playerIndex)) {
+                l_player.addCard(CardService.createCard(l_cardType));
+            }
+            l_playerList.add(l_player);
+        }
+
+        List<Country> l_countryList = d_mapTemplate.getCountryList();
+        for (int l_stateIndex = 0; l_stateIndex < l_countryList.size(); l_stateIndex++) {
+            Country l_country = l_countryList.get(l_stateIndex);
+            if (d_countryOwners[l_stateIndex] >= 0) {
+                Player l_owner = l_playerList.get(d_countryOwners[l_stateIndex]);
+                l_country.setOwnedBy(l_owner, p_gameEngine);
+                l_owner.addAssignedCountries(l_country);
+            }
+            l_country.setNumberOfArmies(d_countryArmies[l_stateIndex], p_gameEngine);
+        }
+        for (Player l_player : l_playerList) {
+            l_player.setAssignedCountryCount(l_player.getAssignedCountries().size());
+        }
+        p_gameEngine.setGamePhase(new PlaySetup(p_gameEngine));
+    }
+}
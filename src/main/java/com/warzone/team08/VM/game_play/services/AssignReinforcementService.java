@@ -1,16 +1,16 @@
 package com.warzone.team08.VM.game_play.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Continent;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.journal.GameJournal;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This class will reinforce the army to respective players at each new turn.
@@ -19,19 +19,9 @@ import java.util.Map;
  */
 public class AssignReinforcementService {
     /**
-     * Singleton instance of <code>MapEditorEngine</code>.
+     * <code>GameEngine</code> of the game; the engines are taken from it every turn.
      */
-    public MapEditorEngine d_mapEditorEngine;
-
-    /**
-     * Singleton instance of <code>GamePlayEngine</code>.
-     */
-    public GamePlayEngine d_gamePlayEngine;
-
-    /**
-     * Map representing continent and its member countries.
-     */
-    public Map<String, List<String>> d_continentCountryList;
+    private final GameEngine d_gameEngine;
 
     /**
      * This Method will set reinforcement army to each player. It will also check whether a player completely owns a
@@ -39,8 +29,16 @@ public class AssignReinforcementService {
      * bonus.
      */
     public AssignReinforcementService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public AssignReinforcementService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
     }
 
     /**
@@ -62,21 +60,18 @@ public class AssignReinforcementService {
      * This method will check whether a player owns a whole continent or not. If a player owns then control value of
      * respective continent is returned otherwise zero will be returned.
      *
-     * @param p_playerList  Player's Object.
-     * @param p_countryList List of Country of specific continent.
-     * @param p_continent   Continent whose country is selected.
+     * @param p_player    Player's Object.
+     * @param p_continent Continent whose country is selected.
      * @return Method will return Continent's Control value if player owns whole continent otherwise return zero.
      */
-    private int checkPlayerOwnsContinent(Player p_playerList, List<String> p_countryList, Continent p_continent) {
-        List<String> l_country = new ArrayList<>();
-        for (Country l_country1 : p_playerList.getAssignedCountries()) {
-            l_country.add(l_country1.getCountryName());
-        }
-        boolean l_checkCountry = l_country.containsAll(p_countryList);
-        if (l_checkCountry) {
-            return p_continent.getContinentControlValue();
+    private int checkPlayerOwnsContinent(Player p_player, Continent p_continent) {
+        List<Country> l_countryList = p_continent.getCountryList();
+        for (int l_countryIndex = 0; l_countryIndex < l_countryList.size(); l_countryIndex++) {
+            if (l_countryList.get(l_countryIndex).getOwnedBy(d_gameEngine) != p_player) {
+                return 0;
+            }
         }
-        return 0;
+        return p_continent.getContinentControlValue();
     }
 
     /**
@@ -85,15 +80,19 @@ public class AssignReinforcementService {
      * @throws EntityNotFoundException Throws if player is not available.
      */
     public void execute() throws EntityNotFoundException {
-        d_continentCountryList = d_mapEditorEngine.getContinentCountryMap();
+        MapEditorEngine l_mapEditorEngine = d_gameEngine.getMapEditorEngine();
+        GamePlayEngine l_gamePlayEngine = d_gameEngine.getGamePlayEngine();
+        // The reinforcements are the first events of the turn.
+        GameJournal l_gameJournal = d_gameEngine.getGameJournal();
+        if (l_gameJournal != null) {
+            l_gameJournal.turnStarted(l_gamePlayEngine.getExecutionIndex() + 1);
+        }
 
-        for (Player l_player : d_gamePlayEngine.getPlayerList()) {
+        for (Player l_player : l_gamePlayEngine.getPlayerList()) {
             int l_continentValue = 0;
-            for (Continent l_continent : d_mapEditorEngine.getContinentList()) {
-
-                List<String> l_countryList = new ArrayList<>(d_continentCountryList.get(l_continent.getContinentName()));
+            for (Continent l_continent : l_mapEditorEngine.getContinentList()) {
                 // Method Call: Here Control Value is assessed.
-                int l_returnContinentValue = checkPlayerOwnsContinent(l_player, l_countryList, l_continent);
+                int l_returnContinentValue = checkPlayerOwnsContinent(l_player, l_continent);
 
                 l_continentValue = l_continentValue + l_returnContinentValue;
             }
@@ -1,14 +1,18 @@
 package com.warzone.team08.VM.game_play.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidInputException;
+import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
 import com.warzone.team08.VM.exceptions.VMException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.journal.GameJournal;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
 import com.warzone.team08.VM.repositories.CountryRepository;
 
 import java.util.ArrayList;
@@ -26,7 +30,9 @@ public class DistributeCountriesService implements SingleCommand {
     /**
      * Country repository to find the country(s) using the filters.
      */
-    private CountryRepository d_countryRepository = new CountryRepository();
+    private CountryRepository d_countryRepository;
+
+    private final GameEngine d_gameEngine;
 
     private final GamePlayEngine d_gamePlayEngine;
 
@@ -36,18 +42,31 @@ public class DistributeCountriesService implements SingleCommand {
      * Constructor for instantiating required objects.
      */
     public DistributeCountriesService() {
-        d_countryList = VirtualMachine.getGameEngine().getMapEditorEngine().getCountryList();
-        d_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
     }
 
     /**
-     * Method to assign countries to different players.
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public DistributeCountriesService(GameEngine p_gameEngine) {
+        d_countryList = p_gameEngine.getMapEditorEngine().getCountryList();
+        d_countryRepository = new CountryRepository(p_gameEngine.getMapEditorEngine());
+        d_gameEngine = p_gameEngine;
+        d_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
+
+    /**
+     * Method to assign countries to different players. If the journals are turned on, the journal of the game is opened
+     * before the countries are assigned, so the distribution is its first event.
      *
      * @return Value of response of the request.
      * @throws InvalidInputException Throws if number of players are zero.
      */
     public String distributeCountries() throws InvalidInputException {
+        this.openGameJournal();
         int l_countryCount = d_countryList.size();
         int l_playerCount = d_gamePlayEngine.getPlayerList().size();
         try {
@@ -73,6 +92,25 @@ public class DistributeCountriesService implements SingleCommand {
         }
     }
 
+    /**
+     * Opens the journal of the game if the journals are turned on and the game does not have one. The game is played
+     * without the journal if it can not be created.
+     */
+    private void openGameJournal() {
+        GameJournal l_gameJournal = d_gameEngine.getGameJournal();
+        if (l_gameJournal == null && GameJournal.isEnabled() && !d_gamePlayEngine.getPlayerList().isEmpty()) {
+            try {
+                l_gameJournal = GameJournal.open(d_gameEngine);
+                d_gameEngine.setGameJournal(l_gameJournal);
+            } catch (ResourceNotFoundException p_resourceNotFoundException) {
+                d_logEntryBuffer.dataChanged("journal", LogLevel.ERROR, p_resourceNotFoundException.getMessage());
+            }
+        }
+        if (l_gameJournal != null) {
+            l_gameJournal.distributionStarted();
+        }
+    }
+
     /**
      * Returns the list of countries to be assigned to player.
      *
@@ -90,8 +128,8 @@ public class DistributeCountriesService implements SingleCommand {
         int l_iterateCountryCount = 0;
         do {
             Country selectedCountry = d_countryList.get(l_iterateCountryCount);
-            if (selectedCountry.getOwnedBy() == null) {
-                selectedCountry.setOwnedBy(p_player);
+            if (selectedCountry.getOwnedBy(d_gameEngine) == null) {
+                selectedCountry.setOwnedBy(p_player, d_gameEngine);
                 l_groupOfCountries = d_countryRepository.findCountryNeighborsAndNotOwned(selectedCountry);
                 l_groupOfCountries.add(0, selectedCountry);
 
@@ -122,7 +160,7 @@ public class DistributeCountriesService implements SingleCommand {
      */
     public void assignOwnerToCountry(Player p_player, List<Country> p_countryList) {
         for (Country l_con : p_countryList) {
-            l_con.setOwnedBy(p_player);
+            l_con.setOwnedBy(p_player, d_gameEngine);
         }
     }
 
@@ -142,7 +180,7 @@ public class DistributeCountriesService implements SingleCommand {
         if (!d_gamePlayEngine.getPlayerList().isEmpty()) {
             String l_response = distributeCountries();
             // Logging
-            d_logEntryBuffer.dataChanged("assigncountries", l_response + "\n" + this.getPlayerCountries());
+            d_logEntryBuffer.dataChanged("assigncountries", () -> l_response + "\n" + this.getPlayerCountries());
             return l_response;
         } else {
             throw new EntityNotFoundException("Please, add players to show game status!");
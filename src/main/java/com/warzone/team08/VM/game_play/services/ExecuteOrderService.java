@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.game_play.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.Order;
 import com.warzone.team08.VM.entities.Player;
@@ -7,7 +8,10 @@ import com.warzone.team08.VM.exceptions.CardNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
 import com.warzone.team08.VM.exceptions.OrderOutOfBoundException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.journal.GameJournal;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
+import com.warzone.team08.VM.metrics.GameMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,36 +23,65 @@ import java.util.List;
  * @version 1.0
  */
 public class ExecuteOrderService {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final GameEngine d_gameEngine;
+
+    /**
+     * Players which are done in this phase. The list is reused by each turn of the game.
+     */
+    private final List<Player> d_finishedPlayers = new ArrayList<>();
+
+    /**
+     * Creates the service bound to the game which is currently running.
+     */
+    public ExecuteOrderService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public ExecuteOrderService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+    }
 
     /**
      * Gets the order of the player using <code>Player#nextOrder</code> method and executes it using the type of order.
      */
     public void execute() {
-        List<Player> finishedExecutingOrders = new ArrayList<>();
+        List<Player> finishedExecutingOrders = d_finishedPlayers;
+        finishedExecutingOrders.clear();
+        LogEntryBuffer l_logEntryBuffer = d_gameEngine.getLogEntryBuffer();
 
-        VirtualMachine.getInstance().stdout("Execution of orders started!");
-        d_logEntryBuffer.dataChanged("execution_order", "Execution of orders started!");
+        d_gameEngine.stdout("Execution of orders started!");
+        l_logEntryBuffer.dataChanged("execution_order", "Execution of orders started!");
 
-        GamePlayEngine l_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
+        GamePlayEngine l_gamePlayEngine = d_gameEngine.getGamePlayEngine();
         l_gamePlayEngine.setCurrentPlayerTurn(l_gamePlayEngine.getCurrentPlayerForExecutionPhase());
+        GameJournal l_gameJournal = d_gameEngine.getGameJournal();
 
         // Iterate over and execute the orders which were supposed to be executed in this phase.
-        VirtualMachine.getGameEngine().getGamePlayEngine().getCurrentFutureOrders().forEach(l_futureOrder -> {
+        for (Order l_futureOrder : l_gamePlayEngine.getCurrentFutureOrders()) {
             try {
+                long l_startTime = GameMetrics.startTimer();
+                if (l_gameJournal != null) {
+                    l_gameJournal.orderExecuted(l_futureOrder);
+                }
                 l_futureOrder.execute();
-                VirtualMachine.getInstance().stdout(String.format("Executing %s's order", l_futureOrder.getOwner().getName()));
-                VirtualMachine.getInstance().stdout(String.format("Executed %s", l_futureOrder.toString()));
+                GameMetrics.getInstance().recordOrder(l_futureOrder.getType(), l_startTime);
+                d_gameEngine.stdout(() -> String.format("Executing %s's order", l_futureOrder.getOwner().getName()));
+                d_gameEngine.stdout(() -> String.format("Executed %s", l_futureOrder.toString()));
             } catch (InvalidOrderException | CardNotFoundException p_e) {
-                VirtualMachine.getInstance().stderr(p_e.getMessage());
+                d_gameEngine.stderr(p_e.getMessage());
             }
-        });
+        }
 
         // Expire orders which had been executed and are not valid anymore.
-        VirtualMachine.getGameEngine().getGamePlayEngine().getExpiredFutureOrders().forEach(l_futureOrder -> {
+        for (Order l_futureOrder : l_gamePlayEngine.getExpiredFutureOrders()) {
             l_futureOrder.expire();
-            VirtualMachine.getGameEngine().getGamePlayEngine().removeFutureOrder(l_futureOrder);
-        });
+            l_gamePlayEngine.removeFutureOrder(l_futureOrder);
+        }
 
         while (finishedExecutingOrders.size() != l_gamePlayEngine.getPlayerList().size()) {
             // Find player who has remaining orders to execute.
@@ -57,14 +90,20 @@ public class ExecuteOrderService {
                 l_currentPlayer = l_gamePlayEngine.getCurrentPlayer();
             } while (finishedExecutingOrders.contains(l_currentPlayer));
 
-            VirtualMachine.getInstance().stdout(String.format("Executing %s's order", l_currentPlayer.getName()));
+            Player l_executingPlayer = l_currentPlayer;
+            d_gameEngine.stdout(() -> String.format("Executing %s's order", l_executingPlayer.getName()));
             try {
                 // Get the next order
                 Order l_currentOrder = l_currentPlayer.nextOrder();
                 // If order supposed to be executed in the next phase.
-                if (l_currentOrder.getExecutionIndex() == GamePlayEngine.getCurrentExecutionIndex()) {
+                if (l_currentOrder.getExecutionIndex() == l_gamePlayEngine.getExecutionIndex()) {
+                    long l_startTime = GameMetrics.startTimer();
+                    if (l_gameJournal != null) {
+                        l_gameJournal.orderExecuted(l_currentOrder);
+                    }
                     l_currentOrder.execute();
-                    VirtualMachine.getInstance().stdout(String.format("\nExecuted %s", l_currentOrder.toString()));
+                    GameMetrics.getInstance().recordOrder(l_currentOrder.getType(), l_startTime);
+                    d_gameEngine.stdout(() -> String.format("\nExecuted %s", l_currentOrder.toString()));
                 }
 
                 // If the current player does not have any orders left.
@@ -74,15 +113,19 @@ public class ExecuteOrderService {
             } catch (CardNotFoundException |
                     InvalidOrderException p_e) {
                 // Logging
-                d_logEntryBuffer.dataChanged("execute_order_error", String.format("%s: %s", l_currentPlayer.getName(), p_e.getMessage()));
-                VirtualMachine.getInstance().stderr(p_e.getMessage());
+                l_logEntryBuffer.dataChanged("execute_order_error", LogLevel.ERROR, () -> String.format("%s: %s", l_executingPlayer.getName(), p_e.getMessage()));
+                d_gameEngine.stderr(p_e.getMessage());
             } catch (OrderOutOfBoundException p_e) {
-                d_logEntryBuffer.dataChanged("execute_order_warning", p_e.getMessage());
+                l_logEntryBuffer.dataChanged("execute_order_warning", p_e.getMessage());
                 finishedExecutingOrders.add(l_currentPlayer);
             }
         }
 
         // Store to use when starting the issue phase again.
         l_gamePlayEngine.setCurrentPlayerForExecutionPhase(l_gamePlayEngine.getCurrentPlayerTurn());
+
+        if (l_gameJournal != null) {
+            l_gameJournal.turnEnded(l_gamePlayEngine.getExecutionIndex() + 1);
+        }
     }
 }
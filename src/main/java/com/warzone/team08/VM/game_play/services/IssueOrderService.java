@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.game_play.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
@@ -8,6 +9,7 @@ import com.warzone.team08.VM.exceptions.InvalidCommandException;
 import com.warzone.team08.VM.exceptions.InvalidOrderException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,7 +22,28 @@ import java.util.concurrent.ExecutionException;
  * @version 1.0
  */
 public class IssueOrderService {
-    private final LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final GameEngine d_gameEngine;
+
+    /**
+     * Players which are done in this phase. The list is reused by each turn of the game.
+     */
+    private final List<Player> d_finishedPlayers = new ArrayList<>();
+
+    /**
+     * Creates the service bound to the game which is currently running.
+     */
+    public IssueOrderService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public IssueOrderService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+    }
 
     /**
      * Requests all players in round-robin fashion for the issuing order until all the players have placed all their
@@ -32,8 +55,10 @@ public class IssueOrderService {
      * @throws InvalidOrderException If any exception while issuing the order for the player.
      */
     public void execute() throws InvalidOrderException {
-        List<Player> finishedIssuingOrders = new ArrayList<>();
-        GamePlayEngine l_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
+        List<Player> finishedIssuingOrders = d_finishedPlayers;
+        finishedIssuingOrders.clear();
+        LogEntryBuffer l_logEntryBuffer = d_gameEngine.getLogEntryBuffer();
+        GamePlayEngine l_gamePlayEngine = d_gameEngine.getGamePlayEngine();
         l_gamePlayEngine.setCurrentPlayerTurn(l_gamePlayEngine.getCurrentPlayerForIssuePhase());
 
         while (finishedIssuingOrders.size() != l_gamePlayEngine.getPlayerList().size()) {
@@ -57,10 +82,10 @@ public class IssueOrderService {
                 } catch (EntityNotFoundException | InvalidCommandException | InvalidArgumentException p_exception) {
                     l_invalidPreviousOrder = true;
                     // Show VMException error to the user.
-                    VirtualMachine.getInstance().stderr(p_exception.getMessage());
+                    d_gameEngine.stderr(p_exception.getMessage());
 
                     // Logging
-                    d_logEntryBuffer.dataChanged("issue_order_error", p_exception.getMessage());
+                    l_logEntryBuffer.dataChanged("issue_order_error", LogLevel.ERROR, p_exception.getMessage());
                 } catch (InterruptedException | ExecutionException p_e) {
                     // If interruption occurred while issuing the order.
                     l_invalidPreviousOrder = true;
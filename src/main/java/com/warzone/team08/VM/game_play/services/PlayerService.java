@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.game_play.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.enums.StrategyType;
 import com.warzone.team08.VM.entities.Player;
@@ -31,12 +32,21 @@ public class PlayerService {
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
-     * Initialization of different objects.
+     * Initialization of different objects for the game of the virtual machine.
      */
     public PlayerService() {
-        d_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
-        d_playerRepository = new PlayerRepository();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Initialization of different objects for the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public PlayerService(GameEngine p_gameEngine) {
+        d_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        d_playerRepository = new PlayerRepository(d_gamePlayEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.warzone.team08.VM.game_play.services;
 
 import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.enums.CardType;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
@@ -33,10 +34,20 @@ public class ShowMapService implements SingleCommand {
      * @throws EntityNotFoundException Throws if entity not found.
      */
     public ShowMapService() throws EntityNotFoundException {
-        d_gamePlayEngine = VirtualMachine.getGameEngine().getGamePlayEngine();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Initializes the different objects of the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     * @throws EntityNotFoundException Throws if entity not found.
+     */
+    public ShowMapService(GameEngine p_gameEngine) throws EntityNotFoundException {
+        d_gamePlayEngine = p_gameEngine.getGamePlayEngine();
         d_playerList = d_gamePlayEngine.getPlayerList();
-        d_showMapService = new com.warzone.team08.VM.map_editor.services.ShowMapService();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_showMapService = new com.warzone.team08.VM.map_editor.services.ShowMapService(p_gameEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -68,7 +79,7 @@ public class ShowMapService implements SingleCommand {
         //showing army count per country
         for (int l_row = 1; l_row < l_playerMap.length; l_row++) {
             Country l_country = l_countryNames2.pollFirst();
-            l_playerMap[l_row] = String.valueOf(l_country.getNumberOfArmies());
+            l_playerMap[l_row] = String.valueOf(l_country.getNumberOfArmies(d_gamePlayEngine.getGameEngine()));
         }
         return FlipTable.of(l_header, new String[][]{l_playerMap});
 
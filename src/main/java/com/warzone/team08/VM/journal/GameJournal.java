@@ -0,0 +1,443 @@
+package com.warzone.team08.VM.journal;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.constants.interfaces.Card;
+import com.warzone.team08.VM.constants.interfaces.Order;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
+import com.warzone.team08.VM.logger.LogLevel;
+import com.warzone.team08.VM.utils.FileUtil;
+import com.warzone.team08.VM.utils.PathResolverUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only binary journal of the events changing the state of a game: the distribution of the countries, the
+ * reinforcements, each executed order followed by its effects on the countries, the cards granted and used, and the
+ * negotiations and their expiry. The journal is much smaller than the text log, and {@link JournalReader} rebuilds the
+ * board at any turn from it.
+ * <p>
+ * The journal starts with the names of the players and the countries and the state of the board when the journal has
+ * been opened. Every <code>keyframe interval</code> turns, the state of the board is written again as a keyframe, and
+ * its position is appended to the index file <code>&lt;journal&gt;.idx</code>, so the reader can start from the
+ * nearest keyframe instead of the beginning.
+ * <p>
+ * The journals are turned off by default. When turned on, each game opens its journal in the log directory when the
+ * countries are distributed. A journal is written by the thread playing its game.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see JournalReader
+ */
+public class GameJournal {
+    /**
+     * Number of turns between the keyframes if it has not been set.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 10;
+
+    /**
+     * Extension of the files of the journals.
+     */
+    public static final String FILE_EXTENSION = ".journal";
+
+    /**
+     * Extension appended to the name of the journal to get the name of its index file.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".idx";
+
+    private static volatile boolean d_Enabled = false;
+    private static volatile int d_KeyframeInterval = DEFAULT_KEYFRAME_INTERVAL;
+
+    private final File d_journalFile;
+    private final GameEngine d_gameEngine;
+    private final JournalEncoding.CountingOutputStream d_countingStream;
+    private final DataOutputStream d_journalStream;
+    private final DataOutputStream d_indexStream;
+    private final int d_keyframeInterval;
+    private final List<Player> d_players;
+    private final Map<Player, Integer> d_playerIndices = new IdentityHashMap<>();
+    private final Map<Country, Integer> d_countryIndices = new IdentityHashMap<>();
+
+    /**
+     * Owner index plus one and the armies of each country as last written, to skip the changes which do not change
+     * the state.
+     */
+    private final int[] d_countryOwners;
+    private final int[] d_countryArmies;
+    private boolean d_isFailed = false;
+
+    /**
+     * Creates the journal of the game and writes the names of the players and the countries, and the current state of
+     * the board.
+     *
+     * @param p_journalFile      File of the journal; the index file is created next to it.
+     * @param p_gameEngine       Engine of the game.
+     * @param p_keyframeInterval Number of turns between the keyframes; zero for no keyframe.
+     * @throws IOException If the files can not be written.
+     */
+    public GameJournal(File p_journalFile, GameEngine p_gameEngine, int p_keyframeInterval) throws IOException {
+        d_journalFile = p_journalFile;
+        d_gameEngine = p_gameEngine;
+        d_keyframeInterval = p_keyframeInterval;
+        d_players = new ArrayList<>(p_gameEngine.getGamePlayEngine().getPlayerList());
+        for (int l_playerIndex = 0; l_playerIndex < d_players.size(); l_playerIndex++) {
+            d_playerIndices.put(d_players.get(l_playerIndex), l_playerIndex);
+        }
+        List<Country> l_countries = p_gameEngine.getMapEditorEngine().getCountryList();
+        for (int l_countryIndex = 0; l_countryIndex < l_countries.size(); l_countryIndex++) {
+            d_countryIndices.put(l_countries.get(l_countryIndex), l_countryIndex);
+        }
+        d_countryOwners = new int[l_countries.size()];
+        d_countryArmies = new int[l_countries.size()];
+        for (int l_countryIndex = 0; l_countryIndex < l_countries.size(); l_countryIndex++) {
+            d_countryOwners[l_countryIndex] = this.getOwnerIndex(l_countries.get(l_countryIndex));
+            d_countryArmies[l_countryIndex] = l_countries.get(l_countryIndex).getNumberOfArmies(p_gameEngine);
+        }
+
+        d_countingStream = new JournalEncoding.CountingOutputStream(new BufferedOutputStream(new FileOutputStream(p_journalFile)));
+        d_journalStream = new DataOutputStream(d_countingStream);
+        try {
+            d_indexStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(p_journalFile.getPath() + INDEX_FILE_EXTENSION)));
+        } catch (IOException p_ioException) {
+            d_journalStream.close();
+            throw p_ioException;
+        }
+
+        try {
+            d_journalStream.writeInt(JournalEncoding.MAGIC);
+            JournalEncoding.writeVarInt(d_journalStream, JournalEncoding.VERSION);
+            JournalEncoding.writeVarInt(d_journalStream, d_players.size());
+            for (Player l_player : d_players) {
+                d_journalStream.writeUTF(l_player.getName());
+            }
+            JournalEncoding.writeVarInt(d_journalStream, l_countries.size());
+            for (Country l_country : l_countries) {
+                d_journalStream.writeUTF(l_country.getCountryName());
+            }
+            this.writeState();
+            d_journalStream.flush();
+        } catch (IOException p_ioException) {
+            // The journal is not returned to the game, so its files are closed here.
+            this.close();
+            throw p_ioException;
+        }
+    }
+
+    /**
+     * Opens the journal of the game in the log directory.
+     *
+     * @param p_gameEngine Engine of the game.
+     * @return Value of the journal.
+     * @throws ResourceNotFoundException If the files of the journal can not be created.
+     */
+    public static GameJournal open(GameEngine p_gameEngine) throws ResourceNotFoundException {
+        File l_journalFile = FileUtil.createFileIfNotExists(PathResolverUtil.resolveLogPath(
+                String.format("%d_game_%d%s", new Date().getTime(), p_gameEngine.getGameId(), FILE_EXTENSION)));
+        try {
+            return new GameJournal(l_journalFile, p_gameEngine, d_KeyframeInterval);
+        } catch (IOException p_ioException) {
+            throw new ResourceNotFoundException("Journal can not be created!", p_ioException);
+        }
+    }
+
+    /**
+     * Checks if the games open their journals.
+     *
+     * @return True if the journals are turned on; false otherwise.
+     */
+    public static boolean isEnabled() {
+        return d_Enabled;
+    }
+
+    /**
+     * Turns the journals of the games on or off. The games which have already opened their journals keep writing them.
+     *
+     * @param p_enabled True to open a journal for each game; false otherwise.
+     */
+    public static void setEnabled(boolean p_enabled) {
+        d_Enabled = p_enabled;
+    }
+
+    /**
+     * Gets the number of turns between the keyframes of the journals opened from now.
+     *
+     * @return Value of the interval.
+     */
+    public static int getKeyframeInterval() {
+        return d_KeyframeInterval;
+    }
+
+    /**
+     * Sets the number of turns between the keyframes of the journals opened from now.
+     *
+     * @param p_keyframeInterval Value of the interval; zero for no keyframe.
+     */
+    public static void setKeyframeInterval(int p_keyframeInterval) {
+        d_KeyframeInterval = p_keyframeInterval;
+    }
+
+    /**
+     * Records that the countries are being distributed among the players.
+     */
+    public void distributionStarted() {
+        this.writeRecord(JournalRecordType.DISTRIBUTION);
+    }
+
+    /**
+     * Records the start of the turn. The events recorded until the next turn belong to this turn.
+     *
+     * @param p_turnNumber Number of the turn; the first turn is one.
+     */
+    public void turnStarted(int p_turnNumber) {
+        this.writeRecord(JournalRecordType.TURN, p_turnNumber);
+    }
+
+    /**
+     * Records the end of the turn: writes the keyframe if it is due, and flushes the journal so the turn can be
+     * replayed while the game is still running.
+     *
+     * @param p_turnNumber Number of the turn; the first turn is one.
+     */
+    public void turnEnded(int p_turnNumber) {
+        if (d_isFailed) {
+            return;
+        }
+        try {
+            if (d_keyframeInterval > 0 && p_turnNumber % d_keyframeInterval == 0) {
+                d_indexStream.writeInt(p_turnNumber);
+                d_indexStream.writeLong(d_countingStream.getCount());
+                d_journalStream.writeByte(JournalRecordType.KEYFRAME.getTag());
+                JournalEncoding.writeVarInt(d_journalStream, p_turnNumber);
+                this.writeState();
+                d_indexStream.flush();
+            }
+            d_journalStream.flush();
+        } catch (IOException p_ioException) {
+            this.fail(p_ioException);
+        }
+    }
+
+    /**
+     * Records the execution of the order. The changes recorded until the next order or turn are its effects.
+     *
+     * @param p_order Order being executed.
+     */
+    public void orderExecuted(Order p_order) {
+        int l_playerIndex = this.getPlayerIndex(p_order.getOwner());
+        if (l_playerIndex >= 0) {
+            this.writeRecord(JournalRecordType.ORDER, l_playerIndex, p_order.getType().ordinal());
+        }
+    }
+
+    /**
+     * Records the new state of the country, if its owner or its armies have changed.
+     *
+     * @param p_country Country which has been changed.
+     */
+    public void countryChanged(Country p_country) {
+        Integer l_countryIndex = d_countryIndices.get(p_country);
+        if (l_countryIndex == null) {
+            return;
+        }
+        int l_owner = this.getOwnerIndex(p_country);
+        int l_armies = p_country.getNumberOfArmies(d_gameEngine);
+        if (d_countryOwners[l_countryIndex] == l_owner && d_countryArmies[l_countryIndex] == l_armies) {
+            return;
+        }
+        d_countryOwners[l_countryIndex] = l_owner;
+        d_countryArmies[l_countryIndex] = l_armies;
+        this.writeRecord(JournalRecordType.COUNTRY, l_countryIndex, l_owner, l_armies);
+    }
+
+    /**
+     * Records the reinforcements assigned to the player.
+     *
+     * @param p_player             Player to whom the reinforcements are assigned.
+     * @param p_reinforcementCount Number of armies.
+     */
+    public void reinforcementsAssigned(Player p_player, int p_reinforcementCount) {
+        int l_playerIndex = this.getPlayerIndex(p_player);
+        if (l_playerIndex >= 0) {
+            this.writeRecord(JournalRecordType.REINFORCEMENTS, l_playerIndex, p_reinforcementCount);
+        }
+    }
+
+    /**
+     * Records the card granted to the player.
+     *
+     * @param p_player   Player to whom the card is granted.
+     * @param p_cardType Type of the card.
+     */
+    public void cardGranted(Player p_player, CardType p_cardType) {
+        int l_playerIndex = this.getPlayerIndex(p_player);
+        if (l_playerIndex >= 0) {
+            this.writeRecord(JournalRecordType.CARD_GRANTED, l_playerIndex, p_cardType.ordinal());
+        }
+    }
+
+    /**
+     * Records the card used by the player.
+     *
+     * @param p_player   Player who has used the card.
+     * @param p_cardType Type of the card.
+     */
+    public void cardUsed(Player p_player, CardType p_cardType) {
+        int l_playerIndex = this.getPlayerIndex(p_player);
+        if (l_playerIndex >= 0) {
+            this.writeRecord(JournalRecordType.CARD_USED, l_playerIndex, p_cardType.ordinal());
+        }
+    }
+
+    /**
+     * Records that the player negotiates with the other player.
+     *
+     * @param p_player      Player who negotiates.
+     * @param p_otherPlayer Player with whom the player negotiates.
+     */
+    public void negotiationStarted(Player p_player, Player p_otherPlayer) {
+        int l_playerIndex = this.getPlayerIndex(p_player);
+        int l_otherPlayerIndex = this.getPlayerIndex(p_otherPlayer);
+        if (l_playerIndex >= 0 && l_otherPlayerIndex >= 0) {
+            this.writeRecord(JournalRecordType.NEGOTIATION, l_playerIndex, l_otherPlayerIndex);
+        }
+    }
+
+    /**
+     * Records that the negotiation of the player with the other player has expired.
+     *
+     * @param p_player      Player who had negotiated.
+     * @param p_otherPlayer Player with whom the player had negotiated.
+     */
+    public void negotiationExpired(Player p_player, Player p_otherPlayer) {
+        int l_playerIndex = this.getPlayerIndex(p_player);
+        int l_otherPlayerIndex = this.getPlayerIndex(p_otherPlayer);
+        if (l_playerIndex >= 0 && l_otherPlayerIndex >= 0) {
+            this.writeRecord(JournalRecordType.NEGOTIATION_EXPIRED, l_playerIndex, l_otherPlayerIndex);
+        }
+    }
+
+    /**
+     * Flushes and closes the files of the journal. The index is closed even if the journal can not be closed.
+     */
+    public void close() {
+        try {
+            d_journalStream.close();
+        } catch (IOException p_ioException) {
+            this.fail(p_ioException);
+        } finally {
+            try {
+                d_indexStream.close();
+            } catch (IOException p_ioException) {
+                this.fail(p_ioException);
+            }
+        }
+        d_isFailed = true;
+    }
+
+    /**
+     * Gets the file of the journal.
+     *
+     * @return Value of the file.
+     */
+    public File getJournalFile() {
+        return d_journalFile;
+    }
+
+    /**
+     * Writes the record with its values.
+     *
+     * @param p_recordType Type of the record.
+     * @param p_values     Values of the record.
+     */
+    private void writeRecord(JournalRecordType p_recordType, int... p_values) {
+        if (d_isFailed) {
+            return;
+        }
+        try {
+            d_journalStream.writeByte(p_recordType.getTag());
+            for (int l_value : p_values) {
+                JournalEncoding.writeVarInt(d_journalStream, l_value);
+            }
+        } catch (IOException p_ioException) {
+            this.fail(p_ioException);
+        }
+    }
+
+    /**
+     * Writes the state of the board: the owner and the armies of each country, then the reinforcements, the cards and
+     * the negotiations of each player.
+     *
+     * @throws IOException If the state can not be written.
+     */
+    private void writeState() throws IOException {
+        for (int l_countryIndex = 0; l_countryIndex < d_countryOwners.length; l_countryIndex++) {
+            JournalEncoding.writeVarInt(d_journalStream, d_countryOwners[l_countryIndex]);
+            JournalEncoding.writeVarInt(d_journalStream, d_countryArmies[l_countryIndex]);
+        }
+        for (Player l_player : d_players) {
+            JournalEncoding.writeVarInt(d_journalStream, l_player.getReinforcementCount());
+            List<Card> l_cards = l_player.getCards();
+            JournalEncoding.writeVarInt(d_journalStream, l_cards.size());
+            for (Card l_card : l_cards) {
+                JournalEncoding.writeVarInt(d_journalStream, l_card.getType().ordinal());
+            }
+            List<Integer> l_friendPlayerIndices = new ArrayList<>();
+            for (Player l_friendPlayer : l_player.getFriendPlayers()) {
+                int l_friendPlayerIndex = this.getPlayerIndex(l_friendPlayer);
+                if (l_friendPlayerIndex >= 0) {
+                    l_friendPlayerIndices.add(l_friendPlayerIndex);
+                }
+            }
+            JournalEncoding.writeVarInt(d_journalStream, l_friendPlayerIndices.size());
+            for (int l_friendPlayerIndex : l_friendPlayerIndices) {
+                JournalEncoding.writeVarInt(d_journalStream, l_friendPlayerIndex);
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the player in the journal.
+     *
+     * @param p_player Player of the game.
+     * @return Value of the index; -1 if the player has not been in the game when the journal has been opened.
+     */
+    private int getPlayerIndex(Player p_player) {
+        Integer l_playerIndex = d_playerIndices.get(p_player);
+        return l_playerIndex != null ? l_playerIndex : -1;
+    }
+
+    /**
+     * Gets the index of the owner of the country plus one, as written to the journal.
+     *
+     * @param p_country Country of the game.
+     * @return Value of the index plus one; zero if the country is not owned by a player of the journal.
+     */
+    private int getOwnerIndex(Country p_country) {
+        Player l_owner = p_country.getOwnedBy(d_gameEngine);
+        return l_owner != null ? this.getPlayerIndex(l_owner) + 1 : 0;
+    }
+
+    /**
+     * Stops writing the journal, which can not be written anymore. The game continues without it.
+     *
+     * @param p_ioException Exception while writing the journal.
+     */
+    private void fail(IOException p_ioException) {
+        if (!d_isFailed) {
+            d_isFailed = true;
+            d_gameEngine.getLogEntryBuffer().dataChanged("journal", LogLevel.ERROR,
+                    () -> String.format("Journal %s can not be written: %s", d_journalFile.getName(), p_ioException.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.warzone.team08.VM.journal;
+
+import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.constants.enums.CardType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * State of the board of a game at a turn, as rebuilt by the <code>JournalReader</code>: the owner and the armies of
+ * each country, and the reinforcements, the cards and the negotiations of each player.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see JournalReader
+ */
+public class JournalBoard {
+    private final List<String> d_playerNames;
+    private final List<String> d_countryNames;
+    private int d_turnNumber;
+
+    /**
+     * Index of the owner of each country plus one; zero if the country is not owned.
+     */
+    private final int[] d_countryOwners;
+    private final int[] d_countryArmies;
+    private final int[] d_reinforcementCounts;
+    private final List<List<CardType>> d_playerCards;
+    private final List<List<Integer>> d_friendPlayers;
+
+    /**
+     * Creates the board on which no country is owned and no player has anything.
+     *
+     * @param p_playerNames  Names of the players, in the order of the journal.
+     * @param p_countryNames Names of the countries, in the order of the journal.
+     */
+    JournalBoard(List<String> p_playerNames, List<String> p_countryNames) {
+        d_playerNames = p_playerNames;
+        d_countryNames = p_countryNames;
+        d_countryOwners = new int[p_countryNames.size()];
+        d_countryArmies = new int[p_countryNames.size()];
+        d_reinforcementCounts = new int[p_playerNames.size()];
+        d_playerCards = new ArrayList<>();
+        d_friendPlayers = new ArrayList<>();
+        for (int l_playerIndex = 0; l_playerIndex < p_playerNames.size(); l_playerIndex++) {
+            d_playerCards.add(new ArrayList<>());
+            d_friendPlayers.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Creates a copy of the board, which can be changed without changing this board.
+     *
+     * @return Value of the copy.
+     */
+    JournalBoard copy() {
+        JournalBoard l_board = new JournalBoard(d_playerNames, d_countryNames);
+        l_board.d_turnNumber = d_turnNumber;
+        System.arraycopy(d_countryOwners, 0, l_board.d_countryOwners, 0, d_countryOwners.length);
+        System.arraycopy(d_countryArmies, 0, l_board.d_countryArmies, 0, d_countryArmies.length);
+        System.arraycopy(d_reinforcementCounts, 0, l_board.d_reinforcementCounts, 0, d_reinforcementCounts.length);
+        for (int l_playerIndex = 0; l_playerIndex < d_playerNames.size(); l_playerIndex++) {
+            l_board.d_playerCards.get(l_playerIndex).addAll(d_playerCards.get(l_playerIndex));
+            l_board.d_friendPlayers.get(l_playerIndex).addAll(d_friendPlayers.get(l_playerIndex));
+        }
+        return l_board;
+    }
+
+    /**
+     * Sets the number of the turn after which this is the state of the board.
+     *
+     * @param p_turnNumber Value of the turn number; zero before the first turn.
+     */
+    void setTurnNumber(int p_turnNumber) {
+        d_turnNumber = p_turnNumber;
+    }
+
+    /**
+     * Sets the state of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @param p_owner        Index of the owner plus one; zero if the country is not owned.
+     * @param p_armies       Number of armies.
+     */
+    void setCountry(int p_countryIndex, int p_owner, int p_armies) {
+        d_countryOwners[p_countryIndex] = p_owner;
+        d_countryArmies[p_countryIndex] = p_armies;
+    }
+
+    /**
+     * Sets the reinforcements of the player.
+     *
+     * @param p_playerIndex        Index of the player.
+     * @param p_reinforcementCount Number of armies.
+     */
+    void setReinforcementCount(int p_playerIndex, int p_reinforcementCount) {
+        d_reinforcementCounts[p_playerIndex] = p_reinforcementCount;
+    }
+
+    /**
+     * Gets the list of the cards of the player, which can be changed.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the list of the cards.
+     */
+    List<CardType> getCardList(int p_playerIndex) {
+        return d_playerCards.get(p_playerIndex);
+    }
+
+    /**
+     * Gets the list of the indices of the players with whom the player negotiates, which can be changed.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the list of the player indices.
+     */
+    List<Integer> getFriendPlayerList(int p_playerIndex) {
+        return d_friendPlayers.get(p_playerIndex);
+    }
+
+    /**
+     * Gets the number of the turn after which this is the state of the board.
+     *
+     * @return Value of the turn number; zero before the first turn.
+     */
+    public int getTurnNumber() {
+        return d_turnNumber;
+    }
+
+    /**
+     * Gets the names of the players.
+     *
+     * @return Value of the names, in the order of the journal.
+     */
+    public List<String> getPlayerNames() {
+        return Collections.unmodifiableList(d_playerNames);
+    }
+
+    /**
+     * Gets the names of the countries.
+     *
+     * @return Value of the names, in the order of the journal.
+     */
+    public List<String> getCountryNames() {
+        return Collections.unmodifiableList(d_countryNames);
+    }
+
+    /**
+     * Gets the name of the owner of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the name; null if the country is not owned.
+     */
+    public String getOwnerName(int p_countryIndex) {
+        int l_owner = d_countryOwners[p_countryIndex];
+        return l_owner > 0 ? d_playerNames.get(l_owner - 1) : null;
+    }
+
+    /**
+     * Gets the armies placed on the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the number of armies.
+     */
+    public int getNumberOfArmies(int p_countryIndex) {
+        return d_countryArmies[p_countryIndex];
+    }
+
+    /**
+     * Gets the reinforcements last assigned to the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the number of armies.
+     */
+    public int getReinforcementCount(int p_playerIndex) {
+        return d_reinforcementCounts[p_playerIndex];
+    }
+
+    /**
+     * Gets the cards of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the types of the cards.
+     */
+    public List<CardType> getCards(int p_playerIndex) {
+        return Collections.unmodifiableList(d_playerCards.get(p_playerIndex));
+    }
+
+    /**
+     * Creates the tables of the countries and the players.
+     *
+     * @return Value of the tables.
+     */
+    public String toTable() {
+        String[][] l_countryRows = new String[d_countryNames.size()][];
+        for (int l_countryIndex = 0; l_countryIndex < d_countryNames.size(); l_countryIndex++) {
+            String l_ownerName = this.getOwnerName(l_countryIndex);
+            l_countryRows[l_countryIndex] = new String[]{
+                    d_countryNames.get(l_countryIndex),
+                    l_ownerName != null ? l_ownerName : "-",
+                    String.valueOf(d_countryArmies[l_countryIndex])
+            };
+        }
+        String[][] l_playerRows = new String[d_playerNames.size()][];
+        for (int l_playerIndex = 0; l_playerIndex < d_playerNames.size(); l_playerIndex++) {
+            l_playerRows[l_playerIndex] = new String[]{
+                    d_playerNames.get(l_playerIndex),
+                    String.valueOf(d_reinforcementCounts[l_playerIndex]),
+                    d_playerCards.get(l_playerIndex).stream().map(CardType::getJsonValue).collect(Collectors.joining(", ")),
+                    d_friendPlayers.get(l_playerIndex).stream().map(d_playerNames::get).collect(Collectors.joining(", "))
+            };
+        }
+        return String.format("Turn %d\n%s%s",
+                d_turnNumber,
+                FlipTable.of(new String[]{"Country", "Owner", "Armies"}, l_countryRows),
+                FlipTable.of(new String[]{"Player", "Reinforcements", "Cards", "Negotiating with"}, l_playerRows));
+    }
+}
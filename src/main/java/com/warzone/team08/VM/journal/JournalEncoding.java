@@ -0,0 +1,186 @@
+package com.warzone.team08.VM.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Encoding of the values of the journal. The values are written as variable-length integers, seven bits per byte with
+ * the highest bit telling if more bytes follow, so the small values of a game take a single byte.
+ *
+ * @author Rutwik
+ * @version 1.0
+ */
+final class JournalEncoding {
+    /**
+     * First bytes of each journal; <code>WZJ1</code>.
+     */
+    static final int MAGIC = 0x575A4A31;
+
+    /**
+     * Version of the format of the journal.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Prevents the creation of the instance.
+     */
+    private JournalEncoding() {
+    }
+
+    /**
+     * Writes the non-negative value using as few bytes as needed.
+     *
+     * @param p_output Output to write to.
+     * @param p_value  Value to be written.
+     * @throws IOException If the value can not be written.
+     */
+    static void writeVarInt(DataOutput p_output, int p_value) throws IOException {
+        while ((p_value & ~0x7F) != 0) {
+            p_output.writeByte((p_value & 0x7F) | 0x80);
+            p_value >>>= 7;
+        }
+        p_output.writeByte(p_value);
+    }
+
+    /**
+     * Reads the value written by {@link JournalEncoding#writeVarInt(DataOutput, int)}.
+     *
+     * @param p_input Input to read from.
+     * @return Value read.
+     * @throws IOException If the value can not be read or is too long.
+     */
+    static int readVarInt(DataInput p_input) throws IOException {
+        int l_value = 0;
+        for (int l_shift = 0; l_shift < 35; l_shift += 7) {
+            int l_byte = p_input.readUnsignedByte();
+            l_value |= (l_byte & 0x7F) << l_shift;
+            if ((l_byte & 0x80) == 0) {
+                return l_value;
+            }
+        }
+        throw new IOException("Value of the journal is too long.");
+    }
+
+    /**
+     * Reads the tag of the next record.
+     *
+     * @param p_input Input to read from.
+     * @return Value of the tag; -1 at the end of the journal.
+     * @throws IOException If the tag can not be read.
+     */
+    static int readTag(DataInput p_input) throws IOException {
+        try {
+            return p_input.readUnsignedByte();
+        } catch (EOFException p_eofException) {
+            return -1;
+        }
+    }
+
+    /**
+     * Output stream counting the bytes written through it, to find the position of the records in the journal.
+     */
+    static final class CountingOutputStream extends FilterOutputStream {
+        private long d_count;
+
+        /**
+         * Creates the stream writing to the given stream.
+         *
+         * @param p_outputStream Stream to write to.
+         */
+        CountingOutputStream(OutputStream p_outputStream) {
+            super(p_outputStream);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(int p_byte) throws IOException {
+            out.write(p_byte);
+            d_count++;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(byte[] p_bytes, int p_offset, int p_length) throws IOException {
+            out.write(p_bytes, p_offset, p_length);
+            d_count += p_length;
+        }
+
+        /**
+         * Gets the number of bytes written.
+         *
+         * @return Value of the count.
+         */
+        long getCount() {
+            return d_count;
+        }
+    }
+
+    /**
+     * Input stream counting the bytes read through it, to find the position of the first record of the journal.
+     */
+    static final class CountingInputStream extends FilterInputStream {
+        private long d_count;
+
+        /**
+         * Creates the stream reading from the given stream.
+         *
+         * @param p_inputStream Stream to read from.
+         */
+        CountingInputStream(InputStream p_inputStream) {
+            super(p_inputStream);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() throws IOException {
+            int l_byte = in.read();
+            if (l_byte >= 0) {
+                d_count++;
+            }
+            return l_byte;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(byte[] p_bytes, int p_offset, int p_length) throws IOException {
+            int l_length = in.read(p_bytes, p_offset, p_length);
+            if (l_length > 0) {
+                d_count += l_length;
+            }
+            return l_length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long skip(long p_length) throws IOException {
+            long l_length = in.skip(p_length);
+            d_count += l_length;
+            return l_length;
+        }
+
+        /**
+         * Gets the number of bytes read.
+         *
+         * @return Value of the count.
+         */
+        long getCount() {
+            return d_count;
+        }
+    }
+}
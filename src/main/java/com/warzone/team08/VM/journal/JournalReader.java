@@ -0,0 +1,266 @@
+package com.warzone.team08.VM.journal;
+
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.InvalidInputException;
+import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rebuilds the board of a game at any turn from its <code>GameJournal</code>. The reader starts from the nearest
+ * keyframe at or before the turn, found using the index file of the journal, and applies the records written after it
+ * until the turn ends.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see GameJournal
+ */
+public class JournalReader {
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private final File d_journalFile;
+    private final List<String> d_playerNames;
+    private final List<String> d_countryNames;
+
+    /**
+     * Board when the journal has been opened, and the position of the first record after it.
+     */
+    private final JournalBoard d_initialBoard;
+    private final long d_firstRecordPosition;
+
+    /**
+     * Turn number and position of each keyframe, in the order of the turns.
+     */
+    private final List<Integer> d_keyframeTurns = new ArrayList<>();
+    private final List<Long> d_keyframePositions = new ArrayList<>();
+
+    /**
+     * Reads the names of the players and the countries, the initial board and the index of the journal.
+     *
+     * @param p_journalFile File of the journal.
+     * @throws ResourceNotFoundException If the journal does not exist.
+     * @throws InvalidInputException     If the file is not a journal or is corrupted.
+     */
+    public JournalReader(File p_journalFile) throws ResourceNotFoundException, InvalidInputException {
+        d_journalFile = p_journalFile;
+        if (!p_journalFile.isFile()) {
+            throw new ResourceNotFoundException("Journal not found!");
+        }
+        JournalEncoding.CountingInputStream l_countingStream = null;
+        try (FileInputStream l_fileStream = new FileInputStream(p_journalFile)) {
+            l_countingStream = new JournalEncoding.CountingInputStream(new BufferedInputStream(l_fileStream));
+            DataInputStream l_input = new DataInputStream(l_countingStream);
+            if (l_input.readInt() != JournalEncoding.MAGIC || JournalEncoding.readVarInt(l_input) != JournalEncoding.VERSION) {
+                throw new InvalidInputException("File is not a journal!");
+            }
+            d_playerNames = this.readNames(l_input);
+            d_countryNames = this.readNames(l_input);
+            d_initialBoard = new JournalBoard(d_playerNames, d_countryNames);
+            this.readState(l_input, d_initialBoard);
+            d_firstRecordPosition = l_countingStream.getCount();
+        } catch (IOException p_ioException) {
+            throw new InvalidInputException("Journal is corrupted!");
+        }
+        this.readIndex(new File(p_journalFile.getPath() + GameJournal.INDEX_FILE_EXTENSION));
+    }
+
+    /**
+     * Rebuilds the board after the turn.
+     *
+     * @param p_turnNumber Number of the turn; zero for the board before the first turn.
+     * @return Value of the board.
+     * @throws InvalidArgumentException If the turn has not been recorded in the journal.
+     * @throws InvalidInputException    If the journal is corrupted.
+     */
+    public JournalBoard readBoard(int p_turnNumber) throws InvalidArgumentException, InvalidInputException {
+        if (p_turnNumber < 0) {
+            throw new InvalidArgumentException("Turn can not be negative!");
+        }
+        // Nearest keyframe at or before the turn.
+        int l_keyframeIndex = Collections.binarySearch(d_keyframeTurns, p_turnNumber);
+        if (l_keyframeIndex < 0) {
+            l_keyframeIndex = -l_keyframeIndex - 2;
+        }
+        long l_position = l_keyframeIndex >= 0 ? d_keyframePositions.get(l_keyframeIndex) : d_firstRecordPosition;
+
+        JournalBoard l_board = d_initialBoard.copy();
+        try (FileInputStream l_fileStream = new FileInputStream(d_journalFile)) {
+            l_fileStream.getChannel().position(l_position);
+            DataInputStream l_input = new DataInputStream(new BufferedInputStream(l_fileStream));
+            while (true) {
+                int l_tag = JournalEncoding.readTag(l_input);
+                if (l_tag < 0) {
+                    break;
+                }
+                JournalRecordType l_recordType = JournalRecordType.fromTag(l_tag);
+                if (l_recordType == null) {
+                    throw new InvalidInputException("Journal is corrupted!");
+                }
+                if (l_recordType == JournalRecordType.TURN) {
+                    int l_turnNumber = JournalEncoding.readVarInt(l_input);
+                    if (l_turnNumber > p_turnNumber) {
+                        return l_board;
+                    }
+                    l_board.setTurnNumber(l_turnNumber);
+                } else {
+                    this.applyRecord(l_recordType, l_input, l_board);
+                }
+            }
+        } catch (EOFException p_eofException) {
+            // The last record has not been written completely; the game may still be running.
+        } catch (IOException | IndexOutOfBoundsException p_exception) {
+            throw new InvalidInputException("Journal is corrupted!");
+        }
+        if (l_board.getTurnNumber() < p_turnNumber) {
+            throw new InvalidArgumentException(String.format("Turn %d has not been recorded! The journal ends at turn %d.",
+                    p_turnNumber, l_board.getTurnNumber()));
+        }
+        return l_board;
+    }
+
+    /**
+     * Gets the names of the players of the journal.
+     *
+     * @return Value of the names.
+     */
+    public List<String> getPlayerNames() {
+        return Collections.unmodifiableList(d_playerNames);
+    }
+
+    /**
+     * Gets the names of the countries of the journal.
+     *
+     * @return Value of the names.
+     */
+    public List<String> getCountryNames() {
+        return Collections.unmodifiableList(d_countryNames);
+    }
+
+    /**
+     * Gets the turns after which the board has been written as a keyframe.
+     *
+     * @return Value of the turn numbers.
+     */
+    public List<Integer> getKeyframeTurns() {
+        return Collections.unmodifiableList(d_keyframeTurns);
+    }
+
+    /**
+     * Applies the record, other than the start of a turn, to the board.
+     *
+     * @param p_recordType Type of the record; its tag has been read.
+     * @param p_input      Input to read the values of the record from.
+     * @param p_board      Board to which the record is applied.
+     * @throws IOException If the record can not be read.
+     */
+    private void applyRecord(JournalRecordType p_recordType, DataInputStream p_input, JournalBoard p_board) throws IOException {
+        switch (p_recordType) {
+            case KEYFRAME:
+                p_board.setTurnNumber(JournalEncoding.readVarInt(p_input));
+                this.readState(p_input, p_board);
+                break;
+            case COUNTRY:
+                p_board.setCountry(JournalEncoding.readVarInt(p_input), JournalEncoding.readVarInt(p_input), JournalEncoding.readVarInt(p_input));
+                break;
+            case REINFORCEMENTS:
+                p_board.setReinforcementCount(JournalEncoding.readVarInt(p_input), JournalEncoding.readVarInt(p_input));
+                break;
+            case ORDER:
+                // The effects of the order follow as their own records.
+                JournalEncoding.readVarInt(p_input);
+                JournalEncoding.readVarInt(p_input);
+                break;
+            case CARD_GRANTED:
+                p_board.getCardList(JournalEncoding.readVarInt(p_input)).add(CARD_TYPES[JournalEncoding.readVarInt(p_input)]);
+                break;
+            case CARD_USED:
+                p_board.getCardList(JournalEncoding.readVarInt(p_input)).remove(CARD_TYPES[JournalEncoding.readVarInt(p_input)]);
+                break;
+            case NEGOTIATION:
+                p_board.getFriendPlayerList(JournalEncoding.readVarInt(p_input)).add(JournalEncoding.readVarInt(p_input));
+                break;
+            case NEGOTIATION_EXPIRED:
+                p_board.getFriendPlayerList(JournalEncoding.readVarInt(p_input)).remove(Integer.valueOf(JournalEncoding.readVarInt(p_input)));
+                break;
+            default:
+                // DISTRIBUTION only marks the records which follow it.
+                break;
+        }
+    }
+
+    /**
+     * Reads the state of the board written by the journal into the board.
+     *
+     * @param p_input Input to read from.
+     * @param p_board Board to which the state is set.
+     * @throws IOException If the state can not be read.
+     */
+    private void readState(DataInputStream p_input, JournalBoard p_board) throws IOException {
+        for (int l_countryIndex = 0; l_countryIndex < d_countryNames.size(); l_countryIndex++) {
+            p_board.setCountry(l_countryIndex, JournalEncoding.readVarInt(p_input), JournalEncoding.readVarInt(p_input));
+        }
+        for (int l_playerIndex = 0; l_playerIndex < d_playerNames.size(); l_playerIndex++) {
+            p_board.setReinforcementCount(l_playerIndex, JournalEncoding.readVarInt(p_input));
+            List<CardType> l_cards = p_board.getCardList(l_playerIndex);
+            l_cards.clear();
+            int l_numberOfCards = JournalEncoding.readVarInt(p_input);
+            for (int l_cardIndex = 0; l_cardIndex < l_numberOfCards; l_cardIndex++) {
+                l_cards.add(CARD_TYPES[JournalEncoding.readVarInt(p_input)]);
+            }
+            List<Integer> l_friendPlayers = p_board.getFriendPlayerList(l_playerIndex);
+            l_friendPlayers.clear();
+            int l_numberOfFriendPlayers = JournalEncoding.readVarInt(p_input);
+            for (int l_friendIndex = 0; l_friendIndex < l_numberOfFriendPlayers; l_friendIndex++) {
+                l_friendPlayers.add(JournalEncoding.readVarInt(p_input));
+            }
+        }
+    }
+
+    /**
+     * Reads the list of names.
+     *
+     * @param p_input Input to read from.
+     * @return Value of the names.
+     * @throws IOException If the names can not be read.
+     */
+    private List<String> readNames(DataInputStream p_input) throws IOException {
+        int l_numberOfNames = JournalEncoding.readVarInt(p_input);
+        List<String> l_names = new ArrayList<>(l_numberOfNames);
+        for (int l_nameIndex = 0; l_nameIndex < l_numberOfNames; l_nameIndex++) {
+            l_names.add(p_input.readUTF());
+        }
+        return l_names;
+    }
+
+    /**
+     * Reads the turns and the positions of the keyframes. Without the index file, the board is always rebuilt from the
+     * beginning of the journal.
+     *
+     * @param p_indexFile Index file of the journal.
+     * @throws InvalidInputException If the index file can not be read.
+     */
+    private void readIndex(File p_indexFile) throws InvalidInputException {
+        if (!p_indexFile.isFile()) {
+            return;
+        }
+        try (DataInputStream l_input = new DataInputStream(new BufferedInputStream(new FileInputStream(p_indexFile)))) {
+            // Each entry is the turn number and the position; an incomplete entry at the end is ignored.
+            long l_numberOfEntries = p_indexFile.length() / (Integer.BYTES + Long.BYTES);
+            for (long l_entryIndex = 0; l_entryIndex < l_numberOfEntries; l_entryIndex++) {
+                d_keyframeTurns.add(l_input.readInt());
+                d_keyframePositions.add(l_input.readLong());
+            }
+        } catch (IOException p_ioException) {
+            throw new InvalidInputException("Index of the journal is corrupted!");
+        }
+    }
+}
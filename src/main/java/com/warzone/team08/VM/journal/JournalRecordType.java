@@ -0,0 +1,93 @@
+package com.warzone.team08.VM.journal;
+
+/**
+ * Type of a record of the <code>GameJournal</code>. Each record starts with the tag of its type, followed by its
+ * values written as variable-length integers.
+ *
+ * @author Rutwik
+ * @version 1.0
+ * @see GameJournal
+ */
+public enum JournalRecordType {
+    /**
+     * Start of a turn: the turn number. The records until the next turn belong to this turn.
+     */
+    TURN(1),
+    /**
+     * State of the board after a turn: the turn number, then the state of every country and every player.
+     */
+    KEYFRAME(2),
+    /**
+     * The countries are distributed among the players; followed by the records of the countries.
+     */
+    DISTRIBUTION(3),
+    /**
+     * New state of a country: the country index, the owner index plus one (zero if not owned) and the armies.
+     */
+    COUNTRY(4),
+    /**
+     * Reinforcements assigned to a player: the player index and the number of armies.
+     */
+    REINFORCEMENTS(5),
+    /**
+     * Execution of an order: the player index and the order type; followed by the records of its effects.
+     */
+    ORDER(6),
+    /**
+     * Card granted to a player: the player index and the card type.
+     */
+    CARD_GRANTED(7),
+    /**
+     * Card used by a player: the player index and the card type.
+     */
+    CARD_USED(8),
+    /**
+     * A player negotiates with another player: the player index and the other player index.
+     */
+    NEGOTIATION(9),
+    /**
+     * The negotiation of a player with another player has expired: the player index and the other player index.
+     */
+    NEGOTIATION_EXPIRED(10);
+
+    private static final JournalRecordType[] d_TypesByTag = new JournalRecordType[11];
+
+    static {
+        for (JournalRecordType l_recordType : JournalRecordType.values()) {
+            d_TypesByTag[l_recordType.d_tag] = l_recordType;
+        }
+    }
+
+    private final int d_tag;
+
+    /**
+     * Sets the tag of the record type.
+     *
+     * @param p_tag Value of the tag written to the journal.
+     */
+    JournalRecordType(int p_tag) {
+        d_tag = p_tag;
+    }
+
+    /**
+     * Gets the tag written to the journal.
+     *
+     * @return Value of the tag.
+     */
+    public int getTag() {
+        return d_tag;
+    }
+
+    /**
+     * Gets the record type of the tag.
+     *
+     * @param p_tag Value of the tag read from the journal.
+     * @return Value of the record type; null if the tag is not known.
+     */
+    public static JournalRecordType fromTag(int p_tag) {
+        if (p_tag < 0 || p_tag >= d_TypesByTag.length) {
+            return null;
+        }
+        return d_TypesByTag[p_tag];
+    }
+}
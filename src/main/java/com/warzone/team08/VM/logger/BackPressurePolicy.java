@@ -0,0 +1,19 @@
+package com.warzone.team08.VM.logger;
+
+/**
+ * What the <code>LogWriter</code> does with a message when its queue is full, because the messages are logged faster
+ * than they can be written to the file.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public enum BackPressurePolicy {
+    /**
+     * The thread logging the message waits until the queue has space, so no message is lost.
+     */
+    BLOCK,
+    /**
+     * The message is not logged and counted as dropped, so the game is never slowed down by the log.
+     */
+    DROP
+}
@@ -1,37 +1,103 @@
 package com.warzone.team08.VM.logger;
 
-import java.util.ArrayList;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * This class implements the Observable to notify the observers about the changes happen during any actions.
+ * <p>
+ * Each head command is a category of the log having its own <code>LogLevel</code>; the categories which have not been
+ * set use the default level. A message given as a <code>Supplier</code> is created only if there is an observer and
+ * the category logs the level of the message, so the games which are not logged do not format their messages.
+ * <p>
+ * Each game has its own buffer, and each logged message is sent to the observers as an immutable <code>LogEvent</code>,
+ * carrying the game and the turn of the engine owning the buffer. A buffer may have a parent, such as the buffer of the
+ * tournament or of the virtual machine: the events are also sent to the observers of the parent, and the categories
+ * which have not been set in the buffer use the levels of the parent. A buffer may also have a fallback level, used by
+ * the categories which have not been set in the buffer or any of its parents: a tournament plays its games at
+ * <code>INFO</code> unless a level has been asked for, so thousands of games do not build the tables of the order
+ * effects. The buffer does not keep the last message, so
+ * many threads can log at once without a lock; the observers must accept events from many threads.
  *
  * @author MILESH
  * @author Brijesh Lakkad
  */
 public class LogEntryBuffer implements Observable {
+    /**
+     * Level of the categories which have not been set in any buffer, and have no fallback level.
+     */
+    public static final LogLevel DEFAULT_LOG_LEVEL = LogLevel.DEBUG;
+
     private final List<Observer> d_observerList;
-    private String d_message;
-    private String d_headCommand;
-    private static LogEntryBuffer d_instance;
+    private final Map<String, LogLevel> d_categoryLevels;
+
+    /**
+     * Level of the categories which have not been set; null if the levels of the parent are used.
+     */
+    private volatile LogLevel d_defaultLevel;
+
+    /**
+     * Level of the categories which have not been set in this buffer or its parents; null if the fallback level of the
+     * parent is used.
+     */
+    private final LogLevel d_fallbackLevel;
 
     /**
-     * Constructor to initialize the data members
+     * Engine of the game whose events are logged to this buffer; null if the events are not of a game.
      */
-    private LogEntryBuffer() {
-        d_observerList = new ArrayList<>();
+    private final GameEngine d_gameEngine;
+
+    /**
+     * Buffer to which the events are also sent; null if this buffer is the root.
+     */
+    private final LogEntryBuffer d_parent;
+
+    /**
+     * Creates a root buffer, which does not belong to any game.
+     */
+    public LogEntryBuffer() {
+        this(null, null);
     }
 
     /**
-     * Gets the single instance of the class.
+     * Creates the buffer of the game. The categories use the levels of the parent until they are set in this buffer.
      *
-     * @return Value of the instance.
+     * @param p_gameEngine Engine of the game whose events are logged; null if the events are not of a game.
+     * @param p_parent     Buffer to which the events are also sent; null if this buffer is the root.
      */
-    public static LogEntryBuffer getLogger() {
-        if (d_instance == null) {
-            d_instance = new LogEntryBuffer();
-        }
-        return d_instance;
+    public LogEntryBuffer(GameEngine p_gameEngine, LogEntryBuffer p_parent) {
+        this(p_gameEngine, p_parent, null);
+    }
+
+    /**
+     * Creates the buffer of the game, whose categories which have not been set in it or its parents use the fallback
+     * level.
+     *
+     * @param p_gameEngine    Engine of the game whose events are logged; null if the events are not of a game.
+     * @param p_parent        Buffer to which the events are also sent; null if this buffer is the root.
+     * @param p_fallbackLevel Level of the categories which have not been set; null to use the one of the parent.
+     */
+    public LogEntryBuffer(GameEngine p_gameEngine, LogEntryBuffer p_parent, LogLevel p_fallbackLevel) {
+        d_observerList = new CopyOnWriteArrayList<>();
+        d_categoryLevels = new ConcurrentHashMap<>();
+        d_gameEngine = p_gameEngine;
+        d_parent = p_parent;
+        d_fallbackLevel = p_fallbackLevel;
+    }
+
+    /**
+     * Gets the buffer to which the events are also sent.
+     *
+     * @return Value of the parent; null if this buffer is the root.
+     */
+    public LogEntryBuffer getParent() {
+        return d_parent;
     }
 
     /**
@@ -55,62 +121,205 @@ public class LogEntryBuffer implements Observable {
     }
 
     /**
-     * This method notifies all the observers whenever data changes.
+     * This method notifies all the observers about the event, and then the observers of the parent.
      *
-     * @param p_o Observable object
+     * @param p_event Event of the log.
      */
     @Override
-    public void notifyObservers(Observable p_o) {
+    public void notifyObservers(LogEvent p_event) {
         for (Observer l_observer : d_observerList) {
-            l_observer.update(p_o);
+            l_observer.update(p_event);
+        }
+        if (d_parent != null) {
+            d_parent.notifyObservers(p_event);
         }
     }
 
     /**
-     * Gets the message to store in file.
+     * Checks if this buffer or any of its parents has an observer.
      *
-     * @return Message to store
+     * @return True if the events are observed; false otherwise.
      */
-    public String getMessage() {
-        return String.format("---%s---\n%s\n", this.getHeadCommand(), d_message);
+    private boolean isObserved() {
+        return !d_observerList.isEmpty() || (d_parent != null && d_parent.isObserved());
     }
 
     /**
-     * Sets the message which will be stored in file.
+     * This method will be called whenever there will be change in any services. The message is logged at
+     * <code>INFO</code> level.
      *
-     * @param p_message message to store
+     * @param p_headCommand head command name.
+     * @param p_message     message to save in file.
      */
-    public void setMessage(String p_message) {
-        d_message = p_message;
+    public void dataChanged(String p_headCommand, String p_message) {
+        if (this.isLoggable(p_headCommand, LogLevel.INFO)) {
+            this.publish(p_headCommand, LogLevel.INFO, p_message);
+        }
     }
 
     /**
-     * This method will be called whenever there will be change in any services.
+     * Logs the message of the level, if the category of the head command logs the level.
      *
      * @param p_headCommand head command name.
+     * @param p_level       Level of the message.
      * @param p_message     message to save in file.
      */
-    public void dataChanged(String p_headCommand, String p_message) {
-        d_headCommand = p_headCommand;
-        d_message = p_message;
-        notifyObservers(this);
+    public void dataChanged(String p_headCommand, LogLevel p_level, String p_message) {
+        if (this.isLoggable(p_headCommand, p_level)) {
+            this.publish(p_headCommand, p_level, p_message);
+        }
+    }
+
+    /**
+     * Logs the message at <code>INFO</code> level. The message is created only if it is going to be logged; the
+     * supplier is called before this method returns, so it can read the state of the game.
+     *
+     * @param p_headCommand head command name.
+     * @param p_message     Supplier of the message to save in file.
+     */
+    public void dataChanged(String p_headCommand, Supplier<String> p_message) {
+        if (this.isLoggable(p_headCommand, LogLevel.INFO)) {
+            this.publish(p_headCommand, LogLevel.INFO, p_message.get());
+        }
+    }
+
+    /**
+     * Logs the message of the level. The message is created only if it is going to be logged; the supplier is called
+     * before this method returns, so it can read the state of the game.
+     *
+     * @param p_headCommand head command name.
+     * @param p_level       Level of the message.
+     * @param p_message     Supplier of the message to save in file.
+     */
+    public void dataChanged(String p_headCommand, LogLevel p_level, Supplier<String> p_message) {
+        if (this.isLoggable(p_headCommand, p_level)) {
+            this.publish(p_headCommand, p_level, p_message.get());
+        }
+    }
+
+    /**
+     * Creates the event of the message and notifies the observers about it. The game and the turn are of the engine
+     * owning this buffer.
+     *
+     * @param p_headCommand head command name.
+     * @param p_level       Level of the message.
+     * @param p_message     message to save in file.
+     */
+    private void publish(String p_headCommand, LogLevel p_level, String p_message) {
+        int l_gameId = LogEvent.NO_GAME_ID;
+        int l_turnIndex = 0;
+        if (d_gameEngine != null) {
+            l_gameId = d_gameEngine.getGameId();
+            GamePlayEngine l_gamePlayEngine = d_gameEngine.getGamePlayEngine();
+            if (l_gamePlayEngine != null) {
+                l_turnIndex = l_gamePlayEngine.getExecutionIndex();
+            }
+        }
+        notifyObservers(new LogEvent(System.currentTimeMillis(),
+                l_gameId,
+                l_turnIndex,
+                p_headCommand,
+                p_level,
+                p_message));
+    }
+
+    /**
+     * Checks if a message of the level would be logged in the category.
+     *
+     * @param p_category Category of the message; the head command.
+     * @param p_level    Level of the message.
+     * @return True if this buffer or a parent has an observer and the category logs the level; false otherwise.
+     */
+    public boolean isLoggable(String p_category, LogLevel p_level) {
+        return this.isObserved() && this.getLogLevel(p_category).includes(p_level);
+    }
+
+    /**
+     * Gets the level of the category.
+     *
+     * @param p_category Category of the log; the head command.
+     * @return Value of the level of the category; the level set in this buffer or the nearest parent, or the fallback
+     * level if none has been set.
+     */
+    public LogLevel getLogLevel(String p_category) {
+        LogLevel l_logLevel = this.findLogLevel(p_category);
+        return l_logLevel != null ? l_logLevel : this.getFallbackLevel();
+    }
+
+    /**
+     * Finds the level set for the category in this buffer or the nearest parent.
+     *
+     * @param p_category Category of the log; the head command.
+     * @return Value of the level of the category, or of all the categories; null if it has not been set.
+     */
+    private LogLevel findLogLevel(String p_category) {
+        if (!d_categoryLevels.isEmpty()) {
+            LogLevel l_logLevel = d_categoryLevels.get(p_category);
+            if (l_logLevel != null) {
+                return l_logLevel;
+            }
+        }
+        LogLevel l_defaultLevel = d_defaultLevel;
+        if (l_defaultLevel != null) {
+            return l_defaultLevel;
+        }
+        return d_parent != null ? d_parent.findLogLevel(p_category) : null;
+    }
+
+    /**
+     * Gets the level of the categories which have not been set in this buffer or its parents.
+     *
+     * @return Value of the fallback level of this buffer or the nearest parent; the default level if none has one.
+     */
+    private LogLevel getFallbackLevel() {
+        if (d_fallbackLevel != null) {
+            return d_fallbackLevel;
+        }
+        return d_parent != null ? d_parent.getFallbackLevel() : DEFAULT_LOG_LEVEL;
+    }
+
+    /**
+     * Gets the level of the categories which have not been set.
+     *
+     * @return Value of the level set for all the categories in this buffer or the nearest parent; the fallback level if
+     * none has been set.
+     */
+    public LogLevel getLogLevel() {
+        for (LogEntryBuffer l_buffer = this; l_buffer != null; l_buffer = l_buffer.d_parent) {
+            LogLevel l_defaultLevel = l_buffer.d_defaultLevel;
+            if (l_defaultLevel != null) {
+                return l_defaultLevel;
+            }
+        }
+        return this.getFallbackLevel();
+    }
+
+    /**
+     * Sets the level of all the categories. The levels set for the categories are removed.
+     *
+     * @param p_logLevel Value of the level.
+     */
+    public void setLogLevel(LogLevel p_logLevel) {
+        d_defaultLevel = p_logLevel;
+        d_categoryLevels.clear();
     }
 
     /**
-     * Gets the name of head command.
+     * Sets the level of the category.
      *
-     * @return Head command name.
+     * @param p_category Category of the log; the head command.
+     * @param p_logLevel Value of the level.
      */
-    public String getHeadCommand() {
-        return d_headCommand;
+    public void setLogLevel(String p_category, LogLevel p_logLevel) {
+        d_categoryLevels.put(p_category, p_logLevel);
     }
 
     /**
-     * Sets the head command name.
+     * Gets the levels set for the categories.
      *
-     * @param p_headCommand Head command name.
+     * @return Value of the levels, mapped by their category.
      */
-    public void setHeadCommand(String p_headCommand) {
-        d_headCommand = p_headCommand;
+    public Map<String, LogLevel> getCategoryLevels() {
+        return d_categoryLevels;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package com.warzone.team08.VM.logger;
+
+import java.time.Instant;
+
+/**
+ * An event of the log. The event is created once for each logged message and is not modified afterwards, so the
+ * observers can keep it or pass it to other threads, and the events of games running at once are never mixed.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public final class LogEvent {
+    /**
+     * Game id of the events which are not logged by a game.
+     */
+    public static final int NO_GAME_ID = 0;
+
+    private final long d_timestamp;
+    private final int d_gameId;
+    private final int d_turnIndex;
+    private final String d_category;
+    private final LogLevel d_level;
+    private final String d_payload;
+
+    /**
+     * Creates the event.
+     *
+     * @param p_timestamp Time at which the event has been logged, in milliseconds since the epoch.
+     * @param p_gameId    Id of the game logging the event; <code>NO_GAME_ID</code> if it is not logged by a game.
+     * @param p_turnIndex Index of the turn of the game.
+     * @param p_category  Category of the event; the head command.
+     * @param p_level     Level of the event.
+     * @param p_payload   Message of the event.
+     */
+    public LogEvent(long p_timestamp,
+                    int p_gameId,
+                    int p_turnIndex,
+                    String p_category,
+                    LogLevel p_level,
+                    String p_payload) {
+        d_timestamp = p_timestamp;
+        d_gameId = p_gameId;
+        d_turnIndex = p_turnIndex;
+        d_category = p_category;
+        d_level = p_level;
+        d_payload = p_payload;
+    }
+
+    /**
+     * Gets the time at which the event has been logged.
+     *
+     * @return Value of the time, in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return d_timestamp;
+    }
+
+    /**
+     * Gets the id of the game which has logged the event.
+     *
+     * @return Value of the id; <code>NO_GAME_ID</code> if it is not logged by a game.
+     */
+    public int getGameId() {
+        return d_gameId;
+    }
+
+    /**
+     * Gets the index of the turn during which the event has been logged.
+     *
+     * @return Value of the index.
+     */
+    public int getTurnIndex() {
+        return d_turnIndex;
+    }
+
+    /**
+     * Gets the category of the event.
+     *
+     * @return Value of the category; the head command.
+     */
+    public String getCategory() {
+        return d_category;
+    }
+
+    /**
+     * Gets the level of the event.
+     *
+     * @return Value of the level.
+     */
+    public LogLevel getLevel() {
+        return d_level;
+    }
+
+    /**
+     * Gets the message of the event.
+     *
+     * @return Value of the message.
+     */
+    public String getPayload() {
+        return d_payload;
+    }
+
+    /**
+     * Formats the event as it is written to the log file. The header of the event has its category, the time (ISO-8601,
+     * UTC), the level, the id of the game and the index of the turn, so the events of the games running at once can be
+     * told apart in the file:
+     * <pre>---advance--- 2021-04-10T18:25:43.511Z INFO game=3 turn=12</pre>
+     *
+     * @return Value of the text of the event.
+     */
+    public String format() {
+        return String.format("---%s--- %s %s game=%d turn=%d\n%s\n",
+                d_category,
+                Instant.ofEpochMilli(d_timestamp),
+                d_level,
+                d_gameId,
+                d_turnIndex,
+                d_payload);
+    }
+}
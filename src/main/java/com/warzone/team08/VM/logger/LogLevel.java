@@ -0,0 +1,37 @@
+package com.warzone.team08.VM.logger;
+
+/**
+ * Level of the messages of the log. A category of the log logs the messages of its level and of the levels before it;
+ * for example, a category at <code>INFO</code> logs the errors and the events but not the details of the events.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public enum LogLevel {
+    /**
+     * Nothing is logged.
+     */
+    OFF,
+    /**
+     * The errors of the commands and the orders.
+     */
+    ERROR,
+    /**
+     * The events of the game, for example, an order which has been executed.
+     */
+    INFO,
+    /**
+     * The details of the events, for example, the table of the armies changed by an order.
+     */
+    DEBUG;
+
+    /**
+     * Checks if the messages of the given level are logged at this level.
+     *
+     * @param p_messageLevel Level of the message.
+     * @return True if the message is logged; false otherwise.
+     */
+    public boolean includes(LogLevel p_messageLevel) {
+        return p_messageLevel != OFF && p_messageLevel.ordinal() <= this.ordinal();
+    }
+}
@@ -0,0 +1,121 @@
+package com.warzone.team08.VM.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded queue of the messages of the log, which many threads can add to and a single thread takes from. The queue
+ * does not use locks: each slot of the ring has a sequence number telling if the slot can be written or read at the
+ * given position.
+ * <ul>
+ *     <li>A slot at position <code>p</code> can be written when its sequence is <code>p</code>.</li>
+ *     <li>It can be read when its sequence is <code>p + 1</code>.</li>
+ *     <li>Once read, its sequence becomes <code>p + capacity</code>, the position of its next turn.</li>
+ * </ul>
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public final class LogRingBuffer {
+    private final int d_capacity;
+    private final int d_mask;
+    private final AtomicReferenceArray<String> d_messages;
+    private final AtomicLongArray d_sequences;
+    private final AtomicLong d_tail = new AtomicLong();
+
+    /**
+     * Position of the next message to be taken; only read and written by the consumer thread, but read by the
+     * producers to estimate the size.
+     */
+    private volatile long d_head;
+
+    /**
+     * Creates the queue. The capacity is rounded up to a power of two.
+     *
+     * @param p_capacity Minimum number of messages the queue can hold.
+     */
+    public LogRingBuffer(int p_capacity) {
+        if (p_capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        d_capacity = Integer.highestOneBit(p_capacity) == p_capacity ? p_capacity : Integer.highestOneBit(p_capacity) << 1;
+        d_mask = d_capacity - 1;
+        d_messages = new AtomicReferenceArray<>(d_capacity);
+        d_sequences = new AtomicLongArray(d_capacity);
+        for (int l_index = 0; l_index < d_capacity; l_index++) {
+            d_sequences.set(l_index, l_index);
+        }
+    }
+
+    /**
+     * Adds the message at the end of the queue. Can be called by many threads.
+     *
+     * @param p_message Message to be added.
+     * @return True if the message has been added; false if the queue is full.
+     */
+    public boolean offer(String p_message) {
+        while (true) {
+            long l_position = d_tail.get();
+            int l_index = (int) (l_position & d_mask);
+            long l_difference = d_sequences.get(l_index) - l_position;
+            if (l_difference == 0) {
+                if (d_tail.compareAndSet(l_position, l_position + 1)) {
+                    d_messages.lazySet(l_index, p_message);
+                    d_sequences.set(l_index, l_position + 1);
+                    return true;
+                }
+            } else if (l_difference < 0) {
+                // The slot has not been read since the previous turn.
+                return false;
+            }
+            // Another producer took the position; try the next one.
+        }
+    }
+
+    /**
+     * Takes the message from the front of the queue. Must be called by a single thread.
+     *
+     * @return Value of the message; null if the queue is empty.
+     */
+    public String poll() {
+        long l_position = d_head;
+        int l_index = (int) (l_position & d_mask);
+        if (d_sequences.get(l_index) != l_position + 1) {
+            return null;
+        }
+        String l_message = d_messages.get(l_index);
+        d_messages.lazySet(l_index, null);
+        d_sequences.set(l_index, l_position + d_capacity);
+        d_head = l_position + 1;
+        return l_message;
+    }
+
+    /**
+     * Gets the number of messages in the queue. The value is an estimate if other threads are using the queue.
+     *
+     * @return Value of the number of messages.
+     */
+    public int size() {
+        long l_size = d_tail.get() - d_head;
+        return (int) Math.max(0, Math.min(l_size, d_capacity));
+    }
+
+    /**
+     * Checks if the queue does not have any message.
+     *
+     * @return True if the queue is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Gets the number of messages the queue can hold.
+     *
+     * @return Value of the capacity.
+     */
+    public int getCapacity() {
+        return d_capacity;
+    }
+}
@@ -0,0 +1,107 @@
+package com.warzone.team08.VM.logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When the <code>LogWriter</code> starts a new segment of the log file, and what it keeps of the previous segments.
+ * <p>
+ * The segment being written is rotated once it reaches the maximum size or age: it is renamed to
+ * <code>&lt;name&gt;.&lt;index&gt;.log</code> and compressed with gzip in the background if compression is on. Then
+ * the oldest segments are deleted until all the segments of the log take at most the maximum total size. A value of
+ * zero turns the limit off.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public final class LogRotationPolicy {
+    /**
+     * Policy used if none is given: segments of 16 MB or one hour, compressed, and at most 256 MB in total.
+     */
+    public static final LogRotationPolicy DEFAULT = new LogRotationPolicy(16L * 1024 * 1024,
+            TimeUnit.HOURS.toMillis(1),
+            true,
+            256L * 1024 * 1024);
+
+    /**
+     * Policy which never rotates the file.
+     */
+    public static final LogRotationPolicy NONE = new LogRotationPolicy(0, 0, false, 0);
+
+    private final long d_maxSegmentSize;
+    private final long d_maxSegmentAgeMillis;
+    private final boolean d_isCompressed;
+    private final long d_maxTotalSize;
+
+    /**
+     * Creates the policy.
+     *
+     * @param p_maxSegmentSize      Size after which the segment is rotated, in bytes; zero for no limit.
+     * @param p_maxSegmentAgeMillis Age after which the segment is rotated, in milliseconds; zero for no limit.
+     * @param p_isCompressed        True if the rotated segments are compressed; false otherwise.
+     * @param p_maxTotalSize        Size all the segments can take, in bytes; zero for no limit.
+     */
+    public LogRotationPolicy(long p_maxSegmentSize,
+                             long p_maxSegmentAgeMillis,
+                             boolean p_isCompressed,
+                             long p_maxTotalSize) {
+        if (p_maxSegmentSize < 0 || p_maxSegmentAgeMillis < 0 || p_maxTotalSize < 0) {
+            throw new IllegalArgumentException("Limits of the log rotation can not be negative.");
+        }
+        d_maxSegmentSize = p_maxSegmentSize;
+        d_maxSegmentAgeMillis = p_maxSegmentAgeMillis;
+        d_isCompressed = p_isCompressed;
+        d_maxTotalSize = p_maxTotalSize;
+    }
+
+    /**
+     * Checks if the segment has to be rotated before a message is written to it.
+     *
+     * @param p_segmentSize      Size of the segment, in bytes.
+     * @param p_messageSize      Size of the message, in bytes.
+     * @param p_segmentAgeMillis Time since the segment has been started, in milliseconds.
+     * @return True if the segment is not empty and reaches one of the limits; false otherwise.
+     */
+    public boolean isRotationDue(long p_segmentSize, long p_messageSize, long p_segmentAgeMillis) {
+        if (p_segmentSize == 0) {
+            return false;
+        }
+        return (d_maxSegmentSize > 0 && p_segmentSize + p_messageSize > d_maxSegmentSize)
+                || (d_maxSegmentAgeMillis > 0 && p_segmentAgeMillis >= d_maxSegmentAgeMillis);
+    }
+
+    /**
+     * Gets the size after which the segment is rotated.
+     *
+     * @return Value of the size, in bytes; zero for no limit.
+     */
+    public long getMaxSegmentSize() {
+        return d_maxSegmentSize;
+    }
+
+    /**
+     * Gets the age after which the segment is rotated.
+     *
+     * @return Value of the age, in milliseconds; zero for no limit.
+     */
+    public long getMaxSegmentAgeMillis() {
+        return d_maxSegmentAgeMillis;
+    }
+
+    /**
+     * Checks if the rotated segments are compressed.
+     *
+     * @return True if the segments are compressed; false otherwise.
+     */
+    public boolean isCompressed() {
+        return d_isCompressed;
+    }
+
+    /**
+     * Gets the size all the segments can take.
+     *
+     * @return Value of the size, in bytes; zero for no limit.
+     */
+    public long getMaxTotalSize() {
+        return d_maxTotalSize;
+    }
+}
@@ -1,24 +1,127 @@
 package com.warzone.team08.VM.logger;
 
+import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
 import com.warzone.team08.VM.utils.FileUtil;
 import com.warzone.team08.VM.utils.PathResolverUtil;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * This class acts as a Observer to update the data in a log file.
+ * <p>
+ * The messages are not written by the thread logging them. They are added to a bounded <code>LogRingBuffer</code> and
+ * written by the thread of the writer, which keeps the file open and flushes it once enough bytes have been
+ * written or some time has passed since the last flush. If the queue is full, the <code>BackPressurePolicy</code>
+ * decides if the logging thread waits or the message is dropped; a waiting thread is woken up by the writer once it
+ * has taken a message from the queue.
+ * <p>
+ * The file is rotated as per the <code>LogRotationPolicy</code>. The thread of the writer renames the full segment
+ * and starts a new one; another background thread compresses the renamed segment and deletes the oldest segments, so
+ * neither the game nor the writing waits for them. The size of a segment is counted in the bytes of the messages
+ * encoded in UTF-8, so the messages having other than ASCII characters do not make the segment larger than its
+ * limit.
+ * <p>
+ * {@link LogWriter#close()} writes the remaining messages, waits for the segments being compressed and closes the
+ * file; the messages logged after it, or queued after the writer has stopped, are dropped. If the file can not be
+ * written, the error is reported to the user
+ * interface and the writer fails: the queued messages and the messages logged after it are dropped, so the logging
+ * threads do not wait for a queue which is never emptied.
  *
  * @author MILESH
  * @author RUTVIK
  * @author Brijesh Lakkad
  */
 public class LogWriter extends Observer {
+    /**
+     * Default number of messages the queue can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Default number of bytes written before the file is flushed.
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 64 * 1024;
+
+    /**
+     * Default time after which the written messages are flushed, in milliseconds.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+    /**
+     * Time the thread waiting for a flush waits before it checks again, in nanoseconds.
+     */
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
     private final File d_targetFile;
+    private final LogRingBuffer d_ringBuffer;
+    private final int d_flushSize;
+    private final long d_flushIntervalNanos;
+    private final int d_wakeUpSize;
+    private final Thread d_writerThread;
+    private volatile BackPressurePolicy d_backPressurePolicy;
+    private volatile LogRotationPolicy d_rotationPolicy;
+
+    /**
+     * Compresses the rotated segments and deletes the oldest ones.
+     */
+    private final ExecutorService d_segmentExecutor;
+    private final String d_segmentStem;
+    private final Pattern d_segmentPattern;
+
+    /**
+     * State of the segment being written; only used by the thread of the writer.
+     */
+    private OutputStream d_segmentStream;
+    private long d_segmentSize;
+    private long d_segmentStartTime;
+    private int d_segmentIndex;
+
+    /**
+     * Monitor on which the logging threads wait for space in the full queue; the writer notifies them once it has taken
+     * a message.
+     */
+    private final Object d_spaceMonitor = new Object();
+    private volatile int d_waitingProducers;
+
+    /**
+     * Lock held while taking the messages left in the queue once the thread of the writer has stopped, so the queue
+     * still has a single consumer.
+     */
+    private final Object d_drainLock = new Object();
+
+    private final AtomicLong d_queuedMessages = new AtomicLong();
+    private final AtomicLong d_droppedMessages = new AtomicLong();
+    private volatile long d_flushedMessages;
+    private volatile boolean d_isFlushRequested;
+    private volatile boolean d_isWriterParked;
+    private volatile boolean d_isClosed;
+
+    /**
+     * The file could not be written and the thread of the writer has stopped.
+     */
+    private volatile boolean d_isFailed;
 
     /**
      * Constructor to initialize the file name and object.
@@ -27,27 +130,438 @@ public class LogWriter extends Observer {
      * @throws ResourceNotFoundException Throws if not able to find the file.
      */
     public LogWriter(Observable p_observable) throws ResourceNotFoundException {
+        this(p_observable,
+                FileUtil.createFileIfNotExists(PathResolverUtil.resolveLogPath(new Date().getTime() + "_log_file.log")),
+                DEFAULT_CAPACITY,
+                BackPressurePolicy.BLOCK,
+                DEFAULT_FLUSH_SIZE,
+                DEFAULT_FLUSH_INTERVAL_MILLIS,
+                LogRotationPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates the writer of the messages to the file, and starts its thread.
+     *
+     * @param p_observable          Observable object for observer
+     * @param p_targetFile          File to which the messages are appended.
+     * @param p_capacity            Number of messages the queue can hold.
+     * @param p_backPressurePolicy  What to do with a message when the queue is full.
+     * @param p_flushSize           Number of bytes written before the file is flushed.
+     * @param p_flushIntervalMillis Time after which the written messages are flushed, in milliseconds.
+     * @param p_rotationPolicy      When the file is rotated, and what is kept of the rotated segments.
+     */
+    public LogWriter(Observable p_observable,
+                     File p_targetFile,
+                     int p_capacity,
+                     BackPressurePolicy p_backPressurePolicy,
+                     int p_flushSize,
+                     long p_flushIntervalMillis,
+                     LogRotationPolicy p_rotationPolicy) {
         super(p_observable);
-        String l_timestamp = String.valueOf(new Date().getTime());
-        String l_FileName = l_timestamp.concat("_log_file.log");
-        String l_pathToFile = PathResolverUtil.resolveLogPath(l_FileName);
-        d_targetFile = FileUtil.createFileIfNotExists(l_pathToFile);
+        d_targetFile = p_targetFile;
+        d_rotationPolicy = p_rotationPolicy;
+        if (d_targetFile != null) {
+            String l_fileName = d_targetFile.getName();
+            d_segmentStem = l_fileName.endsWith(".log") ? l_fileName.substring(0, l_fileName.length() - 4) : l_fileName;
+        } else {
+            d_segmentStem = "";
+        }
+        d_segmentPattern = Pattern.compile(Pattern.quote(d_segmentStem) + "\\.(\\d+)\\.log(\\.gz)?");
+        d_segmentExecutor = Executors.newSingleThreadExecutor(p_runnable -> {
+            Thread l_thread = new Thread(p_runnable, "log-segments");
+            l_thread.setDaemon(true);
+            return l_thread;
+        });
+        d_ringBuffer = new LogRingBuffer(p_capacity);
+        d_backPressurePolicy = p_backPressurePolicy;
+        d_flushSize = p_flushSize;
+        d_flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(p_flushIntervalMillis);
+        // Wake the writer up before the queue is full; otherwise it wakes up after the flush interval.
+        d_wakeUpSize = Math.max(1, d_ringBuffer.getCapacity() / 4);
+        d_writerThread = new Thread(this::writeMessages, "log-writer");
+        d_writerThread.setDaemon(true);
+        d_writerThread.start();
     }
 
     /**
-     * This method implements the update method of Observer interface to write data in file.
+     * This method implements the update method of Observer interface to add the message to the queue of the messages
+     * to be written.
      *
-     * @param p_observable Observable object with whom this observer in attached.
+     * @param p_event Event of the log.
      */
     @Override
-    public void update(Observable p_observable) {
+    public void update(LogEvent p_event) {
         if (d_targetFile == null) {
             return;
         }
-        String l_message = ((LogEntryBuffer) p_observable).getMessage();
-        try (Writer l_writer = new FileWriter(d_targetFile, true)) {
-            l_writer.append(l_message);
+        if (d_isClosed || d_isFailed) {
+            d_droppedMessages.incrementAndGet();
+            return;
+        }
+        String l_message = p_event.format();
+        while (!d_ringBuffer.offer(l_message)) {
+            if (d_isClosed
+                    || d_isFailed
+                    || d_backPressurePolicy == BackPressurePolicy.DROP
+                    || !d_writerThread.isAlive()) {
+                d_droppedMessages.incrementAndGet();
+                return;
+            }
+            this.awaitSpace();
+        }
+        d_queuedMessages.incrementAndGet();
+        if (d_isClosed || d_isFailed) {
+            // The writer may have stopped before it could take the message.
+            this.dropUnwrittenMessages();
+            return;
+        }
+        if (d_isWriterParked && d_ringBuffer.size() >= d_wakeUpSize) {
+            LockSupport.unpark(d_writerThread);
+        }
+    }
+
+    /**
+     * Waits until the writer has taken a message from the full queue, or has stopped.
+     */
+    private void awaitSpace() {
+        synchronized (d_spaceMonitor) {
+            d_waitingProducers++;
+            try {
+                LockSupport.unpark(d_writerThread);
+                while (d_ringBuffer.size() >= d_ringBuffer.getCapacity()
+                        && !d_isClosed
+                        && !d_isFailed
+                        && d_writerThread.isAlive()) {
+                    d_spaceMonitor.wait();
+                }
+            } catch (InterruptedException p_interruptedException) {
+                Thread.currentThread().interrupt();
+            } finally {
+                d_waitingProducers--;
+            }
+        }
+    }
+
+    /**
+     * Wakes up the logging threads waiting for space in the queue, if any.
+     */
+    private void signalSpace() {
+        if (d_waitingProducers > 0) {
+            synchronized (d_spaceMonitor) {
+                d_spaceMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits for the thread of the writer to stop, and drops the messages it has not taken from the queue.
+     */
+    private void dropUnwrittenMessages() {
+        try {
+            d_writerThread.join();
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        synchronized (d_drainLock) {
+            while (d_ringBuffer.poll() != null) {
+                d_droppedMessages.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Waits until the messages logged before this call have been written to the file.
+     */
+    public void flush() {
+        long l_queuedMessages = d_queuedMessages.get();
+        while (d_flushedMessages < l_queuedMessages && d_writerThread.isAlive()) {
+            d_isFlushRequested = true;
+            LockSupport.unpark(d_writerThread);
+            LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Writes the remaining messages, closes the file and stops the thread of the writer. The writer is detached from
+     * its observable. The messages queued after the writer has stopped are dropped.
+     */
+    public void close() {
+        d_observable.detach(this);
+        d_isClosed = true;
+        LockSupport.unpark(d_writerThread);
+        this.dropUnwrittenMessages();
+        try {
+            d_segmentExecutor.shutdown();
+            d_segmentExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the thread of the writer. Takes the messages from the queue and writes them to the file until the writer
+     * is closed and the queue is empty.
+     */
+    private void writeMessages() {
+        if (d_targetFile == null) {
+            d_flushedMessages = Long.MAX_VALUE;
+            return;
+        }
+        long l_writtenMessages = 0;
+        int l_unflushedSize = 0;
+        long l_lastFlushTime = System.nanoTime();
+        try {
+            this.openSegment();
+            while (true) {
+                String l_message = d_ringBuffer.poll();
+                if (l_message != null) {
+                    this.signalSpace();
+                    byte[] l_messageBytes = l_message.getBytes(StandardCharsets.UTF_8);
+                    if (d_rotationPolicy.isRotationDue(d_segmentSize,
+                            l_messageBytes.length,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - d_segmentStartTime))) {
+                        // Closing the segment flushes it.
+                        this.rotateSegment();
+                        d_flushedMessages = l_writtenMessages;
+                        l_unflushedSize = 0;
+                    }
+                    d_segmentStream.write(l_messageBytes);
+                    d_segmentSize += l_messageBytes.length;
+                    l_writtenMessages++;
+                    l_unflushedSize += l_messageBytes.length;
+                    if (l_unflushedSize < d_flushSize && !d_isFlushRequested) {
+                        continue;
+                    }
+                }
+
+                long l_now = System.nanoTime();
+                boolean l_isClosed = d_isClosed;
+                if (l_unflushedSize >= d_flushSize
+                        || d_isFlushRequested
+                        || l_isClosed
+                        || (l_unflushedSize > 0 && l_now - l_lastFlushTime >= d_flushIntervalNanos)) {
+                    d_isFlushRequested = false;
+                    d_segmentStream.flush();
+                    d_flushedMessages = l_writtenMessages;
+                    l_unflushedSize = 0;
+                    l_lastFlushTime = l_now;
+                }
+                if (l_message != null) {
+                    continue;
+                }
+                if (l_isClosed && d_ringBuffer.isEmpty()) {
+                    return;
+                }
+
+                // The queue is empty: wait for more messages, the flush interval or a request.
+                d_isWriterParked = true;
+                if (d_ringBuffer.isEmpty() && !d_isFlushRequested && !d_isClosed) {
+                    LockSupport.parkNanos(this, d_flushIntervalNanos);
+                }
+                d_isWriterParked = false;
+            }
+        } catch (IOException p_ioException) {
+            // The messages can not be written; they are dropped as the file is not available.
+            d_isFailed = true;
+            while (d_ringBuffer.poll() != null) {
+                d_droppedMessages.incrementAndGet();
+            }
+            this.reportFailure(p_ioException);
+        } finally {
+            if (d_segmentStream != null) {
+                try {
+                    d_segmentStream.close();
+                } catch (IOException p_ioException) {
+                    // The file is already not available.
+                }
+            }
+            d_flushedMessages = Long.MAX_VALUE;
+            // The logging threads waiting for space drop their messages, as the writer has stopped.
+            synchronized (d_spaceMonitor) {
+                d_spaceMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reports to the user interface that the file can not be written.
+     *
+     * @param p_ioException Exception thrown while writing the file.
+     */
+    private void reportFailure(IOException p_ioException) {
+        try {
+            VirtualMachine.getInstance().stderr(String.format("Log file %s can not be written: %s",
+                    d_targetFile.getName(),
+                    p_ioException.getMessage()));
+        } catch (NullPointerException p_nullPointerException) {
+            // The writer is used without the virtual machine; the failure is only known through isFailed.
+        }
+    }
+
+    /**
+     * Opens the target file to append the messages to it, and starts a segment.
+     *
+     * @throws IOException If the file can not be opened.
+     */
+    private void openSegment() throws IOException {
+        d_segmentStream = new BufferedOutputStream(new FileOutputStream(d_targetFile, true), d_flushSize);
+        d_segmentSize = d_targetFile.length();
+        d_segmentStartTime = System.nanoTime();
+    }
+
+    /**
+     * Closes the segment being written, renames it with the next index and starts a new segment in the target file.
+     * The renamed segment is compressed and the oldest segments are deleted in the background.
+     *
+     * @throws IOException If the segment can not be renamed or the file can not be opened.
+     */
+    private void rotateSegment() throws IOException {
+        d_segmentStream.close();
+        d_segmentStream = null;
+        d_segmentIndex++;
+        File l_segmentFile = new File(d_targetFile.getAbsoluteFile().getParentFile(), d_segmentStem + "." + d_segmentIndex + ".log");
+        Files.move(d_targetFile.toPath(), l_segmentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        this.openSegment();
+
+        LogRotationPolicy l_rotationPolicy = d_rotationPolicy;
+        d_segmentExecutor.execute(() -> {
+            if (l_rotationPolicy.isCompressed()) {
+                this.compressSegment(l_segmentFile);
+            }
+            if (l_rotationPolicy.getMaxTotalSize() > 0) {
+                this.deleteOldestSegments(l_rotationPolicy.getMaxTotalSize(), l_rotationPolicy.getMaxSegmentSize());
+            }
+        });
+    }
+
+    /**
+     * Compresses the segment with gzip to <code>&lt;segment&gt;.gz</code> and deletes the segment. The segment is kept
+     * if it can not be compressed.
+     *
+     * @param p_segmentFile Rotated segment.
+     */
+    private void compressSegment(File p_segmentFile) {
+        File l_compressedFile = new File(p_segmentFile.getPath() + ".gz");
+        try (InputStream l_inputStream = new FileInputStream(p_segmentFile);
+             OutputStream l_outputStream = new GZIPOutputStream(new FileOutputStream(l_compressedFile), 64 * 1024)) {
+            byte[] l_buffer = new byte[64 * 1024];
+            int l_length;
+            while ((l_length = l_inputStream.read(l_buffer)) > 0) {
+                l_outputStream.write(l_buffer, 0, l_length);
+            }
         } catch (IOException p_ioException) {
+            l_compressedFile.delete();
+            return;
         }
+        p_segmentFile.delete();
+    }
+
+    /**
+     * Deletes the oldest rotated segments until all the segments, including the one being written, take at most the
+     * given size. The segment being written has just been started and keeps growing, so it is counted at the size it
+     * can grow to before it is rotated.
+     *
+     * @param p_maxTotalSize   Size all the segments can take, in bytes.
+     * @param p_maxSegmentSize Size after which the segment being written is rotated, in bytes; zero for no limit.
+     */
+    private void deleteOldestSegments(long p_maxTotalSize, long p_maxSegmentSize) {
+        File[] l_files = d_targetFile.getAbsoluteFile().getParentFile().listFiles();
+        if (l_files == null) {
+            return;
+        }
+        List<File> l_segmentFiles = new ArrayList<>();
+        long l_totalSize = Math.max(d_targetFile.length(), p_maxSegmentSize);
+        for (File l_file : l_files) {
+            if (d_segmentPattern.matcher(l_file.getName()).matches()) {
+                l_segmentFiles.add(l_file);
+                l_totalSize += l_file.length();
+            }
+        }
+        l_segmentFiles.sort(Comparator.comparingInt(this::getSegmentIndex));
+        for (File l_segmentFile : l_segmentFiles) {
+            if (l_totalSize <= p_maxTotalSize) {
+                return;
+            }
+            long l_segmentSize = l_segmentFile.length();
+            if (l_segmentFile.delete()) {
+                l_totalSize -= l_segmentSize;
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the rotated segment from its name.
+     *
+     * @param p_segmentFile Rotated segment.
+     * @return Value of the index.
+     */
+    private int getSegmentIndex(File p_segmentFile) {
+        Matcher l_matcher = d_segmentPattern.matcher(p_segmentFile.getName());
+        return l_matcher.matches() ? Integer.parseInt(l_matcher.group(1)) : 0;
+    }
+
+    /**
+     * Checks if the writer has stopped because the file could not be written.
+     *
+     * @return True if the writer has failed; the messages are dropped.
+     */
+    public boolean isFailed() {
+        return d_isFailed;
+    }
+
+    /**
+     * Gets the policy used when the queue is full.
+     *
+     * @return Value of the policy.
+     */
+    public BackPressurePolicy getBackPressurePolicy() {
+        return d_backPressurePolicy;
+    }
+
+    /**
+     * Sets the policy used when the queue is full.
+     *
+     * @param p_backPressurePolicy Value of the policy.
+     */
+    public void setBackPressurePolicy(BackPressurePolicy p_backPressurePolicy) {
+        d_backPressurePolicy = p_backPressurePolicy;
+    }
+
+    /**
+     * Gets the policy used to rotate the file.
+     *
+     * @return Value of the policy.
+     */
+    public LogRotationPolicy getRotationPolicy() {
+        return d_rotationPolicy;
+    }
+
+    /**
+     * Sets the policy used to rotate the file. The policy is used from the next message being written.
+     *
+     * @param p_rotationPolicy Value of the policy.
+     */
+    public void setRotationPolicy(LogRotationPolicy p_rotationPolicy) {
+        d_rotationPolicy = p_rotationPolicy;
+    }
+
+    /**
+     * Gets the number of messages which have not been written because the queue was full, or the writer was closed or
+     * has failed.
+     *
+     * @return Value of the number of dropped messages.
+     */
+    public long getDroppedMessageCount() {
+        return d_droppedMessages.get();
+    }
+
+    /**
+     * Gets the file to which the messages are written.
+     *
+     * @return Value of the file.
+     */
+    public File getTargetFile() {
+        return d_targetFile;
     }
-}
\ No newline at end of file
+}
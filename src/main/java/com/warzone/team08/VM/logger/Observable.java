@@ -27,12 +27,12 @@ public interface Observable {
     void detach(Observer o);
 
     /**
-     * Notifies all the observer available in the list about the changes.
+     * Notifies all the observer available in the list about the event.
      *
-     * @param p_o Object of observable
+     * @param p_event Event of the log.
      * @throws ResourceNotFoundException Throws if observable not found.
      * @throws IOException               Throws when IOException occur during the execution.
      * @throws InvalidInputException     Throws if the input is invalid.
      */
-    void notifyObservers(Observable p_o) throws ResourceNotFoundException, IOException, InvalidInputException;
+    void notifyObservers(LogEvent p_event) throws ResourceNotFoundException, IOException, InvalidInputException;
 }
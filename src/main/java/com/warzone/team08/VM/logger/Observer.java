@@ -19,9 +19,9 @@ public abstract class Observer {
     }
 
     /**
-     * Abstract method of update method.
+     * Abstract method of update method. May be called by many threads at once.
      *
-     * @param p_observable_state Observable object.
+     * @param p_event Event of the log.
      */
-    public abstract void update(Observable p_observable_state);
+    public abstract void update(LogEvent p_event);
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+
+import java.util.List;
+
+/**
+ * Runtime state of the countries of a single game: the owner and the number of armies of each country. The state is
+ * stored in arrays indexed by the state index of the country, which allows the games to share the same
+ * <code>Country</code> instances of a <code>MapTemplate</code>.
+ * <p>
+ * The state keeps the countries it is for, which are shared with the template, so a country of another map is rejected
+ * instead of reading or writing the state of a different country at the same index.
+ *
+ * @author CHARIT
+ * @version 1.0
+ * @see MapTemplate
+ */
+public class CountryState {
+    private final List<Country> d_countries;
+    private final Player[] d_owners;
+    private final int[] d_numberOfArmies;
+
+    /**
+     * Creates the state for the given countries. No country is owned and has armies.
+     *
+     * @param p_countries Countries in the order of their state index.
+     */
+    public CountryState(List<Country> p_countries) {
+        d_countries = p_countries;
+        d_owners = new Player[p_countries.size()];
+        d_numberOfArmies = new int[p_countries.size()];
+    }
+
+    /**
+     * Gets the number of countries this state is for.
+     *
+     * @return Value of the number of countries.
+     */
+    public int size() {
+        return d_owners.length;
+    }
+
+    /**
+     * Gets the owner of the country.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the owner; null if the country is not owned by any player.
+     * @throws IllegalStateException If this state is not for the country.
+     */
+    public Player getOwner(Country p_country) {
+        return d_owners[this.indexOf(p_country)];
+    }
+
+    /**
+     * Sets the owner of the country.
+     *
+     * @param p_country Value of the country.
+     * @param p_owner   Value of the owner.
+     * @throws IllegalStateException If this state is not for the country.
+     */
+    public void setOwner(Country p_country, Player p_owner) {
+        d_owners[this.indexOf(p_country)] = p_owner;
+    }
+
+    /**
+     * Gets the number of armies placed on the country.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the number of armies.
+     * @throws IllegalStateException If this state is not for the country.
+     */
+    public int getNumberOfArmies(Country p_country) {
+        return d_numberOfArmies[this.indexOf(p_country)];
+    }
+
+    /**
+     * Sets the number of armies placed on the country.
+     *
+     * @param p_country        Value of the country.
+     * @param p_numberOfArmies Value of the number of armies.
+     * @throws IllegalStateException If this state is not for the country.
+     */
+    public void setNumberOfArmies(Country p_country, int p_numberOfArmies) {
+        d_numberOfArmies[this.indexOf(p_country)] = p_numberOfArmies;
+    }
+
+    /**
+     * Gets the index of the state of the country.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the state index.
+     * @throws IllegalStateException If this state is not for the country.
+     */
+    private int indexOf(Country p_country) {
+        int l_stateIndex = p_country.getStateIndex();
+        if (l_stateIndex < 0 || l_stateIndex >= d_countries.size() || d_countries.get(l_stateIndex) != p_country) {
+            throw new IllegalStateException(String.format("%s country is not part of the map of this game!", p_country.getCountryName()));
+        }
+        return l_stateIndex;
+    }
+}
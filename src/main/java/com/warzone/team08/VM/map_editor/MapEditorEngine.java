@@ -25,6 +25,47 @@ public class MapEditorEngine implements Engine, JSONable {
     private HashMap<String, String> d_MapDetails;
     private boolean d_isLoadingMap = false;
 
+    /**
+     * Used to keep the track of unique IDs for the continents of this map.
+     */
+    private int d_continentSerialNumber;
+
+    /**
+     * Used to keep the track of unique IDs for the countries of this map.
+     */
+    private int d_countrySerialNumber;
+
+    /**
+     * Runtime state of the countries which are shared with other games.
+     */
+    private CountryState d_countryState;
+
+    /**
+     * <code>GameEngine</code> of the game this engine belongs to.
+     */
+    private GameEngine d_gameEngine;
+
+    /**
+     * Indices of the continents and the countries by their names and IDs. They are kept up to date by the methods of
+     * this engine which add or remove the continents and the countries.
+     */
+    private MapIndex d_mapIndex;
+
+    /**
+     * True if the entities, the indices and the list of the countries are shared with the other games played on the
+     * map of a <code>MapTemplate</code>. The map can not be modified then.
+     */
+    private boolean d_isSharedMap;
+
+    /**
+     * Countries in the order of the continents, and the maps and the graph derived from them. They are created when
+     * first needed, and discarded when the continents, the countries or the neighbours are changed through this engine.
+     */
+    private List<Country> d_countryList;
+    private Map<String, List<String>> d_continentCountryMap;
+    private Map<Integer, Set<Integer>> d_countryNeighbourMap;
+    private MapGraph d_mapGraph;
+
     /**
      * Instance can not be created outside the class. (private)
      */
@@ -37,9 +78,57 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public void initialise() {
         d_continentList = new ArrayList<>();
+        d_isSharedMap = false;
+        this.rebuildIndices();
         // resets serial information to start from zero again for the next iteration of loading the map.
-        Continent.resetSerialNumber();
-        Country.resetSerialNumber();
+        d_continentSerialNumber = 0;
+        d_countrySerialNumber = 0;
+        d_countryState = new CountryState(Collections.emptyList());
+    }
+
+    /**
+     * Gets the runtime state of the countries which are shared with other games.
+     *
+     * @return Value of the country state.
+     */
+    public CountryState getCountryState() {
+        return d_countryState;
+    }
+
+    /**
+     * Gets the <code>GameEngine</code> of the game this engine belongs to.
+     *
+     * @return Value of the game engine.
+     */
+    public GameEngine getGameEngine() {
+        return d_gameEngine;
+    }
+
+    /**
+     * Sets the <code>GameEngine</code> of the game this engine belongs to.
+     *
+     * @param p_gameEngine Value of the game engine.
+     */
+    public void setGameEngine(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+    }
+
+    /**
+     * Generates the next unique ID for a continent of this map.
+     *
+     * @return Value of the continent ID.
+     */
+    public int nextContinentId() {
+        return ++d_continentSerialNumber;
+    }
+
+    /**
+     * Generates the next unique ID for a country of this map.
+     *
+     * @return Value of the country ID.
+     */
+    public int nextCountryId() {
+        return ++d_countrySerialNumber;
     }
 
     /**
@@ -58,52 +147,99 @@ public class MapEditorEngine implements Engine, JSONable {
      */
     public void setContinentList(List<Continent> p_continentList) {
         d_continentList = p_continentList;
+        d_isSharedMap = false;
+        this.rebuildIndices();
     }
 
     /**
-     * Gets the list of the countries.
+     * Loads the map of the template. The continents, the countries, the indices and the graph of the template are
+     * shared with the other games played on the map, so they are not created again; this engine only gets a new
+     * <code>CountryState</code> for the countries.
      *
-     * @return list of countries.
+     * @param p_mapTemplate Template of the map.
      */
-    public ArrayList<Country> getCountryList() {
-        ArrayList<Country> l_countries = new ArrayList<>();
-        for (Continent l_continent : d_continentList) {
-            for (Country l_country : l_continent.getCountryList()) {
-                if (!l_countries.contains(l_country)) {
-                    l_countries.add(l_country);
+    void loadTemplate(MapTemplate p_mapTemplate) {
+        d_continentList = p_mapTemplate.getContinentList();
+        d_mapIndex = p_mapTemplate.getMapIndex();
+        this.discardCountryViews();
+        d_countryList = p_mapTemplate.getCountryList();
+        d_mapGraph = p_mapTemplate.getMapGraph();
+        d_countryState = new CountryState(d_countryList);
+        d_isSharedMap = true;
+    }
+
+    /**
+     * Gets the list of the countries. A country which belongs to more than one continent is listed once.
+     *
+     * @return list of countries; it can not be changed.
+     */
+    public List<Country> getCountryList() {
+        List<Country> l_countryList = d_countryList;
+        if (l_countryList == null) {
+            List<Country> l_countries = new ArrayList<>();
+            Set<Country> l_listedCountries = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Continent l_continent : d_continentList) {
+                for (Country l_country : l_continent.getCountryList()) {
+                    if (l_listedCountries.add(l_country)) {
+                        l_countries.add(l_country);
+                    }
                 }
             }
+            l_countryList = Collections.unmodifiableList(l_countries);
+            d_countryList = l_countryList;
         }
-        return l_countries;
+        return l_countryList;
     }
 
     /**
      * This method returns the map consisting country as a key and list of its neighboring countries as a value.
      *
-     * @return Value of the map of country and its neighbors.
+     * @return Value of the map of country and its neighbors; it can not be changed.
      */
     public Map<Integer, Set<Integer>> getCountryNeighbourMap() {
-        Map<Integer, Set<Integer>> l_continentCountryMap = new HashMap<>();
-        ArrayList<Country> l_countries = this.getCountryList();
-        for (Country l_country : l_countries) {
-            Set<Integer> l_neighborCountryIdList = new HashSet<>();
-            for (Country l_neighborCountry : l_country.getNeighbourCountries()) {
-                l_neighborCountryIdList.add(l_neighborCountry.getCountryId());
+        Map<Integer, Set<Integer>> l_countryNeighbourMap = d_countryNeighbourMap;
+        if (l_countryNeighbourMap == null) {
+            l_countryNeighbourMap = new HashMap<>();
+            for (Country l_country : this.getCountryList()) {
+                Set<Integer> l_neighborCountryIdList = new HashSet<>();
+                for (Country l_neighborCountry : l_country.getNeighbourCountries()) {
+                    l_neighborCountryIdList.add(l_neighborCountry.getCountryId());
+                }
+                l_countryNeighbourMap.put(l_country.getCountryId(), Collections.unmodifiableSet(l_neighborCountryIdList));
             }
-            l_continentCountryMap.put(l_country.getCountryId(), l_neighborCountryIdList);
+            l_countryNeighbourMap = Collections.unmodifiableMap(l_countryNeighbourMap);
+            d_countryNeighbourMap = l_countryNeighbourMap;
         }
-        return l_continentCountryMap;
+        return l_countryNeighbourMap;
     }
 
 
+    /**
+     * Gets the graph of the borders compiled from the continents, to be used by the graph algorithms and the checks of
+     * the borders which run often.
+     *
+     * @return Value of the graph.
+     */
+    public MapGraph getMapGraph() {
+        MapGraph l_mapGraph = d_mapGraph;
+        if (l_mapGraph == null) {
+            l_mapGraph = new MapGraph(d_continentList);
+            d_mapGraph = l_mapGraph;
+        }
+        return l_mapGraph;
+    }
+
     /**
      * This method returns the map consisting continent name as a key and list of country names available in that
      * continent as a value.
      *
-     * @return map of continent and its member countries.
+     * @return map of continent and its member countries; it can not be changed.
      * @throws EntityNotFoundException If requested entity not found.
      */
     public Map<String, List<String>> getContinentCountryMap() throws EntityNotFoundException {
+        if (d_continentCountryMap != null) {
+            return d_continentCountryMap;
+        }
         Map<String, List<String>> l_continentCountryMap = new HashMap<>();
         for (Continent l_continent : d_continentList) {
             if (!l_continent.getCountryList().isEmpty()) {
@@ -122,7 +258,11 @@ public class MapEditorEngine implements Engine, JSONable {
                 throw new EntityNotFoundException("Add minimum one country in a continent!");
             }
         }
-        return l_continentCountryMap;
+        for (Map.Entry<String, List<String>> l_entry : l_continentCountryMap.entrySet()) {
+            l_entry.setValue(Collections.unmodifiableList(l_entry.getValue()));
+        }
+        d_continentCountryMap = Collections.unmodifiableMap(l_continentCountryMap);
+        return d_continentCountryMap;
     }
 
     /**
@@ -131,7 +271,177 @@ public class MapEditorEngine implements Engine, JSONable {
      * @param p_continent Value of the element.
      */
     public void addContinent(Continent p_continent) {
+        this.checkModifiable();
         d_continentList.add(p_continent);
+        this.indexContinent(p_continent);
+    }
+
+    /**
+     * Removes the element from the list of continents.
+     *
+     * @param p_continent Value of the element.
+     */
+    public void removeContinent(Continent p_continent) {
+        this.checkModifiable();
+        d_continentList.remove(p_continent);
+        this.rebuildIndices();
+    }
+
+    /**
+     * Adds the country to the continent.
+     *
+     * @param p_continent Continent to which the country is added.
+     * @param p_country   Value of the country.
+     */
+    public void addCountry(Continent p_continent, Country p_country) {
+        this.checkModifiable();
+        p_continent.addCountry(p_country);
+        this.indexCountry(p_country);
+    }
+
+    /**
+     * Removes the country from its continent.
+     *
+     * @param p_country Value of the country.
+     */
+    public void removeCountry(Country p_country) {
+        this.checkModifiable();
+        p_country.getContinent().removeCountry(p_country);
+        this.rebuildIndices();
+    }
+
+    /**
+     * Adds the neighbour to the country.
+     *
+     * @param p_country          Country which will have the neighbour.
+     * @param p_neighbourCountry Value of the neighbour country.
+     */
+    public void addNeighbourCountry(Country p_country, Country p_neighbourCountry) {
+        this.checkModifiable();
+        p_country.addNeighbourCountry(p_neighbourCountry);
+        this.discardNeighbourViews();
+    }
+
+    /**
+     * Removes the neighbour from the country.
+     *
+     * @param p_country          Country which has the neighbour.
+     * @param p_neighbourCountry Value of the neighbour country.
+     */
+    public void removeNeighbourCountry(Country p_country, Country p_neighbourCountry) {
+        this.checkModifiable();
+        p_country.removeNeighbourCountry(p_neighbourCountry);
+        this.discardNeighbourViews();
+    }
+
+    /**
+     * Sets the neighbours of the country.
+     *
+     * @param p_country            Country which will have the neighbours.
+     * @param p_neighbourCountries Value of the list of the neighbour countries.
+     */
+    public void setNeighbourCountries(Country p_country, List<Country> p_neighbourCountries) {
+        this.checkModifiable();
+        p_country.setNeighbourCountries(p_neighbourCountries);
+        this.discardNeighbourViews();
+    }
+
+    /**
+     * Finds the continent using its name.
+     *
+     * @param p_continentName Value of the name of continent.
+     * @return Value of the continent; null if not found.
+     */
+    public Continent findContinentByName(String p_continentName) {
+        return d_mapIndex.findContinentByName(p_continentName);
+    }
+
+    /**
+     * Finds the continent using its ID.
+     *
+     * @param p_continentId Value of the continent ID.
+     * @return Value of the continent; null if not found.
+     */
+    public Continent findContinentById(Integer p_continentId) {
+        return d_mapIndex.findContinentById(p_continentId);
+    }
+
+    /**
+     * Finds the country using its name.
+     *
+     * @param p_countryName Value of the name of country.
+     * @return Value of the country; null if not found.
+     */
+    public Country findCountryByName(String p_countryName) {
+        return d_mapIndex.findCountryByName(p_countryName);
+    }
+
+    /**
+     * Finds the country using its ID.
+     *
+     * @param p_countryId Value of the country ID.
+     * @return Value of the country; null if not found.
+     */
+    public Country findCountryById(Integer p_countryId) {
+        return d_mapIndex.findCountryById(p_countryId);
+    }
+
+    /**
+     * Checks that the map of this engine can be modified.
+     *
+     * @throws UnsupportedOperationException If the map is shared with the other games played on the map of a
+     *                                       <code>MapTemplate</code>.
+     */
+    private void checkModifiable() {
+        if (d_isSharedMap) {
+            throw new UnsupportedOperationException("Map is shared by the games played on it and can not be modified!");
+        }
+    }
+
+    /**
+     * Discards the list of the countries and the maps derived from it; they are created again when needed.
+     */
+    private void discardCountryViews() {
+        d_countryList = null;
+        d_continentCountryMap = null;
+        this.discardNeighbourViews();
+    }
+
+    /**
+     * Discards the map of the neighbours and the graph of the borders; they are created again when needed.
+     */
+    private void discardNeighbourViews() {
+        d_countryNeighbourMap = null;
+        d_mapGraph = null;
+    }
+
+    /**
+     * Indexes the continent and its countries.
+     *
+     * @param p_continent Value of the continent.
+     */
+    private void indexContinent(Continent p_continent) {
+        this.discardCountryViews();
+        d_mapIndex.addContinent(p_continent);
+    }
+
+    /**
+     * Indexes the country.
+     *
+     * @param p_country Value of the country.
+     */
+    private void indexCountry(Country p_country) {
+        this.discardCountryViews();
+        d_mapIndex.addCountry(p_country);
+    }
+
+    /**
+     * Creates the indices again from the list of continents, and discards the list of the countries and the maps
+     * derived from it.
+     */
+    private void rebuildIndices() {
+        this.discardCountryViews();
+        d_mapIndex = new MapIndex(d_continentList);
     }
 
     /**
@@ -197,16 +507,15 @@ public class MapEditorEngine implements Engine, JSONable {
      *                              the values.
      */
     public static MapEditorEngine fromJSON(JSONObject p_jsonObject, GameEngine p_gameEngine) throws InvalidGameException {
-        CountryRepository l_countryRepository = new CountryRepository();
-
         MapEditorEngine l_mapEditorEngine = new MapEditorEngine();
         p_gameEngine.setMapEditorEngine(l_mapEditorEngine);
+        CountryRepository l_countryRepository = new CountryRepository(l_mapEditorEngine);
 
         JSONArray l_continentJSONList = p_jsonObject.getJSONArray("continents");
         for (int l_continentIndex = 0; l_continentIndex < l_continentJSONList.length(); l_continentIndex++) {
             JSONObject l_continentJSON = l_continentJSONList.getJSONObject(l_continentIndex);
             // Create new continent.
-            Continent l_continent = Continent.fromJSON(l_continentJSON);
+            Continent l_continent = Continent.fromJSON(l_continentJSON, l_mapEditorEngine);
             l_mapEditorEngine.addContinent(l_continent);
         }
 
@@ -222,7 +531,7 @@ public class MapEditorEngine implements Engine, JSONable {
                     try {
                         Country l_targetNeighborCountry = l_countryRepository.findFirstByCountryName(l_neighborCountryName);
                         // Add the country to the list.
-                        l_targetCountry.addNeighbourCountry(l_targetNeighborCountry);
+                        l_mapEditorEngine.addNeighbourCountry(l_targetCountry, l_targetNeighborCountry);
                     } catch (EntityNotFoundException p_entityNotFoundException) {
                         throw new InvalidGameException(String.format("Neighbor country of %s with name %s not found!", l_countryName, l_neighborCountryName));
                     }
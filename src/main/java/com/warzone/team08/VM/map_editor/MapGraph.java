@@ -0,0 +1,384 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the borders of a map, compiled from its continents. The countries are numbered from zero in the
+ * order of <code>MapEditorEngine#getCountryList</code>, and the neighbours of each country are stored in the
+ * compressed sparse row form: the neighbours of the country <code>i</code> are the targets from
+ * <code>getNeighbourStart(i)</code> (inclusive) to <code>getNeighbourEnd(i)</code> (exclusive). The countries bordering
+ * each country are stored the same way.
+ * <p>
+ * The graph algorithms can walk these arrays and test the borders in constant time without creating any objects or
+ * calling <code>Country#equals</code>. The graph is not updated with the map; the engine creates a new graph after the
+ * map has been changed.
+ *
+ * @author CHARIT
+ * @version 1.0
+ * @see MapEditorEngine#getMapGraph()
+ */
+public final class MapGraph {
+    /**
+     * Empty slot of the table of the borders; the keys of the borders are never negative.
+     */
+    private static final long EMPTY_EDGE = -1L;
+
+    private final Country[] d_countries;
+    private final Continent[] d_continents;
+    private final int[] d_continentIndices;
+
+    /**
+     * Dense index of each country, matched by the reference of the country.
+     */
+    private final Map<Country, Integer> d_countryIndices;
+
+    /**
+     * Outgoing borders of the countries in the compressed sparse row form.
+     */
+    private final int[] d_neighbourOffsets;
+    private final int[] d_neighbourTargets;
+
+    /**
+     * Incoming borders of the countries in the compressed sparse row form.
+     */
+    private final int[] d_incomingOffsets;
+    private final int[] d_incomingSources;
+
+    /**
+     * Open addressing hash table of the borders, each stored as the index of the country followed by the index of its
+     * neighbour.
+     */
+    private final long[] d_edgeTable;
+    private final int d_edgeTableMask;
+
+    /**
+     * Compiles the graph of the continents. A country which belongs to more than one continent is numbered once, as a
+     * country of the first continent; the neighbours which are not part of the continents and the repeated neighbours
+     * are left out.
+     *
+     * @param p_continentList List of the continents of the map.
+     */
+    public MapGraph(List<Continent> p_continentList) {
+        d_continents = p_continentList.toArray(new Continent[0]);
+        d_countryIndices = new IdentityHashMap<>();
+        int l_numberOfCountries = 0;
+        for (Continent l_continent : d_continents) {
+            l_numberOfCountries += l_continent.getCountryList().size();
+        }
+        Country[] l_countries = new Country[l_numberOfCountries];
+        int[] l_continentIndices = new int[l_numberOfCountries];
+        int l_countryIndex = 0;
+        int l_maximumNumberOfEdges = 0;
+        for (int l_continentIndex = 0; l_continentIndex < d_continents.length; l_continentIndex++) {
+            for (Country l_country : d_continents[l_continentIndex].getCountryList()) {
+                if (d_countryIndices.putIfAbsent(l_country, l_countryIndex) == null) {
+                    l_countries[l_countryIndex] = l_country;
+                    l_continentIndices[l_countryIndex] = l_continentIndex;
+                    l_maximumNumberOfEdges += l_country.getNeighbourCountries().size();
+                    l_countryIndex++;
+                }
+            }
+        }
+        d_countries = Arrays.copyOf(l_countries, l_countryIndex);
+        d_continentIndices = Arrays.copyOf(l_continentIndices, l_countryIndex);
+
+        // At most half of the slots are used.
+        int l_tableSize = Integer.highestOneBit(Math.max(1, l_maximumNumberOfEdges) * 2 - 1) << 1;
+        d_edgeTable = new long[l_tableSize];
+        Arrays.fill(d_edgeTable, EMPTY_EDGE);
+        d_edgeTableMask = l_tableSize - 1;
+
+        d_neighbourOffsets = new int[d_countries.length + 1];
+        int[] l_neighbourTargets = new int[l_maximumNumberOfEdges];
+        int[] l_numberOfIncomingEdges = new int[d_countries.length];
+        int l_numberOfEdges = 0;
+        for (int l_sourceIndex = 0; l_sourceIndex < d_countries.length; l_sourceIndex++) {
+            d_neighbourOffsets[l_sourceIndex] = l_numberOfEdges;
+            for (Country l_neighbourCountry : d_countries[l_sourceIndex].getNeighbourCountries()) {
+                int l_targetIndex = this.indexOf(l_neighbourCountry);
+                if (l_targetIndex >= 0 && this.insertEdge(l_sourceIndex, l_targetIndex)) {
+                    l_neighbourTargets[l_numberOfEdges++] = l_targetIndex;
+                    l_numberOfIncomingEdges[l_targetIndex]++;
+                }
+            }
+        }
+        d_neighbourOffsets[d_countries.length] = l_numberOfEdges;
+        d_neighbourTargets = Arrays.copyOf(l_neighbourTargets, l_numberOfEdges);
+
+        d_incomingOffsets = new int[d_countries.length + 1];
+        for (int l_targetIndex = 0; l_targetIndex < d_countries.length; l_targetIndex++) {
+            d_incomingOffsets[l_targetIndex + 1] = d_incomingOffsets[l_targetIndex] + l_numberOfIncomingEdges[l_targetIndex];
+        }
+        d_incomingSources = new int[l_numberOfEdges];
+        int[] l_incomingPositions = Arrays.copyOf(d_incomingOffsets, d_countries.length);
+        for (int l_sourceIndex = 0; l_sourceIndex < d_countries.length; l_sourceIndex++) {
+            for (int l_edge = d_neighbourOffsets[l_sourceIndex]; l_edge < d_neighbourOffsets[l_sourceIndex + 1]; l_edge++) {
+                d_incomingSources[l_incomingPositions[d_neighbourTargets[l_edge]]++] = l_sourceIndex;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of countries of the graph.
+     *
+     * @return Value of the number of countries.
+     */
+    public int getNumberOfCountries() {
+        return d_countries.length;
+    }
+
+    /**
+     * Gets the number of continents of the graph.
+     *
+     * @return Value of the number of continents.
+     */
+    public int getNumberOfContinents() {
+        return d_continents.length;
+    }
+
+    /**
+     * Gets the number of borders of the graph.
+     *
+     * @return Value of the number of borders.
+     */
+    public int getNumberOfEdges() {
+        return d_neighbourTargets.length;
+    }
+
+    /**
+     * Gets the index of the country in the graph.
+     *
+     * @param p_country Value of the country.
+     * @return Value of the index; -1 if the country is not part of the graph.
+     */
+    public int indexOf(Country p_country) {
+        Integer l_countryIndex = d_countryIndices.get(p_country);
+        return l_countryIndex != null ? l_countryIndex : -1;
+    }
+
+    /**
+     * Gets the country using its index.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the country.
+     */
+    public Country getCountry(int p_countryIndex) {
+        return d_countries[p_countryIndex];
+    }
+
+    /**
+     * Gets the continent using its index.
+     *
+     * @param p_continentIndex Index of the continent.
+     * @return Value of the continent.
+     */
+    public Continent getContinent(int p_continentIndex) {
+        return d_continents[p_continentIndex];
+    }
+
+    /**
+     * Gets the index of the continent of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the index of the continent.
+     */
+    public int getContinentIndex(int p_countryIndex) {
+        return d_continentIndices[p_countryIndex];
+    }
+
+    /**
+     * Gets the number of neighbours of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the number of neighbours.
+     */
+    public int getDegree(int p_countryIndex) {
+        return d_neighbourOffsets[p_countryIndex + 1] - d_neighbourOffsets[p_countryIndex];
+    }
+
+    /**
+     * Gets the position of the first neighbour of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the position, to be used with <code>getNeighbourIndex</code>.
+     */
+    public int getNeighbourStart(int p_countryIndex) {
+        return d_neighbourOffsets[p_countryIndex];
+    }
+
+    /**
+     * Gets the position after the last neighbour of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the position.
+     */
+    public int getNeighbourEnd(int p_countryIndex) {
+        return d_neighbourOffsets[p_countryIndex + 1];
+    }
+
+    /**
+     * Gets the index of the neighbour at the position.
+     *
+     * @param p_position Position of the neighbour.
+     * @return Value of the index of the neighbour country.
+     */
+    public int getNeighbourIndex(int p_position) {
+        return d_neighbourTargets[p_position];
+    }
+
+    /**
+     * Gets the position of the first country bordering the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the position, to be used with <code>getIncomingNeighbourIndex</code>.
+     */
+    public int getIncomingNeighbourStart(int p_countryIndex) {
+        return d_incomingOffsets[p_countryIndex];
+    }
+
+    /**
+     * Gets the position after the last country bordering the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the position.
+     */
+    public int getIncomingNeighbourEnd(int p_countryIndex) {
+        return d_incomingOffsets[p_countryIndex + 1];
+    }
+
+    /**
+     * Gets the index of the country bordering the country at the position.
+     *
+     * @param p_position Position of the bordering country.
+     * @return Value of the index of the bordering country.
+     */
+    public int getIncomingNeighbourIndex(int p_position) {
+        return d_incomingSources[p_position];
+    }
+
+    /**
+     * Checks if the second country is a neighbour of the first one.
+     *
+     * @param p_countryIndex   Index of the country.
+     * @param p_neighbourIndex Index of the possible neighbour.
+     * @return True if the country has the neighbour.
+     */
+    public boolean isNeighbour(int p_countryIndex, int p_neighbourIndex) {
+        long l_key = edgeKey(p_countryIndex, p_neighbourIndex);
+        for (int l_slot = slotOf(l_key); ; l_slot = (l_slot + 1) & d_edgeTableMask) {
+            long l_slotKey = d_edgeTable[l_slot];
+            if (l_slotKey == l_key) {
+                return true;
+            }
+            if (l_slotKey == EMPTY_EDGE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks if the second country is a neighbour of the first one. The countries which are not part of the graph are
+     * checked using the list of the neighbours of the country.
+     *
+     * @param p_country          Value of the country.
+     * @param p_neighbourCountry Value of the possible neighbour.
+     * @return True if the country has the neighbour.
+     */
+    public boolean isNeighbour(Country p_country, Country p_neighbourCountry) {
+        int l_countryIndex = this.indexOf(p_country);
+        int l_neighbourIndex = this.indexOf(p_neighbourCountry);
+        if (l_countryIndex < 0 || l_neighbourIndex < 0) {
+            return p_country.getNeighbourCountries().contains(p_neighbourCountry);
+        }
+        return this.isNeighbour(l_countryIndex, l_neighbourIndex);
+    }
+
+    /**
+     * Checks if every country can be reached from every other country by following the borders.
+     *
+     * @return True if the graph is strongly connected; also true if it does not have any country.
+     */
+    public boolean isStronglyConnected() {
+        if (d_countries.length == 0) {
+            return true;
+        }
+        // Every country reaches the first one and the first one reaches every country.
+        return countReachable(d_neighbourOffsets, d_neighbourTargets) == d_countries.length &&
+                countReachable(d_incomingOffsets, d_incomingSources) == d_countries.length;
+    }
+
+    /**
+     * Counts the countries reached from the first country using the rows.
+     *
+     * @param p_offsets Offsets of the rows.
+     * @param p_targets Targets of the rows.
+     * @return Value of the number of countries reached, including the first one.
+     */
+    private int countReachable(int[] p_offsets, int[] p_targets) {
+        boolean[] l_isVisited = new boolean[d_countries.length];
+        int[] l_queue = new int[d_countries.length];
+        int l_head = 0;
+        int l_tail = 0;
+        l_queue[l_tail++] = 0;
+        l_isVisited[0] = true;
+        while (l_head < l_tail) {
+            int l_countryIndex = l_queue[l_head++];
+            for (int l_edge = p_offsets[l_countryIndex]; l_edge < p_offsets[l_countryIndex + 1]; l_edge++) {
+                int l_targetIndex = p_targets[l_edge];
+                if (!l_isVisited[l_targetIndex]) {
+                    l_isVisited[l_targetIndex] = true;
+                    l_queue[l_tail++] = l_targetIndex;
+                }
+            }
+        }
+        return l_tail;
+    }
+
+    /**
+     * Adds the border to the table.
+     *
+     * @param p_countryIndex   Index of the country.
+     * @param p_neighbourIndex Index of the neighbour.
+     * @return True if the border has been added; false if it was already in the table.
+     */
+    private boolean insertEdge(int p_countryIndex, int p_neighbourIndex) {
+        long l_key = edgeKey(p_countryIndex, p_neighbourIndex);
+        for (int l_slot = slotOf(l_key); ; l_slot = (l_slot + 1) & d_edgeTableMask) {
+            if (d_edgeTable[l_slot] == l_key) {
+                return false;
+            }
+            if (d_edgeTable[l_slot] == EMPTY_EDGE) {
+                d_edgeTable[l_slot] = l_key;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the slot of the table where the search for the key starts.
+     *
+     * @param p_key Key of the border.
+     * @return Value of the slot.
+     */
+    private int slotOf(long p_key) {
+        long l_hash = p_key * 0x9E3779B97F4A7C15L;
+        return (int) (l_hash ^ (l_hash >>> 32)) & d_edgeTableMask;
+    }
+
+    /**
+     * Creates the key of the border.
+     *
+     * @param p_countryIndex   Index of the country.
+     * @param p_neighbourIndex Index of the neighbour.
+     * @return Value of the key; never negative.
+     */
+    private static long edgeKey(int p_countryIndex, int p_neighbourIndex) {
+        return ((long) p_countryIndex << 32) | p_neighbourIndex;
+    }
+}
@@ -0,0 +1,100 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indices of the continents and the countries of a map by their names and IDs, so the entities are found without going
+ * through the lists. If more than one entity has the same name or ID, the first one in the order of the continents is
+ * indexed.
+ * <p>
+ * The index of a <code>MapTemplate</code> is shared by all the games played on the map, the same as its entities.
+ *
+ * @author CHARIT
+ * @version 1.0
+ * @see MapEditorEngine
+ */
+class MapIndex {
+    private final Map<String, Continent> d_continentsByName = new HashMap<>();
+    private final Map<Integer, Continent> d_continentsById = new HashMap<>();
+    private final Map<String, Country> d_countriesByName = new HashMap<>();
+    private final Map<Integer, Country> d_countriesById = new HashMap<>();
+
+    /**
+     * Creates the index of the continents and their countries.
+     *
+     * @param p_continentList Value of the list of continents.
+     */
+    MapIndex(List<Continent> p_continentList) {
+        for (Continent l_continent : p_continentList) {
+            this.addContinent(l_continent);
+        }
+    }
+
+    /**
+     * Indexes the continent and its countries.
+     *
+     * @param p_continent Value of the continent.
+     */
+    void addContinent(Continent p_continent) {
+        d_continentsByName.putIfAbsent(p_continent.getContinentName(), p_continent);
+        d_continentsById.putIfAbsent(p_continent.getContinentId(), p_continent);
+        for (Country l_country : p_continent.getCountryList()) {
+            this.addCountry(l_country);
+        }
+    }
+
+    /**
+     * Indexes the country.
+     *
+     * @param p_country Value of the country.
+     */
+    void addCountry(Country p_country) {
+        d_countriesByName.putIfAbsent(p_country.getCountryName(), p_country);
+        d_countriesById.putIfAbsent(p_country.getCountryId(), p_country);
+    }
+
+    /**
+     * Finds the continent using its name.
+     *
+     * @param p_continentName Value of the name of continent.
+     * @return Value of the continent; null if not found.
+     */
+    Continent findContinentByName(String p_continentName) {
+        return d_continentsByName.get(p_continentName);
+    }
+
+    /**
+     * Finds the continent using its ID.
+     *
+     * @param p_continentId Value of the continent ID.
+     * @return Value of the continent; null if not found.
+     */
+    Continent findContinentById(Integer p_continentId) {
+        return d_continentsById.get(p_continentId);
+    }
+
+    /**
+     * Finds the country using its name.
+     *
+     * @param p_countryName Value of the name of country.
+     * @return Value of the country; null if not found.
+     */
+    Country findCountryByName(String p_countryName) {
+        return d_countriesByName.get(p_countryName);
+    }
+
+    /**
+     * Finds the country using its ID.
+     *
+     * @param p_countryId Value of the country ID.
+     * @return Value of the country; null if not found.
+     */
+    Country findCountryById(Integer p_countryId) {
+        return d_countriesById.get(p_countryId);
+    }
+}
@@ -0,0 +1,142 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only topology of a parsed map file: the continents, the countries and the borders. A template is created once
+ * per map file and is shared by all the games played on the map, which avoids reading and parsing the same file again.
+ * <p>
+ * The games reference the same <code>Continent</code> and <code>Country</code> instances of the template. The owner
+ * and the number of armies of these countries are stored in the <code>CountryState</code> of each game, so an
+ * additional game only needs the memory for its state. The entities of a template, and the indices used to find them,
+ * can not be modified.
+ *
+ * @author CHARIT
+ * @version 1.0
+ * @see CountryState
+ */
+public final class MapTemplate {
+    private final List<Continent> d_continentList;
+    private final List<Country> d_countryList;
+    private final MapIndex d_mapIndex;
+    private final MapGraph d_mapGraph;
+
+    /**
+     * Creates the template using the map which has been loaded into the engine. The template creates its own entities
+     * and does not keep any reference to the entities of the engine.
+     *
+     * @param p_mapEditorEngine Engine which has the map loaded.
+     */
+    public MapTemplate(MapEditorEngine p_mapEditorEngine) {
+        List<Continent> l_continentList = new ArrayList<>();
+        List<Country> l_countryList = new ArrayList<>();
+        Map<Country, Country> l_templateCountries = new HashMap<>();
+        for (Continent l_continent : p_mapEditorEngine.getContinentList()) {
+            Continent l_templateContinent = new Continent(l_continent.getContinentId());
+            l_templateContinent.setContinentName(l_continent.getContinentName());
+            l_templateContinent.setContinentControlValue(l_continent.getContinentControlValue());
+            for (Country l_country : l_continent.getCountryList()) {
+                Country l_templateCountry = new Country(l_country.getCountryId(), l_countryList.size());
+                l_templateCountry.setCountryName(l_country.getCountryName());
+                l_templateCountry.setXCoordinate(l_country.getXCoordinate());
+                l_templateCountry.setYCoordinate(l_country.getYCoordinate());
+                l_templateCountry.setContinent(l_templateContinent);
+                l_templateContinent.addCountry(l_templateCountry);
+                l_countryList.add(l_templateCountry);
+                l_templateCountries.put(l_country, l_templateCountry);
+            }
+            l_continentList.add(l_templateContinent);
+        }
+
+        for (Map.Entry<Country, Country> l_entry : l_templateCountries.entrySet()) {
+            for (Country l_neighbourCountry : l_entry.getKey().getNeighbourCountries()) {
+                l_entry.getValue().addNeighbourCountry(l_templateCountries.get(l_neighbourCountry));
+            }
+        }
+        for (Continent l_continent : l_continentList) {
+            l_continent.markShared();
+        }
+        for (Country l_country : l_countryList) {
+            l_country.markShared();
+        }
+
+        d_continentList = Collections.unmodifiableList(l_continentList);
+        d_countryList = Collections.unmodifiableList(l_countryList);
+        d_mapIndex = new MapIndex(d_continentList);
+        d_mapGraph = new MapGraph(d_continentList);
+    }
+
+    /**
+     * Gets the continents of the map.
+     *
+     * @return Value of the list of continents.
+     */
+    public List<Continent> getContinentList() {
+        return d_continentList;
+    }
+
+    /**
+     * Gets the countries of the map, in the order of their state index.
+     *
+     * @return Value of the list of countries.
+     */
+    public List<Country> getCountryList() {
+        return d_countryList;
+    }
+
+    /**
+     * Gets the indices of the continents and the countries of the map.
+     *
+     * @return Value of the indices.
+     */
+    MapIndex getMapIndex() {
+        return d_mapIndex;
+    }
+
+    /**
+     * Gets the number of continents of the map.
+     *
+     * @return Value of the number of continents.
+     */
+    public int getNumberOfContinents() {
+        return d_continentList.size();
+    }
+
+    /**
+     * Gets the number of countries of the map.
+     *
+     * @return Value of the number of countries.
+     */
+    public int getNumberOfCountries() {
+        return d_countryList.size();
+    }
+
+    /**
+     * Gets the graph of the borders of the map.
+     *
+     * @return Value of the graph.
+     */
+    public MapGraph getMapGraph() {
+        return d_mapGraph;
+    }
+
+    /**
+     * Loads the map into the engine of the game. The engine is (re) initialised first, the same as loading the map file
+     * would do, and gets a new <code>CountryState</code> for the countries of the map. The engine shares the entities,
+     * the indices and the graph of this template, so the map of the engine can not be modified.
+     *
+     * @param p_mapEditorEngine Engine of the game to which the map will be loaded.
+     */
+    public void loadInto(MapEditorEngine p_mapEditorEngine) {
+        p_mapEditorEngine.initialise();
+        p_mapEditorEngine.setLoadingMap(true);
+        p_mapEditorEngine.loadTemplate(this);
+    }
+}
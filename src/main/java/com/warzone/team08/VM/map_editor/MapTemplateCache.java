@@ -0,0 +1,211 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.map_editor.services.EditMapService;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Caches the parsed map files as <code>MapTemplate</code>, so games played on the same map (for example, the games of
+ * a tournament) do not read and parse the file again.
+ * <p>
+ * A template is identified by the path, the size and the last modified time of the map file; if the file changes, it
+ * is parsed again. The cache holds a limited number of templates and evicts the least recently used one.
+ * <p>
+ * The lock of the cache is held only to find or add the entry of a file. The file is parsed outside of it by the first
+ * thread asking for it, while the other threads asking for the same file wait for its template; the threads asking for
+ * the other files are not blocked.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+public class MapTemplateCache {
+    /**
+     * Default number of templates the cache can hold.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 16;
+
+    /**
+     * Singleton instance of the class.
+     */
+    private static MapTemplateCache d_Instance;
+
+    /**
+     * Maximum number of templates the cache can hold.
+     */
+    private int d_maximumSize;
+
+    /**
+     * Templates mapped to the path of the map file, in the order they were last used.
+     */
+    private final Map<String, CachedTemplate> d_templates;
+
+    /**
+     * Creates the cache with the default size.
+     */
+    public MapTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates the cache which can hold the given number of templates.
+     *
+     * @param p_maximumSize Maximum number of templates.
+     */
+    public MapTemplateCache(int p_maximumSize) {
+        d_maximumSize = p_maximumSize;
+        d_templates = new LinkedHashMap<String, CachedTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTemplate> p_eldest) {
+                return size() > d_maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the single instance of the <code>MapTemplateCache</code> class.
+     *
+     * @return Value of the instance.
+     */
+    public static synchronized MapTemplateCache getInstance() {
+        if (d_Instance == null) {
+            d_Instance = new MapTemplateCache();
+        }
+        return d_Instance;
+    }
+
+    /**
+     * Gets the template of the map file. The file is parsed if the template is not present or the file has been
+     * modified since it was parsed.
+     *
+     * @param p_filePath Path of the map file.
+     * @return Value of the template.
+     * @throws VMException If any exception while parsing the map file.
+     */
+    public MapTemplate get(String p_filePath) throws VMException {
+        File l_file = new File(p_filePath);
+        String l_path = l_file.getAbsolutePath();
+        long l_size = l_file.length();
+        long l_lastModified = l_file.lastModified();
+
+        CachedTemplate l_cachedTemplate;
+        boolean l_isParsing = false;
+        synchronized (this) {
+            l_cachedTemplate = d_templates.get(l_path);
+            if (l_cachedTemplate == null || l_cachedTemplate.d_size != l_size || l_cachedTemplate.d_lastModified != l_lastModified) {
+                l_cachedTemplate = new CachedTemplate(new FutureTask<>(() -> this.parse(p_filePath)), l_size, l_lastModified);
+                d_templates.put(l_path, l_cachedTemplate);
+                l_isParsing = true;
+            }
+        }
+        if (l_isParsing) {
+            l_cachedTemplate.d_mapTemplate.run();
+        }
+
+        try {
+            return l_cachedTemplate.d_mapTemplate.get();
+        } catch (InterruptedException p_interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new VMException("Loading the map has been interrupted!");
+        } catch (ExecutionException p_executionException) {
+            // The file is parsed again by the next thread asking for it.
+            synchronized (this) {
+                d_templates.remove(l_path, l_cachedTemplate);
+            }
+            if (p_executionException.getCause() instanceof VMException) {
+                throw (VMException) p_executionException.getCause();
+            }
+            throw new VMException(p_executionException.getCause().getMessage(), p_executionException.getCause());
+        }
+    }
+
+    /**
+     * Loads the map file into the engine of the game using the cached template.
+     *
+     * @param p_filePath  Path of the map file.
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     * @throws VMException If any exception while parsing the map file.
+     */
+    public void loadInto(String p_filePath, GameEngine p_gameEngine) throws VMException {
+        this.get(p_filePath).loadInto(p_gameEngine.getMapEditorEngine());
+    }
+
+    /**
+     * Parses the map file into a separate engine and creates the template out of it.
+     *
+     * @param p_filePath Path of the map file.
+     * @return Value of the created template.
+     * @throws VMException If any exception while parsing the map file.
+     */
+    private MapTemplate parse(String p_filePath) throws VMException {
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        new EditMapService(l_gameEngine).handleLoadMap(p_filePath, false);
+        return new MapTemplate(l_gameEngine.getMapEditorEngine());
+    }
+
+    /**
+     * Gets the number of templates the cache holds.
+     *
+     * @return Value of the number of templates.
+     */
+    public synchronized int size() {
+        return d_templates.size();
+    }
+
+    /**
+     * Gets the maximum number of templates the cache can hold.
+     *
+     * @return Value of the maximum size.
+     */
+    public synchronized int getMaximumSize() {
+        return d_maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of templates the cache can hold. Least recently used templates are evicted if the cache
+     * holds more templates.
+     *
+     * @param p_maximumSize Value of the maximum size.
+     */
+    public synchronized void setMaximumSize(int p_maximumSize) {
+        d_maximumSize = p_maximumSize;
+        while (d_templates.size() > d_maximumSize) {
+            d_templates.remove(d_templates.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Removes all the templates.
+     */
+    public synchronized void clear() {
+        d_templates.clear();
+    }
+
+    /**
+     * Template, which may still be being parsed, along with the information of the file at the time it was parsed.
+     */
+    private static class CachedTemplate {
+        private final FutureTask<MapTemplate> d_mapTemplate;
+        private final long d_size;
+        private final long d_lastModified;
+
+        /**
+         * Creates the cache entry.
+         *
+         * @param p_mapTemplate  Task parsing the template.
+         * @param p_size         Size of the file.
+         * @param p_lastModified Last modified time of the file.
+         */
+        CachedTemplate(FutureTask<MapTemplate> p_mapTemplate, long p_size, long p_lastModified) {
+            d_mapTemplate = p_mapTemplate;
+            d_size = p_size;
+            d_lastModified = p_lastModified;
+        }
+    }
+}
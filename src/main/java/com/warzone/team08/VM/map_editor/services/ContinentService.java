@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Continent;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
@@ -8,9 +9,6 @@ import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import com.warzone.team08.VM.repositories.ContinentRepository;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * This service handles `editcontinent` user command to add and/or remove continent from the map.
  *
@@ -29,9 +27,18 @@ public class ContinentService {
      * Initialization of different objects.
      */
     public ContinentService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_continentRepository = new ContinentRepository();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public ContinentService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_continentRepository = new ContinentRepository(d_mapEditorEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -45,7 +52,7 @@ public class ContinentService {
     public String add(String p_continentName, String p_countryValue) throws InvalidInputException {
         try {
             int l_parsedControlValue = Integer.parseInt(p_countryValue);
-            Continent l_continent = new Continent();
+            Continent l_continent = new Continent(d_mapEditorEngine.nextContinentId());
             l_continent.setContinentName(p_continentName);
             l_continent.setContinentControlValue(l_parsedControlValue);
             d_mapEditorEngine.addContinent(l_continent);
@@ -68,12 +75,7 @@ public class ContinentService {
      */
     public String remove(String p_continentName) throws EntityNotFoundException {
         Continent l_continent = d_continentRepository.findFirstByContinentName(p_continentName);
-        // We can check if the continent exists before filtering?
-        // Filters the continent list using the continent name
-        List<Continent> l_filteredContinentList = d_mapEditorEngine.getContinentList().stream()
-                .filter(p_continent -> !p_continent.equals(l_continent)
-                ).collect(Collectors.toList());
-        d_mapEditorEngine.setContinentList(l_filteredContinentList);
+        d_mapEditorEngine.removeContinent(l_continent);
         if (!d_mapEditorEngine.getLoadingMap()) {
             // Logging
             d_logEntryBuffer.dataChanged("editcontinent", l_continent.getContinentName() + " is removed to the list!");
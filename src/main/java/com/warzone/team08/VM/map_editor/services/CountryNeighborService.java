@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
@@ -7,8 +8,6 @@ import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import com.warzone.team08.VM.repositories.CountryRepository;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This service handles `editneighbor` user command to set/remove neighbors of the different countries on the map.
@@ -28,9 +27,18 @@ public class CountryNeighborService {
      * Initializes different objects.
      */
     public CountryNeighborService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();;
-        d_countryRepository = new CountryRepository();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public CountryNeighborService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_countryRepository = new CountryRepository(d_mapEditorEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -58,7 +66,7 @@ public class CountryNeighborService {
      * @return Value of response of the request.
      */
     public String add(Country p_country, Country p_neighborCountry) {
-        p_country.addNeighbourCountry(p_neighborCountry);
+        d_mapEditorEngine.addNeighbourCountry(p_country, p_neighborCountry);
         return String.format("Neighbor %s country added for %s!", p_neighborCountry.getCountryName(), p_country.getCountryName());
     }
 
@@ -88,11 +96,7 @@ public class CountryNeighborService {
      * @return Value of response of the request.
      */
     public String remove(Country p_country, Country p_neighborCountry) {
-        List<Country> l_filteredCountry = p_country.getNeighbourCountries().stream().filter(i_p_country ->
-                i_p_country.equals(p_neighborCountry)
-        ).collect(Collectors.toList());
-
-        p_country.setNeighbourCountries(l_filteredCountry);
+        d_mapEditorEngine.removeNeighbourCountry(p_country, p_neighborCountry);
         return String.format("Neighbor %s country removed from %s!", p_neighborCountry.getCountryName(), p_country.getCountryName());
     }
 }
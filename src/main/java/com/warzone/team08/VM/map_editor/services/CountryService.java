@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Continent;
 import com.warzone.team08.VM.entities.Country;
@@ -9,6 +10,7 @@ import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import com.warzone.team08.VM.repositories.ContinentRepository;
 import com.warzone.team08.VM.repositories.CountryRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,10 +42,19 @@ public class CountryService {
      * Initializes different object.
      */
     public CountryService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_continentRepository = new ContinentRepository();
-        d_countryRepository = new CountryRepository();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public CountryService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_continentRepository = new ContinentRepository(d_mapEditorEngine);
+        d_countryRepository = new CountryRepository(d_mapEditorEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -63,7 +74,7 @@ public class CountryService {
         l_country.setContinent(l_continent);
 
         // Save country to continent
-        l_continent.addCountry(l_country);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
         if (!d_mapEditorEngine.getLoadingMap()) {
             d_logEntryBuffer.dataChanged("editcountry", l_country.getCountryName() + " is added to the country list of" + l_continent.getContinentName());
         }
@@ -91,25 +102,25 @@ public class CountryService {
             // Two way mappings (one to many mappings)
             l_countryObject.setContinent(p_continent);
             // Save the list of neighboring countries.
-            l_countryObject.setNeighbourCountries(p_neighbourCountries);
+            d_mapEditorEngine.setNeighbourCountries(l_countryObject, p_neighbourCountries);
             l_countryObject.setXCoordinate(p_xCoordinate);
             l_countryObject.setYCoordinate(p_yCoordinate);
             // Save country to continent
-            p_continent.addCountry(l_countryObject);
+            d_mapEditorEngine.addCountry(p_continent, l_countryObject);
             if (!d_mapEditorEngine.getLoadingMap()) {
                 d_logEntryBuffer.dataChanged("editcountry", l_countryObject.getCountryName() + " is added to the country list of" + p_continent.getContinentName());
             }
         } else {
-            Country l_country = new Country();
+            Country l_country = new Country(d_mapEditorEngine.nextCountryId());
             l_country.setCountryName(p_countryName);
-            l_country.setNeighbourCountries(p_neighbourCountries);
+            d_mapEditorEngine.setNeighbourCountries(l_country, p_neighbourCountries);
             l_country.setXCoordinate(p_xCoordinate);
             l_country.setYCoordinate(p_yCoordinate);
             // Two way mappings (one to many mappings)
             l_country.setContinent(p_continent);
 
             // Save country to continent
-            p_continent.addCountry(l_country);
+            d_mapEditorEngine.addCountry(p_continent, l_country);
             if (!d_mapEditorEngine.getLoadingMap()) {
                 d_logEntryBuffer.dataChanged("editcountry", l_country.getCountryName() + " is added to the country list of" + p_continent.getContinentName());
             }
@@ -140,7 +151,7 @@ public class CountryService {
         l_country.setContinent(l_continent);
 
         // Save country to continent
-        l_continent.addCountry(l_country);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
 
         return String.format("%s country added!", p_countryName);
     }
@@ -165,7 +176,7 @@ public class CountryService {
         l_country.setContinent(l_continent);
 
         // Save country to continent
-        l_continent.addCountry(l_country);
+        d_mapEditorEngine.addCountry(l_continent, l_country);
 
         return String.format("%s country added!", p_countryName);
     }
@@ -179,12 +190,14 @@ public class CountryService {
      */
     public String remove(String p_countryName) throws EntityNotFoundException {
         Country l_country = d_countryRepository.findFirstByCountryName(p_countryName);
-        l_country.getContinent().removeCountry(l_country);
+        d_mapEditorEngine.removeCountry(l_country);
 
         List<Country> l_neighborOfCountryList = d_countryRepository.findByNeighbourOfCountries(l_country);
         for (Country l_neighborOfCountry : l_neighborOfCountryList) {
-            l_neighborOfCountry.removeNeighbourCountry(l_country);
+            d_mapEditorEngine.removeNeighbourCountry(l_neighborOfCountry, l_country);
         }
+        // Removes the country from the countries bordering its neighbours.
+        d_mapEditorEngine.setNeighbourCountries(l_country, new ArrayList<>());
         if (!d_mapEditorEngine.getLoadingMap()) {
             d_logEntryBuffer.dataChanged("editcountry", l_country.getCountryName() + " is removed to the country list of" + l_country.getContinent().getContinentName());
         }
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.enums.FileType;
 import com.warzone.team08.VM.constants.enums.MapModelType;
@@ -46,13 +47,22 @@ public class EditConquestMapService implements SingleCommand {
      * Initializes variables required to load map into different objects.
      */
     public EditConquestMapService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public EditConquestMapService(GameEngine p_gameEngine) {
         d_MapDetails = new HashMap<>();
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_countryRepository = new CountryRepository();
-        d_continentRepository = new ContinentRepository();
-        d_continentService = new ContinentService();
-        d_countryService = new CountryService();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_countryRepository = new CountryRepository(d_mapEditorEngine);
+        d_continentRepository = new ContinentRepository(d_mapEditorEngine);
+        d_continentService = new ContinentService(p_gameEngine);
+        d_countryService = new CountryService(p_gameEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -204,7 +214,8 @@ public class EditConquestMapService implements SingleCommand {
                             l_neighbourCountry.setContinent(l_continent);
                             l_neighbourNodes.add(l_neighbourCountry);
                         } catch (EntityNotFoundException e) {
-                            l_neighbourCountry = new Country(l_neighbourCountryName);
+                            l_neighbourCountry = new Country(d_mapEditorEngine.nextCountryId());
+                            l_neighbourCountry.setCountryName(l_neighbourCountryName);
                             l_neighbourCountry.setContinent(l_continent);
                             l_neighbourNodes.add(l_neighbourCountry);
                         }
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.enums.FileType;
 import com.warzone.team08.VM.constants.enums.MapModelType;
@@ -47,13 +48,22 @@ public class EditMapService implements SingleCommand {
      * Initializes variables required to load map into different objects.
      */
     public EditMapService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_continentRepository = new ContinentRepository();
-        d_countryRepository = new CountryRepository();
-        d_continentService = new ContinentService();
-        d_countryService = new CountryService();
-        d_countryNeighborService = new CountryNeighborService();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public EditMapService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_continentRepository = new ContinentRepository(d_mapEditorEngine);
+        d_countryRepository = new CountryRepository(d_mapEditorEngine);
+        d_continentService = new ContinentService(p_gameEngine);
+        d_countryService = new CountryService(p_gameEngine);
+        d_countryNeighborService = new CountryNeighborService(p_gameEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.exceptions.*;
@@ -16,8 +17,25 @@ import java.util.List;
  * @author CHARIT
  */
 public class LoadConquestMapService implements SingleCommand {
+    private final GameEngine d_gameEngine;
+    private final LogEntryBuffer d_logEntryBuffer;
 
-    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    /**
+     * Creates the service bound to the game of the virtual machine.
+     */
+    public LoadConquestMapService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public LoadConquestMapService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
 
     /**
      * Handles the load map operation for user command.
@@ -38,16 +56,16 @@ public class LoadConquestMapService implements SingleCommand {
             AbsentTagException,
             EntityNotFoundException {
         try {
-            EditConquestMapService l_editConquestMapService = new EditConquestMapService();
+            EditConquestMapService l_editConquestMapService = new EditConquestMapService(d_gameEngine);
             // Resolve file path using absolute path of user data directory.
             String l_resolvedPathToFile = PathResolverUtil.resolveFilePath(p_commandValues.get(0));
             String l_response = l_editConquestMapService.loadConquestMap(l_resolvedPathToFile, false);
             try {
                 // Validates the map before saving the file.
-                ValidateConquestMapService l_validateObj = new ValidateConquestMapService();
+                ValidateConquestMapService l_validateObj = new ValidateConquestMapService(d_gameEngine);
                 l_validateObj.execute(null);
             } catch (InvalidMapException | EntityNotFoundException l_e) {
-                VirtualMachine.getGameEngine().getMapEditorEngine().initialise();
+                d_gameEngine.getMapEditorEngine().initialise();
                 throw l_e;
             }
             // Logging
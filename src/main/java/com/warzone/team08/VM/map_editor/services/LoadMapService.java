@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.exceptions.*;
@@ -16,7 +17,25 @@ import java.util.List;
  * @author Brijesh Lakkad
  */
 public class LoadMapService implements SingleCommand {
-    private LogEntryBuffer d_logEntryBuffer = LogEntryBuffer.getLogger();
+    private final GameEngine d_gameEngine;
+    private final LogEntryBuffer d_logEntryBuffer;
+
+    /**
+     * Creates the service bound to the game of the virtual machine.
+     */
+    public LoadMapService() {
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public LoadMapService(GameEngine p_gameEngine) {
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
 
     /**
      * Handles the load map operation for user command.
@@ -38,17 +57,17 @@ public class LoadMapService implements SingleCommand {
             AbsentTagException,
             EntityNotFoundException {
         try {
-            EditMapService l_editMapService = new EditMapService();
+            EditMapService l_editMapService = new EditMapService(d_gameEngine);
             // Resolve file path using absolute path of user data directory.
             String resolvedPathToFile = PathResolverUtil.resolveFilePath(p_commandValues.get(0));
             String response = l_editMapService.handleLoadMap(resolvedPathToFile, false);
 
             try {
                 // Validates the map before saving the file.
-                ValidateMapService l_validateObj = new ValidateMapService();
+                ValidateMapService l_validateObj = new ValidateMapService(d_gameEngine);
                 l_validateObj.execute(null);
             } catch (InvalidMapException | EntityNotFoundException l_e) {
-                VirtualMachine.getGameEngine().initialise();
+                d_gameEngine.initialise();
                 throw l_e;
             }
             // Logging
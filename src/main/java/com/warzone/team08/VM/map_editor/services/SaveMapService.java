@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Continent;
@@ -33,14 +34,25 @@ public class SaveMapService implements SingleCommand {
      * Engine to store and retrieve map data.
      */
     private final MapEditorEngine d_mapEditorEngine;
+    private final GameEngine d_gameEngine;
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
-     * Fetches the singleton instance of <code>MapEditorEngine</code>
+     * Creates the service bound to the game of the virtual machine.
      */
     public SaveMapService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public SaveMapService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_gameEngine = p_gameEngine;
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -107,7 +119,7 @@ public class SaveMapService implements SingleCommand {
             VMException {
         if (p_commandValues.get(1).equals("conquest")) {
             // Validates the map before saving the file.
-            ValidateMapService l_validateObj = new ValidateMapService();
+            ValidateMapService l_validateObj = new ValidateMapService(d_gameEngine);
             l_validateObj.execute(null);
         }
 
@@ -1,6 +1,7 @@
 package com.warzone.team08.VM.map_editor.services;
 
 import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Continent;
@@ -36,13 +37,23 @@ public class ShowMapService implements SingleCommand {
      * @throws EntityNotFoundException Throws if required entity is not found.
      */
     public ShowMapService() throws EntityNotFoundException {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Initializes different objects of the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     * @throws EntityNotFoundException Throws if required entity is not found.
+     */
+    public ShowMapService(GameEngine p_gameEngine) throws EntityNotFoundException {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
         d_continentList = d_mapEditorEngine.getContinentList();
         d_countryList = d_mapEditorEngine.getCountryList();
         d_continentCountryMap = d_mapEditorEngine.getContinentCountryMap();
-        d_continentRepository = new ContinentRepository();
-        d_countryRepository = new CountryRepository();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        d_continentRepository = new ContinentRepository(d_mapEditorEngine);
+        d_countryRepository = new CountryRepository(d_mapEditorEngine);
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Continent;
@@ -25,12 +26,20 @@ public class ValidateConquestMapService implements SingleCommand {
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
-     * Default constructor to retrieve the singleton instance of <code>MapEditorEngine</code> and
-     * <code>LogEntryBuffer</code>.
+     * Creates the service bound to the game of the virtual machine.
      */
     public ValidateConquestMapService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public ValidateConquestMapService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
     }
 
     /**
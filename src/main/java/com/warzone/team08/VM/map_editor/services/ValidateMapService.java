@@ -1,19 +1,16 @@
 package com.warzone.team08.VM.map_editor.services;
 
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.constants.interfaces.SingleCommand;
 import com.warzone.team08.VM.entities.Continent;
-import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.InvalidMapException;
 import com.warzone.team08.VM.logger.LogEntryBuffer;
 import com.warzone.team08.VM.map_editor.MapEditorEngine;
-import com.warzone.team08.VM.repositories.CountryRepository;
+import com.warzone.team08.VM.map_editor.MapGraph;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Stack;
 
 /**
  * This class contains methods for the validation of the map and handles `validatemap` user command.
@@ -30,126 +27,62 @@ public class ValidateMapService implements SingleCommand {
     private final LogEntryBuffer d_logEntryBuffer;
 
     /**
-     * Default constructor to retrieve the singleton instance of <code>MapEditorEngine</code> and
-     * <code>LogEntryBuffer</code>.
+     * Creates the service bound to the game of the virtual machine.
      */
     public ValidateMapService() {
-        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
-        d_logEntryBuffer = LogEntryBuffer.getLogger();
+        this(VirtualMachine.getGameEngine());
     }
 
     /**
-     * Checks that continent is a connected subgraph.
+     * Creates the service bound to the given game.
+     *
+     * @param p_gameEngine <code>GameEngine</code> of the game.
+     */
+    public ValidateMapService(GameEngine p_gameEngine) {
+        d_mapEditorEngine = p_gameEngine.getMapEditorEngine();
+        d_logEntryBuffer = p_gameEngine.getLogEntryBuffer();
+    }
+
+    /**
+     * Checks that continent is a connected subgraph: every continent has at least one country which has a neighbour in
+     * another continent.
      *
      * @return True if validation passes.
      * @throws EntityNotFoundException Throws if continent not found.
      */
     public boolean isContinentConnectedSubgraph() throws EntityNotFoundException {
         if (d_mapEditorEngine.getContinentList().size() > 1) {
-            boolean l_isInvalid = false;
-            String l_continentName;
-            List<String> l_countriesIntoContinent;
-            CountryRepository l_countryRepository = new CountryRepository();
-            int l_totalContinent = d_mapEditorEngine.getContinentList().size();
+            MapGraph l_mapGraph = d_mapEditorEngine.getMapGraph();
+            // A continent without any country has no neighbour in the other continents, so the validation fails.
+            boolean[] l_hasOtherContinentNeighbour = new boolean[l_mapGraph.getNumberOfContinents()];
             int l_compareTotalContinent = 0;
-            Country l_foundCountry = null;
-
-            Map<String, List<String>> l_continentCountryMap = d_mapEditorEngine.getContinentCountryMap();
-            for (Map.Entry<String, List<String>> entry : l_continentCountryMap.entrySet()) {
-                //set countries for each Continent
-                l_continentName = entry.getKey();
-                l_countriesIntoContinent = entry.getValue();
-                int l_otherContinentNeighbour = 0;
-
-                //Checks that at least 1 neighbour from other continent
-                for (String l_countryNameCompare : l_countriesIntoContinent) {
-                    try {
-                        l_foundCountry = l_countryRepository.findFirstByCountryName(l_countryNameCompare);
-                    } catch (EntityNotFoundException e) {
-                        e.printStackTrace();
-                    }
-                    if (l_foundCountry == null) {
-                        continue;
-                    }
-                    List<Country> l_neighbourCountries = l_foundCountry.getNeighbourCountries();
-
-                    for (Country l_country : l_neighbourCountries) {
-                        Continent l_continent = l_country.getContinent();
-                        String ContinentName = l_continent.getContinentName();
-                        if (!(ContinentName.equals(l_continentName))) {
-                            l_otherContinentNeighbour++;
-                            break;
-                        }
-                    }
-
-                    if (l_otherContinentNeighbour > 0) {
+            for (int l_countryIndex = 0; l_countryIndex < l_mapGraph.getNumberOfCountries(); l_countryIndex++) {
+                int l_continentIndex = l_mapGraph.getContinentIndex(l_countryIndex);
+                if (l_hasOtherContinentNeighbour[l_continentIndex]) {
+                    continue;
+                }
+                for (int l_position = l_mapGraph.getNeighbourStart(l_countryIndex); l_position < l_mapGraph.getNeighbourEnd(l_countryIndex); l_position++) {
+                    if (l_mapGraph.getContinentIndex(l_mapGraph.getNeighbourIndex(l_position)) != l_continentIndex) {
+                        l_hasOtherContinentNeighbour[l_continentIndex] = true;
                         l_compareTotalContinent++;
                         break;
                     }
                 }
             }
             //checks that total continent value is same as test passes or not.
-            if (l_compareTotalContinent == l_totalContinent) {
-                l_isInvalid = true;
-            }
-            return l_isInvalid;
+            return l_compareTotalContinent == l_mapGraph.getNumberOfContinents();
         } else {
             return true;
         }
     }
 
     /**
-     * Checks that map is a connected graph.
+     * Checks that map is a connected graph: every country can be reached from every other country.
      *
      * @return True if validation pass.
      */
     public boolean isMapConnectedGraph() {
-        boolean l_isValid = false;
-        int l_connectedGraphCount = 0;
-
-        List<Country> l_countryList = d_mapEditorEngine.getCountryList();
-        for (int i = 0; i < l_countryList.size(); i++) {
-            List<Country> l_visitedCountry = new ArrayList<>();
-            Stack<Country> l_stack = new Stack<>();
-            Country l_country = l_countryList.get(i);
-            l_stack.push(l_country);
-
-            //visiting country using the DFS logic
-            while (!l_stack.isEmpty()) {
-                Country l_countryGet = l_stack.pop();
-                l_visitedCountry.add(l_countryGet);
-                List<Country> l_neighbourCountries = l_countryGet.getNeighbourCountries();
-                for (Country l_pushCountry : l_neighbourCountries) {
-                    if (!l_stack.contains(l_pushCountry)) {
-                        int l_counter = 0;
-                        for (Country l_compareCountry : l_visitedCountry) {
-                            if (l_pushCountry.equals(l_compareCountry)) {
-                                l_counter++;
-                            }
-                        }
-                        if (l_counter == 0) {
-                            l_stack.push(l_pushCountry);
-                        }
-                    }
-                }
-            }
-            //Check that CountryList and VisitedCountryList are same or not
-            int compareCounter = 0;
-            for (Country l_compareCountry : l_countryList) {
-                for (Country l_compare2 : l_visitedCountry) {
-                    if (l_compare2.equals(l_compareCountry)) {
-                        compareCounter++;
-                    }
-                }
-            }
-            if (compareCounter == l_countryList.size()) {
-                ++l_connectedGraphCount;
-            }
-        }
-        if (l_connectedGraphCount == l_countryList.size()) {
-            l_isValid = true;
-        }
-        return l_isValid;
+        return d_mapEditorEngine.getMapGraph().isStronglyConnected();
     }
 
     /**
@@ -0,0 +1,242 @@
+package com.warzone.team08.VM.metrics;
+
+import com.jakewharton.fliptables.FlipTable;
+import com.warzone.team08.VM.constants.enums.OrderType;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.phases.Phase;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the time spent by the turns, the phases, the execution of the orders, and the strategies issuing the orders.
+ * The metrics are shared by all the games, including the games of a tournament played at once.
+ * <p>
+ * The metrics are turned off by default. When turned off, <code>GameMetrics#startTimer</code> does not read the clock
+ * and the record methods return immediately, so the instrumented code only reads a flag.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class GameMetrics {
+    private static final GameMetrics d_Instance = new GameMetrics();
+    private static volatile boolean d_Enabled = false;
+
+    private final LatencyHistogram d_turnHistogram = new LatencyHistogram();
+    private final Map<Class<?>, LatencyHistogram> d_phaseHistograms = new ConcurrentHashMap<>();
+    private final Map<OrderType, LatencyHistogram> d_orderHistograms = new EnumMap<>(OrderType.class);
+    private final Map<StrategyType, LatencyHistogram> d_strategyHistograms = new EnumMap<>(StrategyType.class);
+
+    /**
+     * Creates the histograms of the order types and the strategy types. These maps are not modified later, so they
+     * can be read by many threads.
+     */
+    private GameMetrics() {
+        for (OrderType l_orderType : OrderType.values()) {
+            d_orderHistograms.put(l_orderType, new LatencyHistogram());
+        }
+        for (StrategyType l_strategyType : StrategyType.values()) {
+            d_strategyHistograms.put(l_strategyType, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Gets the single instance of the class.
+     *
+     * @return Value of the instance.
+     */
+    public static GameMetrics getInstance() {
+        return d_Instance;
+    }
+
+    /**
+     * Checks if the metrics are being collected.
+     *
+     * @return True if the metrics are turned on; false otherwise.
+     */
+    public static boolean isEnabled() {
+        return d_Enabled;
+    }
+
+    /**
+     * Turns the collection of the metrics on or off.
+     *
+     * @param p_enabled True to collect the metrics; false otherwise.
+     */
+    public static void setEnabled(boolean p_enabled) {
+        d_Enabled = p_enabled;
+    }
+
+    /**
+     * Gets the start time of the measured operation.
+     *
+     * @return Value of the current time in nanoseconds; zero if the metrics are turned off.
+     */
+    public static long startTimer() {
+        return d_Enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time spent by the turn of a game.
+     *
+     * @param p_startTime Value returned by <code>GameMetrics#startTimer</code> when the turn started.
+     */
+    public void recordTurn(long p_startTime) {
+        if (d_Enabled && p_startTime != 0) {
+            d_turnHistogram.recordValue(System.nanoTime() - p_startTime);
+        }
+    }
+
+    /**
+     * Records the time spent by the phase of a game.
+     *
+     * @param p_phase     Phase which has been played.
+     * @param p_startTime Value returned by <code>GameMetrics#startTimer</code> when the phase started.
+     */
+    public void recordPhase(Phase p_phase, long p_startTime) {
+        if (d_Enabled && p_startTime != 0) {
+            long l_duration = System.nanoTime() - p_startTime;
+            LatencyHistogram l_histogram = d_phaseHistograms.get(p_phase.getClass());
+            if (l_histogram == null) {
+                l_histogram = d_phaseHistograms.computeIfAbsent(p_phase.getClass(), p_class -> new LatencyHistogram());
+            }
+            l_histogram.recordValue(l_duration);
+        }
+    }
+
+    /**
+     * Records the time spent to execute an order.
+     *
+     * @param p_orderType Type of the order.
+     * @param p_startTime Value returned by <code>GameMetrics#startTimer</code> before the order was executed.
+     */
+    public void recordOrder(OrderType p_orderType, long p_startTime) {
+        if (d_Enabled && p_startTime != 0) {
+            d_orderHistograms.get(p_orderType).recordValue(System.nanoTime() - p_startTime);
+        }
+    }
+
+    /**
+     * Records the time spent by the strategy of a player to issue the order.
+     *
+     * @param p_strategyType Type of the strategy.
+     * @param p_startTime    Value returned by <code>GameMetrics#startTimer</code> before the order was requested.
+     */
+    public void recordStrategy(StrategyType p_strategyType, long p_startTime) {
+        if (d_Enabled && p_startTime != 0) {
+            d_strategyHistograms.get(p_strategyType).recordValue(System.nanoTime() - p_startTime);
+        }
+    }
+
+    /**
+     * Gets the histogram of the turns.
+     *
+     * @return Value of the histogram.
+     */
+    public LatencyHistogram getTurnHistogram() {
+        return d_turnHistogram;
+    }
+
+    /**
+     * Gets the histogram of the phase.
+     *
+     * @param p_phaseClass Class of the phase.
+     * @return Value of the histogram; null if the phase has not been recorded.
+     */
+    public LatencyHistogram getPhaseHistogram(Class<? extends Phase> p_phaseClass) {
+        return d_phaseHistograms.get(p_phaseClass);
+    }
+
+    /**
+     * Gets the histogram of the order type.
+     *
+     * @param p_orderType Type of the order.
+     * @return Value of the histogram.
+     */
+    public LatencyHistogram getOrderHistogram(OrderType p_orderType) {
+        return d_orderHistograms.get(p_orderType);
+    }
+
+    /**
+     * Gets the histogram of the strategy type.
+     *
+     * @param p_strategyType Type of the strategy.
+     * @return Value of the histogram.
+     */
+    public LatencyHistogram getStrategyHistogram(StrategyType p_strategyType) {
+        return d_strategyHistograms.get(p_strategyType);
+    }
+
+    /**
+     * Removes all the recorded metrics.
+     */
+    public void reset() {
+        d_turnHistogram.reset();
+        d_phaseHistograms.clear();
+        for (LatencyHistogram l_histogram : d_orderHistograms.values()) {
+            l_histogram.reset();
+        }
+        for (LatencyHistogram l_histogram : d_strategyHistograms.values()) {
+            l_histogram.reset();
+        }
+    }
+
+    /**
+     * Creates the table of the recorded metrics. The rows which do not have any recorded value are not shown.
+     *
+     * @return Value of the table; a message if nothing has been recorded.
+     */
+    public String toTable() {
+        List<String[]> l_rows = new ArrayList<>();
+        this.addRow(l_rows, "Turn", d_turnHistogram);
+        for (Map.Entry<Class<?>, LatencyHistogram> l_entry : d_phaseHistograms.entrySet()) {
+            this.addRow(l_rows, "Phase: " + l_entry.getKey().getSimpleName(), l_entry.getValue());
+        }
+        for (Map.Entry<OrderType, LatencyHistogram> l_entry : d_orderHistograms.entrySet()) {
+            this.addRow(l_rows, "Order: " + l_entry.getKey().getJsonValue(), l_entry.getValue());
+        }
+        for (Map.Entry<StrategyType, LatencyHistogram> l_entry : d_strategyHistograms.entrySet()) {
+            this.addRow(l_rows, "Strategy: " + l_entry.getKey().name(), l_entry.getValue());
+        }
+        if (l_rows.isEmpty()) {
+            return "No metrics have been recorded.";
+        }
+        String[] l_header = {"Operation", "Count", "Mean (us)", "P50 (us)", "P90 (us)", "P99 (us)", "Max (us)"};
+        return FlipTable.of(l_header, l_rows.toArray(new String[0][]));
+    }
+
+    /**
+     * Adds the row of the histogram to the table, if the histogram has any recorded value.
+     *
+     * @param p_rows      Rows of the table.
+     * @param p_name      Name of the measured operation.
+     * @param p_histogram Histogram of the operation.
+     */
+    private void addRow(List<String[]> p_rows, String p_name, LatencyHistogram p_histogram) {
+        if (p_histogram.getTotalCount() == 0) {
+            return;
+        }
+        p_rows.add(new String[]{
+                p_name,
+                String.valueOf(p_histogram.getTotalCount()),
+                this.formatMicros(p_histogram.getMean()),
+                this.formatMicros(p_histogram.getValueAtPercentile(50)),
+                this.formatMicros(p_histogram.getValueAtPercentile(90)),
+                this.formatMicros(p_histogram.getValueAtPercentile(99)),
+                this.formatMicros(p_histogram.getMaxValue())
+        });
+    }
+
+    /**
+     * Formats the duration in microseconds.
+     *
+     * @param p_nanos Duration in nanoseconds.
+     * @return Value of the formatted duration.
+     */
+    private String formatMicros(double p_nanos) {
+        return String.format("%.1f", p_nanos / 1000);
+    }
+}
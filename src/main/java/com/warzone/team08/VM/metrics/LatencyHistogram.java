@@ -0,0 +1,138 @@
+package com.warzone.team08.VM.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of the durations in nanoseconds. Like HdrHistogram, the buckets are linear within each power of two, so
+ * each recorded value is kept with a relative error of at most <code>1/16</code> using a fixed number of buckets.
+ * Recording a value does not create any object and can be done by many threads at once.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    /**
+     * Number of bits of a value which are kept by the bucket; there are <code>2^SUB_BUCKET_BITS</code> buckets for
+     * each power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray d_counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong d_totalCount = new AtomicLong();
+    private final AtomicLong d_totalValue = new AtomicLong();
+    private final AtomicLong d_maxValue = new AtomicLong();
+
+    /**
+     * Records the duration.
+     *
+     * @param p_value Value of the duration in nanoseconds; negative values are recorded as zero.
+     */
+    public void recordValue(long p_value) {
+        long l_value = Math.max(0, p_value);
+        d_counts.incrementAndGet(getBucketIndex(l_value));
+        d_totalCount.incrementAndGet();
+        d_totalValue.addAndGet(l_value);
+        long l_maxValue;
+        do {
+            l_maxValue = d_maxValue.get();
+        } while (l_value > l_maxValue && !d_maxValue.compareAndSet(l_maxValue, l_value));
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return Value of the count.
+     */
+    public long getTotalCount() {
+        return d_totalCount.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return Value of the mean in nanoseconds; zero if no value has been recorded.
+     */
+    public double getMean() {
+        long l_totalCount = d_totalCount.get();
+        return l_totalCount == 0 ? 0 : (double) d_totalValue.get() / l_totalCount;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return Value of the maximum in nanoseconds.
+     */
+    public long getMaxValue() {
+        return d_maxValue.get();
+    }
+
+    /**
+     * Gets the value below which the given percentage of the recorded values fall. The value is the highest value of
+     * the bucket, so it is never less than the actual percentile.
+     *
+     * @param p_percentile Percentile between zero and hundred; for example, <code>99</code>.
+     * @return Value of the percentile in nanoseconds; zero if no value has been recorded.
+     */
+    public long getValueAtPercentile(double p_percentile) {
+        long l_totalCount = d_totalCount.get();
+        if (l_totalCount == 0) {
+            return 0;
+        }
+        long l_targetCount = Math.max(1, (long) Math.ceil(p_percentile / 100 * l_totalCount));
+        long l_count = 0;
+        for (int l_bucketIndex = 0; l_bucketIndex < BUCKET_COUNT; l_bucketIndex++) {
+            l_count += d_counts.get(l_bucketIndex);
+            if (l_count >= l_targetCount) {
+                return Math.min(getHighestValueOfBucket(l_bucketIndex), d_maxValue.get());
+            }
+        }
+        return d_maxValue.get();
+    }
+
+    /**
+     * Removes all the recorded values.
+     */
+    public void reset() {
+        for (int l_bucketIndex = 0; l_bucketIndex < BUCKET_COUNT; l_bucketIndex++) {
+            d_counts.set(l_bucketIndex, 0);
+        }
+        d_totalCount.set(0);
+        d_totalValue.set(0);
+        d_maxValue.set(0);
+    }
+
+    /**
+     * Gets the index of the bucket of the value. The values less than <code>SUB_BUCKET_COUNT</code> have their own
+     * bucket; the other values are grouped by their highest bit and the next <code>SUB_BUCKET_BITS</code> bits.
+     *
+     * @param p_value Value which is not negative.
+     * @return Value of the index of the bucket.
+     */
+    static int getBucketIndex(long p_value) {
+        if (p_value < SUB_BUCKET_COUNT) {
+            return (int) p_value;
+        }
+        int l_highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(p_value);
+        int l_shift = l_highestBit - SUB_BUCKET_BITS;
+        int l_subBucketIndex = (int) (p_value >>> l_shift) & (SUB_BUCKET_COUNT - 1);
+        return (l_shift + 1) * SUB_BUCKET_COUNT + l_subBucketIndex;
+    }
+
+    /**
+     * Gets the highest value which is counted in the bucket.
+     *
+     * @param p_bucketIndex Index of the bucket.
+     * @return Value of the highest value of the bucket.
+     */
+    static long getHighestValueOfBucket(int p_bucketIndex) {
+        if (p_bucketIndex < SUB_BUCKET_COUNT) {
+            return p_bucketIndex;
+        }
+        int l_shift = p_bucketIndex / SUB_BUCKET_COUNT - 1;
+        long l_lowestValue = (long) (SUB_BUCKET_COUNT + p_bucketIndex % SUB_BUCKET_COUNT) << l_shift;
+        return l_lowestValue + (1L << l_shift) - 1;
+    }
+}
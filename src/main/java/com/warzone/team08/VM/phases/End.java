@@ -30,6 +30,14 @@ public class End extends Phase {
         return this.invalidCommand();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resumeTournament(List<String> p_arguments) throws VMException {
+        return this.invalidCommand();
+    }
+
     /**
      * {@inheritDoc}
      */
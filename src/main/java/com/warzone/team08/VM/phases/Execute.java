@@ -4,7 +4,6 @@ import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.exceptions.InvalidInputException;
 import com.warzone.team08.VM.exceptions.ResourceNotFoundException;
 import com.warzone.team08.VM.exceptions.VMException;
-import com.warzone.team08.VM.game_play.GamePlayEngine;
 import com.warzone.team08.VM.game_play.services.ExecuteOrderService;
 
 /**
@@ -14,13 +13,24 @@ import com.warzone.team08.VM.game_play.services.ExecuteOrderService;
  * @version 1.0
  */
 public class Execute extends MainPlay {
+    private final ExecuteOrderService d_executeOrderService;
+
     /**
      * Parameterised constructor to create an instance of <code>Fortify</code>.
      *
      * @param p_gameEngine Instance of the game engine.
      */
-    Execute(GameEngine p_gameEngine) {
+    public Execute(GameEngine p_gameEngine) {
         super(p_gameEngine);
+        d_executeOrderService = new ExecuteOrderService(p_gameEngine);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void play() throws VMException {
+        this.fortify();
     }
 
     /**
@@ -44,8 +54,7 @@ public class Execute extends MainPlay {
      */
     @Override
     public void fortify() throws ResourceNotFoundException, InvalidInputException {
-        ExecuteOrderService l_executeOrderService = new ExecuteOrderService();
-        l_executeOrderService.execute();
+        d_executeOrderService.execute();
     }
 
     /**
@@ -53,7 +62,7 @@ public class Execute extends MainPlay {
      */
     @Override
     public void nextState() {
-        GamePlayEngine.incrementEngineIndex();
-        d_gameEngine.setGamePhase(new Reinforcement(d_gameEngine));
+        d_gameEngine.getGamePlayEngine().incrementExecutionIndex();
+        d_gameEngine.setGamePhase(d_gameEngine.getReinforcementPhase());
     }
 }
@@ -36,12 +36,20 @@ public abstract class GamePlay extends Phase {
         return this.invalidCommand();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resumeTournament(List<String> p_arguments) throws VMException {
+        return this.invalidCommand();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String showMap(List<String> p_arguments) throws VMException {
-        ShowMapService l_showMapService = new ShowMapService();
+        ShowMapService l_showMapService = new ShowMapService(d_gameEngine);
         return l_showMapService.execute(p_arguments);
     }
 
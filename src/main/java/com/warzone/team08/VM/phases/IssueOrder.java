@@ -14,6 +14,8 @@ import com.warzone.team08.VM.game_play.services.IssueOrderService;
  * @version 1.0
  */
 public class IssueOrder extends MainPlay {
+    private final IssueOrderService d_issueOrderService;
+
     /**
      * Parameterised constructor to create an instance of <code>Attack</code>.
      *
@@ -21,6 +23,15 @@ public class IssueOrder extends MainPlay {
      */
     public IssueOrder(GameEngine p_gameEngine) {
         super(p_gameEngine);
+        d_issueOrderService = new IssueOrderService(p_gameEngine);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void play() throws VMException {
+        this.issueOrder();
     }
 
     /**
@@ -36,8 +47,7 @@ public class IssueOrder extends MainPlay {
      */
     @Override
     public void issueOrder() throws ResourceNotFoundException, InvalidInputException, InvalidOrderException {
-        IssueOrderService l_issueOrderService = new IssueOrderService();
-        l_issueOrderService.execute();
+        d_issueOrderService.execute();
     }
 
     /**
@@ -52,6 +62,6 @@ public class IssueOrder extends MainPlay {
      * Call this method to go the the next state in the sequence.
      */
     public void nextState() {
-        d_gameEngine.setGamePhase(new Execute(d_gameEngine));
+        d_gameEngine.setGamePhase(d_gameEngine.getExecutePhase());
     }
 }
@@ -26,6 +26,14 @@ public abstract class MainPlay extends GamePlay {
         super(p_gameEngine);
     }
 
+    /**
+     * Plays this phase of the turn. The game loop calls this method for the current phase of the game, and then moves
+     * the game to the next phase using <code>Phase#nextState</code>.
+     *
+     * @throws VMException If any exception while playing the phase.
+     */
+    public abstract void play() throws VMException;
+
     /**
      * {@inheritDoc}
      */
@@ -34,6 +42,14 @@ public abstract class MainPlay extends GamePlay {
         return this.invalidCommand();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resumeTournament(List<String> p_arguments) throws VMException {
+        return this.invalidCommand();
+    }
+
     /**
      * {@inheritDoc}
      */
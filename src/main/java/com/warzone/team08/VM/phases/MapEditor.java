@@ -59,11 +59,11 @@ public abstract class MapEditor extends Phase {
                 if (l_currentLine != null && l_currentLine.startsWith("[")) {
                     final String l_substring = l_currentLine.substring(l_currentLine.indexOf("[") + 1, l_currentLine.indexOf("]"));
                     if (l_substring.equalsIgnoreCase("continents")) {
-                        LoadMapService l_loadMapService = new LoadMapService();
+                        LoadMapService l_loadMapService = new LoadMapService(d_gameEngine);
                         d_gameEngine.setGamePhase(new PlaySetup(d_gameEngine));
                         return l_loadMapService.execute(p_arguments);
                     } else if (l_substring.equalsIgnoreCase("Map")) {
-                        LoadConquestMapService l_loadConquestMapService = new LoadConquestMapService();
+                        LoadConquestMapService l_loadConquestMapService = new LoadConquestMapService(d_gameEngine);
                         d_gameEngine.setGamePhase(new PlaySetup(d_gameEngine));
                         return l_loadConquestMapService.execute(p_arguments);
                     } else {
@@ -133,7 +133,7 @@ public abstract class MapEditor extends Phase {
      */
     @Override
     public String showMap(List<String> p_arguments) throws VMException {
-        ShowMapService l_showMapService = new ShowMapService();
+        ShowMapService l_showMapService = new ShowMapService(d_gameEngine);
         return l_showMapService.execute(p_arguments);
     }
 }
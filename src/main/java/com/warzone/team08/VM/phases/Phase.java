@@ -1,11 +1,18 @@
 package com.warzone.team08.VM.phases;
 
 import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.common.services.JournalService;
 import com.warzone.team08.VM.common.services.LoadGameService;
+import com.warzone.team08.VM.common.services.LogLevelService;
+import com.warzone.team08.VM.common.services.LogRotationService;
+import com.warzone.team08.VM.common.services.OutputService;
+import com.warzone.team08.VM.common.services.ReplayService;
+import com.warzone.team08.VM.common.services.RolloutService;
 import com.warzone.team08.VM.common.services.SaveGameService;
+import com.warzone.team08.VM.common.services.StatsService;
 import com.warzone.team08.VM.exceptions.InvalidCommandException;
 import com.warzone.team08.VM.exceptions.VMException;
-import com.warzone.team08.VM.logger.LogEntryBuffer;
+import com.warzone.team08.VM.logger.LogLevel;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -76,6 +83,16 @@ public abstract class Phase {
      */
     abstract public String prepareTournament(List<Map<String, List<String>>> p_arguments) throws VMException;
 
+    /**
+     * Resumes the tournament saved in the checkpoint file. The games which have already been completed are not played
+     * again.
+     *
+     * @param p_arguments Contains the path to the checkpoint file.
+     * @return Response value of the operation.
+     * @throws VMException If any exception while resuming the tournament.
+     */
+    abstract public String resumeTournament(List<String> p_arguments) throws VMException;
+
     /**
      * Loads the map using the filename provided in the arguments.
      * <p>Uses <code>LoadMapService</code>.</p>
@@ -228,7 +245,7 @@ public abstract class Phase {
      * @throws VMException If any error while saving the file.
      */
     public String saveGame(List<String> p_arguments) throws VMException {
-        SaveGameService l_saveGameService = new SaveGameService();
+        SaveGameService l_saveGameService = new SaveGameService(d_gameEngine);
         return l_saveGameService.execute(p_arguments);
     }
 
@@ -240,10 +257,98 @@ public abstract class Phase {
      * @throws VMException If any error while loading the file.
      */
     public String loadGame(List<String> p_arguments) throws VMException {
-        LoadGameService l_loadGameService = new LoadGameService();
+        LoadGameService l_loadGameService = new LoadGameService(d_gameEngine);
         return l_loadGameService.execute(p_arguments);
     }
 
+    /**
+     * Plays the rollouts from the position of the saved game and reports the win probability of each player. The
+     * current game is not changed.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If any exception while playing the rollouts.
+     */
+    public String rollout(List<Map<String, List<String>>> p_arguments) throws VMException {
+        RolloutService l_rolloutService = new RolloutService(d_gameEngine);
+        return l_rolloutService.execute(p_arguments);
+    }
+
+    /**
+     * Turns the timing metrics on or off, and shows the metrics recorded so far. Available in every phase, also while
+     * the game loop is running.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If any exception while showing the metrics.
+     */
+    public String stats(List<Map<String, List<String>>> p_arguments) throws VMException {
+        StatsService l_statsService = new StatsService();
+        return l_statsService.execute(p_arguments);
+    }
+
+    /**
+     * Sets the levels of the categories of the log, and shows the levels. Available in every phase, also while the game
+     * loop is running.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If the level or the category is not valid.
+     */
+    public String logLevel(List<Map<String, List<String>>> p_arguments) throws VMException {
+        LogLevelService l_logLevelService = new LogLevelService();
+        return l_logLevelService.execute(p_arguments);
+    }
+
+    /**
+     * Sets the rotation of the log file, and shows it. Available in every phase, also while the game loop is running.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If the limits are not valid or the log file is not available.
+     */
+    public String logRotation(List<Map<String, List<String>>> p_arguments) throws VMException {
+        LogRotationService l_logRotationService = new LogRotationService();
+        return l_logRotationService.execute(p_arguments);
+    }
+
+    /**
+     * Turns the journals of the games on or off. Available in every phase; a game opens its journal when its countries
+     * are distributed.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If the keyframe interval is not valid.
+     */
+    public String journal(List<Map<String, List<String>>> p_arguments) throws VMException {
+        JournalService l_journalService = new JournalService();
+        return l_journalService.execute(p_arguments);
+    }
+
+    /**
+     * Shows the board of a game at a turn, rebuilt from the journal of the game. Available in every phase.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If the journal can not be read or does not have the turn.
+     */
+    public String replay(List<Map<String, List<String>>> p_arguments) throws VMException {
+        ReplayService l_replayService = new ReplayService();
+        return l_replayService.execute(p_arguments);
+    }
+
+    /**
+     * Sets the mode in which the messages are sent to the user interface. Available in every phase.
+     *
+     * @param p_arguments Contains the list of mappings of key and its values.
+     * @return Response value of the operation.
+     * @throws VMException If the mode or the batch size is not valid.
+     */
+    public String output(List<Map<String, List<String>>> p_arguments) throws VMException {
+        OutputService l_outputService = new OutputService();
+        return l_outputService.execute(p_arguments);
+    }
+
     /**
      * Ends the <code>MainPlay</code> game loop.
      *
@@ -296,10 +401,10 @@ public abstract class Phase {
             Method l_methodReference = p_target.getClass().getMethod(p_methodName, l_valueTypes);
             return (String) l_methodReference.invoke(p_target, l_values);
         } catch (InvocationTargetException p_invocationTargetException) {
-            LogEntryBuffer.getLogger().dataChanged("error", p_invocationTargetException.getCause().getMessage());
+            d_gameEngine.getLogEntryBuffer().dataChanged("error", LogLevel.ERROR, p_invocationTargetException.getCause().getMessage());
             throw new VMException(p_invocationTargetException.getCause().getMessage());
         } catch (NoSuchMethodException | IllegalAccessException p_e) {
-            LogEntryBuffer.getLogger().dataChanged("error", "Invalid command!");
+            d_gameEngine.getLogEntryBuffer().dataChanged("error", LogLevel.ERROR, "Invalid command!");
             this.invalidCommand();
         }
         return null;
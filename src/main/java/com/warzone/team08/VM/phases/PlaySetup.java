@@ -35,14 +35,14 @@ public class PlaySetup extends GamePlay {
      * {@inheritDoc}
      */
     public String setPlayers(String serviceType, List<String> p_arguments) throws VMException {
-        return this.invokeMethod(new PlayerService(), serviceType, p_arguments);
+        return this.invokeMethod(new PlayerService(d_gameEngine), serviceType, p_arguments);
     }
 
     /**
      * {@inheritDoc}
      */
     public String assignCountries(List<String> p_arguments) throws VMException {
-        DistributeCountriesService l_distributeCountriesService = new DistributeCountriesService();
+        DistributeCountriesService l_distributeCountriesService = new DistributeCountriesService(d_gameEngine);
         String l_responseValue = l_distributeCountriesService.execute(p_arguments);
         // Start game loop.
         this.d_gameEngine.getGamePlayEngine().startGameLoop();
@@ -81,6 +81,6 @@ public class PlaySetup extends GamePlay {
      * {@inheritDoc}
      */
     public void nextState() {
-        d_gameEngine.setGamePhase(new Reinforcement(d_gameEngine));
+        d_gameEngine.setGamePhase(d_gameEngine.getReinforcementPhase());
     }
 }
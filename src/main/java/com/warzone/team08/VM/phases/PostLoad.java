@@ -35,6 +35,14 @@ public class PostLoad extends MapEditor {
         return this.invalidCommand();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resumeTournament(List<String> p_arguments) throws VMException {
+        return this.invalidCommand();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -48,7 +56,7 @@ public class PostLoad extends MapEditor {
      */
     @Override
     public String editContinent(String l_serviceType, List<String> p_arguments) throws VMException {
-        return this.invokeMethod(new ContinentService(), l_serviceType, p_arguments);
+        return this.invokeMethod(new ContinentService(d_gameEngine), l_serviceType, p_arguments);
     }
 
     /**
@@ -56,7 +64,7 @@ public class PostLoad extends MapEditor {
      */
     @Override
     public String editCountry(String l_serviceType, List<String> p_arguments) throws VMException {
-        return this.invokeMethod(new CountryService(), l_serviceType, p_arguments);
+        return this.invokeMethod(new CountryService(d_gameEngine), l_serviceType, p_arguments);
     }
 
     /**
@@ -64,7 +72,7 @@ public class PostLoad extends MapEditor {
      */
     @Override
     public String editNeighbor(String l_serviceType, List<String> p_arguments) throws VMException {
-        return this.invokeMethod(new CountryNeighborService(), l_serviceType, p_arguments);
+        return this.invokeMethod(new CountryNeighborService(d_gameEngine), l_serviceType, p_arguments);
     }
 
     /**
@@ -72,7 +80,7 @@ public class PostLoad extends MapEditor {
      */
     @Override
     public String validateMap(List<String> p_arguments) throws VMException {
-        ValidateMapService l_validateMapService = new ValidateMapService();
+        ValidateMapService l_validateMapService = new ValidateMapService(d_gameEngine);
         return l_validateMapService.execute(p_arguments);
     }
 
@@ -84,9 +92,9 @@ public class PostLoad extends MapEditor {
         SaveMapService l_saveMapService;
         if (!p_arguments.isEmpty()) {
             if (p_arguments.get(1).equalsIgnoreCase("warzone")) {
-                l_saveMapService = new SaveMapService();
+                l_saveMapService = new SaveMapService(d_gameEngine);
             } else if (p_arguments.get(1).equalsIgnoreCase("conquest")) {
-                l_saveMapService = new SaveMapAdapter(new SaveConquestMapService());
+                l_saveMapService = new SaveMapAdapter(new SaveConquestMapService(d_gameEngine));
             } else {
                 throw new InvalidCommandException("Map type is not valid");
             }
@@ -87,14 +87,89 @@ public class Preload extends MapEditor {
                 } catch (NumberFormatException p_exception) {
                     throw new InvalidArgumentException("Number of maximum turns is in invalid format!");
                 }
+            } else if (l_argument.containsKey("T")) {
+                try {
+                    int l_numberOfThreads = Integer.parseInt(l_argument.get("T").get(0));
+                    if (l_numberOfThreads < 1) {
+                        throw new InvalidArgumentException("Number of threads must be at least one!");
+                    }
+                    l_tournamentEngine.setNumberOfThreads(l_numberOfThreads);
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Number of threads not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Number of threads is in invalid format!");
+                }
+            } else if (l_argument.containsKey("S")) {
+                try {
+                    l_tournamentEngine.setSeed(Long.parseLong(l_argument.get("S").get(0)));
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Seed not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Seed is in invalid format!");
+                }
+            } else if (l_argument.containsKey("A")) {
+                try {
+                    int l_dominancePercentage = Integer.parseInt(l_argument.get("A").get(0));
+                    if (l_dominancePercentage < 1 || l_dominancePercentage > 99) {
+                        throw new InvalidArgumentException("Dominance percentage must be between 1 and 99!");
+                    }
+                    l_tournamentEngine.setDominanceShare(l_dominancePercentage / 100.0);
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Dominance percentage not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Dominance percentage is in invalid format!");
+                }
+            } else if (l_argument.containsKey("R")) {
+                try {
+                    int l_repetitionLimit = Integer.parseInt(l_argument.get("R").get(0));
+                    if (l_repetitionLimit < 2) {
+                        throw new InvalidArgumentException("Repetition limit must be at least two!");
+                    }
+                    l_tournamentEngine.setRepetitionLimit(l_repetitionLimit);
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Repetition limit not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Repetition limit is in invalid format!");
+                }
+            } else if (l_argument.containsKey("C")) {
+                try {
+                    int l_confidencePercentage = Integer.parseInt(l_argument.get("C").get(0));
+                    if (l_confidencePercentage < 50 || l_confidencePercentage > 99) {
+                        throw new InvalidArgumentException("Confidence percentage must be between 50 and 99!");
+                    }
+                    l_tournamentEngine.setConfidenceLevel(l_confidencePercentage / 100.0);
+                } catch (IndexOutOfBoundsException p_e) {
+                    throw new InvalidArgumentException("Confidence percentage not specified!");
+                } catch (NumberFormatException p_exception) {
+                    throw new InvalidArgumentException("Confidence percentage is in invalid format!");
+                }
+            } else if (l_argument.containsKey("headless")) {
+                l_tournamentEngine.setHeadless(true);
             }
         }
         // If no error occurred during preparing the tournament, start it.
-        this.d_gameEngine.setGamePhase(new Reinforcement(d_gameEngine));
+        this.d_gameEngine.setGamePhase(d_gameEngine.getReinforcementPhase());
         l_tournamentEngine.onStart(false);
         return "";
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String resumeTournament(List<String> p_arguments) throws VMException {
+        String l_checkpointFilePath = p_arguments.get(0);
+        if (!new File(l_checkpointFilePath).isAbsolute()) {
+            l_checkpointFilePath = PathResolverUtil.resolveFilePath(l_checkpointFilePath);
+        }
+        if (!new File(l_checkpointFilePath).exists()) {
+            throw new InvalidArgumentException("Checkpoint file does not exist!");
+        }
+        this.d_gameEngine.setGamePhase(d_gameEngine.getReinforcementPhase());
+        VirtualMachine.TOURNAMENT_ENGINE().onResume(l_checkpointFilePath, false);
+        return "";
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,9 +196,9 @@ public class Preload extends MapEditor {
             if (l_currentLine != null && l_currentLine.startsWith("[")) {
                 final String l_substring = l_currentLine.substring(l_currentLine.indexOf("[") + 1, l_currentLine.indexOf("]"));
                 if (l_substring.equalsIgnoreCase("continents")) {
-                    l_editMapService = new EditMapService();
+                    l_editMapService = new EditMapService(d_gameEngine);
                 } else if (l_substring.equalsIgnoreCase("Map")) {
-                    l_editMapService = new EditMapAdapter(new EditConquestMapService());
+                    l_editMapService = new EditMapAdapter(new EditConquestMapService(d_gameEngine));
                 } else {
                     throw new InvalidMapException("Unrecognised map file!");
                 }
@@ -132,7 +207,7 @@ public class Preload extends MapEditor {
             }
         } else {
             // Will create a new file if it doesn't exists.
-            l_editMapService = new EditMapService();
+            l_editMapService = new EditMapService(d_gameEngine);
         }
         l_returnValue = l_editMapService.execute(p_arguments);
         d_gameEngine.setGamePhase(new PostLoad(d_gameEngine));
@@ -168,7 +243,7 @@ public class Preload extends MapEditor {
      */
     @Override
     public String validateMap(List<String> p_arguments) throws VMException {
-        ValidateMapService l_validateMapService = new ValidateMapService();
+        ValidateMapService l_validateMapService = new ValidateMapService(d_gameEngine);
         return l_validateMapService.execute(p_arguments);
     }
 
@@ -11,6 +11,8 @@ import com.warzone.team08.VM.game_play.services.AssignReinforcementService;
  * @version 1.0
  */
 public class Reinforcement extends MainPlay {
+    private final AssignReinforcementService d_reinforcementService;
+
     /**
      * Parameterised constructor to create an instance of <code>Preload</code>.
      *
@@ -18,6 +20,15 @@ public class Reinforcement extends MainPlay {
      */
     public Reinforcement(GameEngine p_gameEngine) {
         super(p_gameEngine);
+        d_reinforcementService = new AssignReinforcementService(p_gameEngine);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void play() throws VMException {
+        this.reinforce();
     }
 
     /**
@@ -25,8 +36,7 @@ public class Reinforcement extends MainPlay {
      */
     @Override
     public void reinforce() throws VMException {
-        AssignReinforcementService l_reinforcementService = new AssignReinforcementService();
-        l_reinforcementService.execute();
+        d_reinforcementService.execute();
     }
 
     /**
@@ -50,6 +60,6 @@ public class Reinforcement extends MainPlay {
      */
     @Override
     public void nextState() {
-        d_gameEngine.setGamePhase(new IssueOrder(d_gameEngine));
+        d_gameEngine.setGamePhase(d_gameEngine.getIssueOrderPhase());
     }
 }
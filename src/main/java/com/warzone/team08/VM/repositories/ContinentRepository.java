@@ -1,11 +1,11 @@
 package com.warzone.team08.VM.repositories;
 
-import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Continent;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This class finds the Continent entity from the runtime engine.
@@ -14,6 +14,20 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class ContinentRepository {
+    /**
+     * Engine of the game from which the entities are found.
+     */
+    private final MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Creates the repository bound to the engine of the given game.
+     *
+     * @param p_mapEditorEngine <code>MapEditorEngine</code> of the game.
+     */
+    public ContinentRepository(MapEditorEngine p_mapEditorEngine) {
+        d_mapEditorEngine = p_mapEditorEngine;
+    }
+
     /**
      * Finds the continent using continent name.
      *
@@ -21,9 +35,8 @@ public class ContinentRepository {
      * @return Value of the list of matched continents.
      */
     public List<Continent> findByContinentName(String p_continentName) {
-        return VirtualMachine.getGameEngine().getMapEditorEngine().getContinentList().stream().filter(p_continent ->
-                p_continent.getContinentName().equals(p_continentName)
-        ).collect(Collectors.toList());
+        Continent l_continent = getMapEditorEngine().findContinentByName(p_continentName);
+        return l_continent != null ? Collections.singletonList(l_continent) : Collections.emptyList();
     }
 
     /**
@@ -34,9 +47,9 @@ public class ContinentRepository {
      * @throws EntityNotFoundException Throws if the being searched entity has been not found.
      */
     public Continent findFirstByContinentName(String p_continentName) throws EntityNotFoundException {
-        List<Continent> l_continentList = this.findByContinentName(p_continentName);
-        if (l_continentList.size() > 0)
-            return l_continentList.get(0);
+        Continent l_continent = getMapEditorEngine().findContinentByName(p_continentName);
+        if (l_continent != null)
+            return l_continent;
         throw new EntityNotFoundException(String.format("'%s' continent not found", p_continentName));
     }
 
@@ -48,12 +61,19 @@ public class ContinentRepository {
      * @throws EntityNotFoundException Throws if the being searched entity has been not found.
      */
     public Continent findByContinentId(Integer p_continentId) throws EntityNotFoundException {
-        List<Continent> l_continentList = VirtualMachine.getGameEngine().getMapEditorEngine().getContinentList().stream().filter(p_continent ->
-                p_continent.getContinentId().equals(p_continentId)
-        ).collect(Collectors.toList());
-        if (!l_continentList.isEmpty()) {
-            return l_continentList.get(0);
+        Continent l_continent = getMapEditorEngine().findContinentById(p_continentId);
+        if (l_continent != null) {
+            return l_continent;
         }
         throw new EntityNotFoundException(String.format("Continent with %s id not found!", p_continentId));
     }
+
+    /**
+     * Gets the engine from which the entities are found.
+     *
+     * @return Value of the engine.
+     */
+    private MapEditorEngine getMapEditorEngine() {
+        return d_mapEditorEngine;
+    }
 }
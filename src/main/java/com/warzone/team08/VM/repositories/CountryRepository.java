@@ -1,9 +1,11 @@
 package com.warzone.team08.VM.repositories;
 
-import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,20 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class CountryRepository {
+    /**
+     * Engine of the game from which the entities are found.
+     */
+    private final MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Creates the repository bound to the engine of the given game.
+     *
+     * @param p_mapEditorEngine <code>MapEditorEngine</code> of the game.
+     */
+    public CountryRepository(MapEditorEngine p_mapEditorEngine) {
+        d_mapEditorEngine = p_mapEditorEngine;
+    }
+
     /**
      * Finds the country using country name.
      *
@@ -21,9 +37,8 @@ public class CountryRepository {
      * @return Value of the list of matched countries.
      */
     public List<Country> findByCountryName(String p_countryName) {
-        return VirtualMachine.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_country ->
-                p_country.getCountryName().equals(p_countryName)
-        ).collect(Collectors.toList());
+        Country l_country = getMapEditorEngine().findCountryByName(p_countryName);
+        return l_country != null ? Collections.singletonList(l_country) : Collections.emptyList();
     }
 
     /**
@@ -34,9 +49,9 @@ public class CountryRepository {
      * @throws EntityNotFoundException Throws if the being searched entity has been not found.
      */
     public Country findFirstByCountryName(String p_countryName) throws EntityNotFoundException {
-        List<Country> l_countryList = this.findByCountryName(p_countryName);
-        if (l_countryList.size() > 0)
-            return l_countryList.get(0);
+        Country l_country = getMapEditorEngine().findCountryByName(p_countryName);
+        if (l_country != null)
+            return l_country;
 
         throw new EntityNotFoundException(String.format("'%s' country not found", p_countryName));
     }
@@ -45,17 +60,10 @@ public class CountryRepository {
      * Finds the country using its id.
      *
      * @param p_countryId Value of the name of country.
-     * @return Value of the first matched countries.
+     * @return Value of the first matched countries; null if not found.
      */
     public Country findByCountryId(Integer p_countryId) {
-        List<Country> l_countries = VirtualMachine.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_country ->
-                p_country.getCountryId().equals(p_countryId)
-        ).collect(Collectors.toList());
-        if (!l_countries.isEmpty()) {
-            return l_countries.get(0);
-        } else {
-            return null;
-        }
+        return getMapEditorEngine().findCountryById(p_countryId);
     }
 
     /**
@@ -65,8 +73,9 @@ public class CountryRepository {
      * @return List of the countries.
      */
     public List<Country> findByNeighbourOfCountries(Country p_country) {
-        return VirtualMachine.getGameEngine().getMapEditorEngine().getCountryList().stream().filter(p_l_country ->
-                !p_l_country.equals(p_country) && p_l_country.getNeighbourCountries().contains(p_country)
+        // The country keeps the countries bordering it, so only its own incoming edges are visited.
+        return p_country.getIncomingNeighbourCountries().stream().filter(p_l_country ->
+                p_l_country != p_country
         ).collect(Collectors.toList());
     }
 
@@ -78,8 +87,18 @@ public class CountryRepository {
      * @throws IllegalStateException Throws if returns an empty list.
      */
     public List<Country> findCountryNeighborsAndNotOwned(Country p_country) throws IllegalStateException {
+        GameEngine l_gameEngine = getMapEditorEngine().getGameEngine();
         return p_country.getNeighbourCountries().stream().filter((p_l_country) ->
-                p_l_country.getOwnedBy() == null
+                p_l_country.getOwnedBy(l_gameEngine) == null
         ).collect(Collectors.toList());
     }
+
+    /**
+     * Gets the engine from which the entities are found.
+     *
+     * @return Value of the engine.
+     */
+    private MapEditorEngine getMapEditorEngine() {
+        return d_mapEditorEngine;
+    }
 }
@@ -1,11 +1,8 @@
 package com.warzone.team08.VM.repositories;
 
-import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
 
 /**
  * This class finds the <code>Player</code> entity from the runtime engine.
@@ -14,6 +11,20 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class PlayerRepository {
+    /**
+     * Engine of the game from which the entities are found.
+     */
+    private final GamePlayEngine d_gamePlayEngine;
+
+    /**
+     * Creates the repository bound to the engine of the given game.
+     *
+     * @param p_gamePlayEngine <code>GamePlayEngine</code> of the game.
+     */
+    public PlayerRepository(GamePlayEngine p_gamePlayEngine) {
+        d_gamePlayEngine = p_gamePlayEngine;
+    }
+
     /**
      * Finds only <code>Player</code> using its name.
      *
@@ -22,11 +33,9 @@ public class PlayerRepository {
      * @throws EntityNotFoundException Throws if the being searched entity has been not found.
      */
     public Player findByPlayerName(String p_playerName) throws EntityNotFoundException {
-        List<Player> l_filteredPlayerList = VirtualMachine.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(p_player ->
-                p_player.getName().equals(p_playerName)
-        ).collect(Collectors.toList());
-        if (l_filteredPlayerList.size() > 0)
-            return l_filteredPlayerList.get(0);
+        Player l_player = getGamePlayEngine().findPlayerByName(p_playerName);
+        if (l_player != null)
+            return l_player;
         throw new EntityNotFoundException(String.format("'%s' player not found", p_playerName));
     }
 
@@ -37,8 +46,15 @@ public class PlayerRepository {
      * @return True if player with same name already exists in the list of joined players; Otherwise false.
      */
     public boolean existByPlayerName(String p_playerName) {
-        return VirtualMachine.getGameEngine().getGamePlayEngine().getPlayerList().stream().filter(p_player ->
-                p_player.getName().equals(p_playerName)
-        ).count() == 1;
+        return getGamePlayEngine().findPlayerByName(p_playerName) != null;
+    }
+
+    /**
+     * Gets the engine from which the entities are found.
+     *
+     * @return Value of the engine.
+     */
+    private GamePlayEngine getGamePlayEngine() {
+        return d_gamePlayEngine;
     }
 }
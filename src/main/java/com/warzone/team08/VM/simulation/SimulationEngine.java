@@ -0,0 +1,413 @@
+package com.warzone.team08.VM.simulation;
+
+import com.warzone.team08.VM.common.services.CardService;
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.constants.enums.OrderType;
+import com.warzone.team08.VM.entities.orders.BlockadeOrder;
+import com.warzone.team08.VM.map_editor.MapGraph;
+
+import static java.lang.Math.round;
+
+/**
+ * Simulates the games between the bots on a <code>SimulationState</code>, without creating any <code>Order</code>,
+ * <code>Card</code> or log entries. The orders are encoded using <code>SimulationOrder</code>.
+ * <p>
+ * The orders follow the same rules as <code>DeployOrder</code>, <code>AdvanceOrder</code>, <code>BombOrder</code>,
+ * <code>BlockadeOrder</code>, <code>AirliftOrder</code> and <code>NegotiateOrder</code>, and a turn executes the orders
+ * in the same sequence as <code>ExecuteOrderService</code>, so a game simulated from a state converted using
+ * <code>SimulationState#fromGameEngine</code> ends in the same state as the game played using the objects, when both
+ * draw the cards from generators in the same state.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ */
+public class SimulationEngine {
+    /**
+     * The order has been executed.
+     */
+    public static final int EXECUTED = 0;
+
+    /**
+     * The order could not be executed; the same as <code>InvalidOrderException</code>.
+     */
+    public static final int INVALID_ORDER = 1;
+
+    /**
+     * The player does not have the card required for the order; the same as <code>CardNotFoundException</code>.
+     */
+    public static final int CARD_NOT_FOUND = 2;
+
+    private final SimulationState d_state;
+    private final MapGraph d_mapGraph;
+
+    /**
+     * Countries of each continent: the countries of the continent <code>c</code> are at the positions from
+     * <code>d_continentOffsets[c]</code> to <code>d_continentOffsets[c + 1]</code>.
+     */
+    private final int[] d_continentOffsets;
+    private final int[] d_continentCountries;
+
+    /**
+     * Buffers reused by every turn.
+     */
+    private final int[] d_orderCursors;
+    private final boolean[] d_isFinished;
+
+    /**
+     * Creates the engine to simulate the game.
+     *
+     * @param p_state State of the game.
+     */
+    public SimulationEngine(SimulationState p_state) {
+        d_state = p_state;
+        d_mapGraph = p_state.getMapGraph();
+        d_orderCursors = new int[p_state.getNumberOfPlayers()];
+        d_isFinished = new boolean[p_state.getNumberOfPlayers()];
+
+        int l_numberOfCountries = d_mapGraph.getNumberOfCountries();
+        d_continentOffsets = new int[d_mapGraph.getNumberOfContinents() + 1];
+        d_continentCountries = new int[l_numberOfCountries];
+        for (int l_countryIndex = 0; l_countryIndex < l_numberOfCountries; l_countryIndex++) {
+            d_continentOffsets[d_mapGraph.getContinentIndex(l_countryIndex) + 1]++;
+        }
+        for (int l_continentIndex = 0; l_continentIndex < d_mapGraph.getNumberOfContinents(); l_continentIndex++) {
+            d_continentOffsets[l_continentIndex + 1] += d_continentOffsets[l_continentIndex];
+        }
+        int[] l_positions = d_continentOffsets.clone();
+        for (int l_countryIndex = 0; l_countryIndex < l_numberOfCountries; l_countryIndex++) {
+            d_continentCountries[l_positions[d_mapGraph.getContinentIndex(l_countryIndex)]++] = l_countryIndex;
+        }
+    }
+
+    /**
+     * Gets the state of the game.
+     *
+     * @return Value of the state.
+     */
+    public SimulationState getState() {
+        return d_state;
+    }
+
+    /**
+     * Assigns the reinforcements to each player for the turn, the same as <code>AssignReinforcementService</code>. A
+     * player gets a third of the number of the assigned countries, at least three, and the control value of each
+     * continent whose countries are all owned by the player.
+     */
+    public void assignReinforcements() {
+        int l_numberOfPlayers = d_state.getNumberOfPlayers();
+        for (int l_playerIndex = 0; l_playerIndex < l_numberOfPlayers; l_playerIndex++) {
+            int l_reinforcementCount = Math.max(3, d_state.getNumberOfAssignedCountries(l_playerIndex) / 3);
+            for (int l_continentIndex = 0; l_continentIndex < d_mapGraph.getNumberOfContinents(); l_continentIndex++) {
+                if (this.ownsContinent(l_playerIndex, l_continentIndex)) {
+                    l_reinforcementCount += d_mapGraph.getContinent(l_continentIndex).getContinentControlValue();
+                }
+            }
+            d_state.setReinforcementCount(l_playerIndex, l_reinforcementCount);
+        }
+    }
+
+    /**
+     * Executes the orders of a turn, the same as <code>ExecuteOrderService</code> does, and moves the game to the next
+     * turn. The orders of each player are executed in the order they have been issued, and the players take turns in
+     * round-robin fashion. A negotiate order is executed in the next turn.
+     *
+     * @param p_ordersOfPlayers Orders issued by each player, at the index of the player.
+     */
+    public void executeTurn(long[][] p_ordersOfPlayers) {
+        int l_numberOfPlayers = d_state.getNumberOfPlayers();
+        int l_executionIndex = d_state.getExecutionIndex();
+
+        // Negotiate orders are added to the future orders as they are issued.
+        for (int l_playerIndex = 0; l_playerIndex < l_numberOfPlayers; l_playerIndex++) {
+            for (long l_order : p_ordersOfPlayers[l_playerIndex]) {
+                if (SimulationOrder.getType(l_order) == OrderType.negotiate) {
+                    d_state.addFutureOrder(l_order, l_executionIndex + 1, l_executionIndex + 2);
+                }
+            }
+        }
+
+        // Executes the orders which were supposed to be executed in this turn.
+        for (int l_futureIndex = 0; l_futureIndex < d_state.getNumberOfFutureOrders(); l_futureIndex++) {
+            if (d_state.getFutureExecutionIndex(l_futureIndex) == l_executionIndex) {
+                this.execute(d_state.getFutureOrder(l_futureIndex));
+            }
+        }
+
+        // Expires the orders which are not valid anymore.
+        for (int l_futureIndex = 0; l_futureIndex < d_state.getNumberOfFutureOrders(); ) {
+            if (d_state.getFutureExpiryIndex(l_futureIndex) <= l_executionIndex) {
+                long l_futureOrder = d_state.getFutureOrder(l_futureIndex);
+                int l_playerIndex = SimulationOrder.getPlayerIndex(l_futureOrder);
+                int l_otherPlayerIndex = SimulationOrder.getTargetIndex(l_futureOrder);
+                d_state.removeNegotiation(l_playerIndex, l_otherPlayerIndex);
+                d_state.removeNegotiation(l_otherPlayerIndex, l_playerIndex);
+                d_state.removeFutureOrder(l_futureIndex);
+            } else {
+                l_futureIndex++;
+            }
+        }
+
+        for (int l_playerIndex = 0; l_playerIndex < l_numberOfPlayers; l_playerIndex++) {
+            d_orderCursors[l_playerIndex] = 0;
+            d_isFinished[l_playerIndex] = false;
+        }
+        int l_currentPlayerTurn = d_state.getCurrentPlayerForExecutionPhase();
+        int l_numberOfFinishedPlayers = 0;
+        while (l_numberOfFinishedPlayers != l_numberOfPlayers) {
+            int l_playerIndex;
+            do {
+                l_playerIndex = l_currentPlayerTurn;
+                l_currentPlayerTurn++;
+                if (l_currentPlayerTurn >= l_numberOfPlayers) {
+                    l_currentPlayerTurn = 0;
+                }
+            } while (d_isFinished[l_playerIndex]);
+
+            long[] l_orders = p_ordersOfPlayers[l_playerIndex];
+            if (d_orderCursors[l_playerIndex] >= l_orders.length) {
+                d_isFinished[l_playerIndex] = true;
+                l_numberOfFinishedPlayers++;
+                continue;
+            }
+            long l_order = l_orders[d_orderCursors[l_playerIndex]++];
+            if (SimulationOrder.getType(l_order) != OrderType.negotiate &&
+                    this.execute(l_order) != EXECUTED) {
+                // The player is found to have no orders only at its next turn.
+                continue;
+            }
+            if (d_orderCursors[l_playerIndex] >= l_orders.length) {
+                d_isFinished[l_playerIndex] = true;
+                l_numberOfFinishedPlayers++;
+            }
+        }
+
+        d_state.setCurrentPlayerForExecutionPhase(l_currentPlayerTurn);
+        d_state.setExecutionIndex(l_executionIndex + 1);
+    }
+
+    /**
+     * Executes the order immediately. The negotiate order takes effect immediately as well; use
+     * <code>executeTurn</code> for it to be executed in the next turn.
+     *
+     * @param p_order Value of the order.
+     * @return <code>EXECUTED</code>, <code>INVALID_ORDER</code> or <code>CARD_NOT_FOUND</code>.
+     */
+    public int execute(long p_order) {
+        int l_playerIndex = SimulationOrder.getPlayerIndex(p_order);
+        int l_sourceIndex = SimulationOrder.getSourceIndex(p_order);
+        int l_targetIndex = SimulationOrder.getTargetIndex(p_order);
+        int l_numOfArmies = SimulationOrder.getNumOfArmies(p_order);
+        switch (SimulationOrder.getType(p_order)) {
+            case deploy:
+                return this.deploy(l_playerIndex, l_targetIndex, l_numOfArmies);
+            case advance:
+                return this.advance(l_playerIndex, l_sourceIndex, l_targetIndex, l_numOfArmies);
+            case airlift:
+                return this.airlift(l_playerIndex, l_sourceIndex, l_targetIndex, l_numOfArmies);
+            case bomb:
+                return this.bomb(l_playerIndex, l_targetIndex);
+            case blockade:
+                return this.blockade(l_playerIndex, l_targetIndex);
+            case negotiate:
+                return this.negotiate(l_playerIndex, l_targetIndex);
+            default:
+                return INVALID_ORDER;
+        }
+    }
+
+    /**
+     * Gets the player who has won the game: the only player who has assigned countries.
+     *
+     * @return Value of the index of the player; <code>SimulationState#NO_OWNER</code> if the game is not over.
+     */
+    public int getWinner() {
+        int l_winnerIndex = SimulationState.NO_OWNER;
+        for (int l_playerIndex = 0; l_playerIndex < d_state.getNumberOfPlayers(); l_playerIndex++) {
+            if (d_state.getNumberOfAssignedCountries(l_playerIndex) > 0) {
+                if (l_winnerIndex != SimulationState.NO_OWNER) {
+                    return SimulationState.NO_OWNER;
+                }
+                l_winnerIndex = l_playerIndex;
+            }
+        }
+        return l_winnerIndex;
+    }
+
+    /**
+     * Deploys the reinforcements in an assigned country of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @param p_numOfArmies Number of reinforcements.
+     * @return Result of the order.
+     */
+    private int deploy(int p_playerIndex, int p_targetIndex, int p_numOfArmies) {
+        if (!d_state.isAssigned(p_targetIndex, p_playerIndex)) {
+            return INVALID_ORDER;
+        }
+        int l_remainingReinforcementCount = d_state.getRemainingReinforcementCount(p_playerIndex) - p_numOfArmies;
+        if (l_remainingReinforcementCount < 0) {
+            return INVALID_ORDER;
+        }
+        d_state.setRemainingReinforcementCount(p_playerIndex, l_remainingReinforcementCount);
+        d_state.setNumberOfArmies(p_targetIndex, d_state.getNumberOfArmies(p_targetIndex) + p_numOfArmies);
+        return EXECUTED;
+    }
+
+    /**
+     * Moves the armies to a neighbour country, or attacks it if the country is not assigned to the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_sourceIndex Index of the source country.
+     * @param p_targetIndex Index of the destination country.
+     * @param p_numOfArmies Number of armies.
+     * @return Result of the order.
+     */
+    private int advance(int p_playerIndex, int p_sourceIndex, int p_targetIndex, int p_numOfArmies) {
+        if (!d_state.isAssigned(p_sourceIndex, p_playerIndex) ||
+                !d_mapGraph.isNeighbour(p_sourceIndex, p_targetIndex)) {
+            return INVALID_ORDER;
+        }
+        if (!d_state.isNotNegotiation(p_playerIndex, d_state.getOwner(p_targetIndex))) {
+            return EXECUTED;
+        }
+        int l_sourceArmies = d_state.getNumberOfArmies(p_sourceIndex);
+        if (d_state.isAssigned(p_targetIndex, p_playerIndex)) {
+            int l_movedArmies = Math.min(p_numOfArmies, l_sourceArmies);
+            d_state.setNumberOfArmies(p_sourceIndex, l_sourceArmies - l_movedArmies);
+            d_state.setNumberOfArmies(p_targetIndex, d_state.getNumberOfArmies(p_targetIndex) + l_movedArmies);
+            return EXECUTED;
+        }
+        if (l_sourceArmies <= 0) {
+            return INVALID_ORDER;
+        }
+        int l_defendingArmies = d_state.getNumberOfArmies(p_targetIndex);
+        int l_attackingArmies = Math.min(p_numOfArmies, l_sourceArmies);
+        d_state.setNumberOfArmies(p_sourceIndex, l_sourceArmies - l_attackingArmies);
+
+        int l_attackersKilled = (int) round(l_defendingArmies * 0.7);
+        int l_defendersKilled = (int) round(l_attackingArmies * 0.6);
+        if (l_defendersKilled >= l_defendingArmies) {
+            d_state.setOwner(p_targetIndex, p_playerIndex);
+            d_state.setNumberOfArmies(p_targetIndex, l_attackingArmies - l_attackersKilled);
+            d_state.addCard(p_playerIndex, CardService.randomCardType(d_state.getRandom(p_playerIndex)));
+        } else {
+            d_state.setNumberOfArmies(p_sourceIndex,
+                    d_state.getNumberOfArmies(p_sourceIndex) + l_attackingArmies - l_attackersKilled);
+            d_state.setNumberOfArmies(p_targetIndex, l_defendingArmies - l_defendersKilled);
+        }
+        return EXECUTED;
+    }
+
+    /**
+     * Halves the armies of an opponent country which borders an assigned country of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @return Result of the order.
+     */
+    private int bomb(int p_playerIndex, int p_targetIndex) {
+        int l_ownerIndex = d_state.getOwner(p_targetIndex);
+        if (l_ownerIndex == p_playerIndex) {
+            return INVALID_ORDER;
+        }
+        if (d_state.getCardCount(p_playerIndex, CardType.BOMB) == 0) {
+            return CARD_NOT_FOUND;
+        }
+        if (!d_state.isNotNegotiation(p_playerIndex, l_ownerIndex)) {
+            return EXECUTED;
+        }
+        for (int l_position = d_mapGraph.getIncomingNeighbourStart(p_targetIndex);
+             l_position < d_mapGraph.getIncomingNeighbourEnd(p_targetIndex);
+             l_position++) {
+            if (d_state.isAssigned(d_mapGraph.getIncomingNeighbourIndex(l_position), p_playerIndex)) {
+                d_state.setNumberOfArmies(p_targetIndex, d_state.getNumberOfArmies(p_targetIndex) / 2);
+                d_state.removeCard(p_playerIndex, CardType.BOMB);
+                return EXECUTED;
+            }
+        }
+        return INVALID_ORDER;
+    }
+
+    /**
+     * Triples the armies of a country of the player and removes it from the assigned countries.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @return Result of the order.
+     */
+    private int blockade(int p_playerIndex, int p_targetIndex) {
+        if (d_state.getOwner(p_targetIndex) != p_playerIndex) {
+            return INVALID_ORDER;
+        }
+        if (!d_state.removeCard(p_playerIndex, CardType.BLOCKADE)) {
+            return CARD_NOT_FOUND;
+        }
+        d_state.setNumberOfArmies(p_targetIndex, d_state.getNumberOfArmies(p_targetIndex) * BlockadeOrder.CONSTANT);
+        d_state.blockade(p_targetIndex);
+        return EXECUTED;
+    }
+
+    /**
+     * Moves the armies between two countries owned by the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_sourceIndex Index of the source country.
+     * @param p_targetIndex Index of the target country.
+     * @param p_numOfArmies Number of armies.
+     * @return Result of the order.
+     */
+    private int airlift(int p_playerIndex, int p_sourceIndex, int p_targetIndex, int p_numOfArmies) {
+        if (d_state.getOwner(p_sourceIndex) != p_playerIndex || d_state.getOwner(p_targetIndex) != p_playerIndex) {
+            return INVALID_ORDER;
+        }
+        if (d_state.getCardCount(p_playerIndex, CardType.AIRLIFT) == 0) {
+            return CARD_NOT_FOUND;
+        }
+        int l_sourceArmies = d_state.getNumberOfArmies(p_sourceIndex);
+        if (l_sourceArmies < p_numOfArmies) {
+            return INVALID_ORDER;
+        }
+        // Both are read first: airlifting the armies to the same country adds them, as AirliftOrder does.
+        int l_targetArmies = d_state.getNumberOfArmies(p_targetIndex);
+        d_state.setNumberOfArmies(p_sourceIndex, l_sourceArmies - p_numOfArmies);
+        d_state.setNumberOfArmies(p_targetIndex, l_targetArmies + p_numOfArmies);
+        d_state.removeCard(p_playerIndex, CardType.AIRLIFT);
+        return EXECUTED;
+    }
+
+    /**
+     * Makes the players negotiate with each other.
+     *
+     * @param p_playerIndex      Index of the player.
+     * @param p_otherPlayerIndex Index of the other player.
+     * @return Result of the order.
+     */
+    private int negotiate(int p_playerIndex, int p_otherPlayerIndex) {
+        if (!d_state.removeCard(p_playerIndex, CardType.DIPLOMACY)) {
+            return CARD_NOT_FOUND;
+        }
+        d_state.addNegotiation(p_playerIndex, p_otherPlayerIndex);
+        d_state.addNegotiation(p_otherPlayerIndex, p_playerIndex);
+        return EXECUTED;
+    }
+
+    /**
+     * Checks if all the countries of the continent are owned by the player. A continent without countries is owned by
+     * every player.
+     *
+     * @param p_playerIndex    Index of the player.
+     * @param p_continentIndex Index of the continent.
+     * @return True if the player owns the continent.
+     */
+    private boolean ownsContinent(int p_playerIndex, int p_continentIndex) {
+        for (int l_position = d_continentOffsets[p_continentIndex];
+             l_position < d_continentOffsets[p_continentIndex + 1];
+             l_position++) {
+            if (d_state.getOwner(d_continentCountries[l_position]) != p_playerIndex) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,204 @@
+package com.warzone.team08.VM.simulation;
+
+import com.warzone.team08.VM.constants.enums.OrderType;
+
+/**
+ * Encodes the orders of the <code>SimulationEngine</code> as packed <code>long</code> values, so a turn of orders is
+ * an array of primitives instead of <code>Order</code> objects. From the highest bits to the lowest, an order holds the
+ * type (3 bits), the index of the player who issued it (9 bits), the source country (16 bits), the target country
+ * (16 bits) and the number of armies (20 bits). The countries are the indices of the <code>MapGraph</code>, and the
+ * target of the negotiate order is the index of the other player.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ * @see SimulationEngine
+ */
+public final class SimulationOrder {
+    /**
+     * Largest index of a player which can be encoded.
+     */
+    public static final int MAX_PLAYER_INDEX = (1 << 9) - 1;
+
+    /**
+     * Largest index of a country which can be encoded.
+     */
+    public static final int MAX_COUNTRY_INDEX = (1 << 16) - 1;
+
+    /**
+     * Largest number of armies which can be encoded.
+     */
+    public static final int MAX_NUMBER_OF_ARMIES = (1 << 20) - 1;
+
+    private static final int TYPE_SHIFT = 61;
+    private static final int PLAYER_SHIFT = 52;
+    private static final int SOURCE_SHIFT = 36;
+    private static final int TARGET_SHIFT = 20;
+
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+
+    /**
+     * Instance can not be created outside the class. (private)
+     */
+    private SimulationOrder() {
+    }
+
+    /**
+     * Encodes the order to deploy the reinforcements.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @param p_numOfArmies Number of reinforcements.
+     * @return Value of the order.
+     */
+    public static long deploy(int p_playerIndex, int p_targetIndex, int p_numOfArmies) {
+        return encode(OrderType.deploy, p_playerIndex, 0, p_targetIndex, p_numOfArmies);
+    }
+
+    /**
+     * Encodes the order to advance the armies to a neighbour country.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_sourceIndex Index of the source country.
+     * @param p_targetIndex Index of the destination country.
+     * @param p_numOfArmies Number of armies.
+     * @return Value of the order.
+     */
+    public static long advance(int p_playerIndex, int p_sourceIndex, int p_targetIndex, int p_numOfArmies) {
+        return encode(OrderType.advance, p_playerIndex, p_sourceIndex, p_targetIndex, p_numOfArmies);
+    }
+
+    /**
+     * Encodes the order to airlift the armies between two countries of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_sourceIndex Index of the source country.
+     * @param p_targetIndex Index of the target country.
+     * @param p_numOfArmies Number of armies.
+     * @return Value of the order.
+     */
+    public static long airlift(int p_playerIndex, int p_sourceIndex, int p_targetIndex, int p_numOfArmies) {
+        return encode(OrderType.airlift, p_playerIndex, p_sourceIndex, p_targetIndex, p_numOfArmies);
+    }
+
+    /**
+     * Encodes the order to bomb a country.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @return Value of the order.
+     */
+    public static long bomb(int p_playerIndex, int p_targetIndex) {
+        return encode(OrderType.bomb, p_playerIndex, 0, p_targetIndex, 0);
+    }
+
+    /**
+     * Encodes the order to blockade a country.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_targetIndex Index of the country.
+     * @return Value of the order.
+     */
+    public static long blockade(int p_playerIndex, int p_targetIndex) {
+        return encode(OrderType.blockade, p_playerIndex, 0, p_targetIndex, 0);
+    }
+
+    /**
+     * Encodes the order to negotiate with another player.
+     *
+     * @param p_playerIndex      Index of the player.
+     * @param p_otherPlayerIndex Index of the other player.
+     * @return Value of the order.
+     */
+    public static long negotiate(int p_playerIndex, int p_otherPlayerIndex) {
+        if (p_otherPlayerIndex < 0 || p_otherPlayerIndex > MAX_PLAYER_INDEX) {
+            throw new IllegalArgumentException("Index of the other player can not be encoded!");
+        }
+        return encode(OrderType.negotiate, p_playerIndex, 0, p_otherPlayerIndex, 0);
+    }
+
+    /**
+     * Gets the type of the order.
+     *
+     * @param p_order Value of the order.
+     * @return Value of the order type.
+     */
+    public static OrderType getType(long p_order) {
+        return ORDER_TYPES[(int) (p_order >>> TYPE_SHIFT)];
+    }
+
+    /**
+     * Gets the index of the player who issued the order.
+     *
+     * @param p_order Value of the order.
+     * @return Value of the index.
+     */
+    public static int getPlayerIndex(long p_order) {
+        return (int) (p_order >>> PLAYER_SHIFT) & MAX_PLAYER_INDEX;
+    }
+
+    /**
+     * Gets the index of the source country of the order.
+     *
+     * @param p_order Value of the order.
+     * @return Value of the index.
+     */
+    public static int getSourceIndex(long p_order) {
+        return (int) (p_order >>> SOURCE_SHIFT) & MAX_COUNTRY_INDEX;
+    }
+
+    /**
+     * Gets the index of the target country of the order; the index of the other player for the negotiate order.
+     *
+     * @param p_order Value of the order.
+     * @return Value of the index.
+     */
+    public static int getTargetIndex(long p_order) {
+        return (int) (p_order >>> TARGET_SHIFT) & MAX_COUNTRY_INDEX;
+    }
+
+    /**
+     * Gets the number of armies of the order.
+     *
+     * @param p_order Value of the order.
+     * @return Value of the number of armies.
+     */
+    public static int getNumOfArmies(long p_order) {
+        return (int) p_order & MAX_NUMBER_OF_ARMIES;
+    }
+
+    /**
+     * Packs the values of the order.
+     *
+     * @param p_orderType   Type of the order.
+     * @param p_playerIndex Index of the player.
+     * @param p_sourceIndex Index of the source country.
+     * @param p_targetIndex Index of the target country.
+     * @param p_numOfArmies Number of armies.
+     * @return Value of the order.
+     * @throws IllegalArgumentException If any value is negative or too large to be encoded.
+     */
+    private static long encode(OrderType p_orderType,
+                               int p_playerIndex,
+                               int p_sourceIndex,
+                               int p_targetIndex,
+                               int p_numOfArmies) throws IllegalArgumentException {
+        if (p_playerIndex < 0 || p_playerIndex > MAX_PLAYER_INDEX) {
+            throw new IllegalArgumentException("Index of the player can not be encoded!");
+        }
+        if (p_sourceIndex < 0 || p_sourceIndex > MAX_COUNTRY_INDEX ||
+                p_targetIndex < 0 || p_targetIndex > MAX_COUNTRY_INDEX) {
+            throw new IllegalArgumentException("Index of the country can not be encoded!");
+        }
+        if (p_numOfArmies < 0) {
+            throw new IllegalArgumentException("Number of armies can not be negative.");
+        }
+        if (p_numOfArmies > MAX_NUMBER_OF_ARMIES) {
+            throw new IllegalArgumentException("Number of armies can not be encoded!");
+        }
+        return ((long) p_orderType.ordinal() << TYPE_SHIFT) |
+                ((long) p_playerIndex << PLAYER_SHIFT) |
+                ((long) p_sourceIndex << SOURCE_SHIFT) |
+                ((long) p_targetIndex << TARGET_SHIFT) |
+                p_numOfArmies;
+    }
+}
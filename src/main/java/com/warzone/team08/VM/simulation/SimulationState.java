@@ -0,0 +1,663 @@
+package com.warzone.team08.VM.simulation;
+
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.common.services.CardService;
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.constants.interfaces.Card;
+import com.warzone.team08.VM.constants.interfaces.Order;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.entities.orders.NegotiateOrder;
+import com.warzone.team08.VM.exceptions.CardNotFoundException;
+import com.warzone.team08.VM.exceptions.EntityNotFoundException;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.InvalidGameException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.map_editor.MapGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Runtime state of a game for the <code>SimulationEngine</code>, held in arrays of primitives instead of
+ * <code>Player</code> and <code>Country</code> objects. The countries are the indices of the <code>MapGraph</code> of
+ * the map and the players are the indices of the player list of the game.
+ * <p>
+ * A country is one of the assigned countries of its owner unless it has been blockaded: the blockade order keeps the
+ * owner of the country but removes the country from the assigned countries of the owner.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ * @see SimulationEngine
+ */
+public class SimulationState {
+    /**
+     * Number of types of the cards, including the empty card.
+     */
+    public static final int NUMBER_OF_CARD_TYPES = CardType.values().length;
+
+    /**
+     * Owner of a country which is not owned by any player.
+     */
+    public static final int NO_OWNER = -1;
+
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private final MapGraph d_mapGraph;
+    private final int d_numberOfPlayers;
+
+    private final short[] d_owners;
+    private final int[] d_numberOfArmies;
+    private final boolean[] d_isBlockaded;
+
+    private final int[] d_numberOfAssignedCountries;
+    private final int[] d_reinforcementCounts;
+    private final int[] d_remainingReinforcementCounts;
+
+    /**
+     * Number of cards of each type of each player, at the index <code>player * NUMBER_OF_CARD_TYPES + type</code>.
+     */
+    private final int[] d_cardCounts;
+
+    /**
+     * Number of times each player negotiates with each player, at the index <code>player * numberOfPlayers +
+     * otherPlayer</code>.
+     */
+    private final int[] d_negotiationCounts;
+
+    private final SplittableRandom[] d_randoms;
+
+    private int d_executionIndex;
+    private int d_currentPlayerForExecutionPhase;
+
+    /**
+     * Negotiate orders which will be executed in a future turn, in the order they have been issued.
+     */
+    private long[] d_futureOrders = new long[4];
+    private int[] d_futureExecutionIndices = new int[4];
+    private int[] d_futureExpiryIndices = new int[4];
+    private int d_numberOfFutureOrders;
+
+    /**
+     * Creates the state of a game on the map. No country is owned and has armies, and the players do not have any
+     * cards or reinforcements.
+     *
+     * @param p_mapGraph        Graph of the map.
+     * @param p_numberOfPlayers Number of players.
+     */
+    public SimulationState(MapGraph p_mapGraph, int p_numberOfPlayers) {
+        d_mapGraph = p_mapGraph;
+        d_numberOfPlayers = p_numberOfPlayers;
+        int l_numberOfCountries = p_mapGraph.getNumberOfCountries();
+        d_owners = new short[l_numberOfCountries];
+        Arrays.fill(d_owners, (short) NO_OWNER);
+        d_numberOfArmies = new int[l_numberOfCountries];
+        d_isBlockaded = new boolean[l_numberOfCountries];
+        d_numberOfAssignedCountries = new int[p_numberOfPlayers];
+        d_reinforcementCounts = new int[p_numberOfPlayers];
+        d_remainingReinforcementCounts = new int[p_numberOfPlayers];
+        d_cardCounts = new int[p_numberOfPlayers * NUMBER_OF_CARD_TYPES];
+        d_negotiationCounts = new int[p_numberOfPlayers * p_numberOfPlayers];
+        d_randoms = new SplittableRandom[p_numberOfPlayers];
+        for (int l_playerIndex = 0; l_playerIndex < p_numberOfPlayers; l_playerIndex++) {
+            d_randoms[l_playerIndex] = new SplittableRandom();
+        }
+    }
+
+    /**
+     * Creates the state from the game. The state uses random number generators split from those of the players, so
+     * simulating the state does not draw from the generators of the game, and the game can be simulated from more than
+     * one thread. Use <code>setRandom</code> to draw the same cards as the game. The game should be converted between
+     * two turns, when the players do not have any orders.
+     *
+     * @param p_gameEngine Engine of the game.
+     * @return Value of the state.
+     * @throws InvalidArgumentException If the game has too many players or countries for the orders to be encoded.
+     */
+    public static SimulationState fromGameEngine(GameEngine p_gameEngine) throws InvalidArgumentException {
+        MapGraph l_mapGraph = p_gameEngine.getMapEditorEngine().getMapGraph();
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        List<Player> l_playerList = l_gamePlayEngine.getPlayerList();
+        if (l_playerList.size() - 1 > SimulationOrder.MAX_PLAYER_INDEX) {
+            throw new InvalidArgumentException("Game has too many players to be simulated!");
+        }
+        if (l_mapGraph.getNumberOfCountries() - 1 > SimulationOrder.MAX_COUNTRY_INDEX) {
+            throw new InvalidArgumentException("Map has too many countries to be simulated!");
+        }
+        SimulationState l_state = new SimulationState(l_mapGraph, l_playerList.size());
+        Map<Player, Integer> l_playerIndices = new IdentityHashMap<>();
+        for (int l_playerIndex = 0; l_playerIndex < l_playerList.size(); l_playerIndex++) {
+            l_playerIndices.put(l_playerList.get(l_playerIndex), l_playerIndex);
+        }
+
+        for (int l_countryIndex = 0; l_countryIndex < l_mapGraph.getNumberOfCountries(); l_countryIndex++) {
+            Country l_country = l_mapGraph.getCountry(l_countryIndex);
+            Integer l_ownerIndex = l_playerIndices.get(l_country.getOwnedBy(p_gameEngine));
+            l_state.d_owners[l_countryIndex] = (short) (l_ownerIndex != null ? l_ownerIndex : NO_OWNER);
+            l_state.d_numberOfArmies[l_countryIndex] = l_country.getNumberOfArmies(p_gameEngine);
+            // Blockaded until found in the assigned countries of its owner.
+            l_state.d_isBlockaded[l_countryIndex] = l_ownerIndex != null;
+        }
+
+        for (int l_playerIndex = 0; l_playerIndex < l_playerList.size(); l_playerIndex++) {
+            Player l_player = l_playerList.get(l_playerIndex);
+            for (Country l_country : l_player.getAssignedCountries()) {
+                int l_countryIndex = l_mapGraph.indexOf(l_country);
+                if (l_countryIndex >= 0 && l_state.d_owners[l_countryIndex] == l_playerIndex &&
+                        l_state.d_isBlockaded[l_countryIndex]) {
+                    l_state.d_isBlockaded[l_countryIndex] = false;
+                    l_state.d_numberOfAssignedCountries[l_playerIndex]++;
+                }
+            }
+            for (Card l_card : l_player.getCards()) {
+                l_state.d_cardCounts[l_playerIndex * NUMBER_OF_CARD_TYPES + l_card.getType().ordinal()]++;
+            }
+            for (Player l_friendPlayer : l_player.getFriendPlayers()) {
+                Integer l_friendIndex = l_playerIndices.get(l_friendPlayer);
+                if (l_friendIndex != null) {
+                    l_state.d_negotiationCounts[l_playerIndex * l_playerList.size() + l_friendIndex]++;
+                }
+            }
+            l_state.d_reinforcementCounts[l_playerIndex] = l_player.getReinforcementCount();
+            l_state.d_remainingReinforcementCounts[l_playerIndex] = l_player.getRemainingReinforcementCount();
+            l_state.d_randoms[l_playerIndex] = l_player.getRandom().split();
+        }
+
+        l_state.d_executionIndex = l_gamePlayEngine.getExecutionIndex();
+        l_state.d_currentPlayerForExecutionPhase = l_gamePlayEngine.getCurrentPlayerForExecutionPhase();
+        for (Order l_futureOrder : l_gamePlayEngine.getFutureOrders()) {
+            if (l_futureOrder instanceof NegotiateOrder) {
+                Integer l_ownerIndex = l_playerIndices.get(l_futureOrder.getOwner());
+                Integer l_otherPlayerIndex = l_playerIndices.get(((NegotiateOrder) l_futureOrder).getOtherPlayer());
+                if (l_ownerIndex != null && l_otherPlayerIndex != null) {
+                    l_state.addFutureOrder(SimulationOrder.negotiate(l_ownerIndex, l_otherPlayerIndex),
+                            l_futureOrder.getExecutionIndex(),
+                            l_futureOrder.getExpiryIndex());
+                }
+            }
+        }
+        return l_state;
+    }
+
+    /**
+     * Writes the state to the game, which must be the game the state has been created from, or a game with the same
+     * map and the same players. The assigned countries of each player are written in the order of the countries of the
+     * map.
+     *
+     * @param p_gameEngine Engine of the game.
+     * @throws InvalidArgumentException If the game does not have the same number of players or countries.
+     * @throws InvalidGameException     If a future order can not be created.
+     */
+    public void applyTo(GameEngine p_gameEngine) throws InvalidArgumentException, InvalidGameException {
+        MapGraph l_mapGraph = p_gameEngine.getMapEditorEngine().getMapGraph();
+        GamePlayEngine l_gamePlayEngine = p_gameEngine.getGamePlayEngine();
+        List<Player> l_playerList = l_gamePlayEngine.getPlayerList();
+        if (l_playerList.size() != d_numberOfPlayers || l_mapGraph.getNumberOfCountries() != d_owners.length) {
+            throw new InvalidArgumentException("State does not belong to the game!");
+        }
+
+        List<List<Country>> l_assignedCountries = new ArrayList<>(d_numberOfPlayers);
+        for (int l_playerIndex = 0; l_playerIndex < d_numberOfPlayers; l_playerIndex++) {
+            l_assignedCountries.add(new ArrayList<>(d_numberOfAssignedCountries[l_playerIndex]));
+        }
+        for (int l_countryIndex = 0; l_countryIndex < d_owners.length; l_countryIndex++) {
+            Country l_country = l_mapGraph.getCountry(l_countryIndex);
+            int l_ownerIndex = d_owners[l_countryIndex];
+            Player l_owner = l_ownerIndex != NO_OWNER ? l_playerList.get(l_ownerIndex) : null;
+            if (l_country.getOwnedBy(p_gameEngine) != l_owner) {
+                l_country.setOwnedBy(l_owner, p_gameEngine);
+            }
+            if (l_country.getNumberOfArmies(p_gameEngine) != d_numberOfArmies[l_countryIndex]) {
+                l_country.setNumberOfArmies(d_numberOfArmies[l_countryIndex], p_gameEngine);
+            }
+            if (l_owner != null && !d_isBlockaded[l_countryIndex]) {
+                l_assignedCountries.get(l_ownerIndex).add(l_country);
+            }
+        }
+
+        for (int l_playerIndex = 0; l_playerIndex < d_numberOfPlayers; l_playerIndex++) {
+            Player l_player = l_playerList.get(l_playerIndex);
+            l_player.setAssignedCountries(l_assignedCountries.get(l_playerIndex));
+            this.applyCards(l_player, l_playerIndex);
+            this.applyNegotiations(l_player, l_playerIndex, l_playerList);
+            l_player.setReinforcementCount(d_reinforcementCounts[l_playerIndex]);
+            l_player.setRemainingReinforcementCount(d_remainingReinforcementCounts[l_playerIndex]);
+        }
+
+        l_gamePlayEngine.setExecutionIndex(d_executionIndex);
+        l_gamePlayEngine.setCurrentPlayerForExecutionPhase(d_currentPlayerForExecutionPhase);
+        for (Order l_futureOrder : new ArrayList<>(l_gamePlayEngine.getFutureOrders())) {
+            l_gamePlayEngine.removeFutureOrder(l_futureOrder);
+        }
+        for (int l_futureIndex = 0; l_futureIndex < d_numberOfFutureOrders; l_futureIndex++) {
+            long l_futureOrder = d_futureOrders[l_futureIndex];
+            try {
+                // The order adds itself to the future orders.
+                new NegotiateOrder(l_playerList.get(SimulationOrder.getPlayerIndex(l_futureOrder)),
+                        l_playerList.get(SimulationOrder.getTargetIndex(l_futureOrder)).getName(),
+                        d_futureExecutionIndices[l_futureIndex],
+                        d_futureExpiryIndices[l_futureIndex]);
+            } catch (EntityNotFoundException p_entityNotFoundException) {
+                throw new InvalidGameException(p_entityNotFoundException);
+            }
+        }
+    }
+
+    /**
+     * Gets the graph of the map.
+     *
+     * @return Value of the graph.
+     */
+    public MapGraph getMapGraph() {
+        return d_mapGraph;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return Value of the number of players.
+     */
+    public int getNumberOfPlayers() {
+        return d_numberOfPlayers;
+    }
+
+    /**
+     * Gets the number of countries.
+     *
+     * @return Value of the number of countries.
+     */
+    public int getNumberOfCountries() {
+        return d_owners.length;
+    }
+
+    /**
+     * Gets the owner of the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the index of the owner; <code>NO_OWNER</code> if the country is not owned by any player.
+     */
+    public int getOwner(int p_countryIndex) {
+        return d_owners[p_countryIndex];
+    }
+
+    /**
+     * Sets the owner of the country. The country is added to the assigned countries of the owner, and is not
+     * blockaded anymore.
+     *
+     * @param p_countryIndex Index of the country.
+     * @param p_ownerIndex   Index of the owner; <code>NO_OWNER</code> if the country is not owned by any player.
+     */
+    public void setOwner(int p_countryIndex, int p_ownerIndex) {
+        int l_previousOwnerIndex = d_owners[p_countryIndex];
+        if (l_previousOwnerIndex != NO_OWNER && !d_isBlockaded[p_countryIndex]) {
+            d_numberOfAssignedCountries[l_previousOwnerIndex]--;
+        }
+        d_owners[p_countryIndex] = (short) p_ownerIndex;
+        d_isBlockaded[p_countryIndex] = false;
+        if (p_ownerIndex != NO_OWNER) {
+            d_numberOfAssignedCountries[p_ownerIndex]++;
+        }
+    }
+
+    /**
+     * Checks if the country is one of the assigned countries of the player.
+     *
+     * @param p_countryIndex Index of the country.
+     * @param p_playerIndex  Index of the player.
+     * @return True if the player owns the country and it has not been blockaded.
+     */
+    public boolean isAssigned(int p_countryIndex, int p_playerIndex) {
+        return d_owners[p_countryIndex] == p_playerIndex && !d_isBlockaded[p_countryIndex];
+    }
+
+    /**
+     * Checks if the country has been blockaded by its owner.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return True if the country has been blockaded.
+     */
+    public boolean isBlockaded(int p_countryIndex) {
+        return d_isBlockaded[p_countryIndex];
+    }
+
+    /**
+     * Blockades the country: the country is removed from the assigned countries of its owner. A country which is not
+     * owned by any player can not be blockaded.
+     *
+     * @param p_countryIndex Index of the country.
+     */
+    public void blockade(int p_countryIndex) {
+        int l_ownerIndex = d_owners[p_countryIndex];
+        if (l_ownerIndex != NO_OWNER && !d_isBlockaded[p_countryIndex]) {
+            d_isBlockaded[p_countryIndex] = true;
+            d_numberOfAssignedCountries[l_ownerIndex]--;
+        }
+    }
+
+    /**
+     * Gets the number of armies placed on the country.
+     *
+     * @param p_countryIndex Index of the country.
+     * @return Value of the number of armies.
+     */
+    public int getNumberOfArmies(int p_countryIndex) {
+        return d_numberOfArmies[p_countryIndex];
+    }
+
+    /**
+     * Sets the number of armies placed on the country.
+     *
+     * @param p_countryIndex   Index of the country.
+     * @param p_numberOfArmies Value of the number of armies.
+     */
+    public void setNumberOfArmies(int p_countryIndex, int p_numberOfArmies) {
+        d_numberOfArmies[p_countryIndex] = p_numberOfArmies;
+    }
+
+    /**
+     * Gets the number of assigned countries of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the number of countries.
+     */
+    public int getNumberOfAssignedCountries(int p_playerIndex) {
+        return d_numberOfAssignedCountries[p_playerIndex];
+    }
+
+    /**
+     * Gets the number of reinforcements assigned to the player at the beginning of the turn.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the number of reinforcements.
+     */
+    public int getReinforcementCount(int p_playerIndex) {
+        return d_reinforcementCounts[p_playerIndex];
+    }
+
+    /**
+     * Sets the number of reinforcements assigned to the player, and the number of remaining reinforcements as well.
+     *
+     * @param p_playerIndex        Index of the player.
+     * @param p_reinforcementCount Value of the number of reinforcements.
+     */
+    public void setReinforcementCount(int p_playerIndex, int p_reinforcementCount) {
+        d_reinforcementCounts[p_playerIndex] = p_reinforcementCount;
+        d_remainingReinforcementCounts[p_playerIndex] = p_reinforcementCount;
+    }
+
+    /**
+     * Gets the number of reinforcements the player has not deployed yet.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the number of reinforcements.
+     */
+    public int getRemainingReinforcementCount(int p_playerIndex) {
+        return d_remainingReinforcementCounts[p_playerIndex];
+    }
+
+    /**
+     * Sets the number of reinforcements the player has not deployed yet.
+     *
+     * @param p_playerIndex                 Index of the player.
+     * @param p_remainingReinforcementCount Value of the number of reinforcements.
+     */
+    public void setRemainingReinforcementCount(int p_playerIndex, int p_remainingReinforcementCount) {
+        d_remainingReinforcementCounts[p_playerIndex] = p_remainingReinforcementCount;
+    }
+
+    /**
+     * Gets the number of cards of the type the player has.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_cardType    Type of the card.
+     * @return Value of the number of cards.
+     */
+    public int getCardCount(int p_playerIndex, CardType p_cardType) {
+        return d_cardCounts[p_playerIndex * NUMBER_OF_CARD_TYPES + p_cardType.ordinal()];
+    }
+
+    /**
+     * Gives the card of the type to the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_cardType    Type of the card.
+     */
+    public void addCard(int p_playerIndex, CardType p_cardType) {
+        d_cardCounts[p_playerIndex * NUMBER_OF_CARD_TYPES + p_cardType.ordinal()]++;
+    }
+
+    /**
+     * Removes a card of the type from the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_cardType    Type of the card.
+     * @return True if the card has been removed; false if the player does not have the card.
+     */
+    public boolean removeCard(int p_playerIndex, CardType p_cardType) {
+        int l_index = p_playerIndex * NUMBER_OF_CARD_TYPES + p_cardType.ordinal();
+        if (d_cardCounts[l_index] == 0) {
+            return false;
+        }
+        d_cardCounts[l_index]--;
+        return true;
+    }
+
+    /**
+     * Checks if the player does not negotiate with the other player.
+     *
+     * @param p_playerIndex      Index of the player.
+     * @param p_otherPlayerIndex Index of the other player; <code>NO_OWNER</code> for no player.
+     * @return True if the player does not negotiate with the other player.
+     */
+    public boolean isNotNegotiation(int p_playerIndex, int p_otherPlayerIndex) {
+        return p_otherPlayerIndex == NO_OWNER ||
+                d_negotiationCounts[p_playerIndex * d_numberOfPlayers + p_otherPlayerIndex] == 0;
+    }
+
+    /**
+     * Adds the other player to the players the player negotiates with.
+     *
+     * @param p_playerIndex      Index of the player.
+     * @param p_otherPlayerIndex Index of the other player.
+     */
+    public void addNegotiation(int p_playerIndex, int p_otherPlayerIndex) {
+        d_negotiationCounts[p_playerIndex * d_numberOfPlayers + p_otherPlayerIndex]++;
+    }
+
+    /**
+     * Removes the other player from the players the player negotiates with, once.
+     *
+     * @param p_playerIndex      Index of the player.
+     * @param p_otherPlayerIndex Index of the other player.
+     */
+    public void removeNegotiation(int p_playerIndex, int p_otherPlayerIndex) {
+        int l_index = p_playerIndex * d_numberOfPlayers + p_otherPlayerIndex;
+        if (d_negotiationCounts[l_index] > 0) {
+            d_negotiationCounts[l_index]--;
+        }
+    }
+
+    /**
+     * Gets the random number generator of the player, used to draw the cards.
+     *
+     * @param p_playerIndex Index of the player.
+     * @return Value of the random number generator.
+     */
+    public SplittableRandom getRandom(int p_playerIndex) {
+        return d_randoms[p_playerIndex];
+    }
+
+    /**
+     * Sets the random number generator of the player.
+     *
+     * @param p_playerIndex Index of the player.
+     * @param p_random      Value of the random number generator.
+     */
+    public void setRandom(int p_playerIndex, SplittableRandom p_random) {
+        d_randoms[p_playerIndex] = p_random;
+    }
+
+    /**
+     * Gets the index of the current turn.
+     *
+     * @return Value of the index.
+     */
+    public int getExecutionIndex() {
+        return d_executionIndex;
+    }
+
+    /**
+     * Sets the index of the current turn.
+     *
+     * @param p_executionIndex Value of the index.
+     */
+    public void setExecutionIndex(int p_executionIndex) {
+        d_executionIndex = p_executionIndex;
+    }
+
+    /**
+     * Gets the index of the player whose order is executed first in the next turn.
+     *
+     * @return Value of the index of the player.
+     */
+    public int getCurrentPlayerForExecutionPhase() {
+        return d_currentPlayerForExecutionPhase;
+    }
+
+    /**
+     * Sets the index of the player whose order is executed first in the next turn.
+     *
+     * @param p_currentPlayerForExecutionPhase Value of the index of the player.
+     */
+    public void setCurrentPlayerForExecutionPhase(int p_currentPlayerForExecutionPhase) {
+        d_currentPlayerForExecutionPhase = p_currentPlayerForExecutionPhase;
+    }
+
+    /**
+     * Adds the order to be executed in a future turn.
+     *
+     * @param p_order          Value of the order.
+     * @param p_executionIndex Index of the turn in which the order is executed.
+     * @param p_expiryIndex    Index of the turn in which the effect of the order expires.
+     */
+    public void addFutureOrder(long p_order, int p_executionIndex, int p_expiryIndex) {
+        if (d_numberOfFutureOrders == d_futureOrders.length) {
+            int l_capacity = d_futureOrders.length * 2;
+            d_futureOrders = Arrays.copyOf(d_futureOrders, l_capacity);
+            d_futureExecutionIndices = Arrays.copyOf(d_futureExecutionIndices, l_capacity);
+            d_futureExpiryIndices = Arrays.copyOf(d_futureExpiryIndices, l_capacity);
+        }
+        d_futureOrders[d_numberOfFutureOrders] = p_order;
+        d_futureExecutionIndices[d_numberOfFutureOrders] = p_executionIndex;
+        d_futureExpiryIndices[d_numberOfFutureOrders] = p_expiryIndex;
+        d_numberOfFutureOrders++;
+    }
+
+    /**
+     * Gets the number of orders to be executed in a future turn.
+     *
+     * @return Value of the number of orders.
+     */
+    public int getNumberOfFutureOrders() {
+        return d_numberOfFutureOrders;
+    }
+
+    /**
+     * Gets the future order.
+     *
+     * @param p_futureIndex Index of the future order.
+     * @return Value of the order.
+     */
+    public long getFutureOrder(int p_futureIndex) {
+        return d_futureOrders[p_futureIndex];
+    }
+
+    /**
+     * Gets the index of the turn in which the future order is executed.
+     *
+     * @param p_futureIndex Index of the future order.
+     * @return Value of the index of the turn.
+     */
+    public int getFutureExecutionIndex(int p_futureIndex) {
+        return d_futureExecutionIndices[p_futureIndex];
+    }
+
+    /**
+     * Gets the index of the turn in which the effect of the future order expires.
+     *
+     * @param p_futureIndex Index of the future order.
+     * @return Value of the index of the turn.
+     */
+    public int getFutureExpiryIndex(int p_futureIndex) {
+        return d_futureExpiryIndices[p_futureIndex];
+    }
+
+    /**
+     * Removes the future order; the orders after it keep their order.
+     *
+     * @param p_futureIndex Index of the future order.
+     */
+    public void removeFutureOrder(int p_futureIndex) {
+        int l_numberOfMovedOrders = d_numberOfFutureOrders - p_futureIndex - 1;
+        System.arraycopy(d_futureOrders, p_futureIndex + 1, d_futureOrders, p_futureIndex, l_numberOfMovedOrders);
+        System.arraycopy(d_futureExecutionIndices, p_futureIndex + 1, d_futureExecutionIndices, p_futureIndex, l_numberOfMovedOrders);
+        System.arraycopy(d_futureExpiryIndices, p_futureIndex + 1, d_futureExpiryIndices, p_futureIndex, l_numberOfMovedOrders);
+        d_numberOfFutureOrders--;
+    }
+
+    /**
+     * Writes the number of cards of each type to the cards of the player.
+     *
+     * @param p_player      Player of the game.
+     * @param p_playerIndex Index of the player.
+     */
+    private void applyCards(Player p_player, int p_playerIndex) {
+        for (CardType l_cardType : CARD_TYPES) {
+            int l_difference = d_cardCounts[p_playerIndex * NUMBER_OF_CARD_TYPES + l_cardType.ordinal()];
+            for (Card l_card : p_player.getCards()) {
+                if (l_card.getType() == l_cardType) {
+                    l_difference--;
+                }
+            }
+            for (; l_difference > 0; l_difference--) {
+                p_player.addCard(CardService.createCard(l_cardType));
+            }
+            for (; l_difference < 0; l_difference++) {
+                try {
+                    p_player.removeCard(p_player.getCard(l_cardType));
+                } catch (CardNotFoundException p_cardNotFoundException) {
+                    // Counted above.
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the negotiations of the player to the players the player negotiates with.
+     *
+     * @param p_player      Player of the game.
+     * @param p_playerIndex Index of the player.
+     * @param p_playerList  Players of the game.
+     */
+    private void applyNegotiations(Player p_player, int p_playerIndex, List<Player> p_playerList) {
+        for (int l_otherPlayerIndex = 0; l_otherPlayerIndex < d_numberOfPlayers; l_otherPlayerIndex++) {
+            Player l_otherPlayer = p_playerList.get(l_otherPlayerIndex);
+            int l_difference = d_negotiationCounts[p_playerIndex * d_numberOfPlayers + l_otherPlayerIndex];
+            for (Player l_friendPlayer : p_player.getFriendPlayers()) {
+                if (l_friendPlayer == l_otherPlayer) {
+                    l_difference--;
+                }
+            }
+            for (; l_difference > 0; l_difference--) {
+                p_player.addNegotiatePlayer(l_otherPlayer);
+            }
+            for (; l_difference < 0; l_difference++) {
+                p_player.removeNegotiatePlayer(l_otherPlayer);
+            }
+        }
+    }
+}
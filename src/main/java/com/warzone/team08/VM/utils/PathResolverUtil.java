@@ -56,7 +56,7 @@ public class PathResolverUtil {
     public void createDirectory(String p_filePath) {
         File l_file = new File(p_filePath);
         if (!l_file.exists()) {
-            l_file.mkdir();
+            l_file.mkdirs();
         }
     }
 
@@ -0,0 +1,45 @@
+package com.warzone.team08.VM.utils;
+
+/**
+ * This class provides the statistical functions used to compare the results of the strategies.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ */
+public class StatisticsUtil {
+    /**
+     * Gets the critical value of the standard normal distribution for the two-sided confidence level. Uses the rational
+     * approximation of Abramowitz and Stegun (26.2.23), whose error is less than <code>4.5e-4</code>.
+     *
+     * @param p_confidenceLevel Confidence level between zero and one; for example, <code>0.95</code>.
+     * @return Value of the critical value; for example, <code>1.96</code> for <code>0.95</code>.
+     */
+    public static double zScore(double p_confidenceLevel) {
+        double l_tailProbability = (1 - p_confidenceLevel) / 2;
+        double l_t = Math.sqrt(-2 * Math.log(l_tailProbability));
+        return l_t - (2.515517 + 0.802853 * l_t + 0.010328 * l_t * l_t) /
+                (1 + 1.432788 * l_t + 0.189269 * l_t * l_t + 0.001308 * l_t * l_t * l_t);
+    }
+
+    /**
+     * Gets the Wilson score interval of the proportion of the successes. Unlike the normal approximation, the interval
+     * stays inside zero and one and is usable for a few trials.
+     *
+     * @param p_successes Number of successes.
+     * @param p_trials    Number of trials.
+     * @param p_zScore    Critical value of the confidence level.
+     * @return Value of the lower and the upper bound of the interval; zero and one if there is no trial.
+     */
+    public static double[] wilsonInterval(int p_successes, int p_trials, double p_zScore) {
+        if (p_trials <= 0) {
+            return new double[]{0, 1};
+        }
+        double l_proportion = (double) p_successes / p_trials;
+        double l_zSquared = p_zScore * p_zScore;
+        double l_denominator = 1 + l_zSquared / p_trials;
+        double l_center = (l_proportion + l_zSquared / (2 * p_trials)) / l_denominator;
+        double l_halfWidth = p_zScore * Math.sqrt(l_proportion * (1 - l_proportion) / p_trials +
+                l_zSquared / (4.0 * p_trials * p_trials)) / l_denominator;
+        return new double[]{Math.max(0, l_center - l_halfWidth), Math.min(1, l_center + l_halfWidth)};
+    }
+}
@@ -0,0 +1,96 @@
+package com.warzone.team08.VM;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.services.EditMapService;
+import com.warzone.team08.VM.repositories.CountryRepository;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class tests that the games having their own <code>GameEngine</code> do not share the runtime information.
+ *
+ * @author Rutwik
+ * @version 1.0
+ */
+public class GameEngineTest {
+    private static final Application d_Application = new Application();
+    private static String d_EarthMapPath;
+    private static String d_TestMapPath;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_EarthMapPath = GameEngineTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+        d_TestMapPath = GameEngineTest.class.getClassLoader().getResource("test_map_files/test_map.map").toURI().getPath();
+    }
+
+    /**
+     * Re-initializes the virtual machine before test case run.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+    }
+
+    /**
+     * Creates a game which is ready to be played using the map file.
+     *
+     * @param p_mapFilePath Path to the map file.
+     * @return Value of the game engine.
+     * @throws VMException If any exception while loading the map or assigning the countries.
+     */
+    private GameEngine createGame(String p_mapFilePath) throws VMException {
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        new EditMapService(l_gameEngine).handleLoadMap(p_mapFilePath, false);
+        l_gameEngine.getGamePlayEngine().addPlayer(new Player("Player_1", StrategyType.AGGRESSIVE));
+        l_gameEngine.getGamePlayEngine().addPlayer(new Player("Player_2", StrategyType.BENEVOLENT));
+        new DistributeCountriesService(l_gameEngine).execute(new ArrayList<>());
+        return l_gameEngine;
+    }
+
+    /**
+     * Tests that two games loaded one after another keep their own map, players and execution index.
+     *
+     * @throws VMException If any exception while loading the games.
+     */
+    @Test
+    public void testGamesAreIndependent() throws VMException {
+        GameEngine l_earthGame = this.createGame(d_EarthMapPath);
+        GameEngine l_testMapGame = this.createGame(d_TestMapPath);
+
+        int l_earthCountryCount = l_earthGame.getMapEditorEngine().getCountryList().size();
+        int l_testMapCountryCount = l_testMapGame.getMapEditorEngine().getCountryList().size();
+        assertNotEquals(l_earthCountryCount, l_testMapCountryCount);
+
+        // The repository bound to a game finds the entities only from that game.
+        String l_earthCountryName = l_earthGame.getMapEditorEngine().getCountryList().get(0).getCountryName();
+        assertFalse(new CountryRepository(l_earthGame.getMapEditorEngine()).findByCountryName(l_earthCountryName).isEmpty());
+        assertTrue(new CountryRepository(l_testMapGame.getMapEditorEngine()).findByCountryName(l_earthCountryName).isEmpty());
+
+        // Players are bound to the game they have joined.
+        for (Player l_player : l_testMapGame.getGamePlayEngine().getPlayerList()) {
+            assertSame(l_testMapGame, l_player.getGameEngine());
+        }
+
+        l_earthGame.getGamePlayEngine().incrementExecutionIndex();
+        assertEquals(1, l_earthGame.getGamePlayEngine().getExecutionIndex());
+        assertEquals(0, l_testMapGame.getGamePlayEngine().getExecutionIndex());
+    }
+}
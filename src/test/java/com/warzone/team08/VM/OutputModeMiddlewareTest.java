@@ -0,0 +1,135 @@
+package com.warzone.team08.VM;
+
+import com.warzone.team08.UserInterfaceMiddleware;
+import com.warzone.team08.VM.constants.enums.OutputMode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that the messages are sent to the user interface depending on the output mode.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class OutputModeMiddlewareTest {
+    private OutputModeMiddleware d_outputModeMiddleware;
+    private List<String> d_shownMessages;
+
+    /**
+     * Creates the middleware sending the messages to the user interface which records them.
+     */
+    @Before
+    public void beforeTestCase() {
+        d_shownMessages = new ArrayList<>();
+        d_outputModeMiddleware = new OutputModeMiddleware();
+        d_outputModeMiddleware.setUserInterfaceMiddleware(new UserInterfaceMiddleware() {
+            @Override
+            public String askForUserInput(String p_message) {
+                return "";
+            }
+
+            @Override
+            public void stdout(String p_message) {
+                d_shownMessages.add(p_message);
+            }
+
+            @Override
+            public void summary(String p_message) {
+                d_shownMessages.add("summary: " + p_message);
+            }
+
+            @Override
+            public void stderr(String p_message) {
+                d_shownMessages.add("error: " + p_message);
+            }
+        });
+    }
+
+    /**
+     * Tests that every message is shown as soon as it is sent in the verbose mode.
+     */
+    @Test
+    public void testVerboseMode() {
+        d_outputModeMiddleware.stdout("first");
+        d_outputModeMiddleware.stderr("second");
+        d_outputModeMiddleware.summary("third");
+        assertEquals(Arrays.asList("first", "error: second", "summary: third"), d_shownMessages);
+    }
+
+    /**
+     * Tests that the messages are shown together once the batch is full, and before the error and the summary.
+     */
+    @Test
+    public void testBufferedMode() {
+        d_outputModeMiddleware.setOutputMode(OutputMode.BUFFERED);
+        d_outputModeMiddleware.setBatchSize(3);
+        d_outputModeMiddleware.stdout("first");
+        d_outputModeMiddleware.stdout("second");
+        assertTrue(d_shownMessages.isEmpty());
+
+        d_outputModeMiddleware.stdout("third");
+        assertEquals(Collections.singletonList("first\nsecond\nthird"), d_shownMessages);
+
+        d_outputModeMiddleware.stdout("fourth");
+        d_outputModeMiddleware.stderr("fifth");
+        d_outputModeMiddleware.stdout("sixth");
+        d_outputModeMiddleware.summary("seventh");
+        assertEquals(Arrays.asList("first\nsecond\nthird", "fourth", "error: fifth", "sixth", "summary: seventh"),
+                d_shownMessages);
+    }
+
+    /**
+     * Tests that only the summaries and the errors are shown in the summary mode, and nothing is shown in the silent
+     * mode.
+     */
+    @Test
+    public void testSummaryAndSilentModes() {
+        d_outputModeMiddleware.setOutputMode(OutputMode.SUMMARY);
+        assertFalse(d_outputModeMiddleware.isStdoutAccepted());
+        d_outputModeMiddleware.stdout("first");
+        d_outputModeMiddleware.stderr("second");
+        d_outputModeMiddleware.summary("third");
+        assertEquals(Arrays.asList("error: second", "summary: third"), d_shownMessages);
+
+        d_outputModeMiddleware.setOutputMode(OutputMode.SILENT);
+        d_outputModeMiddleware.stderr("fourth");
+        d_outputModeMiddleware.summary("fifth");
+        assertEquals(2, d_shownMessages.size());
+    }
+
+    /**
+     * Tests that the messages sent in a given mode do not use nor change the mode of the middleware.
+     */
+    @Test
+    public void testMessagesInGivenMode() {
+        d_outputModeMiddleware.stdout("first", OutputMode.SUMMARY);
+        d_outputModeMiddleware.stderr("second", OutputMode.SUMMARY);
+        d_outputModeMiddleware.stderr("third", OutputMode.SILENT);
+        d_outputModeMiddleware.stdout("fourth");
+        assertEquals(Arrays.asList("error: second", "fourth"), d_shownMessages);
+        assertEquals(OutputMode.VERBOSE, d_outputModeMiddleware.getOutputMode());
+    }
+
+    /**
+     * Tests that the messages changing the state of the user interface are sent in every mode, after the collected
+     * messages.
+     */
+    @Test
+    public void testStateMessagesAreAlwaysSent() {
+        d_outputModeMiddleware.setOutputMode(OutputMode.BUFFERED);
+        d_outputModeMiddleware.stdout("first");
+        d_outputModeMiddleware.stdout("GAME_ENGINE_STOPPED");
+        d_outputModeMiddleware.setOutputMode(OutputMode.SILENT);
+        d_outputModeMiddleware.stdout("GAME_ENGINE_STARTED");
+        assertEquals(Arrays.asList("first", "GAME_ENGINE_STOPPED", "GAME_ENGINE_STARTED"), d_shownMessages);
+    }
+}
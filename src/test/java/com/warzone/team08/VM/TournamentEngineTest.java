@@ -1,16 +1,31 @@
 package com.warzone.team08.VM;
 
 import com.warzone.team08.Application;
+import com.warzone.team08.CLI.CommandLineInterface;
+import com.warzone.team08.UserInterfaceMiddleware;
+import com.warzone.team08.VM.constants.enums.OutputMode;
 import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.MapStatistics;
 import com.warzone.team08.VM.entities.Player;
 import com.warzone.team08.VM.exceptions.VMException;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.json.JSONObject;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * This class tests tournament engine.
@@ -37,9 +52,11 @@ public class TournamentEngineTest {
 
     /**
      * Re-initializes the continent list before test case run.
+     *
+     * @throws IOException If any exception while creating the checkpoint file.
      */
     @Before
-    public void beforeTestCase() {
+    public void beforeTestCase() throws IOException {
         // (Re)initialise Virtual Machine.
         VirtualMachine.getInstance().initialise();
 
@@ -50,6 +67,10 @@ public class TournamentEngineTest {
         d_tournamentEngine.setNumberOfGames(20);
         d_tournamentEngine.addPlayer(new Player("Player_1", StrategyType.AGGRESSIVE));
         d_tournamentEngine.addPlayer(new Player("Player_2", StrategyType.BENEVOLENT));
+
+        File l_checkpointFile = File.createTempFile("tournament_checkpoint", ".json");
+        l_checkpointFile.deleteOnExit();
+        d_tournamentEngine.setCheckpointFilePath(l_checkpointFile.getPath());
     }
 
     /**
@@ -62,4 +83,239 @@ public class TournamentEngineTest {
     public void testTournament() throws VMException {
         d_tournamentEngine.onStart(true);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if the tournament plays the games using more than one thread, and provides the results without any
+     * exception.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     */
+    @Test(expected = Test.None.class)
+    public void testParallelTournament() throws VMException {
+        d_tournamentEngine.setNumberOfThreads(4);
+        d_tournamentEngine.onStart(true);
+    }
+
+    /**
+     * Tests if the headless tournament shows only its results and the errors of its games, without changing the output
+     * mode of the virtual machine.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     */
+    @Test
+    public void testHeadlessTournament() throws VMException {
+        List<String> l_shownMessages = new ArrayList<>();
+        List<String> l_shownSummaries = new ArrayList<>();
+        List<OutputMode> l_outputModes = new ArrayList<>();
+        VirtualMachine.getInstance().attachUIMiddleware(new UserInterfaceMiddleware() {
+            @Override
+            public String askForUserInput(String p_message) {
+                return "";
+            }
+
+            @Override
+            public void stdout(String p_message) {
+                if (!p_message.startsWith("GAME_ENGINE_")) {
+                    l_shownMessages.add(p_message);
+                }
+            }
+
+            @Override
+            public void summary(String p_message) {
+                l_shownSummaries.add(p_message);
+                l_outputModes.add(VirtualMachine.getInstance().getOutputMode());
+            }
+
+            @Override
+            public void stderr(String p_message) {
+            }
+        });
+        try {
+            d_tournamentEngine.setHeadless(true);
+            d_tournamentEngine.setNumberOfGames(2);
+            d_tournamentEngine.onStart(true);
+        } finally {
+            VirtualMachine.getInstance().attachUIMiddleware(new CommandLineInterface(d_Application));
+        }
+        assertTrue(l_shownMessages.isEmpty());
+        assertEquals(1, l_shownSummaries.size());
+        assertTrue(l_shownSummaries.get(0).contains("Result of Tournament"));
+        assertEquals(Collections.singletonList(OutputMode.VERBOSE), l_outputModes);
+        assertEquals(OutputMode.VERBOSE, VirtualMachine.getInstance().getOutputMode());
+    }
+
+    /**
+     * Tests if the result of each game is appended to the results file as a JSON line.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     * @throws IOException If any exception while creating or reading the results file.
+     */
+    @Test
+    public void testResultFile() throws VMException, IOException {
+        File l_resultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_resultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_resultFile.getPath());
+        d_tournamentEngine.setNumberOfThreads(4);
+        d_tournamentEngine.onStart(true);
+
+        List<String> l_lines = Files.readAllLines(l_resultFile.toPath());
+        assertEquals(d_mapFiles.size() * d_tournamentEngine.getNumberOfGames(), l_lines.size());
+        for (String l_line : l_lines) {
+            JSONObject l_matchResultJSON = new JSONObject(l_line);
+            assertTrue(d_mapFiles.contains(l_matchResultJSON.getString("map")));
+            assertEquals(2, l_matchResultJSON.getJSONArray("players").length());
+        }
+    }
+
+    /**
+     * Tests if the tournaments with the same seed have the same results, irrespective of the number of threads.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     * @throws IOException If any exception while creating or reading the results file.
+     */
+    @Test
+    public void testSeededTournament() throws VMException, IOException {
+        List<Player> l_players = new ArrayList<>();
+        l_players.add(new Player("Player_1", StrategyType.RANDOM));
+        l_players.add(new Player("Player_2", StrategyType.BENEVOLENT));
+        d_tournamentEngine.setPlayers(l_players);
+        d_tournamentEngine.setNumberOfGames(5);
+        d_tournamentEngine.setMaxNumberOfTurns(10);
+        d_tournamentEngine.setSeed(42L);
+
+        File l_sequentialResultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_sequentialResultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_sequentialResultFile.getPath());
+        d_tournamentEngine.onStart(true);
+
+        File l_parallelResultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_parallelResultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_parallelResultFile.getPath());
+        d_tournamentEngine.setNumberOfThreads(4);
+        d_tournamentEngine.onStart(true);
+
+        assertEquals(this.readResults(l_sequentialResultFile), this.readResults(l_parallelResultFile));
+    }
+
+    /**
+     * Tests if the cheater, which conquers the neighbouring countries every turn, is declared as winner once it holds
+     * more than half of the countries and the armies at the end of a turn.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     * @throws IOException If any exception while creating or reading the results file.
+     */
+    @Test
+    public void testDominanceAdjudication() throws VMException, IOException {
+        List<Player> l_players = new ArrayList<>();
+        l_players.add(new Player("Player_1", StrategyType.CHEATER));
+        l_players.add(new Player("Player_2", StrategyType.BENEVOLENT));
+        d_tournamentEngine.setPlayers(l_players);
+        d_tournamentEngine.setNumberOfGames(2);
+        d_tournamentEngine.setMaxNumberOfTurns(50);
+        d_tournamentEngine.setDominanceShare(0.5);
+        d_tournamentEngine.setDominanceTurns(1);
+        d_tournamentEngine.setSeed(42L);
+
+        File l_resultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_resultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_resultFile.getPath());
+        d_tournamentEngine.onStart(true);
+
+        for (String l_line : Files.readAllLines(l_resultFile.toPath())) {
+            JSONObject l_matchResultJSON = new JSONObject(l_line);
+            assertFalse(l_matchResultJSON.getBoolean("declaredDraw"));
+            assertEquals("dominance", l_matchResultJSON.getString("adjudication"));
+            assertEquals("Player_1", l_matchResultJSON.getString("result"));
+        }
+    }
+
+    /**
+     * Tests if the tournament resumed from its checkpoint plays only the remaining games, and has the same results as
+     * the tournament which has not been stopped. The results file is cut in the middle of a line, as if the process had
+     * been killed while writing it.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     * @throws IOException If any exception while creating or reading the results file.
+     */
+    @Test
+    public void testResumeTournament() throws VMException, IOException {
+        List<Player> l_players = new ArrayList<>();
+        l_players.add(new Player("Player_1", StrategyType.RANDOM));
+        l_players.add(new Player("Player_2", StrategyType.BENEVOLENT));
+        d_tournamentEngine.setPlayers(l_players);
+        d_tournamentEngine.setNumberOfGames(5);
+        d_tournamentEngine.setMaxNumberOfTurns(10);
+        d_tournamentEngine.setSeed(42L);
+
+        File l_resultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_resultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_resultFile.getPath());
+        d_tournamentEngine.onStart(true);
+        Map<String, String> l_expectedResults = this.readResults(l_resultFile);
+        String l_checkpointFilePath = d_tournamentEngine.getCheckpointFilePath();
+
+        // Keep the first four results and a part of the fifth result.
+        List<String> l_lines = Files.readAllLines(l_resultFile.toPath());
+        String l_content = String.join("\n", l_lines.subList(0, 4)) + "\n" + l_lines.get(4).substring(0, 10);
+        Files.write(l_resultFile.toPath(), l_content.getBytes());
+
+        VirtualMachine.getInstance().initialise();
+        d_tournamentEngine.onResume(l_checkpointFilePath, true);
+
+        assertEquals(d_mapFiles, d_tournamentEngine.getMapFileList());
+        assertEquals(Long.valueOf(42L), d_tournamentEngine.getSeed());
+        assertEquals(d_mapFiles.size() * 5, Files.readAllLines(l_resultFile.toPath()).size());
+        assertEquals(l_expectedResults, this.readResults(l_resultFile));
+    }
+
+    /**
+     * Tests if the adaptive tournament stops playing the games on a map once the cheater, which wins every game, has
+     * been separated from the benevolent player, and not before the intervals corrected for the repeated checks
+     * separate them.
+     *
+     * @throws VMException If any exception while executing the tournament.
+     * @throws IOException If any exception while creating or reading the results file.
+     */
+    @Test
+    public void testAdaptiveTournament() throws VMException, IOException {
+        List<Player> l_players = new ArrayList<>();
+        l_players.add(new Player("Player_1", StrategyType.CHEATER));
+        l_players.add(new Player("Player_2", StrategyType.BENEVOLENT));
+        d_tournamentEngine.setPlayers(l_players);
+        d_tournamentEngine.setNumberOfGames(50);
+        d_tournamentEngine.setMaxNumberOfTurns(50);
+        d_tournamentEngine.setConfidenceLevel(0.95);
+        d_tournamentEngine.setSeed(42L);
+
+        File l_resultFile = File.createTempFile("tournament_results", ".jsonl");
+        l_resultFile.deleteOnExit();
+        d_tournamentEngine.setResultFilePath(l_resultFile.getPath());
+        d_tournamentEngine.onStart(true);
+
+        for (int l_mapIndex = 0; l_mapIndex < d_mapFiles.size(); l_mapIndex++) {
+            MapStatistics l_mapStatistics = d_tournamentEngine.getMapStatistics(l_mapIndex);
+            assertTrue(d_tournamentEngine.isSeparated(l_mapIndex));
+            // Ten wins out of ten games separate the players at the nominal 95%, but not once corrected for the checks.
+            assertTrue(l_mapStatistics.getNumberOfGames() > TournamentEngine.MIN_GAMES_TO_SEPARATE);
+            assertTrue(l_mapStatistics.getNumberOfGames() < 50);
+            assertEquals(l_mapStatistics.getNumberOfGames(), l_mapStatistics.getWins(0));
+        }
+        assertTrue(Files.readAllLines(l_resultFile.toPath()).size() < d_mapFiles.size() * 50);
+    }
+
+    /**
+     * Reads the results file and maps each result to the game and the map it is for.
+     *
+     * @param p_resultFile Results file.
+     * @return Value of the results mapped to the game and the map.
+     * @throws IOException If any exception while reading the results file.
+     */
+    private Map<String, String> readResults(File p_resultFile) throws IOException {
+        Map<String, String> l_results = new HashMap<>();
+        for (String l_line : Files.readAllLines(p_resultFile.toPath())) {
+            JSONObject l_matchResultJSON = new JSONObject(l_line);
+            l_results.put(l_matchResultJSON.getInt("game") + l_matchResultJSON.getString("map"), l_line);
+        }
+        return l_results;
+    }
+}
@@ -0,0 +1,256 @@
+package com.warzone.team08.VM.entities;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the list of the assigned countries behaves as an <code>ArrayList</code> without duplicates, whether the
+ * countries are found using the index of their ids or by searching the list.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+public class AssignedCountryListTest {
+    private Continent d_continent;
+    private AssignedCountryList d_assignedCountryList;
+
+    /**
+     * Creates an empty list before each test case.
+     */
+    @Before
+    public void beforeTestCase() {
+        d_continent = new Continent(1);
+        d_assignedCountryList = new AssignedCountryList();
+    }
+
+    /**
+     * Tests that the countries of different maps having the same id are both kept, and are found after either is
+     * removed.
+     */
+    @Test
+    public void testCountriesWithSameId() {
+        Country l_firstCountry = this.createCountry(3, d_continent);
+        Country l_secondCountry = this.createCountry(3, new Continent(2));
+        Country l_otherCountry = this.createCountry(4, d_continent);
+        assertTrue(d_assignedCountryList.add(l_firstCountry));
+        assertTrue(d_assignedCountryList.add(l_secondCountry));
+        assertTrue(d_assignedCountryList.add(l_otherCountry));
+        assertFalse(d_assignedCountryList.add(l_secondCountry));
+        assertEquals(3, d_assignedCountryList.size());
+        assertEquals(1, d_assignedCountryList.indexOf(l_secondCountry));
+
+        assertTrue(d_assignedCountryList.remove(l_firstCountry));
+        assertFalse(d_assignedCountryList.contains(l_firstCountry));
+        assertTrue(d_assignedCountryList.contains(l_secondCountry));
+        assertEquals(0, d_assignedCountryList.indexOf(l_secondCountry));
+        assertEquals(1, d_assignedCountryList.indexOf(l_otherCountry));
+
+        // The id is free again, so the first country is indexed at the end of the list.
+        assertTrue(d_assignedCountryList.add(l_firstCountry));
+        assertTrue(d_assignedCountryList.remove(l_secondCountry));
+        assertEquals(1, d_assignedCountryList.indexOf(l_firstCountry));
+        assertSame(l_otherCountry, d_assignedCountryList.get(0));
+    }
+
+    /**
+     * Tests that the countries whose ids are negative or too large to be indexed are found by searching the list.
+     */
+    @Test
+    public void testCountriesWithIdOutOfRange() {
+        Country l_negativeCountry = this.createCountry(-5, d_continent);
+        Country l_largeCountry = this.createCountry((1 << 20) + 1, d_continent);
+        Country l_indexedCountry = this.createCountry(7, d_continent);
+        d_assignedCountryList.add(l_negativeCountry);
+        d_assignedCountryList.add(l_indexedCountry);
+        d_assignedCountryList.add(l_largeCountry);
+        assertFalse(d_assignedCountryList.add(l_largeCountry));
+        assertEquals(3, d_assignedCountryList.size());
+        assertTrue(d_assignedCountryList.contains(l_negativeCountry));
+        assertEquals(2, d_assignedCountryList.indexOf(l_largeCountry));
+
+        assertTrue(d_assignedCountryList.remove(l_negativeCountry));
+        assertFalse(d_assignedCountryList.contains(l_negativeCountry));
+        assertEquals(0, d_assignedCountryList.indexOf(l_indexedCountry));
+        assertEquals(1, d_assignedCountryList.indexOf(l_largeCountry));
+        assertFalse(d_assignedCountryList.remove(l_negativeCountry));
+    }
+
+    /**
+     * Tests that replacing a country updates the index, and a country can not be placed at a second position.
+     */
+    @Test
+    public void testSet() {
+        List<Country> l_countries = this.addCountries(4);
+        Country l_newCountry = this.createCountry(10, d_continent);
+
+        assertSame(l_countries.get(1), d_assignedCountryList.set(1, l_newCountry));
+        assertFalse(d_assignedCountryList.contains(l_countries.get(1)));
+        assertEquals(1, d_assignedCountryList.indexOf(l_newCountry));
+        assertSame(l_newCountry, d_assignedCountryList.set(1, l_newCountry));
+
+        try {
+            d_assignedCountryList.set(0, l_countries.get(2));
+            fail("The country has been placed at a second position.");
+        } catch (IllegalArgumentException p_illegalArgumentException) {
+            assertEquals(2, d_assignedCountryList.indexOf(l_countries.get(2)));
+        }
+        try {
+            d_assignedCountryList.set(4, l_countries.get(1));
+            fail("The country has been placed after the end of the list.");
+        } catch (IndexOutOfBoundsException p_indexOutOfBoundsException) {
+            assertEquals(4, d_assignedCountryList.size());
+        }
+    }
+
+    /**
+     * Tests that inserting a country moves the countries after it, and a country already in the list is not inserted.
+     */
+    @Test
+    public void testAddAtIndex() {
+        List<Country> l_countries = this.addCountries(3);
+        Country l_firstCountry = this.createCountry(10, d_continent);
+        Country l_lastCountry = this.createCountry(11, d_continent);
+
+        d_assignedCountryList.add(1, l_firstCountry);
+        d_assignedCountryList.add(4, l_lastCountry);
+        d_assignedCountryList.add(0, l_countries.get(2));
+        List<Country> l_expectedCountries = new ArrayList<>(l_countries);
+        l_expectedCountries.add(1, l_firstCountry);
+        l_expectedCountries.add(l_lastCountry);
+        assertEquals(l_expectedCountries, d_assignedCountryList);
+        for (int l_index = 0; l_index < l_expectedCountries.size(); l_index++) {
+            assertEquals(l_index, d_assignedCountryList.indexOf(l_expectedCountries.get(l_index)));
+        }
+
+        try {
+            d_assignedCountryList.add(6, this.createCountry(12, d_continent));
+            fail("The country has been inserted after the end of the list.");
+        } catch (IndexOutOfBoundsException p_indexOutOfBoundsException) {
+            assertEquals(5, d_assignedCountryList.size());
+        }
+    }
+
+    /**
+     * Tests that removing and adding the countries between the accesses by position keeps the same order as an
+     * <code>ArrayList</code>, while the empty slots are compacted.
+     */
+    @Test
+    public void testCompactionAfterInterleavedRemoveAndGet() {
+        List<Country> l_countries = new ArrayList<>();
+        for (int l_countryId = 1; l_countryId <= 40; l_countryId++) {
+            l_countries.add(this.createCountry(l_countryId, d_continent));
+        }
+        List<Country> l_expectedCountries = new ArrayList<>();
+        SplittableRandom l_random = new SplittableRandom(42);
+        for (int l_step = 0; l_step < 2000; l_step++) {
+            Country l_country = l_countries.get(l_random.nextInt(l_countries.size()));
+            int l_operation = l_random.nextInt(4);
+            if (l_operation == 0) {
+                assertEquals(l_expectedCountries.remove(l_country), d_assignedCountryList.remove(l_country));
+            } else if (l_operation == 1) {
+                boolean l_isAdded = !l_expectedCountries.contains(l_country);
+                if (l_isAdded) {
+                    l_expectedCountries.add(l_country);
+                }
+                assertEquals(l_isAdded, d_assignedCountryList.add(l_country));
+            } else if (l_operation == 2 && !l_expectedCountries.isEmpty()) {
+                int l_index = l_random.nextInt(l_expectedCountries.size());
+                assertSame(l_expectedCountries.get(l_index), d_assignedCountryList.get(l_index));
+            } else {
+                assertEquals(l_expectedCountries.indexOf(l_country), d_assignedCountryList.indexOf(l_country));
+            }
+            assertEquals(l_expectedCountries.size(), d_assignedCountryList.size());
+        }
+        assertEquals(l_expectedCountries, d_assignedCountryList);
+    }
+
+    /**
+     * Tests that the cleared list does not find its previous countries and can be filled again.
+     */
+    @Test
+    public void testClear() {
+        List<Country> l_countries = this.addCountries(5);
+        d_assignedCountryList.remove(l_countries.get(2));
+        d_assignedCountryList.clear();
+        assertTrue(d_assignedCountryList.isEmpty());
+        for (Country l_country : l_countries) {
+            assertFalse(d_assignedCountryList.contains(l_country));
+        }
+
+        assertTrue(d_assignedCountryList.add(l_countries.get(4)));
+        assertTrue(d_assignedCountryList.add(l_countries.get(0)));
+        assertEquals(0, d_assignedCountryList.indexOf(l_countries.get(4)));
+        assertSame(l_countries.get(0), d_assignedCountryList.get(1));
+    }
+
+    /**
+     * Tests that the iterator fails if the list is changed other than through the iterator.
+     */
+    @Test
+    public void testIteratorFailsOnConcurrentModification() {
+        List<Country> l_countries = this.addCountries(3);
+        Iterator<Country> l_iterator = d_assignedCountryList.iterator();
+        l_iterator.next();
+        d_assignedCountryList.remove(l_countries.get(2));
+        try {
+            l_iterator.next();
+            fail("The iterator has not detected the removed country.");
+        } catch (ConcurrentModificationException p_concurrentModificationException) {
+            assertEquals(2, d_assignedCountryList.size());
+        }
+
+        l_iterator = d_assignedCountryList.iterator();
+        l_iterator.next();
+        l_iterator.remove();
+        assertEquals(l_countries.subList(1, 2), d_assignedCountryList);
+        d_assignedCountryList.add(l_countries.get(2));
+        try {
+            l_iterator.next();
+            fail("The iterator has not detected the added country.");
+        } catch (ConcurrentModificationException p_concurrentModificationException) {
+            assertEquals(2, d_assignedCountryList.size());
+        }
+    }
+
+    /**
+     * Creates the country of the continent.
+     *
+     * @param p_countryId Country id.
+     * @param p_continent Continent of the country.
+     * @return Value of the country.
+     */
+    private Country createCountry(int p_countryId, Continent p_continent) {
+        Country l_country = new Country(p_countryId);
+        l_country.setCountryName("Country_" + p_countryId);
+        l_country.setContinent(p_continent);
+        return l_country;
+    }
+
+    /**
+     * Adds the countries with ids from one to the given number to the list.
+     *
+     * @param p_numberOfCountries Number of countries.
+     * @return Value of the added countries, in their order.
+     */
+    private List<Country> addCountries(int p_numberOfCountries) {
+        List<Country> l_countries = new ArrayList<>();
+        for (int l_countryId = 1; l_countryId <= p_numberOfCountries; l_countryId++) {
+            Country l_country = this.createCountry(l_countryId, d_continent);
+            l_countries.add(l_country);
+            d_assignedCountryList.add(l_country);
+        }
+        return l_countries;
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.runners.Suite;
         BombOrderTest.class,
         DeployOrderTest.class,
         PlayerTest.class,
+        AssignedCountryListTest.class,
         NegotiateOrderTest.class,
         AggressiveStrategyTest.class,
         BenevolentStrategyTest.class,
@@ -17,10 +17,14 @@ import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests if the player can issue the order correctly.
@@ -106,5 +110,33 @@ public class PlayerTest {
         d_commandLineInterface.setIn(new ByteArrayInputStream(l_orderInput.getBytes()));
         VirtualMachine.getGameEngine().getGamePlayEngine().getPlayerList().get(0).issueOrder();
     }
-}
 
+    /**
+     * Tests that the assigned countries keep their order while countries are removed and added, and that a country is
+     * assigned at most once.
+     */
+    @Test
+    public void testAssignedCountriesKeepOrder() {
+        List<Country> l_countryList = d_mapEditorEngine.getCountryList();
+        Player l_player = new Player("User_3", StrategyType.HUMAN);
+        l_player.setAssignedCountries(l_countryList);
+        assertEquals(l_countryList, l_player.getAssignedCountries());
+
+        l_player.removeCountry(l_countryList.get(1));
+        l_player.removeCountry(l_countryList.get(3));
+        l_player.addAssignedCountries(l_countryList.get(1));
+        l_player.addAssignedCountries(l_countryList.get(0));
+        assertFalse(l_player.isAssigned(l_countryList.get(3)));
+        assertTrue(l_player.isAssigned(l_countryList.get(1)));
+        assertEquals(l_countryList.size() - 1, l_player.getAssignedCountries().size());
+
+        List<Country> l_expectedCountries = new ArrayList<>(l_countryList);
+        l_expectedCountries.remove(3);
+        l_expectedCountries.add(l_expectedCountries.remove(1));
+        assertEquals(l_expectedCountries, l_player.getAssignedCountries());
+        assertEquals(l_expectedCountries.size() - 1, l_player.getAssignedCountries().indexOf(l_countryList.get(1)));
+
+        // The list given to the player is not changed with the countries of the player.
+        assertEquals(10, l_countryList.size());
+    }
+}
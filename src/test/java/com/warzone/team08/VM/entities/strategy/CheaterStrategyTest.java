@@ -86,7 +86,7 @@ public class CheaterStrategyTest {
         Player l_player = d_playerList.get(0);
         l_player.getAssignedCountries().get(0).setNumberOfArmies(1);
 
-        CountryRepository l_countryRepository = new CountryRepository();
+        CountryRepository l_countryRepository = new CountryRepository(VirtualMachine.getGameEngine().getMapEditorEngine());
         Country l_temp = l_countryRepository.findFirstByCountryName("Nepal");
         l_temp.setNumberOfArmies(3);
         //First this country has to be oppositions country
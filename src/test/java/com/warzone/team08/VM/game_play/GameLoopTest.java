@@ -0,0 +1,160 @@
+package com.warzone.team08.VM.game_play;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import com.warzone.team08.VM.phases.PlaySetup;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the loop which plays the turns of the game.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class GameLoopTest {
+    private static final Application d_Application = new Application();
+    private static String d_MapFilePath;
+
+    /**
+     * Maximum number of bytes allocated by a turn of the game, including the orders issued by the players. The game is
+     * not logged, so the orders must not create their log messages.
+     * <p>
+     * A turn of this game allocated about 175 KB while the orders built their log messages for a buffer nobody
+     * observed, and allocates about 14 KB without them. The budget sits between the two: building the messages again
+     * fails the test, while the size of the objects, which depends on the JVM and its options, has room to change.
+     */
+    private static final long ALLOCATED_BYTES_PER_TURN_BUDGET = 48 * 1024;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_MapFilePath = GameLoopTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+    }
+
+    /**
+     * Re-initializes the virtual machine before test case run.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+    }
+
+    /**
+     * Tests that the game moves between the same instances of the phases of the turn.
+     *
+     * @throws VMException If any exception while playing the game.
+     */
+    @Test
+    public void testPhasesAreReused() throws VMException {
+        GameEngine l_gameEngine = this.createGame(1);
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            l_gameEngine.getGamePhase().nextState();
+            assertSame(l_gameEngine.getReinforcementPhase(), l_gameEngine.getGamePhase());
+            l_gameEngine.getGamePhase().nextState();
+            assertSame(l_gameEngine.getIssueOrderPhase(), l_gameEngine.getGamePhase());
+            l_gameEngine.getGamePhase().nextState();
+            assertSame(l_gameEngine.getExecutePhase(), l_gameEngine.getGamePhase());
+            l_gameEngine.getGamePhase().nextState();
+            assertSame(l_gameEngine.getReinforcementPhase(), l_gameEngine.getGamePhase());
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Tests that the bytes allocated by a turn of the game stay under the budget once the game is running. The bytes
+     * allocated by the game with fewer turns are subtracted, so the allocations to start the game are not counted.
+     *
+     * @throws VMException If any exception while playing the game.
+     */
+    @Test
+    public void testAllocatedBytesPerTurn() throws VMException {
+        com.sun.management.ThreadMXBean l_threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!l_threadMXBean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        l_threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Warm up the loop before measuring.
+        this.playGame(l_threadMXBean, 50);
+        long l_shortGameBytes = this.playGame(l_threadMXBean, 50);
+        long l_longGameBytes = this.playGame(l_threadMXBean, 250);
+
+        long l_bytesPerTurn = (l_longGameBytes - l_shortGameBytes) / 200;
+        assertTrue(String.format("%d bytes allocated per turn", l_bytesPerTurn),
+                l_bytesPerTurn < ALLOCATED_BYTES_PER_TURN_BUDGET);
+    }
+
+    /**
+     * Plays the game until the maximum number of turns, and measures the bytes allocated by the loop.
+     *
+     * @param p_threadMXBean     Bean to get the bytes allocated by the current thread.
+     * @param p_maxNumberOfTurns Maximum number of turns of the game.
+     * @return Value of the bytes allocated while the loop was running.
+     * @throws VMException If any exception while preparing the game.
+     */
+    private long playGame(com.sun.management.ThreadMXBean p_threadMXBean, int p_maxNumberOfTurns) throws VMException {
+        GameEngine l_gameEngine = this.createGame(p_maxNumberOfTurns);
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            long l_threadId = Thread.currentThread().getId();
+            long l_allocatedBytes = p_threadMXBean.getThreadAllocatedBytes(l_threadId);
+            new GameLoop(l_gameEngine.getGamePlayEngine()).run();
+            return p_threadMXBean.getThreadAllocatedBytes(l_threadId) - l_allocatedBytes;
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+
+    /**
+     * Creates the game of two benevolent players, which is played until the maximum number of turns.
+     *
+     * @param p_maxNumberOfTurns Maximum number of turns of the game.
+     * @return Value of the engine of the game.
+     * @throws VMException If any exception while preparing the game.
+     */
+    private GameEngine createGame(int p_maxNumberOfTurns) throws VMException {
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        // The game has no parent buffer, so the log file is not written and only the turns of the game are measured.
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+        l_gameEngine.setMaxNumberOfTurns(p_maxNumberOfTurns);
+        l_gameEngine.setRandom(new SplittableRandom(11));
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            MapTemplateCache.getInstance().loadInto(d_MapFilePath, l_gameEngine);
+            l_gamePlayEngine.addPlayer(new Player("Player_1", StrategyType.BENEVOLENT));
+            l_gamePlayEngine.addPlayer(new Player("Player_2", StrategyType.BENEVOLENT));
+            for (Player l_player : l_gamePlayEngine.getPlayerList()) {
+                l_player.setRandom(l_gameEngine.getRandom().split());
+            }
+            new DistributeCountriesService(l_gameEngine).execute(new ArrayList<>());
+            l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+        return l_gameEngine;
+    }
+}
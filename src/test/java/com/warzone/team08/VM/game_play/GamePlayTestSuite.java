@@ -13,6 +13,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        GameLoopTest.class,
         AssignReinforcementServiceTest.class,
         DistributeCountriesServiceTest.class,
         ShowMapServiceTest.class
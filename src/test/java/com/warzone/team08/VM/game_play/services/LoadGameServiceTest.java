@@ -37,7 +37,6 @@ public class LoadGameServiceTest {
     private static URL d_testFilePath;
     private static URL d_testSavedFilePath;
     private static GamePlayEngine d_gamePlayEngine;
-    private final PlayerRepository d_PLAYER_REPOSITORY = new PlayerRepository();
 
     /**
      * Runs before the test case class runs; Initializes different objects required to perform test.
@@ -104,7 +103,8 @@ public class LoadGameServiceTest {
         MapEditorEngine l_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
         assertEquals(l_mapEditorEngine.getContinentList().size(), 2);
 
-        Player l_player1 = d_PLAYER_REPOSITORY.findByPlayerName("player_1");
+        PlayerRepository l_playerRepository = new PlayerRepository(VirtualMachine.getGameEngine().getGamePlayEngine());
+        Player l_player1 = l_playerRepository.findByPlayerName("player_1");
         assertEquals(l_player1.getAssignedCountries().size(), 4);
     }
 }
@@ -0,0 +1,116 @@
+package com.warzone.team08.VM.game_play.services;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.common.services.RolloutService;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.MatchResult;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePosition;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * This class tests the rollouts played from the position of a saved game.
+ *
+ * @author Rutwik
+ * @version 1.0
+ */
+public class RolloutServiceTest {
+    private static final Application d_Application = new Application();
+    private static JSONObject d_SavedGameJSON;
+    private RolloutService d_rolloutService;
+
+    /**
+     * Runs before the test case class runs; Reads the saved game used by the test cases.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     * @throws IOException        If any exception while reading the saved game.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException, IOException {
+        d_Application.handleApplicationStartup();
+        String l_savedGamePath = RolloutServiceTest.class.getClassLoader().getResource("test_game_files/test_earth.warzone").toURI().getPath();
+        d_SavedGameJSON = new JSONObject(new String(Files.readAllBytes(Paths.get(l_savedGamePath))));
+    }
+
+    /**
+     * Re-initializes the virtual machine and creates the service before test case run.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+        d_rolloutService = new RolloutService(VirtualMachine.getGameEngine());
+        d_rolloutService.setNumberOfRollouts(10);
+        d_rolloutService.setMaxNumberOfTurns(30);
+        d_rolloutService.setSeed(7L);
+    }
+
+    /**
+     * Tests that the cheater wins every rollout against the benevolent player, and the current game of the user is not
+     * replaced by the saved game.
+     *
+     * @throws VMException If any exception while playing the rollouts.
+     */
+    @Test
+    public void testRollout() throws VMException {
+        GameEngine l_currentGameEngine = VirtualMachine.getGameEngine();
+        GamePosition l_gamePosition = d_rolloutService.loadPosition(d_SavedGameJSON);
+        assertEquals(Arrays.asList("player_1", "player_2"), l_gamePosition.getPlayerNames());
+
+        d_rolloutService.setStrategies(Arrays.asList(StrategyType.CHEATER, StrategyType.BENEVOLENT));
+        List<MatchResult> l_matchResults = d_rolloutService.rollout(l_gamePosition, "test_earth.warzone");
+
+        assertEquals(10, l_matchResults.size());
+        for (MatchResult l_matchResult : l_matchResults) {
+            assertEquals("player_1", l_matchResult.getWinnerName());
+        }
+        assertSame(l_currentGameEngine, VirtualMachine.getGameEngine());
+    }
+
+    /**
+     * Tests that the rollouts played in parallel from the same position have the same results as the rollouts played
+     * one after another.
+     *
+     * @throws VMException If any exception while playing the rollouts.
+     */
+    @Test
+    public void testParallelRollout() throws VMException {
+        GamePosition l_gamePosition = d_rolloutService.loadPosition(d_SavedGameJSON);
+        d_rolloutService.setStrategies(Arrays.asList(StrategyType.RANDOM, StrategyType.CHEATER));
+        List<String> l_sequentialResults = this.toJSONLines(d_rolloutService.rollout(l_gamePosition, "test_earth.warzone"));
+
+        d_rolloutService.setNumberOfThreads(4);
+        List<String> l_parallelResults = this.toJSONLines(d_rolloutService.rollout(l_gamePosition, "test_earth.warzone"));
+
+        assertEquals(l_sequentialResults, l_parallelResults);
+    }
+
+    /**
+     * Converts the results to JSON lines to compare them.
+     *
+     * @param p_matchResults Results of the rollouts.
+     * @return Value of the JSON lines.
+     */
+    private List<String> toJSONLines(List<MatchResult> p_matchResults) {
+        List<String> l_lines = new ArrayList<>();
+        for (MatchResult l_matchResult : p_matchResults) {
+            l_lines.add(l_matchResult.toJSON().toString());
+        }
+        return l_lines;
+    }
+}
@@ -0,0 +1,168 @@
+package com.warzone.team08.VM.journal;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.InvalidArgumentException;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import com.warzone.team08.VM.phases.Execute;
+import com.warzone.team08.VM.phases.MainPlay;
+import com.warzone.team08.VM.phases.Phase;
+import com.warzone.team08.VM.phases.PlaySetup;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that the board rebuilt from the journal is the board of the game at each turn.
+ *
+ * @author Rutwik
+ * @version 1.0
+ */
+public class GameJournalTest {
+    private static final Application d_Application = new Application();
+    private static String d_MapFilePath;
+    private static final int NUMBER_OF_TURNS = 7;
+    private File d_journalFile;
+    private GameEngine d_gameEngine;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_MapFilePath = GameJournalTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+    }
+
+    /**
+     * Creates the game of two aggressive players, which writes its journal with a keyframe every two turns.
+     *
+     * @throws VMException If any exception while preparing the game.
+     * @throws IOException If the journal can not be created.
+     */
+    @Before
+    public void beforeTestCase() throws VMException, IOException {
+        VirtualMachine.getInstance().initialise();
+        d_journalFile = File.createTempFile("game_", GameJournal.FILE_EXTENSION);
+
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        d_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+        d_gameEngine.setMaxNumberOfTurns(NUMBER_OF_TURNS + 1);
+        d_gameEngine.setRandom(new SplittableRandom(7));
+        VirtualMachine.bindGameEngine(d_gameEngine);
+        MapTemplateCache.getInstance().loadInto(d_MapFilePath, d_gameEngine);
+        l_gamePlayEngine.addPlayer(new Player("Player_1", StrategyType.AGGRESSIVE));
+        l_gamePlayEngine.addPlayer(new Player("Player_2", StrategyType.AGGRESSIVE));
+        for (Player l_player : l_gamePlayEngine.getPlayerList()) {
+            l_player.setRandom(d_gameEngine.getRandom().split());
+        }
+        d_gameEngine.setGameJournal(new GameJournal(d_journalFile, d_gameEngine, 2));
+    }
+
+    /**
+     * Closes the journal and removes its files.
+     */
+    @After
+    public void afterTestCase() {
+        d_gameEngine.closeGameJournal();
+        VirtualMachine.unbindGameEngine();
+        d_journalFile.delete();
+        new File(d_journalFile.getPath() + GameJournal.INDEX_FILE_EXTENSION).delete();
+    }
+
+    /**
+     * Tests that the owners and the armies of the countries rebuilt from the journal are those of the game after each
+     * turn, whether or not the turn follows a keyframe.
+     *
+     * @throws VMException If any exception while playing the game or reading the journal.
+     */
+    @Test
+    public void testBoardIsRebuiltAtEachTurn() throws VMException {
+        List<Map<String, String>> l_owners = new ArrayList<>();
+        List<Map<String, Integer>> l_armies = new ArrayList<>();
+        new DistributeCountriesService(d_gameEngine).execute(new ArrayList<>());
+        this.takeSnapshot(l_owners, l_armies);
+
+        d_gameEngine.setGamePhase(new PlaySetup(d_gameEngine));
+        d_gameEngine.getGamePhase().nextState();
+        while (l_owners.size() <= NUMBER_OF_TURNS && !d_gameEngine.getGamePlayEngine().checkIfGameIsOver()) {
+            Phase l_gamePhase = d_gameEngine.getGamePhase();
+            if (l_gamePhase instanceof MainPlay) {
+                ((MainPlay) l_gamePhase).play();
+            }
+            l_gamePhase.nextState();
+            if (l_gamePhase instanceof Execute) {
+                this.takeSnapshot(l_owners, l_armies);
+            }
+        }
+        d_gameEngine.closeGameJournal();
+        assertTrue(l_owners.size() > 3);
+
+        JournalReader l_journalReader = new JournalReader(d_journalFile);
+        assertTrue(l_journalReader.getKeyframeTurns().contains(2));
+        for (int l_turnNumber = 0; l_turnNumber < l_owners.size(); l_turnNumber++) {
+            JournalBoard l_board = l_journalReader.readBoard(l_turnNumber);
+            assertEquals(l_turnNumber, l_board.getTurnNumber());
+            for (int l_countryIndex = 0; l_countryIndex < l_board.getCountryNames().size(); l_countryIndex++) {
+                String l_countryName = l_board.getCountryNames().get(l_countryIndex);
+                assertEquals(l_owners.get(l_turnNumber).get(l_countryName), l_board.getOwnerName(l_countryIndex));
+                assertEquals(l_armies.get(l_turnNumber).get(l_countryName).intValue(), l_board.getNumberOfArmies(l_countryIndex));
+            }
+        }
+    }
+
+    /**
+     * Tests that the turn which has not been recorded can not be rebuilt.
+     *
+     * @throws VMException If any exception while distributing the countries or reading the journal.
+     */
+    @Test(expected = InvalidArgumentException.class)
+    public void testTurnNotRecorded() throws VMException {
+        new DistributeCountriesService(d_gameEngine).execute(new ArrayList<>());
+        d_gameEngine.closeGameJournal();
+        new JournalReader(d_journalFile).readBoard(1);
+    }
+
+    /**
+     * Records the owner and the armies of each country of the game.
+     *
+     * @param p_owners Names of the owners after each turn.
+     * @param p_armies Armies after each turn.
+     */
+    private void takeSnapshot(List<Map<String, String>> p_owners, List<Map<String, Integer>> p_armies) {
+        Map<String, String> l_owners = new HashMap<>();
+        Map<String, Integer> l_armies = new HashMap<>();
+        for (Continent l_continent : d_gameEngine.getMapEditorEngine().getContinentList()) {
+            for (Country l_country : l_continent.getCountryList()) {
+                l_owners.put(l_country.getCountryName(), l_country.getOwnedBy(d_gameEngine) != null ? l_country.getOwnedBy(d_gameEngine).getName() : null);
+                l_armies.put(l_country.getCountryName(), l_country.getNumberOfArmies(d_gameEngine));
+            }
+        }
+        p_owners.add(l_owners);
+        p_armies.add(l_armies);
+    }
+}
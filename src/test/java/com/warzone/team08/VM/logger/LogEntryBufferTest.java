@@ -0,0 +1,288 @@
+package com.warzone.team08.VM.logger;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.TournamentEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.entities.orders.DeployOrder;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that the messages of the log are created only for the categories and the levels being logged.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class LogEntryBufferTest {
+    private static final Application d_Application = new Application();
+    private static String d_MapFilePath;
+    private LogEntryBuffer d_logEntryBuffer;
+    private List<String> d_loggedMessages;
+    private int d_createdMessages;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_MapFilePath = LogEntryBufferTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+    }
+
+    /**
+     * Creates the buffer of the game of the virtual machine, which is not shared with the other test cases.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+        d_logEntryBuffer = new LogEntryBuffer(VirtualMachine.getGameEngine(), null);
+        d_loggedMessages = new ArrayList<>();
+        d_createdMessages = 0;
+    }
+
+    /**
+     * Tests that the message is not created if there is no observer.
+     */
+    @Test
+    public void testMessageIsNotCreatedWithoutObserver() {
+        d_logEntryBuffer.dataChanged("advance", this::createMessage);
+        assertEquals(0, d_createdMessages);
+
+        this.attachObserver();
+        d_logEntryBuffer.dataChanged("advance", this::createMessage);
+        assertEquals(1, d_createdMessages);
+        assertEquals(1, d_loggedMessages.size());
+    }
+
+    /**
+     * Tests that the level of a category overrides the level of all the categories.
+     */
+    @Test
+    public void testCategoryLevel() {
+        this.attachObserver();
+        d_logEntryBuffer.setLogLevel(LogLevel.ERROR);
+        d_logEntryBuffer.setLogLevel("deploy", LogLevel.INFO);
+
+        d_logEntryBuffer.dataChanged("advance", this::createMessage);
+        d_logEntryBuffer.dataChanged("advance", LogLevel.ERROR, this::createMessage);
+        d_logEntryBuffer.dataChanged("deploy", this::createMessage);
+        d_logEntryBuffer.dataChanged("deploy", LogLevel.DEBUG, this::createMessage);
+        assertEquals(2, d_createdMessages);
+        // The header has the time, the level, and the id and the turn of the game which has logged the message.
+        String l_gameHeader = String.format(" game=%d turn=%d\n",
+                VirtualMachine.getGameEngine().getGameId(),
+                VirtualMachine.getGameEngine().getGamePlayEngine().getExecutionIndex());
+        assertTrue(d_loggedMessages.get(0).matches("---advance--- \\S+Z ERROR" + l_gameHeader + "Message 1\n"));
+        assertTrue(d_loggedMessages.get(1).matches("---deploy--- \\S+Z INFO" + l_gameHeader + "Message 2\n"));
+
+        d_logEntryBuffer.setLogLevel("deploy", LogLevel.OFF);
+        d_logEntryBuffer.dataChanged("deploy", LogLevel.ERROR, "Not logged");
+        assertEquals(2, d_loggedMessages.size());
+
+        // Setting the level of all the categories removes the level of the category.
+        d_logEntryBuffer.setLogLevel(LogLevel.INFO);
+        assertEquals(LogLevel.INFO, d_logEntryBuffer.getLogLevel("deploy"));
+    }
+
+    /**
+     * Tests that the table of the order effect is logged only at <code>DEBUG</code> level.
+     *
+     * @throws VMException If any exception while preparing the game or executing the orders.
+     */
+    @Test
+    public void testOrderEffectIsLoggedAtDebugLevel() throws VMException {
+        this.attachObserver();
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+        l_gameEngine.setLogEntryBuffer(d_logEntryBuffer);
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            MapTemplateCache.getInstance().loadInto(d_MapFilePath, l_gameEngine);
+            l_gamePlayEngine.addPlayer(new Player("Player_1", StrategyType.HUMAN));
+            l_gamePlayEngine.addPlayer(new Player("Player_2", StrategyType.HUMAN));
+            new DistributeCountriesService(l_gameEngine).distributeCountries();
+            Player l_player = l_gamePlayEngine.getPlayerList().get(0);
+            l_player.setReinforcementCount(2);
+            String l_countryName = l_player.getAssignedCountries().get(0).getCountryName();
+
+            d_logEntryBuffer.setLogLevel("deploy", LogLevel.INFO);
+            new DeployOrder(l_countryName, "1", l_player).execute();
+            d_logEntryBuffer.setLogLevel("deploy", LogLevel.DEBUG);
+            new DeployOrder(l_countryName, "1", l_player).execute();
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+
+        assertEquals(2, d_loggedMessages.size());
+        assertTrue(d_loggedMessages.get(0).contains("Deploying 1 armies"));
+        assertFalse(d_loggedMessages.get(0).contains("Order Effect"));
+        assertTrue(d_loggedMessages.get(1).contains("Order Effect"));
+    }
+
+    /**
+     * Tests that the event carries the game and the turn of the engine owning the buffer, whichever engine is bound to
+     * the logging thread.
+     */
+    @Test
+    public void testEventCarriesGameAndTurn() {
+        List<LogEvent> l_events = new ArrayList<>();
+        new Observer(d_logEntryBuffer) {
+            @Override
+            public void update(LogEvent p_event) {
+                l_events.add(p_event);
+            }
+        };
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine, d_logEntryBuffer);
+        l_gamePlayEngine.incrementExecutionIndex();
+        l_gamePlayEngine.incrementExecutionIndex();
+        l_gameEngine.getLogEntryBuffer().dataChanged("advance", LogLevel.ERROR, "Message");
+
+        assertEquals(1, l_events.size());
+        LogEvent l_event = l_events.get(0);
+        assertEquals(l_gameEngine.getGameId(), l_event.getGameId());
+        assertNotEquals(VirtualMachine.getGameEngine().getGameId(), l_event.getGameId());
+        assertEquals(2, l_event.getTurnIndex());
+        assertEquals("advance", l_event.getCategory());
+        assertEquals(LogLevel.ERROR, l_event.getLevel());
+        assertEquals("Message", l_event.getPayload());
+    }
+
+    /**
+     * Tests that the events of games logging at once are not mixed.
+     *
+     * @throws InterruptedException If interrupted while waiting for the games.
+     */
+    @Test
+    public void testConcurrentGamesDoNotMixEvents() throws InterruptedException {
+        ConcurrentLinkedQueue<LogEvent> l_events = new ConcurrentLinkedQueue<>();
+        new Observer(d_logEntryBuffer) {
+            @Override
+            public void update(LogEvent p_event) {
+                l_events.add(p_event);
+            }
+        };
+        int l_numberOfGames = 4;
+        int l_numberOfMessages = 2000;
+        CountDownLatch l_startLatch = new CountDownLatch(1);
+        List<Thread> l_threads = new ArrayList<>();
+        for (int l_gameIndex = 0; l_gameIndex < l_numberOfGames; l_gameIndex++) {
+            GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine(), d_logEntryBuffer);
+            Thread l_thread = new Thread(() -> {
+                try {
+                    l_startLatch.await();
+                    for (int l_index = 0; l_index < l_numberOfMessages; l_index++) {
+                        l_gameEngine.getLogEntryBuffer().dataChanged("game_" + l_gameEngine.getGameId(), "Game " + l_gameEngine.getGameId());
+                    }
+                } catch (InterruptedException p_interruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            l_threads.add(l_thread);
+            l_thread.start();
+        }
+        l_startLatch.countDown();
+        for (Thread l_thread : l_threads) {
+            l_thread.join();
+        }
+
+        assertEquals(l_numberOfGames * l_numberOfMessages, l_events.size());
+        for (LogEvent l_event : l_events) {
+            assertEquals("game_" + l_event.getGameId(), l_event.getCategory());
+            assertEquals("Game " + l_event.getGameId(), l_event.getPayload());
+        }
+    }
+
+    /**
+     * Tests that the buffer of a game uses the levels of its parent until they are set in the buffer, and that the
+     * buffer of a game without a parent is not observed by the log file.
+     */
+    @Test
+    public void testGameBufferUsesLevelsOfParent() {
+        this.attachObserver();
+        d_logEntryBuffer.setLogLevel(LogLevel.ERROR);
+        d_logEntryBuffer.setLogLevel("deploy", LogLevel.INFO);
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine(), d_logEntryBuffer);
+        LogEntryBuffer l_gameBuffer = l_gameEngine.getLogEntryBuffer();
+        assertEquals(LogLevel.ERROR, l_gameBuffer.getLogLevel());
+        assertEquals(LogLevel.INFO, l_gameBuffer.getLogLevel("deploy"));
+
+        l_gameBuffer.dataChanged("advance", this::createMessage);
+        l_gameBuffer.dataChanged("deploy", this::createMessage);
+        assertEquals(1, d_createdMessages);
+
+        l_gameBuffer.setLogLevel("advance", LogLevel.INFO);
+        l_gameBuffer.dataChanged("advance", this::createMessage);
+        assertEquals(2, d_loggedMessages.size());
+        assertEquals(LogLevel.ERROR, d_logEntryBuffer.getLogLevel("advance"));
+
+        GameEngine l_detachedGameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        assertFalse(l_detachedGameEngine.getLogEntryBuffer().isLoggable("advance", LogLevel.ERROR));
+    }
+
+    /**
+     * Tests that the games of a tournament log the categories which have not been set at <code>INFO</code>, and the
+     * levels set in the parent are still used.
+     */
+    @Test
+    public void testTournamentGamesAreQuietByDefault() {
+        this.attachObserver();
+        LogEntryBuffer l_tournamentBuffer = new TournamentEngine(d_logEntryBuffer).getLogEntryBuffer();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine(), l_tournamentBuffer);
+        LogEntryBuffer l_gameBuffer = l_gameEngine.getLogEntryBuffer();
+        assertEquals(LogEntryBuffer.DEFAULT_LOG_LEVEL, d_logEntryBuffer.getLogLevel("deploy"));
+        assertEquals(LogLevel.INFO, l_gameBuffer.getLogLevel());
+        assertEquals(LogLevel.INFO, l_gameBuffer.getLogLevel("deploy"));
+        assertFalse(l_gameBuffer.isLoggable("deploy", LogLevel.DEBUG));
+
+        d_logEntryBuffer.setLogLevel("deploy", LogLevel.DEBUG);
+        assertTrue(l_gameBuffer.isLoggable("deploy", LogLevel.DEBUG));
+        d_logEntryBuffer.setLogLevel(LogLevel.ERROR);
+        assertEquals(LogLevel.ERROR, l_gameBuffer.getLogLevel());
+        assertEquals(LogLevel.ERROR, l_gameBuffer.getLogLevel("deploy"));
+    }
+
+    /**
+     * Attaches the observer which collects the logged messages.
+     */
+    private void attachObserver() {
+        new Observer(d_logEntryBuffer) {
+            @Override
+            public void update(LogEvent p_event) {
+                d_loggedMessages.add(p_event.format());
+            }
+        };
+    }
+
+    /**
+     * Creates the message to be logged, and counts the created messages.
+     *
+     * @return Value of the message.
+     */
+    private String createMessage() {
+        d_createdMessages++;
+        return "Message " + d_createdMessages;
+    }
+}
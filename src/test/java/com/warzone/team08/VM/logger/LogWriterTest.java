@@ -0,0 +1,376 @@
+package com.warzone.team08.VM.logger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests that the messages of the log are written in order by the thread of the writer, and that the full
+ * queue blocks or drops the messages as per its policy. Also tests the rotation of the file.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class LogWriterTest {
+    private LogEntryBuffer d_logEntryBuffer;
+    private File d_logDirectory;
+    private File d_targetFile;
+
+    /**
+     * Creates the buffer and the directory of the file, which are not shared with the other test cases.
+     *
+     * @throws IOException If the directory can not be created.
+     */
+    @Before
+    public void beforeTestCase() throws IOException {
+        d_logEntryBuffer = new LogEntryBuffer();
+        d_logDirectory = Files.createTempDirectory("log_writer_test").toFile();
+        d_targetFile = new File(d_logDirectory, "test_log_file.log");
+    }
+
+    /**
+     * Removes the files written by the test case.
+     */
+    @After
+    public void afterTestCase() {
+        File[] l_files = d_logDirectory.listFiles();
+        if (l_files != null) {
+            for (File l_file : l_files) {
+                l_file.delete();
+            }
+        }
+        d_logDirectory.delete();
+    }
+
+    /**
+     * Tests that the capacity of the queue is rounded up to a power of two and the full queue does not take more
+     * messages.
+     */
+    @Test
+    public void testRingBufferCapacity() {
+        LogRingBuffer l_ringBuffer = new LogRingBuffer(5);
+        assertEquals(8, l_ringBuffer.getCapacity());
+        for (int l_index = 0; l_index < 8; l_index++) {
+            assertTrue(l_ringBuffer.offer("Message " + l_index));
+        }
+        assertFalse(l_ringBuffer.offer("Message 8"));
+        assertEquals(8, l_ringBuffer.size());
+
+        assertEquals("Message 0", l_ringBuffer.poll());
+        assertTrue(l_ringBuffer.offer("Message 8"));
+        for (int l_index = 1; l_index <= 8; l_index++) {
+            assertEquals("Message " + l_index, l_ringBuffer.poll());
+        }
+        assertNull(l_ringBuffer.poll());
+        assertTrue(l_ringBuffer.isEmpty());
+    }
+
+    /**
+     * Tests that all the messages are written in order when the logging threads wait for the full queue.
+     *
+     * @throws IOException If the file can not be read.
+     */
+    @Test
+    public void testBlockPolicyWritesAllMessages() throws IOException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 16, BackPressurePolicy.BLOCK, 256, 1000, LogRotationPolicy.NONE);
+        for (int l_index = 0; l_index < 5000; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Message " + l_index);
+        }
+        l_logWriter.flush();
+
+        List<String> l_lines = this.readLines();
+        assertEquals(5000, l_lines.size());
+        for (int l_index = 0; l_index < 5000; l_index++) {
+            assertEquals("Message " + l_index, l_lines.get(l_index));
+        }
+        assertEquals(0, l_logWriter.getDroppedMessageCount());
+        l_logWriter.close();
+    }
+
+    /**
+     * Tests that the logging threads waiting for space in the full queue are woken up by the writer, and every message
+     * is written.
+     *
+     * @throws IOException          If the file can not be read.
+     * @throws InterruptedException If the test is interrupted while waiting for the logging threads.
+     */
+    @Test(timeout = 30000)
+    public void testBlockPolicyWithManyThreads() throws IOException, InterruptedException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 16, BackPressurePolicy.BLOCK, 256, 1000, LogRotationPolicy.NONE);
+        List<Thread> l_threads = this.startLoggingThreads(l_logWriter, 4, 2000);
+        for (Thread l_thread : l_threads) {
+            l_thread.join();
+        }
+        l_logWriter.close();
+
+        assertEquals(8000, this.readLines().size());
+        assertEquals(0, l_logWriter.getDroppedMessageCount());
+    }
+
+    /**
+     * Tests that every message logged while the writer is being closed is either written or counted as dropped.
+     *
+     * @throws IOException          If the file can not be read.
+     * @throws InterruptedException If the test is interrupted while waiting for the logging threads.
+     */
+    @Test(timeout = 30000)
+    public void testCloseWhileLoggingAccountsForEveryMessage() throws IOException, InterruptedException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 16, BackPressurePolicy.BLOCK, 256, 1000, LogRotationPolicy.NONE);
+        List<Thread> l_threads = this.startLoggingThreads(l_logWriter, 4, 5000);
+        while (l_logWriter.getTargetFile().length() == 0) {
+            Thread.sleep(1);
+        }
+        l_logWriter.close();
+        for (Thread l_thread : l_threads) {
+            l_thread.join();
+        }
+
+        assertEquals(20000, this.readLines().size() + l_logWriter.getDroppedMessageCount());
+    }
+
+    /**
+     * Tests that every message is either written or counted as dropped when the full queue drops the messages.
+     *
+     * @throws IOException If the file can not be read.
+     */
+    @Test
+    public void testDropPolicyCountsDroppedMessages() throws IOException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 4, BackPressurePolicy.DROP, 256, 1000, LogRotationPolicy.NONE);
+        for (int l_index = 0; l_index < 5000; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Message " + l_index);
+        }
+        l_logWriter.close();
+
+        assertEquals(5000, this.readLines().size() + l_logWriter.getDroppedMessageCount());
+    }
+
+    /**
+     * Tests that closing the writer writes the remaining messages, and the messages logged after it are not written.
+     *
+     * @throws IOException If the file can not be read.
+     */
+    @Test
+    public void testCloseWritesRemainingMessages() throws IOException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 64, BackPressurePolicy.BLOCK, 1024 * 1024, 60 * 1000, LogRotationPolicy.NONE);
+        d_logEntryBuffer.dataChanged("test", "Before close");
+        l_logWriter.close();
+        l_logWriter.update(new LogEvent(System.currentTimeMillis(), LogEvent.NO_GAME_ID, 0, "test", LogLevel.INFO, "After close"));
+
+        List<String> l_lines = this.readLines();
+        assertEquals(1, l_lines.size());
+        assertEquals("Before close", l_lines.get(0));
+        assertEquals(1, l_logWriter.getDroppedMessageCount());
+    }
+
+    /**
+     * Tests that the header of the written message has the category, the time, the level, the id of the game and the
+     * index of the turn.
+     *
+     * @throws IOException If the file can not be read.
+     */
+    @Test
+    public void testMessageHeader() throws IOException {
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 64, BackPressurePolicy.BLOCK, 1024 * 1024, 60 * 1000, LogRotationPolicy.NONE);
+        l_logWriter.update(new LogEvent(1618079143511L, 3, 12, "advance", LogLevel.DEBUG, "Message"));
+        l_logWriter.close();
+
+        List<String> l_lines = Files.readAllLines(d_targetFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals("---advance--- 2021-04-10T18:25:43.511Z DEBUG game=3 turn=12", l_lines.get(0));
+        assertEquals("Message", l_lines.get(1));
+    }
+
+    /**
+     * Tests that the logging threads do not wait for the full queue once the file can not be written; the messages are
+     * dropped instead.
+     *
+     * @throws InterruptedException If the test is interrupted while waiting for the writer.
+     */
+    @Test(timeout = 10000)
+    public void testFailedWriterDoesNotBlock() throws InterruptedException {
+        // A directory can not be opened as the file, whatever the permissions of the user running the test.
+        assertTrue(d_targetFile.mkdir());
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 4, BackPressurePolicy.BLOCK, 256, 1000, LogRotationPolicy.NONE);
+        while (!l_logWriter.isFailed()) {
+            Thread.sleep(1);
+        }
+        for (int l_index = 0; l_index < 100; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Message " + l_index);
+        }
+        assertEquals(100, l_logWriter.getDroppedMessageCount());
+        l_logWriter.close();
+    }
+
+    /**
+     * Tests that the file is rotated by size, the rotated segments are compressed, and no message is lost.
+     *
+     * @throws IOException If the files can not be read.
+     */
+    @Test
+    public void testRotatedSegmentsAreCompressed() throws IOException {
+        LogRotationPolicy l_rotationPolicy = new LogRotationPolicy(1024, 0, true, 0);
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 64, BackPressurePolicy.BLOCK, 256, 1000, l_rotationPolicy);
+        for (int l_index = 0; l_index < 1000; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Message " + l_index);
+        }
+        l_logWriter.close();
+
+        File[] l_compressedFiles = d_logDirectory.listFiles((p_directory, p_name) -> p_name.endsWith(".log.gz"));
+        File[] l_rotatedFiles = d_logDirectory.listFiles((p_directory, p_name) -> p_name.matches("test_log_file\\.\\d+\\.log"));
+        assertTrue(l_compressedFiles.length > 1);
+        assertEquals(0, l_rotatedFiles.length);
+        assertTrue(d_targetFile.length() <= 1024);
+
+        // Segments in the order of their index, followed by the file being written.
+        Arrays.sort(l_compressedFiles, (p_first, p_second) -> Integer.compare(this.getSegmentIndex(p_first), this.getSegmentIndex(p_second)));
+        StringBuilder l_content = new StringBuilder();
+        for (File l_compressedFile : l_compressedFiles) {
+            l_content.append(this.readCompressed(l_compressedFile));
+        }
+        l_content.append(new String(Files.readAllBytes(d_targetFile.toPath()), StandardCharsets.UTF_8));
+        List<String> l_lines = this.filterMessages(Arrays.asList(l_content.toString().split("\n")));
+        assertEquals(1000, l_lines.size());
+        for (int l_index = 0; l_index < 1000; l_index++) {
+            assertEquals("Message " + l_index, l_lines.get(l_index));
+        }
+    }
+
+    /**
+     * Tests that the size of the segment is counted in bytes, so the messages having other than ASCII characters do not
+     * make the segment larger than its limit.
+     */
+    @Test
+    public void testSegmentSizeIsCountedInBytes() {
+        LogRotationPolicy l_rotationPolicy = new LogRotationPolicy(1024, 0, false, 0);
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 64, BackPressurePolicy.BLOCK, 256, 1000, l_rotationPolicy);
+        for (int l_index = 0; l_index < 500; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Côte d’Ivoire – Ελλάδα " + l_index);
+        }
+        l_logWriter.close();
+
+        File[] l_files = d_logDirectory.listFiles();
+        assertTrue(l_files.length > 1);
+        for (File l_file : l_files) {
+            assertTrue(l_file.getName() + " has " + l_file.length() + " bytes", l_file.length() <= 1024);
+        }
+    }
+
+    /**
+     * Tests that the oldest segments are deleted once all the segments take more than the maximum total size.
+     */
+    @Test
+    public void testOldestSegmentsAreDeleted() {
+        LogRotationPolicy l_rotationPolicy = new LogRotationPolicy(1024, 0, false, 4096);
+        LogWriter l_logWriter = new LogWriter(d_logEntryBuffer, d_targetFile, 64, BackPressurePolicy.BLOCK, 256, 1000, l_rotationPolicy);
+        for (int l_index = 0; l_index < 1000; l_index++) {
+            d_logEntryBuffer.dataChanged("test", "Message " + l_index);
+        }
+        l_logWriter.close();
+
+        long l_totalSize = 0;
+        int l_minimumIndex = Integer.MAX_VALUE;
+        for (File l_file : d_logDirectory.listFiles()) {
+            l_totalSize += l_file.length();
+            if (!l_file.equals(d_targetFile)) {
+                l_minimumIndex = Math.min(l_minimumIndex, this.getSegmentIndex(l_file));
+            }
+        }
+        assertTrue(l_totalSize <= 4096);
+        // The first segments have been deleted.
+        assertTrue(l_minimumIndex > 1);
+    }
+
+    /**
+     * Starts the threads which send the messages to the writer at once. The messages are sent to the writer directly,
+     * so they reach it also after it has been closed and detached from the buffer.
+     *
+     * @param p_logWriter        Writer of the messages.
+     * @param p_numberOfThreads  Number of the threads.
+     * @param p_numberOfMessages Number of the messages logged by each thread.
+     * @return Value of the started threads.
+     */
+    private List<Thread> startLoggingThreads(LogWriter p_logWriter, int p_numberOfThreads, int p_numberOfMessages) {
+        List<Thread> l_threads = new ArrayList<>();
+        for (int l_threadIndex = 0; l_threadIndex < p_numberOfThreads; l_threadIndex++) {
+            Thread l_thread = new Thread(() -> {
+                for (int l_index = 0; l_index < p_numberOfMessages; l_index++) {
+                    p_logWriter.update(new LogEvent(System.currentTimeMillis(), LogEvent.NO_GAME_ID, 0, "test", LogLevel.INFO, "Message " + l_index));
+                }
+            });
+            l_threads.add(l_thread);
+            l_thread.start();
+        }
+        return l_threads;
+    }
+
+    /**
+     * Reads the messages written to the file, ignoring the headers of the messages and the empty lines.
+     *
+     * @return Value of the lines.
+     * @throws IOException If the file can not be read.
+     */
+    private List<String> readLines() throws IOException {
+        return this.filterMessages(Files.readAllLines(d_targetFile.toPath(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Removes the headers of the messages and the empty lines.
+     *
+     * @param p_lines Lines of the file.
+     * @return Value of the lines having the messages.
+     */
+    private List<String> filterMessages(List<String> p_lines) {
+        List<String> l_lines = new ArrayList<>();
+        for (String l_line : p_lines) {
+            if (!l_line.isEmpty() && !l_line.startsWith("---")) {
+                l_lines.add(l_line);
+            }
+        }
+        return l_lines;
+    }
+
+    /**
+     * Reads the content of the compressed segment.
+     *
+     * @param p_compressedFile Compressed segment.
+     * @return Value of the content.
+     * @throws IOException If the file can not be read.
+     */
+    private String readCompressed(File p_compressedFile) throws IOException {
+        try (InputStream l_inputStream = new GZIPInputStream(new FileInputStream(p_compressedFile))) {
+            ByteArrayOutputStream l_outputStream = new ByteArrayOutputStream();
+            byte[] l_buffer = new byte[4096];
+            int l_length;
+            while ((l_length = l_inputStream.read(l_buffer)) > 0) {
+                l_outputStream.write(l_buffer, 0, l_length);
+            }
+            return new String(l_outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Gets the index of the rotated segment from its name, <code>test_log_file.&lt;index&gt;.log</code>.
+     *
+     * @param p_segmentFile Rotated segment.
+     * @return Value of the index.
+     */
+    private int getSegmentIndex(File p_segmentFile) {
+        return Integer.parseInt(p_segmentFile.getName().split("\\.")[1]);
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.runners.Suite;
         CountryServiceTest.class,
         CountryNeighborServiceTest.class,
         SaveMapServiceTest.class,
-        EditConquestMapServiceTest.class
+        EditConquestMapServiceTest.class,
+        MapTemplateCacheTest.class,
+        MapGraphTest.class
 })
 public class MapEditorTestSuite {
     // This class remains empty, it is used only as a holder for the above annotations
@@ -0,0 +1,103 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.map_editor.services.CountryNeighborService;
+import com.warzone.team08.VM.map_editor.services.EditMapService;
+import com.warzone.team08.VM.repositories.CountryRepository;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class tests the graph of the borders compiled from the loaded map.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+public class MapGraphTest {
+    private static final Application d_Application = new Application();
+    private static String d_TestMapPath;
+    private MapEditorEngine d_mapEditorEngine;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_TestMapPath = MapGraphTest.class.getClassLoader().getResource("test_map_files/test_map.map").toURI().getPath();
+    }
+
+    /**
+     * Re-initializes the virtual machine and loads the map before test case run.
+     *
+     * @throws VMException If any exception while loading the map.
+     */
+    @Before
+    public void beforeTestCase() throws VMException {
+        VirtualMachine.getInstance().initialise();
+        new EditMapService().handleLoadMap(d_TestMapPath);
+        d_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
+    }
+
+    /**
+     * Tests that the graph has the same countries, continents and borders as the loaded map.
+     */
+    @Test
+    public void testGraphMatchesMap() {
+        MapGraph l_mapGraph = d_mapEditorEngine.getMapGraph();
+        List<Country> l_countryList = d_mapEditorEngine.getCountryList();
+        assertSame(l_mapGraph, d_mapEditorEngine.getMapGraph());
+        assertEquals(l_countryList.size(), l_mapGraph.getNumberOfCountries());
+        assertEquals(d_mapEditorEngine.getContinentList().size(), l_mapGraph.getNumberOfContinents());
+
+        int l_numberOfEdges = 0;
+        for (int l_countryIndex = 0; l_countryIndex < l_countryList.size(); l_countryIndex++) {
+            Country l_country = l_countryList.get(l_countryIndex);
+            assertSame(l_country, l_mapGraph.getCountry(l_countryIndex));
+            assertEquals(l_countryIndex, l_mapGraph.indexOf(l_country));
+            assertSame(l_country.getContinent(), l_mapGraph.getContinent(l_mapGraph.getContinentIndex(l_countryIndex)));
+            assertEquals(l_country.getNeighbourCountries().size(), l_mapGraph.getDegree(l_countryIndex));
+            for (int l_position = l_mapGraph.getNeighbourStart(l_countryIndex); l_position < l_mapGraph.getNeighbourEnd(l_countryIndex); l_position++) {
+                Country l_neighbourCountry = l_mapGraph.getCountry(l_mapGraph.getNeighbourIndex(l_position));
+                assertTrue(l_country.getNeighbourCountries().contains(l_neighbourCountry));
+                assertTrue(l_mapGraph.isNeighbour(l_country, l_neighbourCountry));
+            }
+            for (int l_position = l_mapGraph.getIncomingNeighbourStart(l_countryIndex); l_position < l_mapGraph.getIncomingNeighbourEnd(l_countryIndex); l_position++) {
+                assertTrue(l_mapGraph.isNeighbour(l_mapGraph.getIncomingNeighbourIndex(l_position), l_countryIndex));
+            }
+            l_numberOfEdges += l_mapGraph.getDegree(l_countryIndex);
+        }
+        assertEquals(l_numberOfEdges, l_mapGraph.getNumberOfEdges());
+        // None of the countries 1 to 7 borders the countries 8 to 10.
+        assertFalse(l_mapGraph.isStronglyConnected());
+    }
+
+    /**
+     * Tests that the graph is compiled again after a neighbour has been added.
+     *
+     * @throws VMException If the country is not found.
+     */
+    @Test
+    public void testGraphIsCompiledAfterEdit() throws VMException {
+        CountryRepository l_countryRepository = new CountryRepository(VirtualMachine.getGameEngine().getMapEditorEngine());
+        Country l_mercurySouth = l_countryRepository.findFirstByCountryName("Mercury-South");
+        Country l_earthAtlantic = l_countryRepository.findFirstByCountryName("Earth-Atlantic");
+        MapGraph l_mapGraph = d_mapEditorEngine.getMapGraph();
+        assertFalse(l_mapGraph.isNeighbour(l_mercurySouth, l_earthAtlantic));
+
+        new CountryNeighborService().add("Mercury-South", "Earth-Atlantic");
+        assertNotSame(l_mapGraph, d_mapEditorEngine.getMapGraph());
+        assertTrue(d_mapEditorEngine.getMapGraph().isNeighbour(l_mercurySouth, l_earthAtlantic));
+    }
+}
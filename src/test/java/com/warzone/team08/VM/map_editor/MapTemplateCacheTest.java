@@ -0,0 +1,237 @@
+package com.warzone.team08.VM.map_editor;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.map_editor.services.EditMapService;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * This class tests the games created using the cached map templates.
+ *
+ * @author CHARIT
+ * @version 1.0
+ */
+public class MapTemplateCacheTest {
+    private static final Application d_Application = new Application();
+    private static String d_EarthMapPath;
+    private static String d_TestMapPath;
+    private MapTemplateCache d_mapTemplateCache;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_EarthMapPath = MapTemplateCacheTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+        d_TestMapPath = MapTemplateCacheTest.class.getClassLoader().getResource("test_map_files/test_map.map").toURI().getPath();
+    }
+
+    /**
+     * Re-initializes the virtual machine and creates a new cache before test case run.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+        d_mapTemplateCache = new MapTemplateCache(1);
+    }
+
+    /**
+     * Tests that the map loaded using the template is the same as the map loaded using the file, and the games sharing
+     * the template have their own state of the countries.
+     *
+     * @throws VMException If any exception while loading the map.
+     */
+    @Test
+    public void testLoadInto() throws VMException {
+        GameEngine l_parsedGame = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        new EditMapService(l_parsedGame).handleLoadMap(d_EarthMapPath, false);
+
+        GameEngine l_firstGame = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        GameEngine l_secondGame = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        d_mapTemplateCache.loadInto(d_EarthMapPath, l_firstGame);
+        d_mapTemplateCache.loadInto(d_EarthMapPath, l_secondGame);
+
+        MapEditorEngine l_expectedEngine = l_parsedGame.getMapEditorEngine();
+        MapEditorEngine l_actualEngine = l_firstGame.getMapEditorEngine();
+        assertEquals(l_expectedEngine.getContinentCountryMap(), l_actualEngine.getContinentCountryMap());
+        assertEquals(l_expectedEngine.getCountryNeighbourMap(), l_actualEngine.getCountryNeighbourMap());
+
+        // Both games share the same countries, but each game has its own state.
+        List<Country> l_firstCountries = l_firstGame.getMapEditorEngine().getCountryList();
+        List<Country> l_secondCountries = l_secondGame.getMapEditorEngine().getCountryList();
+        assertSame(l_firstCountries, l_secondCountries);
+        l_firstCountries.get(0).setNumberOfArmies(10, l_firstGame);
+        assertEquals(0, l_secondCountries.get(0).getNumberOfArmies(l_secondGame));
+        assertEquals(10, l_firstCountries.get(0).getNumberOfArmies(l_firstGame));
+    }
+
+    /**
+     * Tests that the state of the country shared by the games can only be used through a game having the map of the
+     * country.
+     *
+     * @throws VMException If any exception while loading the map.
+     */
+    @Test
+    public void testSharedCountryState() throws VMException {
+        GameEngine l_earthGame = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        GameEngine l_testGame = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        d_mapTemplateCache.loadInto(d_EarthMapPath, l_earthGame);
+        d_mapTemplateCache.loadInto(d_TestMapPath, l_testGame);
+        Country l_earthCountry = l_earthGame.getMapEditorEngine().getCountryList().get(0);
+        Country l_testCountry = l_testGame.getMapEditorEngine().getCountryList().get(0);
+        l_earthCountry.setNumberOfArmies(7, l_earthGame);
+        l_testCountry.setNumberOfArmies(3, l_testGame);
+
+        try {
+            l_earthCountry.getNumberOfArmies();
+            fail("State of the shared country has been read without a game.");
+        } catch (IllegalStateException p_illegalStateException) {
+            // The state of the country is not read from the engine of the virtual machine.
+        }
+        try {
+            l_earthCountry.setNumberOfArmies(3);
+            fail("State of the shared country has been written without a game.");
+        } catch (IllegalStateException p_illegalStateException) {
+            // The state of the country is not written to the engine of the virtual machine.
+        }
+        try {
+            l_earthCountry.getNumberOfArmies(l_testGame);
+            fail("State of the country has been read from the game of another map.");
+        } catch (IllegalStateException p_illegalStateException) {
+            // The state of the country at the same index of the other map is not read.
+        }
+        try {
+            l_testCountry.setOwnedBy(null, l_earthGame);
+            fail("State of the country has been written to the game of another map.");
+        } catch (IllegalStateException p_illegalStateException) {
+            // The state of the country at the same index of the other map is not written.
+        }
+        assertEquals(7, l_earthCountry.getNumberOfArmies(l_earthGame));
+        assertEquals(3, l_testCountry.getNumberOfArmies(l_testGame));
+    }
+
+    /**
+     * Tests that the entities of the template and the map of the games sharing them can not be modified.
+     *
+     * @throws VMException If any exception while loading the map.
+     */
+    @Test
+    public void testTemplateIsUnmodifiable() throws VMException {
+        GameEngine l_game = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        d_mapTemplateCache.loadInto(d_EarthMapPath, l_game);
+        MapEditorEngine l_mapEditorEngine = l_game.getMapEditorEngine();
+        Continent l_continent = l_mapEditorEngine.getContinentList().get(0);
+        Country l_country = l_continent.getCountryList().get(0);
+        Country l_otherCountry = new Country(100, -1);
+
+        List<Runnable> l_modifications = Arrays.asList(
+                () -> l_continent.setContinentName("Renamed"),
+                () -> l_continent.addCountry(l_otherCountry),
+                () -> l_continent.getCountryList().clear(),
+                () -> l_country.setCountryName("Renamed"),
+                () -> l_country.addNeighbourCountry(l_otherCountry),
+                () -> l_otherCountry.addNeighbourCountry(l_country),
+                () -> l_country.getNeighbourCountries().clear(),
+                () -> l_mapEditorEngine.addContinent(new Continent(100)),
+                () -> l_mapEditorEngine.removeCountry(l_country),
+                () -> l_mapEditorEngine.getContinentList().clear());
+        for (Runnable l_modification : l_modifications) {
+            try {
+                l_modification.run();
+                fail("Shared map has been modified.");
+            } catch (UnsupportedOperationException p_unsupportedOperationException) {
+                // The other games sharing the map are not affected.
+            }
+        }
+        assertTrue(l_otherCountry.getNeighbourCountries().isEmpty());
+        assertSame(l_country, l_mapEditorEngine.findCountryByName(l_country.getCountryName()));
+
+        // The map can be loaded again using the file.
+        l_mapEditorEngine.initialise();
+        l_mapEditorEngine.addContinent(new Continent(1));
+        assertEquals(1, l_mapEditorEngine.getContinentList().size());
+    }
+
+    /**
+     * Tests that the template is parsed once and the least recently used template is evicted.
+     *
+     * @throws VMException If any exception while loading the map.
+     */
+    @Test
+    public void testCacheEviction() throws VMException {
+        MapTemplate l_earthTemplate = d_mapTemplateCache.get(d_EarthMapPath);
+        assertSame(l_earthTemplate, d_mapTemplateCache.get(d_EarthMapPath));
+
+        d_mapTemplateCache.get(d_TestMapPath);
+        assertEquals(1, d_mapTemplateCache.size());
+        assertNotSame(l_earthTemplate, d_mapTemplateCache.get(d_EarthMapPath));
+    }
+
+    /**
+     * Tests that the threads asking for the same file at once get the same template, parsed once.
+     *
+     * @throws Exception If any exception while loading the map or waiting for the threads.
+     */
+    @Test
+    public void testConcurrentGetParsesOnce() throws Exception {
+        d_mapTemplateCache.setMaximumSize(2);
+        int l_numberOfThreads = 8;
+        ExecutorService l_executor = Executors.newFixedThreadPool(l_numberOfThreads);
+        try {
+            CountDownLatch l_startLatch = new CountDownLatch(1);
+            List<Future<MapTemplate>> l_futures = new ArrayList<>();
+            for (int l_threadIndex = 0; l_threadIndex < l_numberOfThreads; l_threadIndex++) {
+                String l_mapPath = l_threadIndex % 2 == 0 ? d_EarthMapPath : d_TestMapPath;
+                l_futures.add(l_executor.submit(() -> {
+                    l_startLatch.await();
+                    return d_mapTemplateCache.get(l_mapPath);
+                }));
+            }
+            l_startLatch.countDown();
+            for (int l_threadIndex = 0; l_threadIndex < l_numberOfThreads; l_threadIndex++) {
+                assertSame(l_futures.get(l_threadIndex % 2).get(), l_futures.get(l_threadIndex).get());
+            }
+            assertNotSame(l_futures.get(0).get(), l_futures.get(1).get());
+            assertEquals(2, d_mapTemplateCache.size());
+        } finally {
+            l_executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a file which can not be parsed is not cached.
+     */
+    @Test
+    public void testFailedParseIsNotCached() {
+        String l_missingMapPath = d_EarthMapPath + ".missing";
+        for (int l_attempt = 0; l_attempt < 2; l_attempt++) {
+            try {
+                d_mapTemplateCache.get(l_missingMapPath);
+                fail("The missing map file has been parsed.");
+            } catch (VMException p_vmException) {
+                assertEquals(0, d_mapTemplateCache.size());
+            }
+        }
+    }
+}
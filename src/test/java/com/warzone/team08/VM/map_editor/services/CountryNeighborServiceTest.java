@@ -2,8 +2,11 @@ package com.warzone.team08.VM.map_editor.services;
 
 import com.warzone.team08.Application;
 import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.EntityNotFoundException;
 import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.repositories.CountryRepository;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -12,7 +15,11 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * This class tests the add and remove operations of neighbours of the country.
@@ -84,4 +91,48 @@ public class CountryNeighborServiceTest {
 
         assertNotNull(l_removeResponse);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests whether the country list and the map of the neighbours are created once, and the map of the neighbours is
+     * created again after the neighbour has been added.
+     *
+     * @throws EntityNotFoundException Throws if data tag is absent in map file.
+     */
+    @Test
+    public void testNeighbourMapIsUpdated() throws EntityNotFoundException {
+        MapEditorEngine l_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
+        assertSame(l_mapEditorEngine.getCountryList(), l_mapEditorEngine.getCountryList());
+        assertSame(l_mapEditorEngine.getCountryNeighbourMap(), l_mapEditorEngine.getCountryNeighbourMap());
+        assertFalse(l_mapEditorEngine.getCountryNeighbourMap().get(1).contains(10));
+
+        d_CountryNeighbourService.add("Mercury-South", "Earth-Atlantic");
+        assertTrue(l_mapEditorEngine.getCountryNeighbourMap().get(1).contains(10));
+    }
+
+    /**
+     * Tests whether the countries bordering a country are kept while the neighbours are loaded, added and removed.
+     *
+     * @throws EntityNotFoundException Throws if data tag is absent in map file.
+     */
+    @Test
+    public void testIncomingNeighboursAreUpdated() throws EntityNotFoundException {
+        MapEditorEngine l_mapEditorEngine = VirtualMachine.getGameEngine().getMapEditorEngine();
+        CountryRepository l_countryRepository = new CountryRepository(VirtualMachine.getGameEngine().getMapEditorEngine());
+        // The loaded map has the same edges in both the directions.
+        for (Country l_country : l_mapEditorEngine.getCountryList()) {
+            for (Country l_neighbourCountry : l_country.getNeighbourCountries()) {
+                assertTrue(l_countryRepository.findByNeighbourOfCountries(l_neighbourCountry).contains(l_country));
+            }
+        }
+        Country l_mercurySouth = l_countryRepository.findFirstByCountryName("Mercury-South");
+        Country l_earthAtlantic = l_countryRepository.findFirstByCountryName("Earth-Atlantic");
+        int l_numberOfNeighbours = l_mercurySouth.getNeighbourCountries().size();
+
+        d_CountryNeighbourService.add("Mercury-South", "Earth-Atlantic");
+        assertTrue(l_countryRepository.findByNeighbourOfCountries(l_earthAtlantic).contains(l_mercurySouth));
+
+        d_CountryNeighbourService.remove("Mercury-South", "Earth-Atlantic");
+        assertFalse(l_countryRepository.findByNeighbourOfCountries(l_earthAtlantic).contains(l_mercurySouth));
+        assertEquals(l_numberOfNeighbours, l_mercurySouth.getNeighbourCountries().size());
+    }
+}
@@ -3,7 +3,9 @@ package com.warzone.team08.VM.map_editor.services;
 import com.warzone.team08.Application;
 import com.warzone.team08.VM.VirtualMachine;
 import com.warzone.team08.VM.entities.Continent;
+import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.*;
+import com.warzone.team08.VM.repositories.CountryRepository;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -14,6 +16,9 @@ import java.net.URL;
 import java.util.List;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * This class tests the add and remove operations on country.
@@ -84,4 +89,23 @@ public class CountryServiceTest {
         String l_responseStringRemoveOp = d_CountryService.remove("India");
         assertNotNull(l_responseStringRemoveOp);
     }
+
+    /**
+     * Tests whether the repository finds the added country by its name and ID, and does not find it once it has been
+     * removed.
+     *
+     * @throws EntityNotFoundException Throws if name of the continent which doesn't exists is provided.
+     */
+    @Test
+    public void testRepositoryFindsAddedCountry() throws EntityNotFoundException {
+        CountryRepository l_countryRepository = new CountryRepository(VirtualMachine.getGameEngine().getMapEditorEngine());
+        d_CountryService.add("India", d_continentList.get(0).getContinentName());
+        Country l_country = l_countryRepository.findFirstByCountryName("India");
+        assertSame(d_continentList.get(0), l_country.getContinent());
+        assertSame(l_country, l_countryRepository.findByCountryId(l_country.getCountryId()));
+
+        d_CountryService.remove("India");
+        assertTrue(l_countryRepository.findByCountryName("India").isEmpty());
+        assertNull(l_countryRepository.findByCountryId(l_country.getCountryId()));
+    }
 }
\ No newline at end of file
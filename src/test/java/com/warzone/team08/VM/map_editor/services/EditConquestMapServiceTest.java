@@ -1,15 +1,24 @@
 package com.warzone.team08.VM.map_editor.services;
 
 import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
 import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.entities.Country;
 import com.warzone.team08.VM.exceptions.AbsentTagException;
 import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.net.URI;
 import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 
 /**
@@ -70,4 +79,27 @@ public class EditConquestMapServiceTest {
         String l_url = new URI(d_testCorrectFilePath.getPath()).getPath();
         d_editConquestMapService.loadConquestMap(l_url);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the map is loaded into the engine of the given game, and the countries get their ids from that
+     * engine.
+     *
+     * @throws Exception If the map can not be loaded.
+     */
+    @Test
+    public void testLoadIntoGivenGame() throws Exception {
+        VirtualMachine.getGameEngine().getMapEditorEngine().initialise();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), new GamePlayEngine());
+        String l_url = new URI(d_testCorrectFilePath.getPath()).getPath();
+        new EditConquestMapService(l_gameEngine).loadConquestMap(l_url, false);
+
+        List<Country> l_countryList = l_gameEngine.getMapEditorEngine().getCountryList();
+        assertFalse(l_countryList.isEmpty());
+        Set<Integer> l_countryIds = new HashSet<>();
+        for (Country l_country : l_countryList) {
+            l_countryIds.add(l_country.getCountryId());
+        }
+        assertEquals(l_countryList.size(), l_countryIds.size());
+        assertEquals(0, VirtualMachine.getGameEngine().getMapEditorEngine().getCountryList().size());
+    }
+}
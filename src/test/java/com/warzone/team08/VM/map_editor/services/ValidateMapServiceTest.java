@@ -13,6 +13,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 /**
@@ -97,4 +98,23 @@ public class ValidateMapServiceTest {
         String l_actualValue = d_validateMapService.execute(null);
         assertEquals(l_actualValue, "Map validation passed successfully!");
     }
-}
\ No newline at end of file
+
+    /**
+     * Continent validation - a continent without any country is not a connected sub-graph.
+     *
+     * @throws URISyntaxException If the provided path had invalid characters.
+     * @throws VMException        If there was an exception while loading the file.
+     */
+    @Test
+    public void testEmptyContinentIsNotConnectedSubGraph() throws VMException, URISyntaxException {
+        // In Windows, URL will create %20 for space. To avoid, use the below logic.
+        d_testFilePath = getClass().getClassLoader().getResource("map_files/solar.map");
+
+        assertNotNull(d_testFilePath);
+        String l_url = new URI(d_testFilePath.getPath()).getPath();
+        d_editMapService.handleLoadMap(l_url);
+        new ContinentService().add("Empty_Continent", "1");
+
+        assertFalse(d_validateMapService.isContinentConnectedSubgraph());
+    }
+}
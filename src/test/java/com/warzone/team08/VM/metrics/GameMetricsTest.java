@@ -0,0 +1,167 @@
+package com.warzone.team08.VM.metrics;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.constants.enums.OrderType;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GameLoop;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import com.warzone.team08.VM.phases.Execute;
+import com.warzone.team08.VM.phases.IssueOrder;
+import com.warzone.team08.VM.phases.PlaySetup;
+import com.warzone.team08.VM.phases.Reinforcement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class tests the timing metrics of the games.
+ *
+ * @author MILESH
+ * @version 1.0
+ */
+public class GameMetricsTest {
+    private static final Application d_Application = new Application();
+    private static String d_MapFilePath;
+    private GameMetrics d_gameMetrics;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_MapFilePath = GameMetricsTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+    }
+
+    /**
+     * Re-initializes the virtual machine and removes the metrics recorded by the other test cases.
+     */
+    @Before
+    public void beforeTestCase() {
+        VirtualMachine.getInstance().initialise();
+        d_gameMetrics = GameMetrics.getInstance();
+        d_gameMetrics.reset();
+    }
+
+    /**
+     * Turns the metrics off, as they are shared by all the games.
+     */
+    @After
+    public void afterTestCase() {
+        GameMetrics.setEnabled(false);
+        d_gameMetrics.reset();
+    }
+
+    /**
+     * Tests that the percentiles of the histogram are within the precision of the buckets.
+     */
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram l_histogram = new LatencyHistogram();
+        for (long l_value = 1; l_value <= 1000; l_value++) {
+            l_histogram.recordValue(l_value * 1000);
+        }
+        assertEquals(1000, l_histogram.getTotalCount());
+        assertEquals(500500, l_histogram.getMean(), 0.001);
+        assertEquals(1000000, l_histogram.getMaxValue());
+        assertWithinPrecision(500000, l_histogram.getValueAtPercentile(50));
+        assertWithinPrecision(990000, l_histogram.getValueAtPercentile(99));
+        assertEquals(1000000, l_histogram.getValueAtPercentile(100));
+
+        l_histogram.reset();
+        assertEquals(0, l_histogram.getTotalCount());
+        assertEquals(0, l_histogram.getValueAtPercentile(50));
+    }
+
+    /**
+     * Tests that the turns, the phases, the orders and the strategies of a game are recorded.
+     *
+     * @throws VMException If any exception while playing the game.
+     */
+    @Test
+    public void testGameIsRecorded() throws VMException {
+        GameMetrics.setEnabled(true);
+        this.playGame(5);
+
+        // The game is over after the turn whose execution index is more than the maximum; the first index is zero.
+        long l_numberOfTurns = d_gameMetrics.getTurnHistogram().getTotalCount();
+        assertEquals(6, l_numberOfTurns);
+        assertEquals(l_numberOfTurns, d_gameMetrics.getPhaseHistogram(Reinforcement.class).getTotalCount());
+        assertEquals(l_numberOfTurns, d_gameMetrics.getPhaseHistogram(IssueOrder.class).getTotalCount());
+        assertEquals(l_numberOfTurns, d_gameMetrics.getPhaseHistogram(Execute.class).getTotalCount());
+        assertTrue(d_gameMetrics.getOrderHistogram(OrderType.deploy).getTotalCount() > 0);
+        assertTrue(d_gameMetrics.getStrategyHistogram(StrategyType.BENEVOLENT).getTotalCount() > 0);
+        assertTrue(d_gameMetrics.toTable().contains("Order: deploy"));
+    }
+
+    /**
+     * Tests that nothing is recorded while the metrics are turned off.
+     *
+     * @throws VMException If any exception while playing the game.
+     */
+    @Test
+    public void testNothingIsRecordedWhenDisabled() throws VMException {
+        this.playGame(5);
+
+        assertEquals(0, d_gameMetrics.getTurnHistogram().getTotalCount());
+        assertNull(d_gameMetrics.getPhaseHistogram(Reinforcement.class));
+        assertEquals(0, d_gameMetrics.getOrderHistogram(OrderType.deploy).getTotalCount());
+        assertEquals(0, d_gameMetrics.getStrategyHistogram(StrategyType.BENEVOLENT).getTotalCount());
+    }
+
+    /**
+     * Asserts that the value of the percentile is not less than the expected value, and not more than the precision of
+     * the bucket above it.
+     *
+     * @param p_expected Expected value.
+     * @param p_actual   Value of the percentile.
+     */
+    private static void assertWithinPrecision(long p_expected, long p_actual) {
+        assertTrue(String.valueOf(p_actual), p_actual >= p_expected && p_actual <= p_expected + p_expected / 16);
+    }
+
+    /**
+     * Plays the game of two benevolent players until the maximum number of turns.
+     *
+     * @param p_maxNumberOfTurns Maximum number of turns of the game.
+     * @throws VMException If any exception while preparing the game.
+     */
+    private void playGame(int p_maxNumberOfTurns) throws VMException {
+        GamePlayEngine l_gamePlayEngine = new GamePlayEngine();
+        GameEngine l_gameEngine = new GameEngine(new MapEditorEngine(), l_gamePlayEngine);
+        l_gameEngine.setMaxNumberOfTurns(p_maxNumberOfTurns);
+        l_gameEngine.setRandom(new SplittableRandom(3));
+        VirtualMachine.bindGameEngine(l_gameEngine);
+        try {
+            MapTemplateCache.getInstance().loadInto(d_MapFilePath, l_gameEngine);
+            l_gamePlayEngine.addPlayer(new Player("Player_1", StrategyType.BENEVOLENT));
+            l_gamePlayEngine.addPlayer(new Player("Player_2", StrategyType.BENEVOLENT));
+            for (Player l_player : l_gamePlayEngine.getPlayerList()) {
+                l_player.setRandom(l_gameEngine.getRandom().split());
+            }
+            new DistributeCountriesService(l_gameEngine).execute(new ArrayList<>());
+            l_gameEngine.setGamePhase(new PlaySetup(l_gameEngine));
+            new GameLoop(l_gamePlayEngine).run();
+        } finally {
+            VirtualMachine.unbindGameEngine();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.warzone.team08.VM.simulation;
+
+import com.warzone.team08.Application;
+import com.warzone.team08.VM.GameEngine;
+import com.warzone.team08.VM.VirtualMachine;
+import com.warzone.team08.VM.common.services.CardService;
+import com.warzone.team08.VM.constants.enums.CardType;
+import com.warzone.team08.VM.constants.enums.StrategyType;
+import com.warzone.team08.VM.constants.interfaces.Card;
+import com.warzone.team08.VM.constants.interfaces.Order;
+import com.warzone.team08.VM.entities.Country;
+import com.warzone.team08.VM.entities.Player;
+import com.warzone.team08.VM.entities.orders.*;
+import com.warzone.team08.VM.exceptions.VMException;
+import com.warzone.team08.VM.game_play.GamePlayEngine;
+import com.warzone.team08.VM.game_play.services.AssignReinforcementService;
+import com.warzone.team08.VM.game_play.services.DistributeCountriesService;
+import com.warzone.team08.VM.game_play.services.ExecuteOrderService;
+import com.warzone.team08.VM.map_editor.MapEditorEngine;
+import com.warzone.team08.VM.map_editor.MapGraph;
+import com.warzone.team08.VM.map_editor.MapTemplateCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * This class tests that the simulation core plays the same game as the <code>Order</code> objects.
+ *
+ * @author Deep Patel
+ * @version 1.0
+ */
+public class SimulationEngineTest {
+    private static final Application d_Application = new Application();
+    private static String d_MapFilePath;
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int NUMBER_OF_TURNS = 25;
+    private GameEngine d_gameEngine;
+    private GamePlayEngine d_gamePlayEngine;
+    private MapGraph d_mapGraph;
+
+    /**
+     * Runs before the test case class runs; Initializes different objects required to perform test.
+     *
+     * @throws URISyntaxException If any path to file is not valid.
+     */
+    @BeforeClass
+    public static void beforeClass() throws URISyntaxException {
+        d_Application.handleApplicationStartup();
+        d_MapFilePath = SimulationEngineTest.class.getClassLoader().getResource("test_map_files/test_earth.map").toURI().getPath();
+    }
+
+    /**
+     * Creates the game of three players and distributes the countries.
+     *
+     * @throws VMException If any exception while preparing the game.
+     */
+    @Before
+    public void beforeTestCase() throws VMException {
+        VirtualMachine.getInstance().initialise();
+        d_gamePlayEngine = new GamePlayEngine();
+        d_gameEngine = new GameEngine(new MapEditorEngine(), d_gamePlayEngine);
+        d_gameEngine.setRandom(new SplittableRandom(11));
+        VirtualMachine.bindGameEngine(d_gameEngine);
+        MapTemplateCache.getInstance().loadInto(d_MapFilePath, d_gameEngine);
+        for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+            Player l_player = new Player("Player_" + (l_playerIndex + 1), StrategyType.HUMAN);
+            d_gamePlayEngine.addPlayer(l_player);
+            l_player.setRandom(new SplittableRandom(l_playerIndex));
+        }
+        new DistributeCountriesService(d_gameEngine).execute(new ArrayList<>());
+        d_mapGraph = d_gameEngine.getMapEditorEngine().getMapGraph();
+    }
+
+    /**
+     * Unbinds the game from the thread.
+     */
+    @After
+    public void afterTestCase() {
+        VirtualMachine.unbindGameEngine();
+    }
+
+    /**
+     * Tests that simulating the converted state does not draw from the random number generators of the players.
+     *
+     * @throws VMException If the game can not be converted.
+     */
+    @Test
+    public void testStateDoesNotShareGenerators() throws VMException {
+        SimulationState l_state = SimulationState.fromGameEngine(d_gameEngine);
+        for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+            Player l_player = d_gamePlayEngine.getPlayerList().get(l_playerIndex);
+            assertNotSame(l_player.getRandom(), l_state.getRandom(l_playerIndex));
+
+            SplittableRandom l_expectedRandom = new SplittableRandom(l_playerIndex);
+            l_expectedRandom.split();
+            l_state.getRandom(l_playerIndex).nextInt();
+            assertEquals(l_expectedRandom.nextInt(), l_player.getRandom().nextInt());
+        }
+    }
+
+    /**
+     * Tests that random orders, valid or not, change the simulation state the same way as they change the game.
+     *
+     * @throws VMException If any exception while creating or executing the orders.
+     */
+    @Test
+    public void testTurnsMatchOrderObjects() throws VMException {
+        SimulationState l_state = SimulationState.fromGameEngine(d_gameEngine);
+        for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+            // Draws the same cards as the player, whose generator has been split once by the conversion.
+            SplittableRandom l_playerRandom = new SplittableRandom(l_playerIndex);
+            l_playerRandom.split();
+            l_state.setRandom(l_playerIndex, l_playerRandom);
+        }
+        SimulationEngine l_simulationEngine = new SimulationEngine(l_state);
+        SplittableRandom l_random = new SplittableRandom(42);
+        assertStateMatchesGame(l_state);
+
+        for (int l_turn = 0; l_turn < NUMBER_OF_TURNS; l_turn++) {
+            new AssignReinforcementService(d_gameEngine).execute();
+            l_simulationEngine.assignReinforcements();
+            long[][] l_ordersOfPlayers = this.issueRandomOrders(l_state, l_random);
+            new ExecuteOrderService(d_gameEngine).execute();
+            d_gamePlayEngine.incrementExecutionIndex();
+            l_simulationEngine.executeTurn(l_ordersOfPlayers);
+            assertStateMatchesGame(l_state);
+        }
+    }
+
+    /**
+     * Tests that the state simulated for a few turns is written back to the game.
+     *
+     * @throws VMException If any exception while converting the game.
+     */
+    @Test
+    public void testStateIsAppliedToGame() throws VMException {
+        SimulationState l_state = SimulationState.fromGameEngine(d_gameEngine);
+        SimulationEngine l_simulationEngine = new SimulationEngine(l_state);
+        SplittableRandom l_random = new SplittableRandom(7);
+        for (int l_turn = 0; l_turn < NUMBER_OF_TURNS; l_turn++) {
+            l_simulationEngine.assignReinforcements();
+            long[][] l_ordersOfPlayers = new long[NUMBER_OF_PLAYERS][];
+            for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+                l_state.addCard(l_playerIndex, CardService.randomCardType(l_random));
+                l_ordersOfPlayers[l_playerIndex] = this.randomOrders(l_state, l_playerIndex, l_random);
+            }
+            l_simulationEngine.executeTurn(l_ordersOfPlayers);
+        }
+
+        l_state.applyTo(d_gameEngine);
+        assertStateMatchesGame(l_state);
+        assertEquals(l_state.getNumberOfFutureOrders(), d_gamePlayEngine.getFutureOrders().size());
+        SimulationState l_convertedState = SimulationState.fromGameEngine(d_gameEngine);
+        assertStateMatchesGame(l_convertedState);
+        assertEquals(l_state.getNumberOfFutureOrders(), l_convertedState.getNumberOfFutureOrders());
+    }
+
+    /**
+     * Issues the same random orders to the players of the game and to the simulation. Each player is given a random
+     * card first, so the orders which require cards can be executed.
+     *
+     * @param p_state  State of the simulation.
+     * @param p_random Generator of the orders.
+     * @return Value of the orders of each player.
+     * @throws VMException If any exception while creating the orders.
+     */
+    private long[][] issueRandomOrders(SimulationState p_state, SplittableRandom p_random) throws VMException {
+        long[][] l_ordersOfPlayers = new long[NUMBER_OF_PLAYERS][];
+        for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+            Player l_player = d_gamePlayEngine.getPlayerList().get(l_playerIndex);
+            CardType l_cardType = CardService.randomCardType(p_random);
+            l_player.addCard(CardService.createCard(l_cardType));
+            p_state.addCard(l_playerIndex, l_cardType);
+
+            l_ordersOfPlayers[l_playerIndex] = this.randomOrders(p_state, l_playerIndex, p_random);
+            for (long l_order : l_ordersOfPlayers[l_playerIndex]) {
+                l_player.addOrder(this.toOrder(l_order, l_player));
+            }
+        }
+        return l_ordersOfPlayers;
+    }
+
+    /**
+     * Creates random orders for the player; most of them are about its own countries and their neighbours.
+     *
+     * @param p_state       State of the simulation.
+     * @param p_playerIndex Index of the player.
+     * @param p_random      Generator of the orders.
+     * @return Value of the orders.
+     */
+    private long[] randomOrders(SimulationState p_state, int p_playerIndex, SplittableRandom p_random) {
+        long[] l_orders = new long[p_random.nextInt(8)];
+        for (int l_orderIndex = 0; l_orderIndex < l_orders.length; l_orderIndex++) {
+            int l_sourceIndex = this.randomCountry(p_state, p_playerIndex, p_random);
+            int l_targetIndex = p_random.nextInt(p_state.getNumberOfCountries());
+            int l_degree = d_mapGraph.getDegree(l_sourceIndex);
+            if (l_degree > 0 && p_random.nextInt(5) > 0) {
+                l_targetIndex = d_mapGraph.getNeighbourIndex(d_mapGraph.getNeighbourStart(l_sourceIndex) + p_random.nextInt(l_degree));
+            }
+            // A lost attack can leave negative armies, and a repeated blockade many of them.
+            int l_numOfArmies = p_random.nextInt(Math.max(0, Math.min(p_state.getNumberOfArmies(l_sourceIndex), 1000)) + 3);
+            switch (p_random.nextInt(6)) {
+                case 0:
+                    l_orders[l_orderIndex] = SimulationOrder.deploy(p_playerIndex, l_sourceIndex,
+                            p_random.nextInt(p_state.getReinforcementCount(p_playerIndex) + 2));
+                    break;
+                case 1:
+                    l_orders[l_orderIndex] = SimulationOrder.airlift(p_playerIndex, l_sourceIndex,
+                            this.randomCountry(p_state, p_playerIndex, p_random), l_numOfArmies);
+                    break;
+                case 2:
+                    l_orders[l_orderIndex] = SimulationOrder.bomb(p_playerIndex, l_targetIndex);
+                    break;
+                case 3:
+                    l_orders[l_orderIndex] = SimulationOrder.blockade(p_playerIndex, l_sourceIndex);
+                    break;
+                case 4:
+                    l_orders[l_orderIndex] = SimulationOrder.negotiate(p_playerIndex, p_random.nextInt(NUMBER_OF_PLAYERS));
+                    break;
+                default:
+                    l_orders[l_orderIndex] = SimulationOrder.advance(p_playerIndex, l_sourceIndex, l_targetIndex, l_numOfArmies);
+            }
+        }
+        return l_orders;
+    }
+
+    /**
+     * Picks a country owned by the player most of the time, any country otherwise.
+     *
+     * @param p_state       State of the simulation.
+     * @param p_playerIndex Index of the player.
+     * @param p_random      Generator of the orders.
+     * @return Value of the index of the country.
+     */
+    private int randomCountry(SimulationState p_state, int p_playerIndex, SplittableRandom p_random) {
+        int l_countryIndex = p_random.nextInt(p_state.getNumberOfCountries());
+        if (p_random.nextInt(5) == 0) {
+            return l_countryIndex;
+        }
+        for (int l_offset = 0; l_offset < p_state.getNumberOfCountries(); l_offset++) {
+            int l_ownedIndex = (l_countryIndex + l_offset) % p_state.getNumberOfCountries();
+            if (p_state.getOwner(l_ownedIndex) == p_playerIndex) {
+                return l_ownedIndex;
+            }
+        }
+        return l_countryIndex;
+    }
+
+    /**
+     * Creates the <code>Order</code> object which is encoded in the simulation order.
+     *
+     * @param p_order  Value of the simulation order.
+     * @param p_player Player who issued the order.
+     * @return Value of the order.
+     * @throws VMException If the order can not be created.
+     */
+    private Order toOrder(long p_order, Player p_player) throws VMException {
+        String l_source = d_mapGraph.getCountry(SimulationOrder.getSourceIndex(p_order)).getCountryName();
+        String l_target = d_mapGraph.getCountry(SimulationOrder.getTargetIndex(p_order)).getCountryName();
+        String l_numOfArmies = String.valueOf(SimulationOrder.getNumOfArmies(p_order));
+        switch (SimulationOrder.getType(p_order)) {
+            case deploy:
+                return new DeployOrder(l_target, l_numOfArmies, p_player);
+            case airlift:
+                return new AirliftOrder(l_source, l_target, l_numOfArmies, p_player);
+            case bomb:
+                return new BombOrder(l_target, p_player);
+            case blockade:
+                return new BlockadeOrder(l_target, p_player);
+            case negotiate:
+                return new NegotiateOrder(p_player,
+                        d_gamePlayEngine.getPlayerList().get(SimulationOrder.getTargetIndex(p_order)).getName());
+            default:
+                return new AdvanceOrder(l_source, l_target, l_numOfArmies, p_player);
+        }
+    }
+
+    /**
+     * Asserts that the countries, the players and the turn of the game are those of the simulation state.
+     *
+     * @param p_state State of the simulation.
+     */
+    private void assertStateMatchesGame(SimulationState p_state) {
+        List<Player> l_playerList = d_gamePlayEngine.getPlayerList();
+        for (int l_countryIndex = 0; l_countryIndex < p_state.getNumberOfCountries(); l_countryIndex++) {
+            Country l_country = d_mapGraph.getCountry(l_countryIndex);
+            assertEquals(p_state.getOwner(l_countryIndex), l_playerList.indexOf(l_country.getOwnedBy(d_gameEngine)));
+            assertEquals(p_state.getNumberOfArmies(l_countryIndex), l_country.getNumberOfArmies(d_gameEngine));
+        }
+        for (int l_playerIndex = 0; l_playerIndex < NUMBER_OF_PLAYERS; l_playerIndex++) {
+            Player l_player = l_playerList.get(l_playerIndex);
+            assertEquals(p_state.getNumberOfAssignedCountries(l_playerIndex), l_player.getAssignedCountries().size());
+            for (Country l_country : l_player.getAssignedCountries()) {
+                assertEquals(true, p_state.isAssigned(d_mapGraph.indexOf(l_country), l_playerIndex));
+            }
+            for (CardType l_cardType : CardType.values()) {
+                int l_cardCount = 0;
+                for (Card l_card : l_player.getCards()) {
+                    if (l_card.getType() == l_cardType) {
+                        l_cardCount++;
+                    }
+                }
+                assertEquals(p_state.getCardCount(l_playerIndex, l_cardType), l_cardCount);
+            }
+            for (int l_otherPlayerIndex = 0; l_otherPlayerIndex < NUMBER_OF_PLAYERS; l_otherPlayerIndex++) {
+                assertEquals(p_state.isNotNegotiation(l_playerIndex, l_otherPlayerIndex),
+                        l_player.isNotNegotiation(l_playerList.get(l_otherPlayerIndex)));
+            }
+            assertEquals(p_state.getReinforcementCount(l_playerIndex), l_player.getReinforcementCount());
+            assertEquals(p_state.getRemainingReinforcementCount(l_playerIndex), l_player.getRemainingReinforcementCount());
+        }
+        assertEquals(p_state.getExecutionIndex(), d_gamePlayEngine.getExecutionIndex());
+        assertEquals(p_state.getCurrentPlayerForExecutionPhase(), d_gamePlayEngine.getCurrentPlayerForExecutionPhase());
+    }
+}